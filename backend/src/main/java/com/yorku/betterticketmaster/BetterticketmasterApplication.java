@@ -2,11 +2,13 @@ package com.yorku.betterticketmaster;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Spring Boot application entry point for Better Ticketmaster.
  */
 @SpringBootApplication(scanBasePackages = "com.yorku.betterticketmaster")
+@EnableScheduling
 public class BetterticketmasterApplication {
 
     /**
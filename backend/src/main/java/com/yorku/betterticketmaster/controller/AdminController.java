@@ -21,13 +21,12 @@ import com.yorku.betterticketmaster.domain.repository.booking.BookingRepository;
 import com.yorku.betterticketmaster.domain.repository.booking.TicketRepository;
 import com.yorku.betterticketmaster.domain.repository.inventory.SeatRepository;
 import com.yorku.betterticketmaster.domain.repository.login.UserRepository;
-import com.yorku.betterticketmaster.domain.services.AuthService;
 import com.yorku.betterticketmaster.domain.services.EventService;
+import com.yorku.betterticketmaster.domain.services.GaInventoryService;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService;
 import com.yorku.betterticketmaster.domain.services.venuebuilder.VenueBuilderService;
-import com.yorku.betterticketmaster.security.AuthTokenStore;
+import com.yorku.betterticketmaster.security.CurrentUser;
 
-import jakarta.servlet.http.Cookie;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -37,14 +36,14 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/admin")
 @RequiredArgsConstructor
 public class AdminController {
-    private final AuthService authService;
     private final VenueBuilderService venueBuilderService;
-    private final AuthTokenStore tokenStore;
     private final EventService eventService;
     private final TicketRepository ticketRepo;
     private final BookingRepository bookingRepo;
     private final SeatRepository seatRepo;
     private final UserRepository userRepo;
+    private final SeatHoldService seatHoldService;
+    private final GaInventoryService gaInventoryService;
 
     private static final DateTimeFormatter LOCAL_DT_NO_SECONDS = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
 
@@ -59,24 +58,16 @@ public class AdminController {
         }
     }
 
-    private User currentUser(HttpServletRequest req) {
-        String token = null;
-        if (req.getCookies() != null) for (Cookie c : req.getCookies()) if ("BTM_TOKEN".equals(c.getName())) token = c.getValue();
-        String userId = tokenStore.getUserId(token);
-        return userId == null ? null : authService.getCurrentUser(userId).orElse(null);
-    }
-
     public record CreateLayoutRequest(String venueId, String layoutName, String imageUrl) {}
 
     @PostMapping("/layouts")
     /**
      * Create a layout for a venue.
      * @param l request payload
-     * @param req HTTP request
+     * @param u current user
      * @return created layout or error
      */
-    public ResponseEntity<?> createLayout(@RequestBody CreateLayoutRequest l, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> createLayout(@RequestBody CreateLayoutRequest l, @CurrentUser User u) {
         if (u == null || !u.isAdmin()) return ResponseEntity.status(403).body("Admin required");
         Layout created = venueBuilderService.createLayout(l.venueId(), l.layoutName(), l.imageUrl());
         return ResponseEntity.ok(created);
@@ -85,11 +76,10 @@ public class AdminController {
     @GetMapping("/events/pending")
     /**
      * List events pending approval.
-     * @param req HTTP request
+     * @param u current user
      * @return pending events or error
      */
-    public ResponseEntity<?> listPendingEvents(HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> listPendingEvents(@CurrentUser User u) {
         if (u == null || !u.isAdmin()) return ResponseEntity.status(403).body("Admin required");
         return ResponseEntity.ok(eventService.listPendingEvents());
     }
@@ -98,11 +88,10 @@ public class AdminController {
     /**
      * Approve a pending event.
      * @param id event id
-     * @param req HTTP request
+     * @param u current user
      * @return approved event or error
      */
-    public ResponseEntity<?> approveEvent(@PathVariable String id, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> approveEvent(@PathVariable String id, @CurrentUser User u) {
         if (u == null || !u.isAdmin()) return ResponseEntity.status(403).body("Admin required");
         return ResponseEntity.ok(eventService.approveEvent(id));
     }
@@ -111,11 +100,10 @@ public class AdminController {
     /**
      * Reject a pending event.
      * @param id event id
-     * @param req HTTP request
+     * @param u current user
      * @return rejected event or error
      */
-    public ResponseEntity<?> rejectEvent(@PathVariable String id, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> rejectEvent(@PathVariable String id, @CurrentUser User u) {
         if (u == null || !u.isAdmin()) return ResponseEntity.status(403).body("Admin required");
         return ResponseEntity.ok(eventService.rejectEvent(id));
     }
@@ -123,11 +111,10 @@ public class AdminController {
     @GetMapping("/events")
     /**
      * List all events.
-     * @param req HTTP request
+     * @param u current user
      * @return all events or error
      */
-    public ResponseEntity<?> listAllEvents(HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> listAllEvents(@CurrentUser User u) {
         if (u == null || !u.isAdmin()) return ResponseEntity.status(403).body("Admin required");
         return ResponseEntity.ok(eventService.search(""));
     }
@@ -147,11 +134,10 @@ public class AdminController {
      * Update event details.
      * @param id event id
      * @param body update payload
-     * @param req HTTP request
+     * @param u current user
      * @return updated event or error
      */
-    public ResponseEntity<?> updateEvent(@PathVariable String id, @RequestBody UpdateEventRequest body, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> updateEvent(@PathVariable String id, @RequestBody UpdateEventRequest body, @CurrentUser User u) {
         if (u == null || !u.isAdmin()) return ResponseEntity.status(403).body("Admin required");
         if (body == null) return ResponseEntity.badRequest().body("Body required");
 
@@ -194,11 +180,10 @@ public class AdminController {
     @PostMapping("/reset/resales")
     /**
      * Reset all resale listings while keeping ownership.
-     * @param req HTTP request
+     * @param u current user
      * @return summary of cleared resales
      */
-    public ResponseEntity<?> resetAllResales(HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> resetAllResales(@CurrentUser User u) {
         if (u == null || !u.isAdmin()) return ResponseEntity.status(403).body("Admin required");
 
         int cleared = 0;
@@ -215,17 +200,17 @@ public class AdminController {
 
     /**
      * Reset ALL tickets and resale listings across ALL users.
-     * Also clears bookings and resets all seats to AVAILABLE (clearing holds and sold status).
+     * Also clears bookings and resets all seats to AVAILABLE (clearing holds and sold status),
+     * and drops general-admission reservations with their sections back to full capacity.
      *
      */
     @PostMapping("/reset/tickets")
     /**
-     * Reset all tickets, bookings, and seat statuses.
-     * @param req HTTP request
+     * Reset all tickets, bookings, seat statuses and general-admission capacity.
+     * @param u current user
      * @return summary of resets performed
      */
-    public ResponseEntity<?> resetAllTickets(HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> resetAllTickets(@CurrentUser User u) {
         if (u == null || !u.isAdmin()) return ResponseEntity.status(403).body("Admin required");
 
         long ticketCount = ticketRepo.count();
@@ -256,12 +241,17 @@ public class AdminController {
                 seatsReset++;
             }
         }
+        seatHoldService.evictCachedState();
+
+        // General admission: drop all holds and sales, every spot available again.
+        int gaSectionsReset = gaInventoryService.resetAll();
 
         return ResponseEntity.ok(Map.of(
             "deletedTickets", ticketCount,
             "deletedBookings", bookingCount,
             "usersCleared", usersUpdated,
-            "seatsReset", seatsReset
+            "seatsReset", seatsReset,
+            "gaSectionsReset", gaSectionsReset
         ));
     }
 }
@@ -1,7 +1,7 @@
 package com.yorku.betterticketmaster.controller;
 
 import java.util.Optional;
-import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,6 +13,9 @@ import org.springframework.web.bind.annotation.RestController;
 import com.yorku.betterticketmaster.domain.model.users.User;
 import com.yorku.betterticketmaster.domain.services.AuthService;
 import com.yorku.betterticketmaster.security.AuthTokenStore;
+import com.yorku.betterticketmaster.security.AuthenticationFilter;
+import com.yorku.betterticketmaster.security.CurrentUser;
+import com.yorku.betterticketmaster.security.LoginThrottle;
 
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,16 +28,21 @@ import lombok.RequiredArgsConstructor;
 public class AuthController {
     private final AuthService authService;
     private final AuthTokenStore tokenStore;
+    private final LoginThrottle loginThrottle;
 
     public record LoginRequest(String email, String password) {}
     public record RegisterRequest(String email, String password, String role) {}
 
     @PostMapping("/register")
     public ResponseEntity<?> register(@RequestBody RegisterRequest r, HttpServletResponse resp) {
-        User u = authService.register(r.email(), r.password(), r.role());
+        User u;
+        try {
+            u = authService.register(r.email(), r.password(), r.role());
+        } catch (RejectedExecutionException e) {
+            return busy();
+        }
         // Immediately create a session cookie so the frontend can act as "logged in"
-        String token = UUID.randomUUID().toString();
-        tokenStore.put(token, u.getId());
+        String token = tokenStore.issue(u);
         Cookie c = new Cookie("BTM_TOKEN", token);
         c.setHttpOnly(true);
         c.setPath("/");
@@ -45,12 +53,25 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest l, HttpServletResponse resp) {
-        Optional<User> opt = authService.authenticate(l.email(), l.password());
-        if (opt.isEmpty()) return ResponseEntity.status(401).body("Invalid credentials");
+    public ResponseEntity<?> login(@RequestBody LoginRequest l, HttpServletRequest req, HttpServletResponse resp) {
+        // Throttled before hashing, so a credential-stuffing burst costs no BCrypt rounds
+        long retryAfter = loginThrottle.retryAfterSeconds(l.email(), req.getRemoteAddr());
+        if (retryAfter > 0) {
+            return ResponseEntity.status(429).header("Retry-After", String.valueOf(retryAfter)).body("Too many failed logins, try again later");
+        }
+        Optional<User> opt;
+        try {
+            opt = authService.authenticate(l.email(), l.password());
+        } catch (RejectedExecutionException e) {
+            return busy();
+        }
+        if (opt.isEmpty()) {
+            loginThrottle.recordFailure(l.email(), req.getRemoteAddr());
+            return ResponseEntity.status(401).body("Invalid credentials");
+        }
+        loginThrottle.recordSuccess(l.email());
         User u = opt.get();
-        String token = UUID.randomUUID().toString();
-        tokenStore.put(token, u.getId());
+        String token = tokenStore.issue(u);
         Cookie c = new Cookie("BTM_TOKEN", token);
         c.setHttpOnly(true);
         c.setPath("/");
@@ -60,27 +81,24 @@ public class AuthController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<?> me(HttpServletRequest req) {
-        String token = null;
-        if (req.getCookies() != null) for (Cookie c : req.getCookies()) if ("BTM_TOKEN".equals(c.getName())) token = c.getValue();
-        String userId = tokenStore.getUserId(token);
+    public ResponseEntity<?> me(@CurrentUser String userId, @CurrentUser User u) {
         if (userId == null) return ResponseEntity.status(401).body("Not authenticated");
-        Optional<User> optUser = authService.getCurrentUser(userId);
-        if (optUser.isEmpty()) return ResponseEntity.status(404).body("User not found");
-        User u2 = optUser.get();
-        u2.setPassword(null);
-        return ResponseEntity.ok(u2);
+        if (u == null) return ResponseEntity.status(404).body("User not found");
+        u.setPassword(null);
+        return ResponseEntity.ok(u);
     }
 
     @PostMapping("/logout")
     public ResponseEntity<?> logout(HttpServletRequest req, HttpServletResponse resp) {
-        String token = null;
-        if (req.getCookies() != null) for (Cookie c : req.getCookies()) if ("BTM_TOKEN".equals(c.getName())) token = c.getValue();
-        tokenStore.remove(token);
+        tokenStore.remove(AuthenticationFilter.sessionToken(req));
         Cookie c = new Cookie("BTM_TOKEN", "");
         c.setMaxAge(0);
         c.setPath("/");
         resp.addCookie(c);
         return ResponseEntity.ok("Logged out");
     }
+
+    private static ResponseEntity<?> busy() {
+        return ResponseEntity.status(503).header("Retry-After", "1").body("Login is busy, try again shortly");
+    }
 }
@@ -8,15 +8,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.yorku.betterticketmaster.domain.model.booking.Booking;
 import com.yorku.betterticketmaster.domain.model.users.User;
-import com.yorku.betterticketmaster.domain.services.AuthService;
+import com.yorku.betterticketmaster.domain.services.AdmissionQueueService;
 import com.yorku.betterticketmaster.domain.services.BookingService;
-import com.yorku.betterticketmaster.security.AuthTokenStore;
+import com.yorku.betterticketmaster.domain.services.BookingService.BookingPage;
+import com.yorku.betterticketmaster.security.CurrentUser;
 
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
@@ -28,29 +29,25 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class BookingController {
     private final BookingService bookingService;
-    private final AuthService authService;
-    private final AuthTokenStore tokenStore;
+    private final AdmissionQueueService queueService;
 
-    private User currentUser(HttpServletRequest req) {
-        String token = null;
-        if (req.getCookies() != null) for (Cookie c : req.getCookies()) if ("BTM_TOKEN".equals(c.getName())) token = c.getValue();
-        String userId = tokenStore.getUserId(token);
-        return userId == null ? null : authService.getCurrentUser(userId).orElse(null);
-    }
-
-    public record CreateBookingRequest(String eventId, java.util.List<String> seatIds, double totalPrice) {}
+    public record CreateBookingRequest(String eventId, java.util.List<String> seatIds, java.util.List<String> gaReservationIds, double totalPrice) {}
 
     @PostMapping
     /**
-     * Create a new booking for the current user.
+     * Create a new booking for the current user. Requires an admitted X-Queue-Token header while
+     * the event has an open waiting room.
      * @param body booking request payload
+     * @param u current user
      * @param req HTTP request
      * @return created booking or error
      */
-    public ResponseEntity<?> create(@RequestBody CreateBookingRequest body, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> create(@RequestBody CreateBookingRequest body, @CurrentUser User u, HttpServletRequest req) {
         if (u == null) return ResponseEntity.status(401).body("Login required");
+        ResponseEntity<?> rejected = QueueGate.reject(queueService, body.eventId(), req);
+        if (rejected != null) return rejected;
         Booking b = Booking.createPending(u.getId(), body.eventId(), body.seatIds(), body.totalPrice());
+        b.setGaReservationIds(body.gaReservationIds());
         Booking created = bookingService.createBooking(b);
         return ResponseEntity.ok(created);
     }
@@ -59,11 +56,10 @@ public class BookingController {
     /**
      * Complete a pending booking owned by the current user.
      * @param id booking id
-     * @param req HTTP request
+     * @param u current user
      * @return completed booking or error
      */
-    public ResponseEntity<?> complete(@PathVariable String id, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> complete(@PathVariable String id, @CurrentUser User u) {
         if (u == null) return ResponseEntity.status(401).body("Login required");
         Booking b = bookingService.getBooking(id).orElse(null);
         if (b==null) return ResponseEntity.notFound().build();
@@ -77,11 +73,10 @@ public class BookingController {
      * Request a booking transfer to another user.
      * @param id booking id
      * @param toUserId target user id
-     * @param req HTTP request
+     * @param u current user
      * @return booking with transfer requested or error
      */
-    public ResponseEntity<?> requestTransfer(@PathVariable String id, @RequestBody String toUserId, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> requestTransfer(@PathVariable String id, @RequestBody String toUserId, @CurrentUser User u) {
         if (u == null) return ResponseEntity.status(401).body("Login required");
         Booking b = bookingService.getBooking(id).orElse(null);
         if (b==null) return ResponseEntity.notFound().build();
@@ -94,11 +89,10 @@ public class BookingController {
     /**
      * Complete a pending booking transfer.
      * @param id booking id
-     * @param req HTTP request
+     * @param u current user
      * @return booking after transfer completion or error
      */
-    public ResponseEntity<?> completeTransfer(@PathVariable String id, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> completeTransfer(@PathVariable String id, @CurrentUser User u) {
         if (u == null) return ResponseEntity.status(401).body("Login required");
         // allow owner or admin to complete
         Booking b = bookingService.getBooking(id).orElse(null);
@@ -110,14 +104,21 @@ public class BookingController {
 
     @GetMapping
     /**
-     * List bookings for the current user.
-     * @param req HTTP request
-     * @return list of bookings or error
+     * List bookings for the current user, newest first. Pass the returned nextCursor as cursor
+     * to get the next page.
+     * @param status optional comma-separated statuses, e.g. PENDING,COMPLETED
+     * @param cursor optional cursor from the previous page
+     * @param limit page size (default 20, at most 100)
+     * @param u current user
+     * @return { items, nextCursor } or error
      */
-    public ResponseEntity<?> listMine(HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> listMine(@RequestParam(required = false) List<String> status,
+                                      @RequestParam(required = false) String cursor,
+                                      @RequestParam(defaultValue = "20") int limit,
+                                      @CurrentUser User u) {
         if (u == null) return ResponseEntity.status(401).body("Login required");
-        List<Booking> list = bookingService.listByUser(u.getId());
-        return ResponseEntity.ok(list);
+        if (limit <= 0) return ResponseEntity.badRequest().body("limit must be positive");
+        BookingPage page = bookingService.listByUser(u.getId(), status, cursor, limit);
+        return ResponseEntity.ok(page);
     }
 }
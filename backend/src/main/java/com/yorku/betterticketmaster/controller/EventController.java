@@ -1,8 +1,14 @@
 package com.yorku.betterticketmaster.controller;
 
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Predicate;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -13,13 +19,16 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.yorku.betterticketmaster.domain.model.event.Event;
+import com.yorku.betterticketmaster.domain.model.event.EventSummary;
+import com.yorku.betterticketmaster.domain.model.event.ProvisioningJob;
 import com.yorku.betterticketmaster.domain.model.users.User;
-import com.yorku.betterticketmaster.domain.services.AuthService;
+import com.yorku.betterticketmaster.domain.repository.inventory.EventRepositoryCustom.Filter;
 import com.yorku.betterticketmaster.domain.services.EventService;
-import com.yorku.betterticketmaster.security.AuthTokenStore;
+import com.yorku.betterticketmaster.domain.services.EventService.EventPage;
+import com.yorku.betterticketmaster.domain.services.EventService.SearchPage;
+import com.yorku.betterticketmaster.domain.services.SeatAvailabilityService;
+import com.yorku.betterticketmaster.security.CurrentUser;
 
-import jakarta.servlet.http.Cookie;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -29,70 +38,110 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/events")
 @RequiredArgsConstructor
 public class EventController {
+    private static final List<String> HIDDEN_STATUSES = List.of("CLOSED", "REJECTED");
+
     private final EventService eventService;
-    private final AuthService authService;
-    private final AuthTokenStore tokenStore;
-
-    private User currentUser(HttpServletRequest req) {
-        String token = null;
-        if (req.getCookies() != null) for (Cookie c : req.getCookies()) if ("BTM_TOKEN".equals(c.getName())) token = c.getValue();
-        String userId = tokenStore.getUserId(token);
-        return userId == null ? null : authService.getCurrentUser(userId).orElse(null);
-    }
+    private final SeatAvailabilityService availabilityService;
 
     @GetMapping
     /**
-     * List events with optional query and mine filter.
+     * List events in dateTime order, one page at a time. Public callers see every event that is
+     * not CLOSED or REJECTED; with mine=true organizers see all of their own events and admins every event.
+     * With q the page comes from the ranked search instead, best match first.
      * @param q search query
      * @param mine only list events owned by current organizer
-     * @param req HTTP request
-     * @return filtered events or error
+     * @param status statuses to include
+     * @param from earliest dateTime (inclusive, ISO-8601)
+     * @param to latest dateTime (exclusive, ISO-8601)
+     * @param organizerId only list events of this organizer
+     * @param cursor nextCursor of the previous page
+     * @param limit page size (default 20, at most 100)
+     * @param u current user
+     * @return { items, nextCursor } of event summaries, or error
      */
     public ResponseEntity<?> list(
         @RequestParam(name = "q", required = false) String q,
         @RequestParam(name = "mine", required = false) Boolean mine,
-        HttpServletRequest req
+        @RequestParam(required = false) List<String> status,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+        @RequestParam(required = false) String organizerId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int limit,
+        @CurrentUser User u
     ) {
-        String query = (q == null ? "" : q).trim().toLowerCase();
-        boolean onlyMine = Boolean.TRUE.equals(mine);
-
-        List<Event> all = eventService.search(query);
-        java.util.ArrayList<Event> out = new java.util.ArrayList<>();
-
-        if (onlyMine) {
-            User u = currentUser(req);
+        if (limit <= 0) return ResponseEntity.badRequest().body("limit must be positive");
+        Filter filter;
+        if (Boolean.TRUE.equals(mine)) {
             if (u == null) return ResponseEntity.status(401).body("Login required");
             if (!(u.isOrganizer() || u.isAdmin())) return ResponseEntity.status(403).body("Organizer/Admin required");
+            filter = new Filter(status, from, to, u.isAdmin() ? organizerId : u.getId());
+        } else {
+            // Public list: hide CLOSED and REJECTED. (For demo usability, allow PENDING + APPROVED.)
+            List<String> statuses = status == null ? null
+                : status.stream().map(String::toUpperCase).filter(st -> !HIDDEN_STATUSES.contains(st)).toList();
+            if (statuses != null && !status.isEmpty() && statuses.isEmpty()) return ResponseEntity.ok(Map.of("items", List.of()));
+            filter = new Filter(statuses, HIDDEN_STATUSES, from, to, organizerId);
+        }
 
-            for (Event ev : all) {
-                if (!u.isAdmin()) {
-                    if (ev.getOrganizerId() == null || !ev.getOrganizerId().equals(u.getId())) continue;
-                }
-                if (!query.isEmpty()) {
-                    String hay = ((ev.getTitle() == null ? "" : ev.getTitle()) + " " + (ev.getVenueName() == null ? "" : ev.getVenueName()))
-                        .toLowerCase();
-                    if (!hay.contains(query)) continue;
-                }
-                out.add(ev);
-            }
+        if (q != null && !q.isBlank()) return searchPage(q, filter, cursor, limit);
+        try {
+            EventPage page = eventService.listEvents(filter, cursor, limit);
+            Map<String, Object> out = new HashMap<>();
+            out.put("items", page.items());
+            if (page.nextCursor() != null) out.put("nextCursor", page.nextCursor());
             return ResponseEntity.ok(out);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(ex.getMessage());
         }
+    }
 
-        // Public list: hide CLOSED and REJECTED. (For demo usability, allow PENDING + APPROVED.)
-        for (Event ev : all) {
-            if (ev == null) continue;
-            if (ev.isClosed()) continue;
-            if (ev.getStatus() != null && "REJECTED".equalsIgnoreCase(ev.getStatus().trim())) continue;
-            if (!query.isEmpty()) {
-                String hay = ((ev.getTitle() == null ? "" : ev.getTitle()) + " " + (ev.getVenueName() == null ? "" : ev.getVenueName()))
-                    .toLowerCase();
-                if (!hay.contains(query)) continue;
-            }
-            out.add(ev);
+    /** Ranked search with the listing filter applied; the cursor is an offset into the ranking. */
+    private ResponseEntity<?> searchPage(String q, Filter filter, String cursor, int limit) {
+        int offset;
+        try {
+            offset = cursor == null || cursor.isBlank() ? 0 : Integer.parseInt(cursor);
+        } catch (NumberFormatException ex) {
+            return ResponseEntity.badRequest().body("Invalid cursor");
         }
+        if (offset < 0) return ResponseEntity.badRequest().body("Invalid cursor");
+        Predicate<Event> matches = ev -> filter.matchesStatus(ev.getStatus())
+            && (filter.organizerId() == null || filter.organizerId().equals(ev.getOrganizerId()))
+            && (filter.from() == null || (ev.getDateTime() != null && !ev.getDateTime().isBefore(filter.from())))
+            && (filter.to() == null || (ev.getDateTime() != null && ev.getDateTime().isBefore(filter.to())));
+        SearchPage page = eventService.search(q, matches, offset, Math.min(limit, EventService.MAX_PAGE_SIZE));
+        Map<String, Object> out = new HashMap<>();
+        out.put("items", page.items().stream().map(EventSummary::of).toList());
+        int next = offset + page.items().size();
+        if (next < page.total()) out.put("nextCursor", String.valueOf(next));
         return ResponseEntity.ok(out);
     }
 
+    @GetMapping("/search")
+    /**
+     * Ranked search over public events by title, venue and description.
+     * @param q search query
+     * @param offset matches to skip (default 0)
+     * @param limit page size (default 20, at most 100)
+     * @return { items, total } or error
+     */
+    public ResponseEntity<?> search(
+        @RequestParam(name = "q", required = false) String q,
+        @RequestParam(defaultValue = "0") int offset,
+        @RequestParam(defaultValue = "20") int limit
+    ) {
+        if (offset < 0 || limit <= 0) return ResponseEntity.badRequest().body("offset must be >= 0 and limit positive");
+        SearchPage page = eventService.search(q, EventController::isPublic, offset, limit);
+        return ResponseEntity.ok(Map.of("items", page.items(), "total", page.total()));
+    }
+
+    // Public list: hide CLOSED and REJECTED. (For demo usability, allow PENDING + APPROVED.)
+    private static boolean isPublic(Event ev) {
+        if (ev.isClosed()) return false;
+        return ev.getStatus() == null || !"REJECTED".equalsIgnoreCase(ev.getStatus().trim());
+    }
+
+
     @GetMapping("/{id}")
     /**
      * Get event by id.
@@ -106,35 +155,102 @@ public class EventController {
 
     @PostMapping
     /**
-     * Create or request creation of an event depending on role.
+     * Create or request creation of an event depending on role. Returns once the event is saved;
+     * seats are generated in the background (202 while that is in progress).
      * @param e event payload
-     * @param req HTTP request
-     * @return created/requested event or error
+     * @param u current user
+     * @return { event, provisioning } or error; poll /{id}/provisioning until it is DONE
      */
-    public ResponseEntity<?> create(@RequestBody Event e, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> create(@RequestBody Event e, @CurrentUser User u) {
         if (u == null) return ResponseEntity.status(401).body("Login required");
         // Organizers may request creation; admins may create directly
+        Event created;
         if (u.isOrganizer()) {
-            Event created = eventService.requestEventCreation(e, u.getId());
-            return ResponseEntity.ok(created);
+            created = eventService.requestEventCreation(e, u.getId());
+        } else if (u.isAdmin()) {
+            created = eventService.createEvent(e);
+        } else {
+            return ResponseEntity.status(403).body("Insufficient role");
         }
-        if (u.isAdmin()) {
-            Event created = eventService.createEvent(e);
-            return ResponseEntity.ok(created);
+
+        Map<String, Object> out = new HashMap<>();
+        out.put("event", created);
+        ProvisioningJob job = eventService.getProvisioning(created.getId()).orElse(null);
+        if (job == null) return ResponseEntity.ok(out);
+        out.put("provisioning", job);
+        if (job.isFinished()) return ResponseEntity.ok(out);
+        return ResponseEntity.accepted().location(URI.create("/api/events/" + created.getId() + "/provisioning")).body(out);
+    }
+
+    @GetMapping("/{id}/provisioning")
+    /**
+     * Seat generation progress of an event (its organizer or an admin).
+     * @param id event id
+     * @param u current user
+     * @return provisioning job (status, sectionsDone/sections, seatsWritten/seats) or error
+     */
+    public ResponseEntity<?> provisioning(@PathVariable String id, @CurrentUser User u) {
+        if (u == null) return ResponseEntity.status(401).body("Login required");
+        Event ev = eventService.getEvent(id).orElse(null);
+        if (ev == null) return ResponseEntity.notFound().build();
+        if (!u.isAdmin() && !(u.isOrganizer() && u.getId().equals(ev.getOrganizerId()))) {
+            return ResponseEntity.status(403).body("Not your event");
         }
-        return ResponseEntity.status(403).body("Insufficient role");
+        return eventService.getProvisioning(id)
+            .<ResponseEntity<?>>map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.status(404).body("Event has nothing to provision"));
+    }
+
+    @PostMapping("/{id}/provisioning/retry")
+    /**
+     * Rerun the seat generation of an event whose provisioning FAILED (admin only). The job starts
+     * over with fresh attempts; sections finished earlier are skipped.
+     * @param id event id
+     * @param u current user
+     * @return requeued provisioning job (PENDING) or error
+     */
+    public ResponseEntity<?> retryProvisioning(@PathVariable String id, @CurrentUser User u) {
+        if (u == null || !u.isAdmin()) return ResponseEntity.status(403).body("Admin required");
+        if (eventService.getEvent(id).isEmpty()) return ResponseEntity.notFound().build();
+        ProvisioningJob job = eventService.getProvisioning(id).orElse(null);
+        if (job == null) return ResponseEntity.status(404).body("Event has nothing to provision");
+        return eventService.retryProvisioning(id)
+            .<ResponseEntity<?>>map(r -> ResponseEntity.accepted().location(URI.create("/api/events/" + id + "/provisioning")).body(r))
+            .orElseGet(() -> ResponseEntity.status(409).body("Provisioning is " + job.getStatus() + ", only FAILED can be retried"));
+    }
+
+    @GetMapping("/{id}/availability")
+    /**
+     * Per-section availability of an event, for overviews that don't need the seat map.
+     * @param id event id
+     * @return { eventId, sections: [{ section, type, available, held, sold, minPrice, maxPrice }] } or 404; prices span the seats still available
+     */
+    public ResponseEntity<?> availability(@PathVariable String id) {
+        if (eventService.getEvent(id).isEmpty()) return ResponseEntity.notFound().build();
+        return ResponseEntity.ok(Map.of("eventId", id, "sections", availabilityService.sections(id)));
+    }
+
+    @PostMapping("/{id}/availability/rebuild")
+    /**
+     * Recount the section availability of an event from its seats (admin only).
+     * @param id event id
+     * @param u current user
+     * @return rebuilt availability or error
+     */
+    public ResponseEntity<?> rebuildAvailability(@PathVariable String id, @CurrentUser User u) {
+        if (u == null || !u.isAdmin()) return ResponseEntity.status(403).body("Admin required");
+        if (eventService.getEvent(id).isEmpty()) return ResponseEntity.notFound().build();
+        return ResponseEntity.ok(Map.of("eventId", id, "sections", availabilityService.rebuildSections(id)));
     }
 
     @PostMapping("/{id}/close")
     /**
      * Close an event to further sales.
      * @param id event id
-     * @param req HTTP request
+     * @param u current user
      * @return closed event or error
      */
-    public ResponseEntity<?> close(@PathVariable String id, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> close(@PathVariable String id, @CurrentUser User u) {
         if (u == null) return ResponseEntity.status(401).body("Login required");
 
         Event ev = eventService.getEvent(id).orElse(null);
@@ -0,0 +1,85 @@
+package com.yorku.betterticketmaster.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.yorku.betterticketmaster.domain.model.event.GaInventory;
+import com.yorku.betterticketmaster.domain.services.AdmissionQueueService;
+import com.yorku.betterticketmaster.domain.services.GaInventoryService;
+import com.yorku.betterticketmaster.domain.services.GaInventoryService.GaHoldResult;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService;
+import com.yorku.betterticketmaster.security.CurrentUser;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * General-admission endpoints: section capacity and holds on a number of spots.
+ */
+@RestController
+@RequestMapping("/api/ga")
+@RequiredArgsConstructor
+public class GeneralAdmissionController {
+    private final GaInventoryService gaInventoryService;
+    private final AdmissionQueueService queueService;
+
+    /**
+     * List general-admission sections of an event with their remaining capacity.
+     * @param eventId event identifier
+     * @return sections
+     */
+    @GetMapping
+    public ResponseEntity<List<GaInventory>> listByEvent(@RequestParam String eventId) {
+        return ResponseEntity.ok(gaInventoryService.listByEvent(eventId));
+    }
+
+    /**
+     * Hold spots in a section for 5 minutes. Expects JSON: { eventId: "...", section: "...", quantity: 4 }
+     * Pass the returned reservationId in gaReservationIds when creating the booking. Login required.
+     */
+    @PostMapping("/hold")
+    public ResponseEntity<?> hold(@RequestBody Map<String, Object> body, @CurrentUser String userId, HttpServletRequest req) {
+        if (userId == null) return ResponseEntity.status(401).body("Login required");
+        Object eventId = body.get("eventId");
+        Object section = body.get("section");
+        if (eventId == null || section == null) return ResponseEntity.badRequest().body("eventId and section are required");
+        if (!(body.get("quantity") instanceof Number quantity) || quantity.intValue() <= 0) {
+            return ResponseEntity.badRequest().body("quantity must be a positive number");
+        }
+        ResponseEntity<?> rejected = QueueGate.reject(queueService, eventId.toString(), req);
+        if (rejected != null) return rejected;
+
+        GaHoldResult result = gaInventoryService.hold(eventId.toString(), section.toString(), quantity.intValue(), userId);
+        return switch (result.status()) {
+            case HELD -> ResponseEntity.ok(Map.of(
+                "message", "Spots held for " + SeatHoldService.HOLD_MINUTES + " minutes",
+                "reservationId", result.reservation().getId(),
+                "quantity", result.reservation().getQuantity(),
+                "holdUntil", result.reservation().getHoldUntil()
+            ));
+            case NOT_FOUND -> ResponseEntity.status(404).body("General-admission section not found");
+            case EVENT_CLOSED -> ResponseEntity.status(409).body("Event is CLOSED");
+            case SOLD_OUT -> ResponseEntity.status(409).body("Not enough spots left in " + section);
+        };
+    }
+
+    /**
+     * Release a hold placed by the caller. Expects JSON: { reservationId: "..." }
+     */
+    @PostMapping("/release")
+    public ResponseEntity<?> release(@RequestBody Map<String, String> body, @CurrentUser String userId) {
+        if (userId == null) return ResponseEntity.status(401).body("Login required");
+        String reservationId = body.get("reservationId");
+        if (reservationId == null) return ResponseEntity.badRequest().body("reservationId is required");
+        boolean released = gaInventoryService.release(reservationId, userId);
+        return ResponseEntity.ok(Map.of("released", released));
+    }
+}
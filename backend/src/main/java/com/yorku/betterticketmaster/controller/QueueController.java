@@ -0,0 +1,99 @@
+package com.yorku.betterticketmaster.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.yorku.betterticketmaster.domain.model.users.User;
+import com.yorku.betterticketmaster.domain.services.AdmissionQueueService;
+import com.yorku.betterticketmaster.security.CurrentUser;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Waiting-room API: join the queue of an event, poll the position, and (admins) open or close queues.
+ * Admitted clients send the token in the X-Queue-Token header when holding seats and booking.
+ */
+@RestController
+@RequestMapping("/api/queue")
+public class QueueController {
+    private final AdmissionQueueService queueService;
+    private final double defaultAdmitPerSecond;
+
+    public QueueController(
+        AdmissionQueueService queueService,
+        @Value("${btm.queue.admit-per-second:50}") double defaultAdmitPerSecond
+    ) {
+        this.queueService = queueService;
+        this.defaultAdmitPerSecond = defaultAdmitPerSecond;
+    }
+
+    /**
+     * Whether an event currently has an open waiting room.
+     * @param eventId event identifier
+     * @return { queued: true|false }
+     */
+    @GetMapping("/events/{eventId}")
+    public ResponseEntity<?> queueState(@PathVariable String eventId) {
+        return ResponseEntity.ok(Map.of("eventId", eventId, "queued", queueService.isQueued(eventId)));
+    }
+
+    /**
+     * Join the waiting room of an event. Expects JSON: { eventId: "..." }
+     * Poll {@code /api/queue/status} with the returned token until it is admitted.
+     */
+    @PostMapping("/join")
+    public ResponseEntity<?> join(@RequestBody Map<String, String> body) {
+        String eventId = body.get("eventId");
+        if (eventId == null || eventId.isBlank()) return ResponseEntity.badRequest().body("eventId is required");
+        return queueService.join(eventId)
+            .<ResponseEntity<?>>map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.status(404).body("Event has no open waiting room"));
+    }
+
+    /**
+     * Position of a queue token, taken from the X-Queue-Token header or the token parameter.
+     * @param token queue token
+     * @param req HTTP request
+     * @return ticket or 404 when the token is unknown or expired
+     */
+    @GetMapping("/status")
+    public ResponseEntity<?> status(@RequestParam(required = false) String token, HttpServletRequest req) {
+        String t = token != null ? token : req.getHeader(AdmissionQueueService.TOKEN_HEADER);
+        return queueService.status(t)
+            .<ResponseEntity<?>>map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.status(404).body("Unknown or expired queue token"));
+    }
+
+    /**
+     * Open the waiting room of an event (admin only). Expects JSON: { admitPerSecond: 50 } (optional)
+     */
+    @PostMapping("/events/{eventId}/open")
+    public ResponseEntity<?> open(@PathVariable String eventId, @RequestBody(required = false) Map<String, Object> body,
+                                  @CurrentUser User u) {
+        if (u == null || !u.isAdmin()) return ResponseEntity.status(403).body("Admin required");
+        Object rate = body == null ? null : body.get("admitPerSecond");
+        double admitPerSecond = rate instanceof Number n ? n.doubleValue() : defaultAdmitPerSecond;
+        if (!(admitPerSecond > 0)) return ResponseEntity.badRequest().body("admitPerSecond must be positive");
+        queueService.open(eventId, admitPerSecond);
+        return ResponseEntity.ok(Map.of("eventId", eventId, "queued", true, "admitPerSecond", admitPerSecond));
+    }
+
+    /**
+     * Close the waiting room of an event (admin only); outstanding tokens are dropped.
+     */
+    @PostMapping("/events/{eventId}/close")
+    public ResponseEntity<?> close(@PathVariable String eventId, @CurrentUser User u) {
+        if (u == null || !u.isAdmin()) return ResponseEntity.status(403).body("Admin required");
+        queueService.close(eventId);
+        return ResponseEntity.ok(Map.of("eventId", eventId, "queued", false));
+    }
+}
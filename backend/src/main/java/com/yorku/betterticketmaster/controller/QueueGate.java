@@ -0,0 +1,46 @@
+package com.yorku.betterticketmaster.controller;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+
+import com.yorku.betterticketmaster.domain.services.AdmissionQueueService;
+import com.yorku.betterticketmaster.domain.services.AdmissionQueueService.Admission;
+import com.yorku.betterticketmaster.domain.services.AdmissionQueueService.QueueTicket;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Admission check shared by the endpoints behind the waiting room.
+ */
+final class QueueGate {
+    private QueueGate() {}
+
+    /**
+     * Check the queue token of a request for an event.
+     * @param queue admission queue
+     * @param eventId event the request is for
+     * @param req HTTP request carrying the X-Queue-Token header
+     * @return error response, or null if the request may proceed
+     */
+    static ResponseEntity<?> reject(AdmissionQueueService queue, String eventId, HttpServletRequest req) {
+        String token = req.getHeader(AdmissionQueueService.TOKEN_HEADER);
+        Admission admission = queue.check(eventId, token);
+        if (admission == Admission.NOT_QUEUED || admission == Admission.ADMITTED) return null;
+        if (admission == Admission.WAITING) {
+            QueueTicket ticket = queue.status(token).orElse(null);
+            long retryAfter = ticket == null ? 1 : ticket.retryAfterSeconds();
+            return ResponseEntity.status(429)
+                .header("Retry-After", String.valueOf(retryAfter))
+                .body(Map.of(
+                    "message", "Still waiting in the queue",
+                    "position", ticket == null ? 0 : ticket.position(),
+                    "retryAfterSeconds", retryAfter
+                ));
+        }
+        return ResponseEntity.status(403).body(Map.of(
+            "message", "A queue token is required for this event; join at /api/queue/join",
+            "eventId", eventId
+        ));
+    }
+}
@@ -1,24 +1,38 @@
 package com.yorku.betterticketmaster.controller;
 
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Base64;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.yorku.betterticketmaster.core.stream.SeatStatusBroadcaster;
 import com.yorku.betterticketmaster.domain.model.event.Seat;
-import com.yorku.betterticketmaster.domain.repository.inventory.EventRepository;
 import com.yorku.betterticketmaster.domain.repository.inventory.SeatRepository;
-
+import com.yorku.betterticketmaster.domain.services.AdmissionQueueService;
+import com.yorku.betterticketmaster.domain.services.SeatAllocationService;
+import com.yorku.betterticketmaster.domain.services.SeatAvailabilityService;
+import com.yorku.betterticketmaster.domain.services.SeatAvailabilityService.AvailabilitySnapshot;
+import com.yorku.betterticketmaster.domain.services.SeatAvailabilityService.SeatLayout;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.HoldResult;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.ReleaseResult;
+import com.yorku.betterticketmaster.security.CurrentUser;
+
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -29,9 +43,17 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SeatController {
     private final SeatRepository seatRepo;
-    private final EventRepository eventRepo;
-
-    private static final long HOLD_MINUTES = 5;
+    private final SeatHoldService seatHoldService;
+    private final SeatAvailabilityService availabilityService;
+    private final SeatStatusBroadcaster broadcaster;
+    private final SeatAllocationService allocationService;
+    private final AdmissionQueueService queueService;
+
+    private String conflictLabels(List<String> seatIds) {
+        List<String> labels = new ArrayList<>();
+        seatRepo.findAllById(seatIds).forEach(seat -> labels.add(seatLabel(seat)));
+        return labels.isEmpty() ? String.join(", ", seatIds) : String.join(", ", labels);
+    }
 
     private static String seatLabel(Seat seat) {
         if (seat == null) return "";
@@ -45,159 +67,162 @@ public class SeatController {
 
     @GetMapping
     /**
-     * List seats for an event, auto-releasing expired holds.
+     * List seats for an event. Lapsed holds are reported as available.
      * @param eventId event identifier
      * @return list of seats
      */
     public ResponseEntity<List<Seat>> listByEvent(@RequestParam String eventId) {
-        List<Seat> seats = seatRepo.findByEventId(eventId);
-        Instant now = Instant.now();
-        boolean changed = false;
-        for (Seat seat : seats) {
-            if ("HELD".equals(seat.getStatus()) && seat.getHoldUntil() != null && seat.getHoldUntil().isBefore(now)) {
-                seat.releaseSeat();
-                seatRepo.save(seat);
-                changed = true;
-            }
+        return ResponseEntity.ok(seatHoldService.listSeats(eventId));
+    }
+    /**
+     * Seat geometry of an event in the order used by {@code /availability}. Fetch once and
+     * revalidate with If-None-Match; the ETag changes only when the seats of the event change.
+     * @param eventId event identifier
+     * @return layout
+     */
+    @GetMapping("/layout")
+    public ResponseEntity<SeatLayout> layout(@RequestParam String eventId,
+                                             @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        SeatLayout layout = availabilityService.layout(eventId);
+        String etag = "\"" + layout.version() + "\"";
+        if (etag.equals(ifNoneMatch)) return ResponseEntity.status(304).eTag(etag).build();
+        return ResponseEntity.ok().eTag(etag).body(layout);
+    }
+
+    /**
+     * Seat statuses of an event as a 2-bit vector in layout order (0 available, 1 held, 2 sold).
+     * By default the vector is returned base64 encoded in JSON; {@code format=binary} returns the
+     * raw bytes with the layout version in the X-Layout-Version header. Refetch the layout when
+     * the version differs from the cached one.
+     * @param eventId event identifier
+     * @param format base64 (default) or binary
+     * @return status vector
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<?> availability(@RequestParam String eventId, @RequestParam(defaultValue = "base64") String format) {
+        AvailabilitySnapshot snapshot = availabilityService.availability(eventId);
+        if ("binary".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header("X-Layout-Version", snapshot.layoutVersion())
+                .header("X-Seat-Count", String.valueOf(snapshot.count()))
+                .body(snapshot.statuses());
         }
-        // Optionally, re-fetch seats if any were changed
-        if (changed) seats = seatRepo.findByEventId(eventId);
-        return ResponseEntity.ok(seats);
+        return ResponseEntity.ok(Map.of(
+            "layoutVersion", snapshot.layoutVersion(),
+            "count", snapshot.count(),
+            "statuses", Base64.getEncoder().encodeToString(snapshot.statuses())
+        ));
     }
+
     /**
-     * Hold seats for 5 minutes. Expects JSON: { seatIds: ["id1", "id2", ...] }
+     * Server-Sent Events stream of seat status changes for an event. Sends a {@code ready} event
+     * with the current sequence number, then one {@code seats} event per batch of changes.
+     * @param eventId event identifier
+     * @return event stream
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam String eventId) {
+        return broadcaster.subscribe(eventId);
+    }
+
+    /**
+     * Hold seats for 5 minutes, all or nothing. Expects JSON: { seatIds: ["id1", "id2", ...] }
+     * On conflict the response lists exactly which seats could not be held.
+     * While the event has an open waiting room, an admitted X-Queue-Token header is required.
      */
     @PostMapping("/hold")
-    public ResponseEntity<?> holdSeats(@RequestBody Map<String, List<String>> body) {
+    public ResponseEntity<?> holdSeats(@RequestBody Map<String, List<String>> body, @CurrentUser String userId, HttpServletRequest req) {
         List<String> seatIds = body.get("seatIds");
-        if (seatIds == null || seatIds.isEmpty()) {
+        if (seatIds == null || seatIds.stream().allMatch(Objects::isNull)) {
             return ResponseEntity.badRequest().body("No seatIds provided");
         }
-
-        // De-duplicate (keeps request idempotent and prevents accidental double-processing).
-        seatIds = seatIds.stream().distinct().toList();
-
-        // Ensure the event is not CLOSED before holding seats.
-        String eventId = null;
-        Instant now = Instant.now();
-
-        record Snapshot(String status, Instant holdUntil) {}
-        Map<String, Snapshot> originals = new HashMap<>();
-        Map<String, Seat> seatsById = new HashMap<>();
-
-        for (String seatId : seatIds) {
-            var seat = seatRepo.findById(seatId).orElse(null);
-            if (seat == null) {
-                return ResponseEntity.status(404).body("Seat " + seatId + " not found");
-            }
-            originals.put(seatId, new Snapshot(seat.getStatus(), seat.getHoldUntil()));
-
-            if ("HELD".equals(seat.getStatus()) && seat.getHoldUntil() != null && seat.getHoldUntil().isBefore(now)) {
-                try {
-                    seat.releaseSeat();
-                    seatRepo.save(seat);
-                } catch (Exception ignored) {
-                }
+        if (queueService.hasQueues()) {
+            // The body carries no event; read it from the seats, and only while some queue is open.
+            // Every seat must resolve to the same event, so no seat slips past another event's queue.
+            List<String> ids = seatIds.stream().filter(Objects::nonNull).distinct().toList();
+            Set<String> eventIds = new HashSet<>();
+            Set<String> found = new HashSet<>();
+            seatRepo.findAllById(ids).forEach(seat -> {
+                found.add(seat.getId());
+                eventIds.add(seat.getEventId() == null ? "" : seat.getEventId());
+            });
+            List<String> missing = ids.stream().filter(id -> !found.contains(id)).toList();
+            if (!missing.isEmpty()) {
+                return ResponseEntity.status(404).body(Map.of(
+                    "message", "Seat " + missing.get(0) + " not found",
+                    "missingSeatIds", missing
+                ));
             }
-
-            seatsById.put(seatId, seat);
-            if (eventId == null) eventId = seat.getEventId();
-            if (eventId != null && seat.getEventId() != null && !eventId.equals(seat.getEventId())) {
+            if (eventIds.size() != 1 || eventIds.contains("")) {
                 return ResponseEntity.badRequest().body("All seatIds must belong to the same event");
             }
+            ResponseEntity<?> rejected = QueueGate.reject(queueService, eventIds.iterator().next(), req);
+            if (rejected != null) return rejected;
         }
-        if (eventId != null) {
-            var ev = eventRepo.findById(eventId).orElse(null);
-            if (ev != null && ev.isClosed()) {
-                return ResponseEntity.status(409).body("Event is CLOSED");
-            }
-        }
-
-        Instant holdUntil = Instant.now().plus(HOLD_MINUTES, ChronoUnit.MINUTES);
 
-        // Validate first so we don't partially hold seats.
-        for (String seatId : seatIds) {
-            Seat seat = seatRepo.findById(seatId).orElse(null);
-            if (seat == null) return ResponseEntity.status(404).body("Seat " + seatId + " not found");
+        return holdResponse(seatHoldService.holdSeats(seatIds, userId));
+    }
 
-            if ("HELD".equals(seat.getStatus()) && seat.getHoldUntil() != null && seat.getHoldUntil().isBefore(now)) {
-            } else if ("SOLD".equals(seat.getStatus())) {
-                return ResponseEntity.status(409).body("Seat " + seatLabel(seat) + " is SOLD");
-            }
+    /**
+     * Hold the best block of adjacent seats in one row.
+     * Expects JSON: { eventId: "...", quantity: 2, section: "optional", maxPrice: optional }
+     */
+    @PostMapping("/best-available")
+    public ResponseEntity<?> holdBestAvailable(@RequestBody Map<String, Object> body, @CurrentUser String userId, HttpServletRequest req) {
+        String eventId = body.get("eventId") == null ? null : body.get("eventId").toString();
+        if (eventId == null || eventId.isBlank()) return ResponseEntity.badRequest().body("eventId is required");
+        if (!(body.get("quantity") instanceof Number quantity) || quantity.intValue() <= 0) {
+            return ResponseEntity.badRequest().body("quantity must be a positive number");
         }
+        String section = body.get("section") == null ? null : body.get("section").toString();
+        Double maxPrice = body.get("maxPrice") instanceof Number n ? n.doubleValue() : null;
+        ResponseEntity<?> rejected = QueueGate.reject(queueService, eventId, req);
+        if (rejected != null) return rejected;
 
-        // Apply holds (or extend them) and rollback if anything fails.
-        List<String> changedSeatIds = new ArrayList<>();
-        try {
-            for (String seatId : seatIds) {
-                Seat seat = seatRepo.findById(seatId).orElseThrow(() -> new IllegalStateException("Seat not found: " + seatId));
-
-                if ("HELD".equals(seat.getStatus()) && seat.getHoldUntil() != null && seat.getHoldUntil().isBefore(now)) {
-                    seat.releaseSeat();
-                }
-
-                if ("AVAILABLE".equals(seat.getStatus())) {
-                    seat.holdSeat(holdUntil);
-                } else if ("HELD".equals(seat.getStatus())) {
-                    seat.setHoldUntil(holdUntil);
-                } else {
-                    return ResponseEntity.status(409).body("Seat " + seatLabel(seat) + " is not available");
-                }
-
-                seatRepo.save(seat);
-                changedSeatIds.add(seatId);
-            }
-        } catch (Exception e) {
-            for (String changedId : changedSeatIds) {
-                try {
-                    var seat = seatRepo.findById(changedId).orElse(null);
-                    var snap = originals.get(changedId);
-                    if (seat != null && snap != null) {
-                        seat.setStatus(snap.status());
-                        seat.setHoldUntil(snap.holdUntil());
-                        seatRepo.save(seat);
-                    }
-                } catch (Exception ignored) {}
-            }
-            return ResponseEntity.status(409).body("Could not hold selected seats: " + e.getMessage());
-        }
+        HoldResult result = allocationService.holdBestAvailable(eventId, quantity.intValue(), section, maxPrice, userId);
+        return holdResponse(result);
+    }
 
-        return ResponseEntity.ok("Seats held for " + HOLD_MINUTES + " minutes");
+    private ResponseEntity<?> holdResponse(HoldResult result) {
+        return switch (result.status()) {
+            case HELD -> ResponseEntity.ok(Map.of(
+                "message", "Seats held for " + SeatHoldService.HOLD_MINUTES + " minutes",
+                "heldSeatIds", result.heldSeatIds(),
+                "holdUntil", result.holdUntil()
+            ));
+            case NOT_FOUND -> ResponseEntity.status(404).body(Map.of(
+                "message", "Seat " + result.missingSeatIds().get(0) + " not found",
+                "missingSeatIds", result.missingSeatIds()
+            ));
+            case MIXED_EVENTS -> ResponseEntity.badRequest().body("All seatIds must belong to the same event");
+            case EVENT_CLOSED -> ResponseEntity.status(409).body("Event is CLOSED");
+            case UNAVAILABLE -> ResponseEntity.status(409).body(Map.of(
+                "message", "Could not hold selected seats: " + conflictLabels(result.conflictSeatIds()) + " no longer available",
+                "conflictSeatIds", result.conflictSeatIds()
+            ));
+            case NO_MATCH -> ResponseEntity.status(409).body(Map.of(
+                "message", "No adjacent seats available matching the request",
+                "conflictSeatIds", List.of()
+            ));
+        };
     }
 
     /**
-     * Release seats immediately. Expects JSON }
+     * Release seats held by the caller immediately. Expects JSON: { seatIds: ["id1", ...] }
      */
     @PostMapping("/release")
-    public ResponseEntity<?> releaseSeats(@RequestBody Map<String, List<String>> body) {
+    public ResponseEntity<?> releaseSeats(@RequestBody Map<String, List<String>> body, @CurrentUser String userId) {
         List<String> seatIds = body.get("seatIds");
         if (seatIds == null || seatIds.isEmpty()) {
             return ResponseEntity.badRequest().body("No seatIds provided");
         }
 
-        seatIds = seatIds.stream().distinct().toList();
-
-        int released = 0;
-        List<String> missing = new ArrayList<>();
-        for (String seatId : seatIds) {
-            var seat = seatRepo.findById(seatId).orElse(null);
-            if (seat == null) {
-                missing.add(seatId);
-                continue;
-            }
-            if (!"HELD".equals(seat.getStatus())) continue;
-            try {
-                seat.releaseSeat();
-                seatRepo.save(seat);
-                released++;
-            } catch (Exception ignored) {
-            }
-        }
-
+        ReleaseResult result = seatHoldService.releaseSeats(seatIds, userId);
         return ResponseEntity.ok(Map.of(
-            "released", released,
-            "missing", missing.size(),
-            "missingSeatIds", missing
+            "released", result.released(),
+            "missing", result.missingSeatIds().size(),
+            "missingSeatIds", result.missingSeatIds()
         ));
     }
 }
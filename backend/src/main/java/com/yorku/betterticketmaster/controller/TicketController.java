@@ -14,14 +14,11 @@ import org.springframework.web.bind.annotation.RestController;
 import com.yorku.betterticketmaster.domain.model.booking.Ticket;
 import com.yorku.betterticketmaster.domain.model.users.User;
 import com.yorku.betterticketmaster.domain.repository.booking.TicketRepository;
-import com.yorku.betterticketmaster.domain.repository.inventory.EventRepository;
-import com.yorku.betterticketmaster.domain.services.AuthService;
 import com.yorku.betterticketmaster.domain.services.BookingService;
+import com.yorku.betterticketmaster.domain.services.EventService;
 import com.yorku.betterticketmaster.domain.services.UserService;
-import com.yorku.betterticketmaster.security.AuthTokenStore;
+import com.yorku.betterticketmaster.security.CurrentUser;
 
-import jakarta.servlet.http.Cookie;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -32,18 +29,9 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class TicketController {
     private final BookingService bookingService;
-    private final AuthService authService;
-    private final AuthTokenStore tokenStore;
     private final TicketRepository ticketRepo;
     private final UserService userService;
-    private final EventRepository eventRepo;
-
-    private User currentUser(HttpServletRequest req) {
-        String token = null;
-        if (req.getCookies() != null) for (Cookie c : req.getCookies()) if ("BTM_TOKEN".equals(c.getName())) token = c.getValue();
-        String userId = tokenStore.getUserId(token);
-        return userId == null ? null : authService.getCurrentUser(userId).orElse(null);
-    }
+    private final EventService eventService;
 
     @GetMapping("/resale")
     /**
@@ -59,11 +47,10 @@ public class TicketController {
     @GetMapping("/mine")
     /**
      * List tickets owned by the current user.
-     * @param req HTTP request
+     * @param u current user
      * @return tickets for user or error
      */
-    public ResponseEntity<?> listMine(HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> listMine(@CurrentUser User u) {
         if (u == null) return ResponseEntity.status(401).body("Login required");
         return ResponseEntity.ok(ticketRepo.findByOwnerId(u.getId()));
     }
@@ -75,11 +62,10 @@ public class TicketController {
      * List a ticket for resale.
      * @param id ticket id
      * @param body resale payload
-     * @param req HTTP request
+     * @param u current user
      * @return updated ticket or error
      */
-    public ResponseEntity<?> resell(@PathVariable String id, @RequestBody ResaleBody body, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> resell(@PathVariable String id, @RequestBody ResaleBody body, @CurrentUser User u) {
         if (u == null) return ResponseEntity.status(401).body("Login required");
         try {
             Ticket t = bookingService.resellTicket(id, body.price, u.getId());
@@ -93,11 +79,10 @@ public class TicketController {
     /**
      * Purchase a resale ticket.
      * @param id ticket id
-     * @param req HTTP request
+     * @param u current user
      * @return purchased ticket or error
      */
-    public ResponseEntity<?> buy(@PathVariable String id, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> buy(@PathVariable String id, @CurrentUser User u) {
         if (u == null) return ResponseEntity.status(401).body("Login required");
         try {
             Ticket t = bookingService.purchaseResale(id, u.getId());
@@ -114,11 +99,10 @@ public class TicketController {
      * Transfer a ticket to another user.
      * @param id ticket id
      * @param body transfer payload
-     * @param req HTTP request
+     * @param u current user
      * @return updated ticket or error
      */
-    public ResponseEntity<?> transfer(@PathVariable String id, @RequestBody TransferBody body, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> transfer(@PathVariable String id, @RequestBody TransferBody body, @CurrentUser User u) {
         if (u == null) return ResponseEntity.status(401).body("Login required");
         if (body == null || body.toEmail() == null || body.toEmail().isBlank()) {
             return ResponseEntity.badRequest().body("toEmail is required");
@@ -129,7 +113,7 @@ public class TicketController {
         if (!u.getId().equals(t.getOwnerId())) return ResponseEntity.status(403).body("Not owner");
         if (t.isResale()) return ResponseEntity.status(400).body("Ticket is listed for resale");
 
-        var ev = eventRepo.findById(t.getEventId()).orElse(null);
+        var ev = eventService.getEvent(t.getEventId()).orElse(null);
         if (ev != null && !ev.eventNotStarted()) {
             return ResponseEntity.status(400).body("Cannot transfer after event start");
         }
@@ -20,12 +20,9 @@ import com.yorku.betterticketmaster.domain.model.venue.Venue;
 import com.yorku.betterticketmaster.domain.model.venue.VenueType;
 import com.yorku.betterticketmaster.domain.repository.venueBuilder.LayoutRepository;
 import com.yorku.betterticketmaster.domain.repository.venueBuilder.VenueRepository;
-import com.yorku.betterticketmaster.domain.services.AuthService;
 import com.yorku.betterticketmaster.domain.services.venuebuilder.VenueBuilderService;
-import com.yorku.betterticketmaster.security.AuthTokenStore;
+import com.yorku.betterticketmaster.security.CurrentUser;
 
-import jakarta.servlet.http.Cookie;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -36,22 +33,9 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class VenueBuilderController {
     private final VenueBuilderService venueBuilderService;
-    private final AuthService authService;
-    private final AuthTokenStore tokenStore;
     private final VenueRepository venueRepo;
     private final LayoutRepository layoutRepo;
 
-    private User currentUser(HttpServletRequest req) {
-        String token = null;
-        if (req.getCookies() != null) {
-            for (Cookie c : req.getCookies()) {
-                if ("BTM_TOKEN".equals(c.getName())) token = c.getValue();
-            }
-        }
-        String userId = tokenStore.getUserId(token);
-        return userId == null ? null : authService.getCurrentUser(userId).orElse(null);
-    }
-
     private boolean isBuilderRole(User u) {
         return u != null && (u.isAdmin() || u.isOrganizer());
     }
@@ -59,11 +43,10 @@ public class VenueBuilderController {
     @GetMapping("/venues")
     /**
      * List all venues.
-     * @param req HTTP request
+     * @param u current user
      * @return venues or error
      */
-    public ResponseEntity<?> listVenues(HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> listVenues(@CurrentUser User u) {
         if (!isBuilderRole(u)) return ResponseEntity.status(403).body("Organizer/Admin required");
         return ResponseEntity.ok(venueRepo.findAll());
     }
@@ -72,11 +55,10 @@ public class VenueBuilderController {
     /**
      * List layouts for a given venue.
      * @param venueId venue identifier
-     * @param req HTTP request
+     * @param u current user
      * @return layouts or error
      */
-    public ResponseEntity<?> listLayoutsByVenue(@PathVariable String venueId, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> listLayoutsByVenue(@PathVariable String venueId, @CurrentUser User u) {
         if (!isBuilderRole(u)) return ResponseEntity.status(403).body("Organizer/Admin required");
         return ResponseEntity.ok(layoutRepo.findByVenueId(venueId));
     }
@@ -87,11 +69,10 @@ public class VenueBuilderController {
     /**
      * Create a new venue and optionally set canvas dimensions.
      * @param body venue payload
-     * @param req HTTP request
+     * @param u current user
      * @return created venue or error
      */
-    public ResponseEntity<?> createVenue(@RequestBody CreateVenueRequest body, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> createVenue(@RequestBody CreateVenueRequest body, @CurrentUser User u) {
         if (!isBuilderRole(u)) return ResponseEntity.status(403).body("Organizer/Admin required");
 
         VenueType t;
@@ -114,11 +95,10 @@ public class VenueBuilderController {
     /**
      * Create a new layout for a venue.
      * @param body layout payload
-     * @param req HTTP request
+     * @param u current user
      * @return created layout or error
      */
-    public ResponseEntity<?> createLayout(@RequestBody CreateLayoutRequest body, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> createLayout(@RequestBody CreateLayoutRequest body, @CurrentUser User u) {
         if (!isBuilderRole(u)) return ResponseEntity.status(403).body("Organizer/Admin required");
         Layout created = venueBuilderService.createLayout(body.venueId(), body.layoutName(), body.imageUrl());
         return ResponseEntity.ok(created);
@@ -128,11 +108,10 @@ public class VenueBuilderController {
     /**
      * Load venue builder view for a layout.
      * @param layoutId layout identifier
-     * @param req HTTP request
+     * @param u current user
      * @return venue builder view or error
      */
-    public ResponseEntity<?> loadEditor(@PathVariable String layoutId, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> loadEditor(@PathVariable String layoutId, @CurrentUser User u) {
         if (!isBuilderRole(u)) return ResponseEntity.status(403).body("Organizer/Admin required");
         VenueBuilderView view = venueBuilderService.loadEditor(layoutId);
         return ResponseEntity.ok(view);
@@ -145,11 +124,10 @@ public class VenueBuilderController {
      * Update the background image for a layout.
      * @param layoutId layout identifier
      * @param body payload with imageUrl
-     * @param req HTTP request
+     * @param u current user
      * @return updated layout or error
      */
-    public ResponseEntity<?> updateLayoutImage(@PathVariable String layoutId, @RequestBody UpdateLayoutImageRequest body, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> updateLayoutImage(@PathVariable String layoutId, @RequestBody UpdateLayoutImageRequest body, @CurrentUser User u) {
         if (!isBuilderRole(u)) return ResponseEntity.status(403).body("Organizer/Admin required");
         return ResponseEntity.ok(venueBuilderService.updateLayoutImage(layoutId, body.imageUrl()));
     }
@@ -159,11 +137,10 @@ public class VenueBuilderController {
      * Add a section to a layout.
      * @param layoutId layout identifier
      * @param section section template
-     * @param req HTTP request
+     * @param u current user
      * @return created section
      */
-    public ResponseEntity<?> addSection(@PathVariable String layoutId, @RequestBody SectionTemplate section, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> addSection(@PathVariable String layoutId, @RequestBody SectionTemplate section, @CurrentUser User u) {
         if (!isBuilderRole(u)) return ResponseEntity.status(403).body("Organizer/Admin required");
         return ResponseEntity.ok(venueBuilderService.addSection(layoutId, section));
     }
@@ -172,11 +149,10 @@ public class VenueBuilderController {
     /**
      * Delete a section by id.
      * @param sectionId section identifier
-     * @param req HTTP request
+     * @param u current user
      * @return OK on deletion
      */
-    public ResponseEntity<?> deleteSection(@PathVariable String sectionId, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> deleteSection(@PathVariable String sectionId, @CurrentUser User u) {
         if (!isBuilderRole(u)) return ResponseEntity.status(403).body("Organizer/Admin required");
         venueBuilderService.deleteSection(sectionId);
         return ResponseEntity.ok("Deleted");
@@ -189,11 +165,10 @@ public class VenueBuilderController {
      * Update section geometry.
      * @param sectionId section identifier
      * @param body geometry payload
-     * @param req HTTP request
+     * @param u current user
      * @return updated section
      */
-    public ResponseEntity<?> updateGeometry(@PathVariable String sectionId, @RequestBody GeometryBody body, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> updateGeometry(@PathVariable String sectionId, @RequestBody GeometryBody body, @CurrentUser User u) {
         if (!isBuilderRole(u)) return ResponseEntity.status(403).body("Organizer/Admin required");
         return ResponseEntity.ok(
             venueBuilderService.updateGeometry(
@@ -211,11 +186,10 @@ public class VenueBuilderController {
      * Toggle a single seat disabled/enabled.
      * @param sectionId section identifier
      * @param body seat payload
-     * @param req HTTP request
+     * @param u current user
      * @return updated section
      */
-    public ResponseEntity<?> toggleSeat(@PathVariable String sectionId, @RequestBody SeatToggleBody body, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> toggleSeat(@PathVariable String sectionId, @RequestBody SeatToggleBody body, @CurrentUser User u) {
         if (!isBuilderRole(u)) return ResponseEntity.status(403).body("Organizer/Admin required");
         return ResponseEntity.ok(venueBuilderService.toggleSeat(sectionId, body.row(), body.seatNum()));
     }
@@ -227,11 +201,10 @@ public class VenueBuilderController {
      * Toggle all seats in a row disabled/enabled.
      * @param sectionId section identifier
      * @param body row payload
-     * @param req HTTP request
+     * @param u current user
      * @return updated section
      */
-    public ResponseEntity<?> toggleRow(@PathVariable String sectionId, @RequestBody RowBody body, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> toggleRow(@PathVariable String sectionId, @RequestBody RowBody body, @CurrentUser User u) {
         if (!isBuilderRole(u)) return ResponseEntity.status(403).body("Organizer/Admin required");
         return ResponseEntity.ok(venueBuilderService.toggleRow(sectionId, body.row()));
     }
@@ -241,11 +214,10 @@ public class VenueBuilderController {
      * Add a row to a section.
      * @param sectionId section identifier
      * @param body row payload
-     * @param req HTTP request
+     * @param u current user
      * @return updated section
      */
-    public ResponseEntity<?> addRow(@PathVariable String sectionId, @RequestBody RowBody body, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> addRow(@PathVariable String sectionId, @RequestBody RowBody body, @CurrentUser User u) {
         if (!isBuilderRole(u)) return ResponseEntity.status(403).body("Organizer/Admin required");
         return ResponseEntity.ok(venueBuilderService.addRow(sectionId, body.row()));
     }
@@ -255,11 +227,10 @@ public class VenueBuilderController {
      * Remove a row from a section.
      * @param sectionId section identifier
      * @param row row label
-     * @param req HTTP request
+     * @param u current user
      * @return updated section
      */
-    public ResponseEntity<?> removeRow(@PathVariable String sectionId, @PathVariable String row, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> removeRow(@PathVariable String sectionId, @PathVariable String row, @CurrentUser User u) {
         if (!isBuilderRole(u)) return ResponseEntity.status(403).body("Organizer/Admin required");
         return ResponseEntity.ok(venueBuilderService.removeRow(sectionId, row));
     }
@@ -271,11 +242,10 @@ public class VenueBuilderController {
      * Rename a row in a section.
      * @param sectionId section identifier
      * @param body payload with old/new labels
-     * @param req HTTP request
+     * @param u current user
      * @return updated section
      */
-    public ResponseEntity<?> renameRow(@PathVariable String sectionId, @RequestBody RenameRowBody body, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> renameRow(@PathVariable String sectionId, @RequestBody RenameRowBody body, @CurrentUser User u) {
         if (!isBuilderRole(u)) return ResponseEntity.status(403).body("Organizer/Admin required");
         return ResponseEntity.ok(venueBuilderService.renameRow(sectionId, body.oldRow(), body.newRow()));
     }
@@ -287,11 +257,10 @@ public class VenueBuilderController {
      * Set seats per row for a section.
      * @param sectionId section identifier
      * @param body payload with seatsPerRow
-     * @param req HTTP request
+     * @param u current user
      * @return updated section
      */
-    public ResponseEntity<?> setSeatsPerRow(@PathVariable String sectionId, @RequestBody SeatsPerRowBody body, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> setSeatsPerRow(@PathVariable String sectionId, @RequestBody SeatsPerRowBody body, @CurrentUser User u) {
         if (!isBuilderRole(u)) return ResponseEntity.status(403).body("Organizer/Admin required");
         return ResponseEntity.ok(venueBuilderService.setSeatsPerRow(sectionId, body.seatsPerRow()));
     }
@@ -299,8 +268,7 @@ public class VenueBuilderController {
     public record SeatConfigBody(List<String> rows, int seatsPerRow) {}
 
     @PatchMapping("/sections/{sectionId}/seatConfig")
-    public ResponseEntity<?> updateSeatConfig(@PathVariable String sectionId, @RequestBody SeatConfigBody body, HttpServletRequest req) {
-        User u = currentUser(req);
+    public ResponseEntity<?> updateSeatConfig(@PathVariable String sectionId, @RequestBody SeatConfigBody body, @CurrentUser User u) {
         if (!isBuilderRole(u)) return ResponseEntity.status(403).body("Organizer/Admin required");
         return ResponseEntity.ok(venueBuilderService.updateSectionSeatConfig(sectionId, body.rows(), body.seatsPerRow()));
     }
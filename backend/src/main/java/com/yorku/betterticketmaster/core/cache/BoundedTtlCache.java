@@ -0,0 +1,76 @@
+package com.yorku.betterticketmaster.core.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Small in-process cache with a size bound (least recently used entries go first) and a
+ * time-to-live per entry. Thread-safe; meant as a front for a slower shared store, so it keeps
+ * one lock and does no background work: expired entries are dropped when touched or evicted.
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class BoundedTtlCache<K, V> {
+    private final long ttlMillis;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private record Entry<V>(V value, long expiresAtMillis) {}
+
+    /**
+     * @param maxEntries maximum number of entries
+     * @param ttlMillis how long an entry stays valid after it is put
+     */
+    public BoundedTtlCache(int maxEntries, long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param key key
+     * @return the cached value, or null if absent or expired
+     */
+    public synchronized V get(K key) {
+        Entry<V> e = entries.get(key);
+        if (e == null) return null;
+        if (e.expiresAtMillis() < System.currentTimeMillis()) {
+            entries.remove(key);
+            return null;
+        }
+        return e.value();
+    }
+
+    /**
+     * Cache a value for the configured time-to-live.
+     * @param key key
+     * @param value value
+     */
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+    }
+
+    /**
+     * @param key key to drop
+     */
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Drop every entry.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @return number of entries, including expired ones not yet dropped
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,24 @@
+package com.yorku.betterticketmaster.core.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries cache invalidations to the other instances of the application, so an entry changed on
+ * one node does not live out its TTL on the rest. Publishers drop their own copy themselves; the
+ * bus only reaches other nodes.
+ */
+public interface CacheInvalidationBus {
+    /**
+     * Tell the other instances to drop a key.
+     * @param cache cache name, e.g. "events"
+     * @param key key to drop
+     */
+    void publish(String cache, String key);
+
+    /**
+     * Receive keys dropped by other instances.
+     * @param cache cache name
+     * @param listener called with each key
+     */
+    void subscribe(String cache, Consumer<String> listener);
+}
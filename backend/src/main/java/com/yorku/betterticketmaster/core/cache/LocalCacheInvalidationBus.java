@@ -0,0 +1,22 @@
+package com.yorku.betterticketmaster.core.cache;
+
+import java.util.function.Consumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single instance: there is nobody to tell, so invalidations stay local and caches on other
+ * instances (if any) only catch up when their entries expire.
+ */
+@Component
+@ConditionalOnProperty(name = "btm.cache.bus", havingValue = "local", matchIfMissing = true)
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+    @Override
+    public void publish(String cache, String key) {
+    }
+
+    @Override
+    public void subscribe(String cache, Consumer<String> listener) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.yorku.betterticketmaster.core.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Invalidations over Redis pub/sub, one channel per cache ({@code btm:invalidate:<cache>}).
+ * Messages are {@code <nodeId>|<key>}; a node ignores its own. Pub/sub is fire-and-forget, so a
+ * node that is disconnected when a message goes out relies on the entry TTL.
+ */
+@Component
+@ConditionalOnProperty(name = "btm.cache.bus", havingValue = "redis")
+public class RedisCacheInvalidationBus implements CacheInvalidationBus {
+    private static final String CHANNEL_PREFIX = "btm:invalidate:";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redis;
+    private final RedisMessageListenerContainer container;
+
+    public RedisCacheInvalidationBus(StringRedisTemplate redis, RedisConnectionFactory connectionFactory) {
+        this.redis = redis;
+        this.container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @Override
+    public void publish(String cache, String key) {
+        try {
+            redis.convertAndSend(CHANNEL_PREFIX + cache, nodeId + "|" + key);
+        } catch (RuntimeException ex) {
+            // The local copy is already gone; other nodes fall back to the TTL.
+            System.err.println("Cache invalidation of " + cache + "/" + key + " not published: " + ex.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(String cache, Consumer<String> listener) {
+        container.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int bar = body.indexOf('|');
+            if (bar < 0 || body.substring(0, bar).equals(nodeId)) return;
+            listener.accept(body.substring(bar + 1));
+        }, new ChannelTopic(CHANNEL_PREFIX + cache));
+    }
+
+    @PreDestroy
+    public void shutdown() throws Exception {
+        container.destroy();
+    }
+}
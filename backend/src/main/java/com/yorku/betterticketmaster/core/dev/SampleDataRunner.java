@@ -118,7 +118,7 @@ public class SampleDataRunner implements CommandLineRunner {
             });
 
             // Ensure seats exist for the event
-            if (seatRepo.findByEventId(e.getId()).isEmpty()) {
+            if (!seatRepo.existsByEventId(e.getId())) {
                 List<Seat> seats = new ArrayList<>();
                 for (String row : s.getRows()) {
                     for (int i = 1; i <= s.getSeatsPerRow(); i++) {
@@ -0,0 +1,39 @@
+package com.yorku.betterticketmaster.core.mongo;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import com.yorku.betterticketmaster.core.mongo.MongoIndexVerifier.Drift;
+import com.yorku.betterticketmaster.core.mongo.MongoIndexVerifier.Report;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reports the last index check as the mongoIndexes health component: DOWN while a declared index
+ * is missing or differs from its declaration, since queries on it then scan the collection.
+ * Indexes that exist without being declared only cost writes and are listed while UP.
+ */
+@Component("mongoIndexesHealthIndicator")
+@RequiredArgsConstructor
+public class MongoIndexHealthIndicator implements HealthIndicator {
+    private final MongoIndexVerifier verifier;
+
+    @Override
+    public Health health() {
+        Report report = verifier.lastReport();
+        if (report == null) return Health.unknown().withDetail("reason", "not checked yet").build();
+        Health.Builder health = report.isHealthy() ? Health.up() : Health.down();
+        health.withDetail("checkedAt", report.checkedAt()).withDetail("declared", report.declared());
+        if (!report.missing().isEmpty()) health.withDetail("missing", names(report.missing()));
+        if (!report.changed().isEmpty()) health.withDetail("changed", names(report.changed()));
+        if (!report.unexpected().isEmpty()) health.withDetail("unexpected", names(report.unexpected()));
+        return health.build();
+    }
+
+    private static List<String> names(List<Drift> drift) {
+        return drift.stream().map(Drift::toString).toList();
+    }
+}
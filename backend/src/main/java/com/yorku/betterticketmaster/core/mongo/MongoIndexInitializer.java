@@ -0,0 +1,61 @@
+package com.yorku.betterticketmaster.core.mongo;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Component;
+
+import com.yorku.betterticketmaster.core.mongo.MongoIndexVerifier.Report;
+
+/**
+ * Creates the indexes declared with {@code @Indexed} / {@code @CompoundIndex} on the documents
+ * at startup, before any other runner. Automatic index creation is off by default in Spring Data,
+ * so without this the declared indexes would never exist. Creating an index that already exists
+ * is a no-op.
+ *
+ * Afterwards the database is checked against the declarations. An index that could not be created
+ * (an index of the same name with other keys, or duplicates under a new unique index) is logged
+ * and reported as drift; with btm.mongo.indexes.fail-on-drift the application doesn't start.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MongoIndexInitializer implements CommandLineRunner {
+    private final MongoTemplate mongo;
+    private final MongoIndexVerifier verifier;
+    private final boolean failOnDrift;
+
+    public MongoIndexInitializer(
+        MongoTemplate mongo,
+        MongoIndexVerifier verifier,
+        @Value("${btm.mongo.indexes.fail-on-drift:false}") boolean failOnDrift
+    ) {
+        this.mongo = mongo;
+        this.verifier = verifier;
+        this.failOnDrift = failOnDrift;
+    }
+
+    @Override
+    public void run(String... args) {
+        for (Map.Entry<String, List<IndexDefinition>> e : verifier.declared().entrySet()) {
+            IndexOperations ops = mongo.indexOps(e.getKey());
+            for (IndexDefinition index : e.getValue()) {
+                try {
+                    ops.createIndex(index);
+                } catch (RuntimeException ex) {
+                    System.err.println("Could not create index " + index.getIndexOptions().get("name") + " on " + e.getKey() + ": " + ex.getMessage());
+                }
+            }
+        }
+        Report report = verifier.check();
+        if (failOnDrift && !report.isHealthy()) {
+            throw new IllegalStateException("Mongo indexes differ from their declarations: missing " + report.missing() + ", changed " + report.changed());
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.yorku.betterticketmaster.core.mongo;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Compares the indexes declared with {@code @Indexed} / {@code @CompoundIndex} on the documents
+ * with the indexes that exist in the database. An index is missing when no index of its name
+ * exists, changed when one exists with other keys or options (creating it then fails, and it
+ * has to be dropped by hand), and unexpected when it exists on a managed collection without being
+ * declared, e.g. after an annotation was removed.
+ *
+ * Checked at startup by {@link MongoIndexInitializer} and periodically afterwards; the last
+ * result is reported by {@link MongoIndexHealthIndicator} and the btm.mongo.indexes.drift gauges.
+ */
+@Component
+public class MongoIndexVerifier {
+    private final MongoTemplate mongo;
+
+    private volatile Report last;
+
+    /**
+     * One index that differs from its declaration.
+     * @param collection collection name
+     * @param index index name
+     * @param declared declared keys and options (null if unexpected)
+     * @param actual existing keys and options (null if missing)
+     */
+    public record Drift(String collection, String index, String declared, String actual) {
+        @Override
+        public String toString() {
+            return collection + "." + index + " (declared " + declared + ", found " + actual + ")";
+        }
+    }
+
+    /**
+     * Result of one check.
+     * @param checkedAt when the check ran
+     * @param declared number of declared indexes
+     * @param missing declared indexes that don't exist
+     * @param changed declared indexes that exist with other keys or options
+     * @param unexpected existing indexes that are not declared
+     */
+    public record Report(Instant checkedAt, int declared, List<Drift> missing, List<Drift> changed, List<Drift> unexpected) {
+        /** @return whether every declared index exists as declared */
+        public boolean isHealthy() {
+            return missing.isEmpty() && changed.isEmpty();
+        }
+
+        boolean sameDrift(Report other) {
+            return other != null && missing.equals(other.missing) && changed.equals(other.changed) && unexpected.equals(other.unexpected);
+        }
+    }
+
+    public MongoIndexVerifier(MongoTemplate mongo, MeterRegistry registry) {
+        this.mongo = mongo;
+        Gauge.builder("btm.mongo.indexes.drift", this, v -> v.last == null ? 0 : v.last.missing().size())
+            .tag("kind", "missing").description("Declared indexes that don't exist").register(registry);
+        Gauge.builder("btm.mongo.indexes.drift", this, v -> v.last == null ? 0 : v.last.changed().size())
+            .tag("kind", "changed").description("Declared indexes that exist with other keys or options").register(registry);
+        Gauge.builder("btm.mongo.indexes.drift", this, v -> v.last == null ? 0 : v.last.unexpected().size())
+            .tag("kind", "unexpected").description("Indexes that are not declared").register(registry);
+    }
+
+    /**
+     * Indexes declared on the documents, by collection; subclasses stored in the same
+     * collection declare each index once.
+     * @return index definitions by collection name
+     */
+    public Map<String, List<IndexDefinition>> declared() {
+        var mappingContext = mongo.getConverter().getMappingContext();
+        var resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        Map<String, Map<String, IndexDefinition>> byName = new LinkedHashMap<>();
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)) continue;
+            resolver.resolveIndexFor(entity.getTypeInformation()).forEach(holder ->
+                byName.computeIfAbsent(holder.getCollection(), c -> new LinkedHashMap<>())
+                    .putIfAbsent(nameOf(holder.getIndexKeys(), holder.getIndexOptions()), holder));
+        }
+        Map<String, List<IndexDefinition>> out = new LinkedHashMap<>();
+        byName.forEach((collection, indexes) -> out.put(collection, List.copyOf(indexes.values())));
+        return out;
+    }
+
+    /**
+     * Compare the declared indexes with the database.
+     * @return report, also kept as {@link #lastReport()}
+     */
+    @Scheduled(initialDelayString = "${btm.mongo.indexes.check-ms:300000}", fixedDelayString = "${btm.mongo.indexes.check-ms:300000}")
+    public synchronized Report check() {
+        Map<String, List<Document>> declared = new LinkedHashMap<>();
+        Map<String, List<Document>> actual = new LinkedHashMap<>();
+        declared().forEach((collection, indexes) -> {
+            List<Document> specs = new ArrayList<>(indexes.size());
+            for (IndexDefinition index : indexes) {
+                Document spec = new Document(index.getIndexOptions());
+                spec.put("key", index.getIndexKeys());
+                specs.add(spec);
+            }
+            declared.put(collection, specs);
+            actual.put(collection, mongo.collectionExists(collection)
+                ? mongo.getCollection(collection).listIndexes().into(new ArrayList<>())
+                : List.of());
+        });
+
+        Report report = compare(declared, actual, Instant.now());
+        if (!report.sameDrift(last)) {
+            if (report.isHealthy() && report.unexpected().isEmpty()) {
+                System.out.println("Mongo indexes: all " + report.declared() + " declared indexes present");
+            } else {
+                report.missing().forEach(d -> System.err.println("Mongo index missing: " + d));
+                report.changed().forEach(d -> System.err.println("Mongo index changed: " + d));
+                report.unexpected().forEach(d -> System.err.println("Mongo index not declared: " + d));
+            }
+        }
+        last = report;
+        return report;
+    }
+
+    /**
+     * @return result of the last check, or null before the first one
+     */
+    public Report lastReport() {
+        return last;
+    }
+
+    /**
+     * Compare index documents as returned by listIndexes: name, key, and the unique, sparse and
+     * expireAfterSeconds options.
+     */
+    static Report compare(Map<String, List<Document>> declared, Map<String, List<Document>> actual, Instant now) {
+        List<Drift> missing = new ArrayList<>();
+        List<Drift> changed = new ArrayList<>();
+        List<Drift> unexpected = new ArrayList<>();
+        int count = 0;
+        for (Map.Entry<String, List<Document>> e : declared.entrySet()) {
+            String collection = e.getKey();
+            Map<String, String> existing = new LinkedHashMap<>();
+            for (Document index : actual.getOrDefault(collection, List.of())) {
+                existing.put(nameOf(index.get("key", Document.class), index), describe(index));
+            }
+            existing.remove("_id_");
+            for (Document index : e.getValue()) {
+                count++;
+                String name = nameOf(index.get("key", Document.class), index);
+                String want = describe(index);
+                String have = existing.remove(name);
+                if (have == null) missing.add(new Drift(collection, name, want, null));
+                else if (!have.equals(want)) changed.add(new Drift(collection, name, want, have));
+            }
+            existing.forEach((name, have) -> unexpected.add(new Drift(collection, name, null, have)));
+        }
+        return new Report(now, count, List.copyOf(missing), List.copyOf(changed), List.copyOf(unexpected));
+    }
+
+    /** Keys in order, then the options that change what the index does. */
+    private static String describe(Document index) {
+        StringJoiner keys = new StringJoiner(", ", "{", "}");
+        Document key = index.get("key", Document.class);
+        if (key != null) key.forEach((field, dir) -> keys.add(field + ": " + keyValue(dir)));
+        StringBuilder out = new StringBuilder(keys.toString());
+        if (Boolean.TRUE.equals(index.get("unique"))) out.append(" unique");
+        if (Boolean.TRUE.equals(index.get("sparse"))) out.append(" sparse");
+        if (index.get("expireAfterSeconds") instanceof Number ttl) out.append(" ttl=").append(ttl.longValue()).append("s");
+        return out.toString();
+    }
+
+    private static String keyValue(Object dir) {
+        return dir instanceof Number n && n.doubleValue() == n.intValue() ? String.valueOf(n.intValue()) : String.valueOf(dir);
+    }
+
+    /** The given name, or the name the server would generate (field_direction pairs). */
+    private static String nameOf(Document key, Document options) {
+        Object name = options.get("name");
+        if (name instanceof String s && !s.isBlank()) return s;
+        StringJoiner generated = new StringJoiner("_");
+        if (key != null) key.forEach((field, dir) -> generated.add(field + "_" + keyValue(dir)));
+        return generated.toString();
+    }
+}
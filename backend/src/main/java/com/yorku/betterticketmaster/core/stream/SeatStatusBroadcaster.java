@@ -0,0 +1,185 @@
+package com.yorku.betterticketmaster.core.stream;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Pushes seat status changes to viewers of an event over Server-Sent Events.
+ * Changes are coalesced per seat and sent once per tick as one batch per event, serialized once
+ * and fanned out to every subscriber, so viewers cost no database reads.
+ *
+ * Each batch carries a per-event sequence number; a client that sees a gap (or reconnects) should
+ * resync from {@code /api/seats/availability}. Holds released by the expiry tick are pushed as
+ * AVAILABLE; HELD changes also carry holdUntil so clients can expire holds the server can't name.
+ * Sequences of events nobody watches any more are dropped with the heartbeat, so a viewer arriving
+ * later starts from a fresh sequence.
+ */
+@Component
+public class SeatStatusBroadcaster {
+    private final ObjectMapper mapper;
+    private final long timeoutMillis;
+    private final long heartbeatMillis;
+
+    private final Map<String, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, SeatDelta>> pending = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> sequences = new ConcurrentHashMap<>();
+    private volatile long lastHeartbeatMillis = System.currentTimeMillis();
+
+    /**
+     * New state of one seat.
+     * @param seatId seat identifier
+     * @param status AVAILABLE, HELD or SOLD
+     * @param holdUntil hold expiry (null unless HELD)
+     */
+    public record SeatDelta(String seatId, String status, Instant holdUntil) {}
+
+    /**
+     * Changes of one tick for one event.
+     * @param eventId event identifier
+     * @param seq per-event sequence number, increasing by one per batch
+     * @param changes latest state of each changed seat
+     */
+    public record SeatDeltaBatch(String eventId, long seq, List<SeatDelta> changes) {}
+
+    public SeatStatusBroadcaster(
+        ObjectMapper mapper,
+        MeterRegistry registry,
+        @Value("${btm.seats.stream.timeout-ms:1800000}") long timeoutMillis,
+        @Value("${btm.seats.stream.heartbeat-ms:15000}") long heartbeatMillis
+    ) {
+        this.mapper = mapper;
+        this.timeoutMillis = timeoutMillis;
+        this.heartbeatMillis = heartbeatMillis;
+        Gauge.builder("btm.seats.stream.subscribers", subscribers, m -> m.values().stream().mapToInt(Set::size).sum())
+            .description("Open seat status streams").register(registry);
+    }
+
+    /**
+     * Open a stream of seat changes for an event.
+     * @param eventId event identifier
+     * @return emitter to return from the controller
+     */
+    public SseEmitter subscribe(String eventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        subscribers.compute(eventId, (k, viewers) -> {
+            if (viewers == null) viewers = ConcurrentHashMap.newKeySet();
+            viewers.add(emitter);
+            return viewers;
+        });
+        Runnable remove = () -> unsubscribe(eventId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+        try {
+            emitter.send(SseEmitter.event().name("ready").data(sequence(eventId).get()));
+        } catch (IOException | IllegalStateException e) {
+            remove.run();
+        }
+        return emitter;
+    }
+
+    /**
+     * Queue a status change for the next tick. Ignored when nobody watches the event.
+     * @param eventId event identifier
+     * @param seatIds changed seats
+     * @param status new status
+     * @param holdUntil hold expiry (null unless HELD)
+     */
+    public void publish(String eventId, Collection<String> seatIds, String status, Instant holdUntil) {
+        if (eventId == null || seatIds.isEmpty() || !subscribers.containsKey(eventId)) return;
+        pending.compute(eventId, (k, changes) -> {
+            if (changes == null) changes = new LinkedHashMap<>();
+            for (String seatId : seatIds) changes.put(seatId, new SeatDelta(seatId, status, holdUntil));
+            return changes;
+        });
+    }
+
+    /**
+     * Send the changes queued since the last tick, and a heartbeat when the stream has been quiet.
+     */
+    @Scheduled(fixedDelayString = "${btm.seats.stream.tick-ms:250}")
+    public void flush() {
+        for (String eventId : new ArrayList<>(pending.keySet())) {
+            Map<String, SeatDelta> changes = pending.remove(eventId);
+            Set<SseEmitter> viewers = subscribers.get(eventId);
+            if (changes == null || viewers == null || viewers.isEmpty()) continue;
+
+            String json;
+            try {
+                long seq = sequence(eventId).incrementAndGet();
+                json = mapper.writeValueAsString(new SeatDeltaBatch(eventId, seq, new ArrayList<>(changes.values())));
+            } catch (JsonProcessingException e) {
+                continue;
+            }
+            for (SseEmitter emitter : viewers) send(eventId, emitter, SseEmitter.event().name("seats").data(json));
+        }
+
+        long now = System.currentTimeMillis();
+        if (now - lastHeartbeatMillis >= heartbeatMillis) {
+            lastHeartbeatMillis = now;
+            subscribers.forEach((eventId, viewers) -> {
+                for (SseEmitter emitter : viewers) send(eventId, emitter, SseEmitter.event().comment("ping"));
+            });
+            evictUnwatched();
+        }
+    }
+
+    /**
+     * Drop the sequences of events without subscribers. Runs under the subscribers entry of the
+     * event, so a concurrent {@link #subscribe} reads its ready sequence after the removal.
+     */
+    void evictUnwatched() {
+        for (String eventId : new ArrayList<>(sequences.keySet())) {
+            subscribers.compute(eventId, (k, viewers) -> {
+                if (viewers == null) sequences.remove(k);
+                return viewers;
+            });
+        }
+    }
+
+    /**
+     * @return number of events with a sequence
+     */
+    int trackedEvents() {
+        return sequences.size();
+    }
+
+    private void send(String eventId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the container completes the emitter.
+            unsubscribe(eventId, emitter);
+        }
+    }
+
+    private void unsubscribe(String eventId, SseEmitter emitter) {
+        subscribers.computeIfPresent(eventId, (k, viewers) -> {
+            viewers.remove(emitter);
+            return viewers.isEmpty() ? null : viewers;
+        });
+    }
+
+    private AtomicLong sequence(String eventId) {
+        return sequences.computeIfAbsent(eventId, k -> new AtomicLong());
+    }
+}
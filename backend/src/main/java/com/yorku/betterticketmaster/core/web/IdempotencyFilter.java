@@ -0,0 +1,162 @@
+package com.yorku.betterticketmaster.core.web;
+
+import java.io.ByteArrayInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.yorku.betterticketmaster.security.AuthenticationFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Makes booking creation and completion safe to retry. A POST carrying an {@code Idempotency-Key}
+ * header runs once per user and key; repeats get the stored response (with
+ * {@code Idempotent-Replayed: true}) without reaching the controller. A repeat that arrives while
+ * the first request still runs gets 409, and reusing a key with a different body gets 422.
+ * Server errors release the key so the client can retry, and a key whose request died without
+ * finishing is taken over by a retry once its lease runs out. Runs after {@link AuthenticationFilter}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String HEADER = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final List<Pattern> PATHS = List.of(
+        Pattern.compile("^/api/bookings/?$"),
+        Pattern.compile("^/api/bookings/[^/]+/complete/?$")
+    );
+
+    private final IdempotencyStore store;
+
+    public IdempotencyFilter(IdempotencyStore store) {
+        this.store = store;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest req) {
+        if (!"POST".equals(req.getMethod()) || req.getHeader(HEADER) == null) return true;
+        String path = req.getRequestURI().substring(req.getContextPath().length());
+        return PATHS.stream().noneMatch(p -> p.matcher(path).matches());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain) throws ServletException, IOException {
+        String key = req.getHeader(HEADER);
+        String userId = AuthenticationFilter.currentUserId(req);
+        if (userId == null) {
+            // Unauthenticated requests are rejected by the controller; nothing to deduplicate.
+            chain.doFilter(req, res);
+            return;
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            res.sendError(400, HEADER + " must be 1-" + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        byte[] body = req.getInputStream().readAllBytes();
+        String id = sha256((userId + "\n" + req.getMethod() + " " + req.getRequestURI() + "\n" + key).getBytes(StandardCharsets.UTF_8));
+        String fingerprint = sha256(body);
+
+        String owner = UUID.randomUUID().toString();
+        IdempotencyRecord earlier = store.begin(id, fingerprint, owner);
+        if (earlier != null) {
+            replay(earlier, fingerprint, res);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapped = new ContentCachingResponseWrapper(res);
+        try {
+            chain.doFilter(new CachedBodyRequest(req, body), wrapped);
+        } catch (IOException | ServletException | RuntimeException e) {
+            store.abandon(id, owner);
+            throw e;
+        }
+        if (wrapped.getStatus() >= 500) {
+            store.abandon(id, owner);
+        } else {
+            store.complete(id, fingerprint, owner, wrapped.getStatus(), wrapped.getContentType(), wrapped.getContentAsByteArray());
+        }
+        wrapped.copyBodyToResponse();
+    }
+
+    private static void replay(IdempotencyRecord earlier, String fingerprint, HttpServletResponse res) throws IOException {
+        if (!fingerprint.equals(earlier.getFingerprint())) {
+            res.sendError(422, HEADER + " was already used for a different request");
+            return;
+        }
+        if (!earlier.isCompleted()) {
+            res.setHeader("Retry-After", "1");
+            res.sendError(409, "A request with this " + HEADER + " is still in progress");
+            return;
+        }
+        res.setStatus(earlier.getResponseStatus());
+        res.setHeader("Idempotent-Replayed", "true");
+        if (earlier.getContentType() != null) res.setContentType(earlier.getContentType());
+        byte[] body = earlier.getResponseBody() == null ? new byte[0] : earlier.getResponseBody();
+        res.setContentLength(body.length);
+        res.getOutputStream().write(body);
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** Request whose body was read up front and is served again to the controller. */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest req, byte[] body) {
+            super(req);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override public int read() { return in.read(); }
+                @Override public int read(byte[] b, int off, int len) { return in.read(b, off, len); }
+                @Override public boolean isFinished() { return in.available() == 0; }
+                @Override public boolean isReady() { return true; }
+                @Override public void setReadListener(ReadListener listener) {
+                    // The whole body is already here: report it available, then read.
+                    try {
+                        if (!isFinished()) listener.onDataAvailable();
+                        if (isFinished()) listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.yorku.betterticketmaster.core.web;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.Data;
+
+/**
+ * Outcome of a request sent with an Idempotency-Key. IN_PROGRESS while the first request runs,
+ * then COMPLETED with the response to replay. Removed by a TTL index a day after creation.
+ * An IN_PROGRESS record is leased to the request that owns it; once the lease runs out (the
+ * request died without completing or abandoning the key) a retry may take it over.
+ */
+@Data
+@Document(collection = "idempotency_keys")
+public class IdempotencyRecord {
+    @Id
+    private String id; //hash of user, method, path and key
+    private String fingerprint; //hash of the request body
+    private String status = "IN_PROGRESS";
+    private String owner; //request currently running under the key
+    private Instant leaseUntil; //when an IN_PROGRESS record may be taken over
+    private int responseStatus;
+    private String contentType;
+    private byte[] responseBody;
+
+    @Indexed(name = "createdAt_ttl", expireAfter = "1d")
+    private Instant createdAt;
+
+    public IdempotencyRecord() {}
+
+    public IdempotencyRecord(String id, String fingerprint, Instant createdAt) {
+        this.id = id;
+        this.fingerprint = fingerprint;
+        this.createdAt = createdAt;
+    }
+
+    public IdempotencyRecord(String id, String fingerprint, String owner, Instant createdAt, Instant leaseUntil) {
+        this(id, fingerprint, createdAt);
+        this.owner = owner;
+        this.leaseUntil = leaseUntil;
+    }
+
+    public boolean isCompleted() {
+        return "COMPLETED".equals(status);
+    }
+
+    /**
+     * @param now current time
+     * @return whether this is an IN_PROGRESS record whose owner's lease has run out
+     */
+    public boolean isLeaseExpired(Instant now) {
+        return !isCompleted() && leaseUntil != null && leaseUntil.isBefore(now);
+    }
+}
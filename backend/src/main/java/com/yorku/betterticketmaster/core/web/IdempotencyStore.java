@@ -0,0 +1,103 @@
+package com.yorku.betterticketmaster.core.web;
+
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.yorku.betterticketmaster.core.cache.BoundedTtlCache;
+
+/**
+ * Idempotency records in the {@code idempotency_keys} collection, with completed ones also kept
+ * in a bounded in-memory LRU so a retry burst is answered without a database read.
+ * The insert of the IN_PROGRESS record is what makes exactly one request win a key; the winner
+ * holds it for {@code btm.idempotency.lease-ms}, after which a retry with the same body takes the
+ * key over with a conditional update instead of getting 409 until the record expires.
+ */
+@Component
+public class IdempotencyStore {
+    private final MongoTemplate mongo;
+    private final BoundedTtlCache<String, IdempotencyRecord> completed;
+    private final long leaseMillis;
+
+    public IdempotencyStore(
+        MongoTemplate mongo,
+        @Value("${btm.idempotency.cache-size:10000}") int cacheSize,
+        @Value("${btm.idempotency.cache-ttl-ms:600000}") long cacheTtlMillis,
+        @Value("${btm.idempotency.lease-ms:60000}") long leaseMillis
+    ) {
+        this.mongo = mongo;
+        this.completed = new BoundedTtlCache<>(cacheSize, cacheTtlMillis);
+        this.leaseMillis = leaseMillis;
+    }
+
+    /**
+     * Claim a key for a new request, or take over one whose owner's lease ran out.
+     * @param id scoped key
+     * @param fingerprint request body hash
+     * @param owner identifies the claiming request in {@link #complete} and {@link #abandon}
+     * @return null if the caller now owns the key, otherwise the record of the earlier request
+     */
+    public IdempotencyRecord begin(String id, String fingerprint, String owner) {
+        IdempotencyRecord cached = completed.get(id);
+        if (cached != null) return cached;
+        Instant now = Instant.now();
+        try {
+            mongo.insert(new IdempotencyRecord(id, fingerprint, owner, now, now.plusMillis(leaseMillis)));
+            return null;
+        } catch (DuplicateKeyException e) {
+            IdempotencyRecord existing = mongo.findById(id, IdempotencyRecord.class);
+            if (existing == null) return begin(id, fingerprint, owner); // expired in between
+            if (existing.isCompleted()) completed.put(id, existing);
+            if (!existing.isLeaseExpired(now) || !fingerprint.equals(existing.getFingerprint())) return existing;
+
+            // Only one retry wins the takeover: the update matches the lease it saw.
+            Query lapsed = new Query(Criteria.where("_id").is(id).and("status").is("IN_PROGRESS").and("leaseUntil").is(existing.getLeaseUntil()));
+            Update takeOver = new Update().set("owner", owner).set("leaseUntil", now.plusMillis(leaseMillis));
+            if (mongo.updateFirst(lapsed, takeOver, IdempotencyRecord.class).getModifiedCount() == 1) return null;
+            return begin(id, fingerprint, owner);
+        }
+    }
+
+    /**
+     * Store the response of the request that owns a key. Ignored if the key was taken over.
+     * @param id scoped key
+     * @param fingerprint request body hash
+     * @param owner owner passed to {@link #begin}
+     * @param status HTTP status
+     * @param contentType response content type
+     * @param body response body
+     */
+    public void complete(String id, String fingerprint, String owner, int status, String contentType, byte[] body) {
+        Update update = new Update()
+            .set("status", "COMPLETED")
+            .set("responseStatus", status)
+            .set("contentType", contentType)
+            .set("responseBody", body)
+            .unset("leaseUntil");
+        Query owned = new Query(Criteria.where("_id").is(id).and("status").is("IN_PROGRESS").and("owner").is(owner));
+        if (mongo.updateFirst(owned, update, IdempotencyRecord.class).getModifiedCount() == 0) return;
+
+        IdempotencyRecord record = new IdempotencyRecord(id, fingerprint, Instant.now());
+        record.setStatus("COMPLETED");
+        record.setResponseStatus(status);
+        record.setContentType(contentType);
+        record.setResponseBody(body);
+        completed.put(id, record);
+    }
+
+    /**
+     * Give a key up so the request can be retried, e.g. after a server error.
+     * @param id scoped key
+     * @param owner owner passed to {@link #begin}
+     */
+    public void abandon(String id, String owner) {
+        completed.remove(id);
+        mongo.remove(new Query(Criteria.where("_id").is(id).and("status").is("IN_PROGRESS").and("owner").is(owner)), IdempotencyRecord.class);
+    }
+}
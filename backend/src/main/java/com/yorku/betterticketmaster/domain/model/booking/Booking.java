@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.Data;
@@ -12,12 +14,18 @@ import lombok.Data;
  */
 @Data
 @Document(collection="bookings")
+@CompoundIndexes({
+    @CompoundIndex(name = "consumer_id", def = "{'consumerId': 1, '_id': -1}"),
+    @CompoundIndex(name = "consumer_status_id", def = "{'consumerId': 1, 'status': 1, '_id': -1}"),
+    @CompoundIndex(name = "status_expiry", def = "{'status': 1, 'expiry': 1}")
+})
 public class Booking {
     @Id
     private String id;
     private String consumerId;
     private String eventId;
     private List<String> seatIds;
+    private List<String> gaReservationIds; //general-admission holds bought with this booking
     private double totalPrice;
     private LocalDateTime expiry; //For timer logic, LocalDateTime.now() > expiry, release seats
     private String status; // PENDING, COMPLETED, EXPIRED. CANCELLED
@@ -3,6 +3,8 @@ package com.yorku.betterticketmaster.domain.model.booking;
 import java.time.LocalDateTime;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.Data;
@@ -12,11 +14,14 @@ import lombok.Data;
  */
 @Data
 @Document(collection="tickets")
+// Resale listings of an event, cheapest first
+@CompoundIndex(name = "event_resale_price", def = "{'eventId': 1, 'resale': 1, 'resalePrice': 1}")
 public class Ticket {
     @Id
     private String id;
     private String seatId;
     private String eventId;
+    @Indexed(name = "ownerId_idx")
     private String ownerId; 
     private String buyerId; // Switch only if resold
     private double purchasePrice; //Face Value of ticket -> changed from string to double
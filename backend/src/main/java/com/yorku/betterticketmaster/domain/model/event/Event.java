@@ -3,6 +3,9 @@ package com.yorku.betterticketmaster.domain.model.event;
 import java.time.LocalDateTime;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.Data;
@@ -12,11 +15,18 @@ import lombok.Data;
  */
 @Data
 @Document(collection="events")
+@CompoundIndexes({
+    @CompoundIndex(name = "status_dateTime_id", def = "{'status': 1, 'dateTime': 1, '_id': 1}"),
+    // Public listing: status $nin filters while walking this index in sort order.
+    @CompoundIndex(name = "dateTime_id", def = "{'dateTime': 1, '_id': 1}"),
+    @CompoundIndex(name = "organizer_dateTime_id", def = "{'organizerId': 1, 'dateTime': 1, '_id': 1}")
+})
 public class Event {
     @Id
     private String id;
     private String organizerId;
     private String layoutId;
+    @Indexed(name = "title_idx")
     private String title;
     private String venueName;
     private String status; 
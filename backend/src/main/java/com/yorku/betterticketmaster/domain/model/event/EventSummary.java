@@ -0,0 +1,24 @@
+package com.yorku.betterticketmaster.domain.model.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Listing view of an event: everything but the description.
+ */
+public record EventSummary(
+    String id,
+    String organizerId,
+    String layoutId,
+    String title,
+    String venueName,
+    String status,
+    LocalDateTime dateTime,
+    double minResale,
+    double maxResale,
+    String imageUrl
+) {
+    public static EventSummary of(Event e) {
+        return new EventSummary(e.getId(), e.getOrganizerId(), e.getLayoutId(), e.getTitle(), e.getVenueName(),
+            e.getStatus(), e.getDateTime(), e.getMinResale(), e.getMaxResale(), e.getImageUrl());
+    }
+}
@@ -0,0 +1,38 @@
+package com.yorku.betterticketmaster.domain.model.event;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.Data;
+
+/**
+ * Capacity counter for a general-admission section. Holds and sales move spots between
+ * available, held and sold with single atomic increments instead of per-spot documents.
+ */
+@Data
+@Document(collection = "ga_inventory")
+@CompoundIndex(name = "event_section", def = "{'eventId': 1, 'section': 1}", unique = true)
+public class GaInventory {
+    @Id
+    private String id;
+
+    private String eventId;
+    private String section;
+    private double price;
+
+    private int capacity;
+    private int available;
+    private int held;
+    private int sold;
+
+    public GaInventory() {}
+
+    public GaInventory(String eventId, String section, int capacity, double price) {
+        this.eventId = eventId;
+        this.section = section;
+        this.capacity = capacity;
+        this.available = capacity;
+        this.price = price;
+    }
+}
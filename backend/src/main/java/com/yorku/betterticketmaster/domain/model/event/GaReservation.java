@@ -0,0 +1,45 @@
+package com.yorku.betterticketmaster.domain.model.event;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.Data;
+
+/**
+ * A hold on a number of spots of a general-admission section.
+ * Status moves HELD -> SOLD on purchase, or HELD -> RELEASED / EXPIRED.
+ */
+@Data
+@Document(collection = "ga_reservations")
+@CompoundIndex(name = "status_holdUntil", def = "{'status': 1, 'holdUntil': 1}")
+public class GaReservation {
+    @Id
+    private String id;
+
+    private String inventoryId;
+    private String eventId;
+    private String section;
+    private int quantity;
+    private String holderId; //user that placed the hold
+
+    private String status = "HELD";
+    private Instant holdUntil;
+
+    public GaReservation() {}
+
+    public GaReservation(GaInventory inventory, int quantity, String holderId, Instant holdUntil) {
+        this.inventoryId = inventory.getId();
+        this.eventId = inventory.getEventId();
+        this.section = inventory.getSection();
+        this.quantity = quantity;
+        this.holderId = holderId;
+        this.holdUntil = holdUntil;
+    }
+
+    public boolean isHeld() {
+        return "HELD".equals(status);
+    }
+}
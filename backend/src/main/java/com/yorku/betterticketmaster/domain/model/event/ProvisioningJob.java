@@ -0,0 +1,57 @@
+package com.yorku.betterticketmaster.domain.model.event;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.Data;
+
+/**
+ * Seat generation of a new event, one job per event (the id is the event id).
+ * Status moves PENDING -> RUNNING -> DONE; a failed run goes back to PENDING until the attempts
+ * run out, then FAILED; an admin retry puts a FAILED job back to PENDING with its attempts reset. Sections are recorded as they complete so a resumed run skips them.
+ */
+@Data
+@Document(collection = "provisioning_jobs")
+@CompoundIndex(name = "status_lockedUntil", def = "{'status': 1, 'lockedUntil': 1}")
+public class ProvisioningJob {
+    @Id
+    private String id;
+    private String layoutId;
+
+    private String status = "PENDING";
+    private int attempts;
+    private int sections;
+    private int sectionsDone;
+    private long seats;
+    private long seatsWritten;
+    private List<String> completedSections = new ArrayList<>();
+    private String lastError;
+
+    private Instant createdAt;
+    private Instant updatedAt;
+    private Instant finishedAt;
+    @JsonIgnore
+    private Instant lockedUntil; //set while a worker owns the job
+    @JsonIgnore
+    private String claimToken;
+
+    public ProvisioningJob() {}
+
+    public ProvisioningJob(String eventId, String layoutId, Instant now) {
+        this.id = eventId;
+        this.layoutId = layoutId;
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+
+    public boolean isFinished() {
+        return "DONE".equals(status) || "FAILED".equals(status);
+    }
+}
@@ -4,8 +4,12 @@ import java.time.Instant;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import lombok.Data;
 
 /**
@@ -13,6 +17,13 @@ import lombok.Data;
  */
 @Data
 @Document(collection = "seats")
+@CompoundIndexes({
+    // One document per physical seat; lets seat generation rewrite a chunk without duplicating it.
+    // Also serves findByEventId and findByEventIdAndSection.
+    @CompoundIndex(name = "event_section_row_seat", def = "{'eventId': 1, 'section': 1, 'row': 1, 'seatNum': 1}", unique = true),
+    @CompoundIndex(name = "event_status", def = "{'eventId': 1, 'status': 1}"),
+    @CompoundIndex(name = "status_holdUntil", def = "{'status': 1, 'holdUntil': 1}")
+})
 public class Seat {
     @Id
     private String id; //MongoDB generates this, per seat id
@@ -26,6 +37,10 @@ public class Seat {
     private String status = "AVAILABLE";
 
     private Instant holdUntil;
+    @JsonIgnore
+    private String heldBy; //user holding the seat, null for anonymous holds
+    @JsonIgnore
+    private String holdToken; //claim token of the hold request that last won this seat, or of the sale once SOLD
 
     @Version
     private Long version;
@@ -55,6 +70,7 @@ public class Seat {
         }
         this.status = "SOLD";
         this.holdUntil = null;
+        this.holdToken = null;
     }
 
     public void releaseSeat() {
@@ -63,6 +79,8 @@ public class Seat {
         }
         this.status = "AVAILABLE";
         this.holdUntil = null;
+        this.heldBy = null;
+        this.holdToken = null;
     }
 
     public boolean isAvailable() {
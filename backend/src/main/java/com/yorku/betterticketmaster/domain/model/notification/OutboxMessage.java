@@ -0,0 +1,66 @@
+package com.yorku.betterticketmaster.domain.model.notification;
+
+import java.time.Instant;
+import java.util.Map;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.Data;
+
+/**
+ * An email waiting in the notification outbox.
+ * Status moves PENDING -> SENDING -> SENT; a failed send goes back to PENDING with a later
+ * nextAttemptAt, or to FAILED once the attempts run out.
+ */
+@Data
+@Document(collection = "notification_outbox")
+@CompoundIndex(name = "status_nextAttemptAt", def = "{'status': 1, 'nextAttemptAt': 1}")
+public class OutboxMessage {
+    @Id
+    private String id;
+
+    private String to;
+    private String subject;
+    private String template;
+    private Map<String, Object> model;
+
+    private String status = "PENDING";
+    private int attempts;
+    private Instant createdAt;
+    private Instant nextAttemptAt;
+    private Instant lockedUntil; //set while a dispatcher owns the message
+    private String claimToken;
+    private Instant sentAt;
+    private String lastError;
+
+    public OutboxMessage() {}
+
+    public OutboxMessage(String to, String subject, String template, Map<String, Object> model, Instant now) {
+        this.to = to;
+        this.subject = subject;
+        this.template = template;
+        this.model = model;
+        this.createdAt = now;
+        this.nextAttemptAt = now;
+    }
+
+    public void markSent(Instant now) {
+        this.status = "SENT";
+        this.sentAt = now;
+        this.lastError = null;
+    }
+
+    /**
+     * Record a failed attempt.
+     * @param error failure description
+     * @param retryAt time of the next attempt, or null to give up
+     */
+    public void markFailedAttempt(String error, Instant retryAt) {
+        this.attempts++;
+        this.lastError = error;
+        this.status = retryAt == null ? "FAILED" : "PENDING";
+        this.nextAttemptAt = retryAt;
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.security.crypto.bcrypt.BCrypt;
 
@@ -23,6 +24,7 @@ import lombok.NoArgsConstructor;
 public class User {
     @Id
     private String id;
+    @Indexed(name = "email_unique", unique = true)
     private String email;
     /** Stored as a BCrypt hash. */
     private String password;
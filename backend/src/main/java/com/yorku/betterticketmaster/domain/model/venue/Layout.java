@@ -1,6 +1,7 @@
 package com.yorku.betterticketmaster.domain.model.venue;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.Data;
@@ -10,6 +11,7 @@ import lombok.Data;
  */
 @Data
 @Document(collection="layouts")
+@CompoundIndex(name = "venue_layoutName", def = "{'venueId': 1, 'layoutName': 1}")
 public class Layout {
     @Id
     private String id;
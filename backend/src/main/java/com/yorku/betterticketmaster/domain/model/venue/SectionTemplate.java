@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.Data;
@@ -12,6 +13,7 @@ import lombok.Data;
  * Represents a SECTION
  */
 @Document(collection="section_templates")
+@CompoundIndex(name = "layout_sectionName", def = "{'layoutId': 1, 'sectionName': 1}")
 @Data
 public class SectionTemplate {
     @Id
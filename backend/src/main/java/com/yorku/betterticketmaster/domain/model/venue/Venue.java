@@ -1,6 +1,8 @@
 package com.yorku.betterticketmaster.domain.model.venue;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.Data;
 
@@ -8,10 +10,12 @@ import lombok.Data;
  * Represents a venue with name, location, type, and canvas dimensions.
  */
 @Data
+@Document // collection "venue", as before
 public class Venue {
     @Id
     private String id;
 
+    @Indexed(name = "venueName_idx")
     private String venueName;
     private String location; 
     private VenueType venueType;
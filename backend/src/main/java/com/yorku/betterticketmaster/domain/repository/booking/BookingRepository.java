@@ -3,6 +3,7 @@ package com.yorku.betterticketmaster.domain.repository.booking;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,12 +12,13 @@ import com.yorku.betterticketmaster.domain.model.booking.Booking;
  * Repository for bookings.
  */
 @Repository
-public interface BookingRepository extends MongoRepository<Booking, String>{
+public interface BookingRepository extends MongoRepository<Booking, String>, BookingRepositoryCustom {
     /**
-     * Find bookings by status.
+     * Bookings in a status whose expiry passed, oldest expiry first, served by the status_expiry index.
      * @param status booking status
-     * @param now current time (unused in query)
+     * @param now expiry cut-off
+     * @param limit maximum number of bookings
      * @return bookings
      */
-    List<Booking> findByStatus(String status, LocalDateTime now);
+    List<Booking> findByStatusAndExpiryBeforeOrderByExpiryAsc(String status, LocalDateTime now, Limit limit);
 }
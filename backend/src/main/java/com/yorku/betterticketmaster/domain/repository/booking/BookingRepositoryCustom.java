@@ -0,0 +1,30 @@
+package com.yorku.betterticketmaster.domain.repository.booking;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import com.yorku.betterticketmaster.domain.model.booking.Booking;
+
+/**
+ * Keyset-paginated queries and conditional status changes for {@link BookingRepository}.
+ */
+public interface BookingRepositoryCustom {
+    /**
+     * One page of a consumer's bookings, newest first, served by the consumerId indexes.
+     * @param consumerId consumer identifier
+     * @param statuses statuses to include (null or empty for all)
+     * @param beforeId return only bookings older than this id (null for the first page)
+     * @param limit maximum number of bookings
+     * @return bookings
+     */
+    List<Booking> findPageByConsumer(String consumerId, Collection<String> statuses, String beforeId, int limit);
+
+    /**
+     * Mark bookings EXPIRED if they are still PENDING with an expiry before the cut-off.
+     * @param bookingIds booking identifiers
+     * @param now expiry cut-off
+     * @return number of bookings expired
+     */
+    long expirePending(Collection<String> bookingIds, LocalDateTime now);
+}
@@ -0,0 +1,43 @@
+package com.yorku.betterticketmaster.domain.repository.booking;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.yorku.betterticketmaster.domain.model.booking.Booking;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MongoTemplate backed implementation of {@link BookingRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class BookingRepositoryCustomImpl implements BookingRepositoryCustom {
+    private final MongoTemplate mongo;
+
+    @Override
+    public List<Booking> findPageByConsumer(String consumerId, Collection<String> statuses, String beforeId, int limit) {
+        Criteria c = Criteria.where("consumerId").is(consumerId);
+        if (statuses != null && !statuses.isEmpty()) c = c.and("status").in(statuses);
+        if (beforeId != null) {
+            // Generated ids are ObjectIds, which sort by creation time.
+            c = c.and("_id").lt(ObjectId.isValid(beforeId) ? new ObjectId(beforeId) : beforeId);
+        }
+        Query q = new Query(c).with(Sort.by(Sort.Direction.DESC, "_id")).limit(limit);
+        return mongo.find(q, Booking.class);
+    }
+
+    @Override
+    public long expirePending(Collection<String> bookingIds, LocalDateTime now) {
+        if (bookingIds.isEmpty()) return 0;
+        Query q = new Query(Criteria.where("_id").in(bookingIds).and("status").is("PENDING").and("expiry").lt(now));
+        return mongo.updateMulti(q, new Update().set("status", "EXPIRED"), Booking.class).getModifiedCount();
+    }
+}
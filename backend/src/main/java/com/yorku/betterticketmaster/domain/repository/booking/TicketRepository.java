@@ -23,7 +23,7 @@ public interface TicketRepository extends MongoRepository<Ticket, String>{
      * List tickets by event and resale flag.
      * @param eventId event identifier
      * @param resale resale flag
-     * @return tickets
+     * @return tickets, cheapest resale price first
      */
-    List<Ticket> findByEventIdAndResale(String eventId, boolean resale);
+    List<Ticket> findByEventIdAndResaleOrderByResalePriceAsc(String eventId, boolean resale);
 }
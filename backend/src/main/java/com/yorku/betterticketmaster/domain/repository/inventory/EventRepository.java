@@ -11,7 +11,7 @@ import com.yorku.betterticketmaster.domain.model.event.Event;
  * Repository for events.
  */
 @Repository
-public interface EventRepository extends MongoRepository<Event, String> {
+public interface EventRepository extends MongoRepository<Event, String>, EventRepositoryCustom {
     /**
      * Find event by title.
      * @param title event title
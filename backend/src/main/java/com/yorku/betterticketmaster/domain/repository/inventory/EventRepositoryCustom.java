@@ -0,0 +1,47 @@
+package com.yorku.betterticketmaster.domain.repository.inventory;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import com.yorku.betterticketmaster.domain.model.event.EventSummary;
+
+/**
+ * Keyset-paginated event listing for {@link EventRepository}.
+ */
+public interface EventRepositoryCustom {
+    /**
+     * Which events to list. Null fields do not filter.
+     * @param statuses statuses to include
+     * @param excludedStatuses statuses to leave out; events without a status are kept
+     * @param from earliest dateTime (inclusive)
+     * @param to latest dateTime (exclusive)
+     * @param organizerId organizer identifier
+     */
+    record Filter(Collection<String> statuses, Collection<String> excludedStatuses, LocalDateTime from, LocalDateTime to, String organizerId) {
+        public Filter(Collection<String> statuses, LocalDateTime from, LocalDateTime to, String organizerId) {
+            this(statuses, null, from, to, organizerId);
+        }
+
+        /**
+         * Whether an event with this status passes the status part of the filter.
+         * @param status event status, possibly null
+         * @return true if included
+         */
+        public boolean matchesStatus(String status) {
+            if (statuses != null && !statuses.isEmpty() && !statuses.contains(status)) return false;
+            return excludedStatuses == null || status == null || !excludedStatuses.contains(status);
+        }
+    }
+
+    /**
+     * One page of event summaries ordered by dateTime then id, served by the status, organizer and
+     * dateTime indexes. Events without a dateTime come first.
+     * @param filter which events to include
+     * @param afterDateTime dateTime of the last event of the previous page
+     * @param afterId id of the last event of the previous page (null for the first page)
+     * @param limit maximum number of events
+     * @return summaries without the description
+     */
+    List<EventSummary> findSummaryPage(Filter filter, LocalDateTime afterDateTime, String afterId, int limit);
+}
@@ -0,0 +1,53 @@
+package com.yorku.betterticketmaster.domain.repository.inventory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.yorku.betterticketmaster.domain.model.event.Event;
+import com.yorku.betterticketmaster.domain.model.event.EventSummary;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MongoTemplate backed implementation of {@link EventRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class EventRepositoryCustomImpl implements EventRepositoryCustom {
+    private final MongoTemplate mongo;
+
+    @Override
+    public List<EventSummary> findSummaryPage(Filter filter, LocalDateTime afterDateTime, String afterId, int limit) {
+        List<Criteria> all = new ArrayList<>();
+        if (filter.statuses() != null && !filter.statuses().isEmpty()) all.add(Criteria.where("status").in(filter.statuses()));
+        // $nin also matches events with no status field
+        if (filter.excludedStatuses() != null && !filter.excludedStatuses().isEmpty()) all.add(Criteria.where("status").nin(filter.excludedStatuses()));
+        if (filter.organizerId() != null) all.add(Criteria.where("organizerId").is(filter.organizerId()));
+        if (filter.from() != null) all.add(Criteria.where("dateTime").gte(filter.from()));
+        if (filter.to() != null) all.add(Criteria.where("dateTime").lt(filter.to()));
+        if (afterId != null) {
+            Object id = ObjectId.isValid(afterId) ? new ObjectId(afterId) : afterId;
+            if (afterDateTime != null) {
+                all.add(new Criteria().orOperator(
+                    Criteria.where("dateTime").gt(afterDateTime),
+                    Criteria.where("dateTime").is(afterDateTime).and("_id").gt(id)));
+            } else {
+                // Missing dateTimes sort first; the page ended among them.
+                all.add(new Criteria().orOperator(
+                    Criteria.where("dateTime").is(null).and("_id").gt(id),
+                    Criteria.where("dateTime").ne(null)));
+            }
+        }
+        Query q = new Query(all.isEmpty() ? new Criteria() : new Criteria().andOperator(all))
+            .with(Sort.by(Sort.Direction.ASC, "dateTime", "_id"))
+            .limit(limit);
+        q.fields().exclude("description");
+        return mongo.find(q, EventSummary.class, mongo.getCollectionName(Event.class));
+    }
+}
@@ -0,0 +1,29 @@
+package com.yorku.betterticketmaster.domain.repository.inventory;
+
+import java.util.List;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.yorku.betterticketmaster.domain.model.event.GaInventory;
+
+/**
+ * Repository for general-admission capacity counters.
+ */
+@Repository
+public interface GaInventoryRepository extends MongoRepository<GaInventory, String>, GaInventoryRepositoryCustom {
+    /**
+     * Find the general-admission sections of an event.
+     * @param eventId event identifier
+     * @return counters
+     */
+    List<GaInventory> findByEventId(String eventId);
+
+    /**
+     * Check whether a section of an event already has a counter.
+     * @param eventId event identifier
+     * @param section section name
+     * @return true if it exists
+     */
+    boolean existsByEventIdAndSection(String eventId, String section);
+}
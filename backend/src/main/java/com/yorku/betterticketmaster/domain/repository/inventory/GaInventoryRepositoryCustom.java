@@ -0,0 +1,28 @@
+package com.yorku.betterticketmaster.domain.repository.inventory;
+
+/**
+ * Atomic counter moves for {@link GaInventoryRepository}.
+ */
+public interface GaInventoryRepositoryCustom {
+    /**
+     * Move spots from available to held if enough are available.
+     * @param inventoryId counter identifier
+     * @param quantity number of spots
+     * @return true if the spots were reserved
+     */
+    boolean reserve(String inventoryId, int quantity);
+
+    /**
+     * Move spots from held back to available.
+     * @param inventoryId counter identifier
+     * @param quantity number of spots
+     */
+    void unreserve(String inventoryId, int quantity);
+
+    /**
+     * Move spots from held to sold, or back when {@code quantity} is negative.
+     * @param inventoryId counter identifier
+     * @param quantity number of spots
+     */
+    void commitSale(String inventoryId, int quantity);
+}
@@ -0,0 +1,37 @@
+package com.yorku.betterticketmaster.domain.repository.inventory;
+
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.yorku.betterticketmaster.domain.model.event.GaInventory;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MongoTemplate backed implementation of {@link GaInventoryRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class GaInventoryRepositoryCustomImpl implements GaInventoryRepositoryCustom {
+    private final MongoTemplate mongo;
+
+    @Override
+    public boolean reserve(String inventoryId, int quantity) {
+        Query q = new Query(Criteria.where("_id").is(inventoryId).and("available").gte(quantity));
+        Update u = new Update().inc("available", -quantity).inc("held", quantity);
+        return mongo.updateFirst(q, u, GaInventory.class).getModifiedCount() == 1;
+    }
+
+    @Override
+    public void unreserve(String inventoryId, int quantity) {
+        Update u = new Update().inc("available", quantity).inc("held", -quantity);
+        mongo.updateFirst(new Query(Criteria.where("_id").is(inventoryId)), u, GaInventory.class);
+    }
+
+    @Override
+    public void commitSale(String inventoryId, int quantity) {
+        Update u = new Update().inc("held", -quantity).inc("sold", quantity);
+        mongo.updateFirst(new Query(Criteria.where("_id").is(inventoryId)), u, GaInventory.class);
+    }
+}
@@ -0,0 +1,23 @@
+package com.yorku.betterticketmaster.domain.repository.inventory;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.yorku.betterticketmaster.domain.model.event.GaReservation;
+
+/**
+ * Repository for general-admission holds.
+ */
+@Repository
+public interface GaReservationRepository extends MongoRepository<GaReservation, String>, GaReservationRepositoryCustom {
+    /**
+     * Oldest lapsed holds, a batch at a time.
+     * @param status reservation status
+     * @param before expiry cut-off
+     * @return up to 500 reservations
+     */
+    List<GaReservation> findTop500ByStatusAndHoldUntilBefore(String status, Instant before);
+}
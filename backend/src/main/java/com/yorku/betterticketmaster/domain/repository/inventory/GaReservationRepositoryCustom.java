@@ -0,0 +1,26 @@
+package com.yorku.betterticketmaster.domain.repository.inventory;
+
+import java.time.Instant;
+
+/**
+ * Conditional status changes for {@link GaReservationRepository}.
+ */
+public interface GaReservationRepositoryCustom {
+    /**
+     * Change a reservation's status only if it is still in the expected one.
+     * @param reservationId reservation identifier
+     * @param from expected current status
+     * @param to new status
+     * @param liveAt if set, the hold must not have lapsed at this time
+     * @return true if the status changed
+     */
+    boolean transition(String reservationId, String from, String to, Instant liveAt);
+
+    /**
+     * Change a lapsed HELD reservation to EXPIRED.
+     * @param reservationId reservation identifier
+     * @param now expiry cut-off
+     * @return true if the reservation expired
+     */
+    boolean expire(String reservationId, Instant now);
+}
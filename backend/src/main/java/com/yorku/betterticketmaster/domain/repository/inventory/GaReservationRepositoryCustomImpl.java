@@ -0,0 +1,33 @@
+package com.yorku.betterticketmaster.domain.repository.inventory;
+
+import java.time.Instant;
+
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.yorku.betterticketmaster.domain.model.event.GaReservation;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MongoTemplate backed implementation of {@link GaReservationRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class GaReservationRepositoryCustomImpl implements GaReservationRepositoryCustom {
+    private final MongoTemplate mongo;
+
+    @Override
+    public boolean transition(String reservationId, String from, String to, Instant liveAt) {
+        Criteria c = Criteria.where("_id").is(reservationId).and("status").is(from);
+        if (liveAt != null) c = c.and("holdUntil").gt(liveAt);
+        return mongo.updateFirst(new Query(c), new Update().set("status", to), GaReservation.class).getModifiedCount() == 1;
+    }
+
+    @Override
+    public boolean expire(String reservationId, Instant now) {
+        Query q = new Query(Criteria.where("_id").is(reservationId).and("status").is("HELD").and("holdUntil").lt(now));
+        return mongo.updateFirst(q, new Update().set("status", "EXPIRED"), GaReservation.class).getModifiedCount() == 1;
+    }
+}
@@ -0,0 +1,13 @@
+package com.yorku.betterticketmaster.domain.repository.inventory;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.yorku.betterticketmaster.domain.model.event.ProvisioningJob;
+
+/**
+ * Repository for event provisioning jobs.
+ */
+@Repository
+public interface ProvisioningJobRepository extends MongoRepository<ProvisioningJob, String>, ProvisioningJobRepositoryCustom {
+}
@@ -0,0 +1,46 @@
+package com.yorku.betterticketmaster.domain.repository.inventory;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.yorku.betterticketmaster.domain.model.event.ProvisioningJob;
+
+/**
+ * Claiming and progress updates for {@link ProvisioningJobRepository}.
+ */
+public interface ProvisioningJobRepositoryCustom {
+    /**
+     * Take ownership of a job if it is PENDING, or RUNNING with a lapsed claim (its worker died).
+     * @param jobId job identifier
+     * @param now current time
+     * @param lockUntil end of the claim
+     * @return the claimed job with a fresh claimToken and attempts counted, or null if not claimable
+     */
+    ProvisioningJob claim(String jobId, Instant now, Instant lockUntil);
+
+    /**
+     * Jobs a worker could claim now, oldest first.
+     * @param now current time
+     * @param limit maximum number of ids
+     * @return job identifiers
+     */
+    List<String> findClaimableIds(Instant now, int limit);
+
+    /**
+     * Persist the status and progress of a claimed job; finished jobs release their claim,
+     * others extend it.
+     * @param job job carrying its claimToken
+     * @param lockUntil new end of the claim
+     * @return false if the claim was lost to another worker
+     */
+    boolean writeProgress(ProvisioningJob job, Instant lockUntil);
+
+    /**
+     * Put a FAILED job back to PENDING with its attempts reset. Its completed sections and
+     * lastError are kept, so the rerun skips finished work.
+     * @param jobId job identifier
+     * @param now current time
+     * @return false if the job does not exist or is not FAILED
+     */
+    boolean resetFailed(String jobId, Instant now);
+}
@@ -0,0 +1,82 @@
+package com.yorku.betterticketmaster.domain.repository.inventory;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.yorku.betterticketmaster.domain.model.event.ProvisioningJob;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MongoTemplate backed implementation of {@link ProvisioningJobRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class ProvisioningJobRepositoryCustomImpl implements ProvisioningJobRepositoryCustom {
+    private final MongoTemplate mongo;
+
+    private static Criteria claimable(Instant now) {
+        return new Criteria().orOperator(
+            Criteria.where("status").is("PENDING"),
+            Criteria.where("status").is("RUNNING").and("lockedUntil").lt(now)
+        );
+    }
+
+    @Override
+    public ProvisioningJob claim(String jobId, Instant now, Instant lockUntil) {
+        Query q = new Query(Criteria.where("_id").is(jobId).andOperator(claimable(now)));
+        Update update = new Update()
+            .set("status", "RUNNING")
+            .set("lockedUntil", lockUntil)
+            .set("claimToken", UUID.randomUUID().toString())
+            .set("updatedAt", now)
+            .inc("attempts", 1);
+        return mongo.findAndModify(q, update, FindAndModifyOptions.options().returnNew(true), ProvisioningJob.class);
+    }
+
+    @Override
+    public List<String> findClaimableIds(Instant now, int limit) {
+        Query q = new Query(claimable(now)).with(Sort.by("createdAt")).limit(limit);
+        q.fields().include("_id");
+        return mongo.find(q, ProvisioningJob.class).stream().map(ProvisioningJob::getId).toList();
+    }
+
+    @Override
+    public boolean writeProgress(ProvisioningJob job, Instant lockUntil) {
+        Update update = new Update()
+            .set("status", job.getStatus())
+            .set("sections", job.getSections())
+            .set("sectionsDone", job.getSectionsDone())
+            .set("seats", job.getSeats())
+            .set("seatsWritten", job.getSeatsWritten())
+            .set("completedSections", job.getCompletedSections())
+            .set("lastError", job.getLastError())
+            .set("updatedAt", job.getUpdatedAt())
+            .set("finishedAt", job.getFinishedAt());
+        if ("RUNNING".equals(job.getStatus())) {
+            update.set("lockedUntil", lockUntil);
+        } else {
+            update.unset("lockedUntil").unset("claimToken");
+        }
+        Query q = new Query(Criteria.where("_id").is(job.getId()).and("claimToken").is(job.getClaimToken()));
+        return mongo.updateFirst(q, update, ProvisioningJob.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public boolean resetFailed(String jobId, Instant now) {
+        Query q = new Query(Criteria.where("_id").is(jobId).and("status").is("FAILED"));
+        Update update = new Update()
+            .set("status", "PENDING")
+            .set("attempts", 0)
+            .set("updatedAt", now)
+            .unset("finishedAt");
+        return mongo.updateFirst(q, update, ProvisioningJob.class).getModifiedCount() > 0;
+    }
+}
@@ -11,7 +11,7 @@ import com.yorku.betterticketmaster.domain.model.event.Seat;
  * Repository for seats.
  */
 @Repository
-public interface SeatRepository extends MongoRepository<Seat, String> {
+public interface SeatRepository extends MongoRepository<Seat, String>, SeatRepositoryCustom {
 
     /*
     All seats for an event
@@ -24,6 +24,20 @@ public interface SeatRepository extends MongoRepository<Seat, String> {
      */
     List<Seat> findByEventId(String eventId);
 
+    /**
+     * Whether any seat exists for an event; reads at most one document.
+     * @param eventId event identifier
+     * @return true if the event has seats
+     */
+    boolean existsByEventId(String eventId);
+
+    /**
+     * Count the seats of an event.
+     * @param eventId event identifier
+     * @return number of seats
+     */
+    long countByEventId(String eventId);
+
     /*
     All seats based off section
     Used for section filtering
@@ -0,0 +1,134 @@
+package com.yorku.betterticketmaster.domain.repository.inventory;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.yorku.betterticketmaster.domain.model.event.Seat;
+
+/**
+ * Conditional bulk seat updates that the derived queries in {@link SeatRepository} cannot express.
+ */
+public interface SeatRepositoryCustom {
+    /**
+     * Claim seats for a hold in a single bulk write.
+     * Available seats are claimed only while still AVAILABLE; held seats only while the hold
+     * has lapsed or already belongs to the same holder. Anonymous holds never belong to anyone.
+     * @param availableIds seats expected to be AVAILABLE
+     * @param heldIds seats expected to be HELD (expired, or by the same holder)
+     * @param heldBy holder identifier (null for anonymous)
+     * @param holdToken token identifying this claim
+     * @param now time used to decide whether a hold has lapsed
+     * @param holdUntil new hold expiry
+     * @return number of seats claimed
+     */
+    long claimForHold(Collection<String> availableIds, Collection<String> heldIds, String heldBy, String holdToken, Instant now, Instant holdUntil);
+
+    /**
+     * Find which of the given seats are currently claimed by a hold token.
+     * @param seatIds seat identifiers
+     * @param holdToken claim token
+     * @return ids of seats carrying the token
+     */
+    List<String> findIdsByHoldToken(Collection<String> seatIds, String holdToken);
+
+    /**
+     * Undo a claim, releasing only seats still carrying the given token.
+     * @param seatIds seat identifiers
+     * @param holdToken claim token
+     * @return number of seats released
+     */
+    long revertHold(Collection<String> seatIds, String holdToken);
+
+    /**
+     * Put seats that this claim extended back to the hold they had before it, as long as they
+     * still carry the claim's token.
+     * @param previous seats as read before the claim (holdUntil and holdToken are restored)
+     * @param holdToken claim token
+     * @return number of seats restored
+     */
+    long restoreHolds(Collection<Seat> previous, String holdToken);
+
+    /**
+     * Release HELD seats belonging to a holder in a single update.
+     * @param seatIds seat identifiers
+     * @param heldBy holder identifier (null for anonymous)
+     * @return number of seats released
+     */
+    long releaseHolds(Collection<String> seatIds, String heldBy);
+
+    /**
+     * Release HELD seats of several holders in one unordered bulk write.
+     * @param seatIdsByHolder seat identifiers by holder (null key for anonymous)
+     * @return number of seats released
+     */
+    long releaseHoldsByHolder(Map<String, ? extends Collection<String>> seatIdsByHolder);
+
+    /**
+     * Release the given seats if they are still HELD with a hold that lapsed before now.
+     * @param seatIds seat identifiers
+     * @param now expiry cut-off
+     * @return number of seats released
+     */
+    long releaseExpiredHolds(Collection<String> seatIds, Instant now);
+
+    /**
+     * Release every HELD seat, across all events, whose hold lapsed before now.
+     * @param now expiry cut-off
+     * @return number of seats released
+     */
+    long sweepExpiredHolds(Instant now);
+
+    /**
+     * Sell seats HELD by a holder whose hold has not lapsed, in a single update. Sold seats carry
+     * the sale token in holdToken so a partial sale can be undone with {@link #revertSale}.
+     * @param seatIds seat identifiers
+     * @param heldBy holder identifier
+     * @param saleToken token identifying this sale
+     * @param now time used to decide whether a hold has lapsed
+     * @return number of seats sold
+     */
+    long sellHeld(Collection<String> seatIds, String heldBy, String saleToken, Instant now);
+
+    /**
+     * Put seats sold under a sale token back on hold.
+     * @param seatIds seat identifiers
+     * @param saleToken token passed to {@link #sellHeld}
+     * @param holdUntil hold expiry to restore
+     * @return number of seats reverted
+     */
+    long revertSale(Collection<String> seatIds, String saleToken, Instant holdUntil);
+
+    /**
+     * Mark seats SOLD if they are still AVAILABLE on the seat documents, for stores that keep
+     * holds outside the seats collection. Sold seats carry the sale token in holdToken so a
+     * partial sale can be undone with {@link #revertMarkSold}.
+     * @param seatIds seat identifiers
+     * @param saleToken token identifying this sale
+     * @return number of seats marked sold
+     */
+    long markSold(Collection<String> seatIds, String saleToken);
+
+    /**
+     * Put seats sold under a sale token by {@link #markSold} back to AVAILABLE.
+     * @param seatIds seat identifiers
+     * @param saleToken token passed to {@link #markSold}
+     * @return number of seats reverted
+     */
+    long revertMarkSold(Collection<String> seatIds, String saleToken);
+
+    /**
+     * Persist the status, hold expiry and holder of many seats in one unordered bulk write.
+     * @param seats seats carrying the state to write
+     */
+    void writeSeatStates(List<Seat> seats);
+
+    /**
+     * Insert new seats in one unordered bulk write. Seats rejected as duplicates by a unique index
+     * are skipped rather than failing the batch, so a chunk can safely be written again.
+     * @param seats seats to insert
+     * @return number of seats inserted
+     */
+    long insertSeats(List<Seat> seats);
+}
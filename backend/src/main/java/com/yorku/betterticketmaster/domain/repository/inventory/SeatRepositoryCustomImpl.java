@@ -0,0 +1,194 @@
+package com.yorku.betterticketmaster.domain.repository.inventory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.yorku.betterticketmaster.domain.model.event.Seat;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MongoTemplate backed implementation of {@link SeatRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class SeatRepositoryCustomImpl implements SeatRepositoryCustom {
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongo;
+
+    @Override
+    public long claimForHold(Collection<String> availableIds, Collection<String> heldIds, String heldBy, String holdToken, Instant now, Instant holdUntil) {
+        if (availableIds.isEmpty() && heldIds.isEmpty()) return 0;
+
+        Update claim = new Update()
+            .set("status", "HELD")
+            .set("holdUntil", holdUntil)
+            .set("heldBy", heldBy)
+            .set("holdToken", holdToken)
+            .inc("version", 1);
+
+        BulkOperations ops = mongo.bulkOps(BulkOperations.BulkMode.UNORDERED, Seat.class);
+        if (!availableIds.isEmpty()) {
+            ops.updateMulti(new Query(Criteria.where("_id").in(availableIds).and("status").is("AVAILABLE")), claim);
+        }
+        if (!heldIds.isEmpty()) {
+            List<Criteria> reclaim = new ArrayList<>(List.of(Criteria.where("holdUntil").lt(now), Criteria.where("holdUntil").is(null)));
+            if (heldBy != null) reclaim.add(Criteria.where("heldBy").is(heldBy));
+            Criteria reclaimable = new Criteria().orOperator(reclaim);
+            ops.updateMulti(new Query(Criteria.where("_id").in(heldIds).and("status").is("HELD").andOperator(reclaimable)), claim);
+        }
+        return ops.execute().getMatchedCount();
+    }
+
+    @Override
+    public List<String> findIdsByHoldToken(Collection<String> seatIds, String holdToken) {
+        Query q = new Query(Criteria.where("_id").in(seatIds).and("holdToken").is(holdToken));
+        q.fields().include("_id");
+        return mongo.find(q, Seat.class).stream().map(Seat::getId).toList();
+    }
+
+    @Override
+    public long revertHold(Collection<String> seatIds, String holdToken) {
+        if (seatIds.isEmpty()) return 0;
+        Query q = new Query(Criteria.where("_id").in(seatIds).and("status").is("HELD").and("holdToken").is(holdToken));
+        return mongo.updateMulti(q, releaseUpdate(), Seat.class).getModifiedCount();
+    }
+
+    @Override
+    public long restoreHolds(Collection<Seat> previous, String holdToken) {
+        if (previous.isEmpty()) return 0;
+        BulkOperations ops = mongo.bulkOps(BulkOperations.BulkMode.UNORDERED, Seat.class);
+        for (Seat seat : previous) {
+            Update update = new Update().set("holdUntil", seat.getHoldUntil()).inc("version", 1);
+            if (seat.getHoldToken() == null) update.unset("holdToken");
+            else update.set("holdToken", seat.getHoldToken());
+            ops.updateOne(new Query(Criteria.where("_id").is(seat.getId()).and("status").is("HELD").and("holdToken").is(holdToken)), update);
+        }
+        return ops.execute().getModifiedCount();
+    }
+
+    @Override
+    public long releaseHolds(Collection<String> seatIds, String heldBy) {
+        if (seatIds.isEmpty()) return 0;
+        Query q = new Query(Criteria.where("_id").in(seatIds).and("status").is("HELD").and("heldBy").is(heldBy));
+        return mongo.updateMulti(q, releaseUpdate(), Seat.class).getModifiedCount();
+    }
+
+    @Override
+    public long releaseHoldsByHolder(Map<String, ? extends Collection<String>> seatIdsByHolder) {
+        BulkOperations ops = mongo.bulkOps(BulkOperations.BulkMode.UNORDERED, Seat.class);
+        int queued = 0;
+        for (Map.Entry<String, ? extends Collection<String>> e : seatIdsByHolder.entrySet()) {
+            if (e.getValue().isEmpty()) continue;
+            Query q = new Query(Criteria.where("_id").in(e.getValue()).and("status").is("HELD").and("heldBy").is(e.getKey()));
+            ops.updateMulti(q, releaseUpdate());
+            queued++;
+        }
+        return queued == 0 ? 0 : ops.execute().getModifiedCount();
+    }
+
+    @Override
+    public long releaseExpiredHolds(Collection<String> seatIds, Instant now) {
+        if (seatIds.isEmpty()) return 0;
+        Query q = new Query(Criteria.where("_id").in(seatIds).and("status").is("HELD").and("holdUntil").lt(now));
+        return mongo.updateMulti(q, releaseUpdate(), Seat.class).getModifiedCount();
+    }
+
+    @Override
+    public long sweepExpiredHolds(Instant now) {
+        Query q = new Query(Criteria.where("status").is("HELD").and("holdUntil").lt(now));
+        return mongo.updateMulti(q, releaseUpdate(), Seat.class).getModifiedCount();
+    }
+
+    @Override
+    public long sellHeld(Collection<String> seatIds, String heldBy, String saleToken, Instant now) {
+        if (seatIds.isEmpty() || heldBy == null) return 0;
+        Query q = new Query(Criteria.where("_id").in(seatIds).and("status").is("HELD").and("heldBy").is(heldBy).and("holdUntil").gte(now));
+        Update sold = new Update()
+            .set("status", "SOLD")
+            .set("holdToken", saleToken)
+            .unset("holdUntil")
+            .inc("version", 1);
+        return mongo.updateMulti(q, sold, Seat.class).getModifiedCount();
+    }
+
+    @Override
+    public long revertSale(Collection<String> seatIds, String saleToken, Instant holdUntil) {
+        if (seatIds.isEmpty()) return 0;
+        Query q = new Query(Criteria.where("_id").in(seatIds).and("status").is("SOLD").and("holdToken").is(saleToken));
+        Update held = new Update()
+            .set("status", "HELD")
+            .set("holdUntil", holdUntil)
+            .inc("version", 1);
+        return mongo.updateMulti(q, held, Seat.class).getModifiedCount();
+    }
+
+    @Override
+    public long markSold(Collection<String> seatIds, String saleToken) {
+        if (seatIds.isEmpty()) return 0;
+        Query q = new Query(Criteria.where("_id").in(seatIds).and("status").is("AVAILABLE"));
+        Update sold = new Update().set("status", "SOLD").set("holdToken", saleToken).inc("version", 1);
+        return mongo.updateMulti(q, sold, Seat.class).getModifiedCount();
+    }
+
+    @Override
+    public long revertMarkSold(Collection<String> seatIds, String saleToken) {
+        if (seatIds.isEmpty()) return 0;
+        Query q = new Query(Criteria.where("_id").in(seatIds).and("status").is("SOLD").and("holdToken").is(saleToken));
+        Update available = new Update().set("status", "AVAILABLE").unset("holdToken").inc("version", 1);
+        return mongo.updateMulti(q, available, Seat.class).getModifiedCount();
+    }
+
+    @Override
+    public void writeSeatStates(List<Seat> seats) {
+        if (seats.isEmpty()) return;
+        BulkOperations ops = mongo.bulkOps(BulkOperations.BulkMode.UNORDERED, Seat.class);
+        for (Seat seat : seats) {
+            Update update = new Update()
+                .set("status", seat.getStatus())
+                .set("holdUntil", seat.getHoldUntil())
+                .set("heldBy", seat.getHeldBy())
+                .unset("holdToken")
+                .inc("version", 1);
+            ops.updateOne(new Query(Criteria.where("_id").is(seat.getId())), update);
+        }
+        ops.execute();
+    }
+
+    @Override
+    public long insertSeats(List<Seat> seats) {
+        if (seats.isEmpty()) return 0;
+        for (Seat seat : seats) if (seat.getVersion() == null) seat.setVersion(0L);
+        BulkOperations ops = mongo.bulkOps(BulkOperations.BulkMode.UNORDERED, Seat.class);
+        ops.insert(seats);
+        try {
+            return ops.execute().getInsertedCount();
+        } catch (BulkOperationException ex) {
+            // Unordered: everything but the failed documents was written. Only duplicates are expected.
+            for (BulkWriteError error : ex.getErrors()) {
+                if (error.getCode() != DUPLICATE_KEY) throw ex;
+            }
+            return ex.getResult().getInsertedCount();
+        }
+    }
+
+    private static Update releaseUpdate() {
+        return new Update()
+            .set("status", "AVAILABLE")
+            .unset("holdUntil")
+            .unset("heldBy")
+            .unset("holdToken")
+            .inc("version", 1);
+    }
+}
@@ -10,7 +10,7 @@ import com.yorku.betterticketmaster.domain.model.users.User;
  * Repository for user accounts.
  */
 @Repository
-public interface UserRepository extends MongoRepository<User, String> {
+public interface UserRepository extends MongoRepository<User, String>, UserRepositoryCustom {
     
     /**
      * Find a user by email.
@@ -0,0 +1,18 @@
+package com.yorku.betterticketmaster.domain.repository.login;
+
+import java.util.Collection;
+
+import com.yorku.betterticketmaster.domain.model.users.User;
+
+/**
+ * Atomic user updates that the derived queries in {@link UserRepository} cannot express.
+ */
+public interface UserRepositoryCustom {
+    /**
+     * Add tickets to a user's owned list in one update, skipping ids already present.
+     * @param userId user identifier
+     * @param ticketIds ticket identifiers
+     * @return the updated user, or null if the user does not exist
+     */
+    User addOwnedTickets(String userId, Collection<String> ticketIds);
+}
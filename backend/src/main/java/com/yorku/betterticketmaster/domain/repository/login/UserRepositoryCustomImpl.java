@@ -0,0 +1,33 @@
+package com.yorku.betterticketmaster.domain.repository.login;
+
+import java.util.Collection;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.yorku.betterticketmaster.domain.model.users.User;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MongoTemplate backed implementation of {@link UserRepositoryCustom}. These updates bypass the
+ * repository save events, so each one publishes a {@link UserUpdatedEvent} instead.
+ */
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+    private final MongoTemplate mongo;
+    private final ApplicationEventPublisher events;
+
+    @Override
+    public User addOwnedTickets(String userId, Collection<String> ticketIds) {
+        Query q = new Query(Criteria.where("_id").is(userId));
+        Update update = new Update().addToSet("ownedTicketIds").each(ticketIds.toArray());
+        User updated = mongo.findAndModify(q, update, FindAndModifyOptions.options().returnNew(true), User.class);
+        if (updated != null) events.publishEvent(new UserUpdatedEvent(userId));
+        return updated;
+    }
+}
@@ -0,0 +1,7 @@
+package com.yorku.betterticketmaster.domain.repository.login;
+
+/**
+ * Published after a user document was changed by an update that fires no Mongo save events.
+ * @param userId user identifier
+ */
+public record UserUpdatedEvent(String userId) {}
@@ -0,0 +1,19 @@
+package com.yorku.betterticketmaster.domain.repository.notification;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.yorku.betterticketmaster.domain.model.notification.OutboxMessage;
+
+/**
+ * Repository for the notification outbox.
+ */
+@Repository
+public interface OutboxRepository extends MongoRepository<OutboxMessage, String>, OutboxRepositoryCustom {
+    /**
+     * Count messages in a status.
+     * @param status message status
+     * @return number of messages
+     */
+    long countByStatus(String status);
+}
@@ -0,0 +1,28 @@
+package com.yorku.betterticketmaster.domain.repository.notification;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.yorku.betterticketmaster.domain.model.notification.OutboxMessage;
+
+/**
+ * Claiming and bulk status updates for {@link OutboxRepository}.
+ */
+public interface OutboxRepositoryCustom {
+    /**
+     * Claim due messages for one dispatcher: PENDING messages whose nextAttemptAt has passed, and
+     * SENDING messages whose claim lapsed (their dispatcher died).
+     * @param limit maximum number of messages
+     * @param now current time
+     * @param lockUntil end of the claim
+     * @return claimed messages
+     */
+    List<OutboxMessage> claimDue(int limit, Instant now, Instant lockUntil);
+
+    /**
+     * Persist the outcome of a delivery attempt for many messages in one unordered bulk write,
+     * releasing their claim.
+     * @param messages messages carrying status, attempts, nextAttemptAt, sentAt and lastError
+     */
+    void writeOutcomes(List<OutboxMessage> messages);
+}
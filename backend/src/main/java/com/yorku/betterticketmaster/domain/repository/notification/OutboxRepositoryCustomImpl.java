@@ -0,0 +1,60 @@
+package com.yorku.betterticketmaster.domain.repository.notification;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.yorku.betterticketmaster.domain.model.notification.OutboxMessage;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MongoTemplate backed implementation of {@link OutboxRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class OutboxRepositoryCustomImpl implements OutboxRepositoryCustom {
+    private final MongoTemplate mongo;
+
+    @Override
+    public List<OutboxMessage> claimDue(int limit, Instant now, Instant lockUntil) {
+        Criteria due = new Criteria().orOperator(
+            Criteria.where("status").is("PENDING").and("nextAttemptAt").lte(now),
+            Criteria.where("status").is("SENDING").and("lockedUntil").lt(now)
+        );
+        Query candidates = new Query(due).with(Sort.by("nextAttemptAt")).limit(limit);
+        candidates.fields().include("_id");
+        List<String> ids = mongo.find(candidates, OutboxMessage.class).stream().map(OutboxMessage::getId).toList();
+        if (ids.isEmpty()) return List.of();
+
+        // Another dispatcher may claim some of the candidates first; keep only what this claim won.
+        String token = UUID.randomUUID().toString();
+        Update claim = new Update().set("status", "SENDING").set("lockedUntil", lockUntil).set("claimToken", token);
+        mongo.updateMulti(new Query(Criteria.where("_id").in(ids).andOperator(due)), claim, OutboxMessage.class);
+        return mongo.find(new Query(Criteria.where("_id").in(ids).and("claimToken").is(token)), OutboxMessage.class);
+    }
+
+    @Override
+    public void writeOutcomes(List<OutboxMessage> messages) {
+        if (messages.isEmpty()) return;
+        BulkOperations ops = mongo.bulkOps(BulkOperations.BulkMode.UNORDERED, OutboxMessage.class);
+        for (OutboxMessage m : messages) {
+            Update update = new Update()
+                .set("status", m.getStatus())
+                .set("attempts", m.getAttempts())
+                .set("nextAttemptAt", m.getNextAttemptAt())
+                .set("sentAt", m.getSentAt())
+                .set("lastError", m.getLastError())
+                .unset("lockedUntil")
+                .unset("claimToken");
+            ops.updateOne(new Query(Criteria.where("_id").is(m.getId()).and("claimToken").is(m.getClaimToken())), update);
+        }
+        ops.execute();
+    }
+}
@@ -0,0 +1,70 @@
+package com.yorku.betterticketmaster.domain.services;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Waiting room for hot on-sales. While a queue is open for an event, seat holds and bookings
+ * for that event require an admitted queue token; tokens are admitted in join order at the
+ * configured rate.
+ */
+public interface AdmissionQueueService {
+    /** Request header carrying the queue token. */
+    String TOKEN_HEADER = "X-Queue-Token";
+
+    /**
+     * Outcome of an admission check.
+     */
+    enum Admission { NOT_QUEUED, ADMITTED, WAITING, INVALID }
+
+    /**
+     * Place of one token in the queue.
+     * @param token queue token
+     * @param eventId event identifier
+     * @param position place in line, 1 being next (0 once admitted)
+     * @param admitted true if the token may hold seats and book
+     * @param admittedUntil end of the admission window (null while waiting)
+     * @param retryAfterSeconds suggested delay before polling again
+     */
+    record QueueTicket(String token, String eventId, long position, boolean admitted, Instant admittedUntil, long retryAfterSeconds) {}
+
+    /**
+     * Open the waiting room of an event, or change its admission rate.
+     * @param eventId event identifier
+     * @param admitPerSecond tokens admitted per second
+     */
+    void open(String eventId, double admitPerSecond);
+    /**
+     * Close the waiting room of an event; its tokens are dropped and requests pass freely.
+     * @param eventId event identifier
+     */
+    void close(String eventId);
+    /**
+     * @param eventId event identifier
+     * @return true if the event has an open waiting room
+     */
+    boolean isQueued(String eventId);
+    /**
+     * @return true if any event has an open waiting room
+     */
+    boolean hasQueues();
+    /**
+     * Join the waiting room of an event.
+     * @param eventId event identifier
+     * @return new ticket, or empty if the event has no open waiting room
+     */
+    Optional<QueueTicket> join(String eventId);
+    /**
+     * Current place of a token. Polling an admitted token starts its admission window.
+     * @param token queue token
+     * @return ticket, or empty if the token is unknown or its window has passed
+     */
+    Optional<QueueTicket> status(String token);
+    /**
+     * Check whether a request for an event may proceed.
+     * @param eventId event identifier
+     * @param token queue token sent with the request (may be null)
+     * @return NOT_QUEUED or ADMITTED to proceed, WAITING or INVALID to reject
+     */
+    Admission check(String eventId, String token);
+}
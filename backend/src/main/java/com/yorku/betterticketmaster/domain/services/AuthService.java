@@ -11,6 +11,7 @@ public interface AuthService {
      * @param password raw password
      * @param role role name
      * @return created user
+     * @throws java.util.concurrent.RejectedExecutionException if password hashing is saturated
      */
     User register(String email, String password, String role);
     /**
@@ -18,6 +19,7 @@ public interface AuthService {
      * @param email user email
      * @param password raw password
      * @return authenticated user if successful
+     * @throws java.util.concurrent.RejectedExecutionException if password hashing is saturated
      */
     Optional<User> authenticate(String email, String password);
     /**
@@ -1,11 +1,23 @@
 package com.yorku.betterticketmaster.domain.services;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import com.yorku.betterticketmaster.domain.model.booking.Booking;
 
 public interface BookingService {
+    /** Largest page {@link #listByUser} returns. */
+    int MAX_PAGE_SIZE = 100;
+
+    /**
+     * One page of bookings.
+     * @param items bookings, newest first
+     * @param nextCursor cursor of the next page (null on the last page)
+     */
+    record BookingPage(List<Booking> items, String nextCursor) {}
+
     /**
      * Create a new pending booking.
      * @param b booking to create
@@ -18,6 +30,14 @@ public interface BookingService {
      * @return completed booking
      */
     Booking completeBooking(String bookingId);
+    /**
+     * Expire one batch of PENDING bookings whose expiry passed and release their seat and
+     * general-admission holds.
+     * @param now expiry cut-off
+     * @param batchSize maximum number of bookings to expire
+     * @return number of bookings found due (a full batch means more may be waiting)
+     */
+    int expirePendingBookings(LocalDateTime now, int batchSize);
     /**
      * Get a booking by id.
      * @param id booking identifier
@@ -25,11 +45,14 @@ public interface BookingService {
      */
     Optional<Booking> getBooking(String id);
     /**
-     * List bookings for a given user.
+     * List bookings for a given user, newest first, one page at a time.
      * @param userId user identifier
-     * @return bookings for the user
+     * @param statuses statuses to include (null or empty for all)
+     * @param cursor nextCursor of the previous page (null for the first page)
+     * @param limit page size, capped at {@link #MAX_PAGE_SIZE}
+     * @return page of bookings for the user
      */
-    List<Booking> listByUser(String userId);
+    BookingPage listByUser(String userId, Collection<String> statuses, String cursor, int limit);
     // Transfer/resale actions
     /**
      * Request transfer of a booking to another user.
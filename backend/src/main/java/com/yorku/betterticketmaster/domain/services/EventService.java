@@ -2,12 +2,36 @@ package com.yorku.betterticketmaster.domain.services;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import com.yorku.betterticketmaster.domain.model.event.Event;
+import com.yorku.betterticketmaster.domain.model.event.EventSummary;
+import com.yorku.betterticketmaster.domain.model.event.ProvisioningJob;
+import com.yorku.betterticketmaster.domain.repository.inventory.EventRepositoryCustom.Filter;
 
 public interface EventService {
+    /** Largest page returned by a ranked search. */
+    int MAX_SEARCH_LIMIT = 100;
+
+    /**
+     * One page of a ranked search.
+     * @param items matching events, best first
+     * @param total number of matches across all pages
+     */
+    record SearchPage(List<Event> items, int total) {}
+
+    /** Largest page of an event listing. */
+    int MAX_PAGE_SIZE = 100;
+
+    /**
+     * One page of an event listing.
+     * @param items event summaries in dateTime order
+     * @param nextCursor cursor of the next page, or null on the last page
+     */
+    record EventPage(List<EventSummary> items, String nextCursor) {}
+
     /**
-     * Create a new event.
+     * Create a new event. Its seats are generated in the background; see {@link #getProvisioning}.
      * @param e event to create
      * @return created event
      */
@@ -18,12 +42,43 @@ public interface EventService {
      * @return optional event
      */
     Optional<Event> getEvent(String id);
+    /**
+     * Progress of the background seat generation of an event.
+     * @param eventId event id
+     * @return the provisioning job, empty if the event has none (e.g. no layout)
+     */
+    Optional<ProvisioningJob> getProvisioning(String eventId);
+    /**
+     * Rerun the seat generation of an event whose provisioning FAILED.
+     * @param eventId event id
+     * @return the requeued job, empty if the event's provisioning is not FAILED
+     */
+    Optional<ProvisioningJob> retryProvisioning(String eventId);
     /**
      * Search events by keyword.
      * @param query free-text query
      * @return matching events
      */
     List<Event> search(String query);
+    /**
+     * Ranked search over title, venue and description. Terms of three or more characters match
+     * anywhere in a word, shorter ones match word starts; every term must match.
+     * @param query free-text query; blank matches every event
+     * @param filter which events may be returned
+     * @param offset matches to skip
+     * @param limit page size (at most MAX_SEARCH_LIMIT)
+     * @return one page of matches
+     */
+    SearchPage search(String query, Predicate<Event> filter, int offset, int limit);
+    /**
+     * List events in dateTime order, one page at a time.
+     * @param filter statuses, date range and organizer to list
+     * @param cursor nextCursor of the previous page (null for the first page)
+     * @param limit page size (at most MAX_PAGE_SIZE)
+     * @return one page of summaries
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    EventPage listEvents(Filter filter, String cursor, int limit);
     /**
      * Update an existing event.
      * @param e updated event
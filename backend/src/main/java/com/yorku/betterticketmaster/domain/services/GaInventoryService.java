@@ -0,0 +1,81 @@
+package com.yorku.betterticketmaster.domain.services;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+import com.yorku.betterticketmaster.domain.model.event.GaInventory;
+import com.yorku.betterticketmaster.domain.model.event.GaReservation;
+
+public interface GaInventoryService {
+    /**
+     * Outcome of a general-admission hold attempt.
+     */
+    enum GaHoldStatus { HELD, NOT_FOUND, EVENT_CLOSED, SOLD_OUT }
+
+    /**
+     * Result of a general-admission hold attempt.
+     * @param status outcome
+     * @param reservation the new hold (null unless HELD)
+     */
+    record GaHoldResult(GaHoldStatus status, GaReservation reservation) {}
+
+    /**
+     * Create the capacity counter of a general-admission section, unless it already exists.
+     * @param eventId event identifier
+     * @param section section name
+     * @param capacity number of spots
+     * @param price price per spot
+     */
+    void createInventory(String eventId, String section, int capacity, double price);
+    /**
+     * List the general-admission sections of an event.
+     * @param eventId event identifier
+     * @return counters
+     */
+    List<GaInventory> listByEvent(String eventId);
+    /**
+     * Hold spots in a general-admission section with one atomic decrement.
+     * @param eventId event identifier
+     * @param section section name
+     * @param quantity number of spots
+     * @param holderId user placing the hold
+     * @return hold result
+     * @throws IllegalArgumentException if quantity is not positive or there is no holder
+     */
+    GaHoldResult hold(String eventId, String section, int quantity, String holderId);
+    /**
+     * Release a hold placed by the caller.
+     * @param reservationId reservation identifier
+     * @param holderId user that placed the hold
+     * @return true if the hold was released; never for a null holder
+     */
+    boolean release(String reservationId, String holderId);
+    /**
+     * Sell held reservations, all or nothing.
+     * @param eventId event of the booking; every reservation must belong to it
+     * @param reservationIds reservations to sell
+     * @param holderId buyer; must have placed the holds
+     * @return sold reservations
+     * @throws IllegalStateException if a reservation is missing, of another event, not held by the
+     *         buyer, or lapsed
+     */
+    List<GaReservation> sell(String eventId, List<String> reservationIds, String holderId);
+    /**
+     * Undo a sale, e.g. when the rest of the booking failed.
+     * @param sold reservations returned by {@link #sell}
+     */
+    void revertSale(List<GaReservation> sold);
+    /**
+     * Release holds that lapsed before now.
+     * @param now expiry cut-off
+     * @param onReleased receives the hold expiry (epoch seconds) of each released spot
+     * @return number of spots released
+     */
+    int releaseExpired(Instant now, LongConsumer onReleased);
+    /**
+     * Drop every reservation and make all capacity available again (admin reset).
+     * @return number of sections whose counters changed
+     */
+    int resetAll();
+}
@@ -4,7 +4,7 @@ import java.util.Map;
 
 public interface NotificationService {
     /**
-     * Send a templated email.
+     * Queue a templated email for delivery. Returns once the message is stored, not when it is sent.
      * @param to recipient address
      * @param subject email subject
      * @param template template name
@@ -0,0 +1,18 @@
+package com.yorku.betterticketmaster.domain.services;
+
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.HoldResult;
+
+public interface SeatAllocationService {
+    /**
+     * Find and hold the best block of adjacent seats in one row.
+     * Earlier sections and rows of the venue layout are preferred, then seats closer to the
+     * middle of the row.
+     * @param eventId event identifier
+     * @param quantity number of adjacent seats
+     * @param section section name to restrict to (null for any)
+     * @param maxPrice highest acceptable seat price (null for any)
+     * @param holderId user placing the hold (null for anonymous)
+     * @return hold result; NO_MATCH if no block fits
+     */
+    HoldResult holdBestAvailable(String eventId, int quantity, String section, Double maxPrice, String holderId);
+}
@@ -0,0 +1,79 @@
+package com.yorku.betterticketmaster.domain.services;
+
+import java.util.List;
+
+/**
+ * Compact seat map reads: the seat geometry of an event in a stable order, fetched once,
+ * and a packed status vector in the same order that clients poll instead of the full seat list.
+ * For an overview without any seat, per-section counts.
+ */
+public interface SeatAvailabilityService {
+    /** Status codes in the vector, two bits per seat. */
+    int AVAILABLE = 0;
+    int HELD = 1;
+    int SOLD = 2;
+
+    /**
+     * One seat of the layout.
+     * @param id seat identifier
+     * @param section section name
+     * @param row row label
+     * @param seatNum seat number within the row
+     * @param price seat price
+     */
+    record SeatPosition(String id, String section, String row, int seatNum, double price) {}
+
+    /**
+     * Seat geometry of an event.
+     * @param eventId event identifier
+     * @param version changes whenever the set or order of seats changes
+     * @param seats seats ordered by section, row and seat number
+     */
+    record SeatLayout(String eventId, String version, List<SeatPosition> seats) {}
+
+    /**
+     * Packed seat statuses. Seat {@code i} of the layout is stored in byte {@code i / 4}
+     * at bit offset {@code (i % 4) * 2}.
+     * @param layoutVersion version of the layout the vector is ordered by
+     * @param count number of seats
+     * @param statuses packed status vector
+     */
+    record AvailabilitySnapshot(String layoutVersion, int count, byte[] statuses) {}
+
+    /**
+     * Counts of one section of an event.
+     * @param section section name
+     * @param type SEATED for reserved seats, GA for general admission
+     * @param available seats or spots that can still be held
+     * @param held seats or spots under an unexpired hold
+     * @param sold sold seats or spots
+     * @param minPrice lowest price that can still be bought (0 when nothing is available)
+     * @param maxPrice highest price that can still be bought (0 when nothing is available)
+     */
+    record SectionAvailability(String section, String type, int available, int held, int sold, double minPrice, double maxPrice) {}
+
+    /**
+     * Seat geometry of an event, cached until the seats of the event change.
+     * @param eventId event identifier
+     * @return layout (no seats if none were generated yet)
+     */
+    SeatLayout layout(String eventId);
+    /**
+     * Current status of every seat of an event, in layout order.
+     * @param eventId event identifier
+     * @return status vector
+     */
+    AvailabilitySnapshot availability(String eventId);
+    /**
+     * Per-section counts of an event, reserved sections first, kept current by seat transitions.
+     * @param eventId event identifier
+     * @return sections (empty if the event has no seats or general-admission sections)
+     */
+    List<SectionAvailability> sections(String eventId);
+    /**
+     * Recount the reserved sections of an event from its seats.
+     * @param eventId event identifier
+     * @return rebuilt sections
+     */
+    List<SectionAvailability> rebuildSections(String eventId);
+}
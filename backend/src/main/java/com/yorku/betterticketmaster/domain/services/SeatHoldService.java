@@ -0,0 +1,91 @@
+package com.yorku.betterticketmaster.domain.services;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import com.yorku.betterticketmaster.domain.model.event.Seat;
+
+public interface SeatHoldService {
+    /** How long a hold lasts before the seat may be claimed by someone else. */
+    long HOLD_MINUTES = 5;
+
+    /**
+     * Outcome of a hold attempt. NO_MATCH is only returned by best-available requests that found
+     * no suitable seats.
+     */
+    enum HoldStatus { HELD, NOT_FOUND, MIXED_EVENTS, EVENT_CLOSED, UNAVAILABLE, NO_MATCH }
+
+    /**
+     * Result of a hold attempt. Nothing is held unless status is HELD.
+     * @param status outcome
+     * @param eventId event the seats belong to (null if unknown)
+     * @param heldSeatIds seats now held by the caller
+     * @param conflictSeatIds seats that were sold or lost to another holder
+     * @param missingSeatIds seats that do not exist
+     * @param holdUntil hold expiry (null unless HELD)
+     */
+    record HoldResult(
+        HoldStatus status,
+        String eventId,
+        List<String> heldSeatIds,
+        List<String> conflictSeatIds,
+        List<String> missingSeatIds,
+        Instant holdUntil
+    ) {
+        public boolean isHeld() {
+            return status == HoldStatus.HELD;
+        }
+    }
+
+    /**
+     * Result of a release request.
+     * @param releasedSeats seats that were released (id and eventId are always set)
+     * @param missingSeatIds seats that do not exist
+     */
+    record ReleaseResult(List<Seat> releasedSeats, List<String> missingSeatIds) {
+        public int released() {
+            return releasedSeats.size();
+        }
+    }
+
+    /**
+     * Hold all given seats for the caller, or none of them.
+     * @param seatIds seats to hold (must belong to one event)
+     * @param holderId user placing the hold (null for anonymous)
+     * @return hold result
+     * @throws IllegalArgumentException if no (non-null) seat id is given
+     */
+    HoldResult holdSeats(List<String> seatIds, String holderId);
+    /**
+     * Release seats held by the caller.
+     * @param seatIds seats to release
+     * @param holderId user that placed the hold (null for anonymous)
+     * @return release result
+     */
+    ReleaseResult releaseSeats(List<String> seatIds, String holderId);
+    /**
+     * Release the holds of several holders at once, e.g. for a batch of expired bookings.
+     * @param seatIdsByHolder seats to release by holder (null key for anonymous)
+     * @return seats released
+     */
+    List<Seat> releaseSeatsOfHolders(Map<String, List<String>> seatIdsByHolder);
+    /**
+     * Sell seats that are HELD by the buyer with an unexpired hold, all or nothing.
+     * @param seatIds seats to sell
+     * @param holderId buyer, who must hold every seat
+     * @throws IllegalStateException if no seat is given, or any seat is missing, not held by the
+     *         buyer, or its hold expired
+     */
+    void sellSeats(List<String> seatIds, String holderId);
+    /**
+     * List the current seats of an event.
+     * @param eventId event identifier
+     * @return seats
+     */
+    List<Seat> listSeats(String eventId);
+    /**
+     * Forget any cached seat state, e.g. after seats were reset directly in the database.
+     */
+    void evictCachedState();
+}
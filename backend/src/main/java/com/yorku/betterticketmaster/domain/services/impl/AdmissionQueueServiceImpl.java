@@ -0,0 +1,168 @@
+package com.yorku.betterticketmaster.domain.services.impl;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.yorku.betterticketmaster.domain.services.AdmissionQueueService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * In-memory waiting room; queue state lives in this instance only.
+ * Each token gets a sequence number when it joins, and every tick moves the admitted watermark
+ * of the event forward by the admission rate, so a check is two map lookups. Capacity that is
+ * not used because nobody is waiting is not banked, which keeps a late burst at the same rate.
+ * An admitted token may hold and book for the admission window, counted from its first use.
+ */
+@Service
+public class AdmissionQueueServiceImpl implements AdmissionQueueService {
+    private final long admissionWindowMillis;
+    private final long tokenTtlMillis;
+    private final long purgeIntervalMillis;
+
+    private final Map<String, EventQueue> queues = new ConcurrentHashMap<>();
+    private final Map<String, Entry> tokens = new ConcurrentHashMap<>();
+    private final Map<String, Long> admittedUntil = new ConcurrentHashMap<>();
+    private long lastPurgeMillis = System.currentTimeMillis();
+
+    /** Admission state of one event. Only the tick thread moves the watermark. */
+    private static final class EventQueue {
+        final AtomicLong issued = new AtomicLong();
+        volatile double admitPerSecond;
+        volatile long admittedUpTo;
+        double carry;
+        long lastTickMillis = System.currentTimeMillis();
+
+        EventQueue(double admitPerSecond) {
+            this.admitPerSecond = admitPerSecond;
+        }
+
+        void advance(long now) {
+            carry += admitPerSecond * Math.max(0, now - lastTickMillis) / 1000.0;
+            lastTickMillis = now;
+            long admit = Math.min((long) carry, issued.get() - admittedUpTo);
+            admittedUpTo += admit;
+            carry = Math.min(carry - admit, 1.0);
+        }
+    }
+
+    /** A token remembers the queue instance it joined, so reopening a queue voids old tokens. */
+    private record Entry(String eventId, EventQueue queue, long seq, long issuedAtMillis) {}
+
+    public AdmissionQueueServiceImpl(
+        MeterRegistry registry,
+        @Value("${btm.queue.admission-window-ms:900000}") long admissionWindowMillis,
+        @Value("${btm.queue.token-ttl-ms:7200000}") long tokenTtlMillis,
+        @Value("${btm.queue.purge-interval-ms:10000}") long purgeIntervalMillis
+    ) {
+        this.admissionWindowMillis = admissionWindowMillis;
+        this.tokenTtlMillis = tokenTtlMillis;
+        this.purgeIntervalMillis = purgeIntervalMillis;
+        Gauge.builder("btm.queue.waiting", queues, m -> m.values().stream().mapToLong(q -> q.issued.get() - q.admittedUpTo).sum())
+            .description("Queue tokens not yet admitted").register(registry);
+    }
+
+    @Override
+    public void open(String eventId, double admitPerSecond) {
+        if (!(admitPerSecond > 0)) throw new IllegalArgumentException("admitPerSecond must be positive");
+        queues.compute(eventId, (k, queue) -> {
+            if (queue == null) return new EventQueue(admitPerSecond);
+            queue.admitPerSecond = admitPerSecond;
+            return queue;
+        });
+    }
+
+    @Override
+    public void close(String eventId) {
+        queues.remove(eventId);
+    }
+
+    @Override
+    public boolean isQueued(String eventId) {
+        return eventId != null && queues.containsKey(eventId);
+    }
+
+    @Override
+    public boolean hasQueues() {
+        return !queues.isEmpty();
+    }
+
+    @Override
+    public Optional<QueueTicket> join(String eventId) {
+        EventQueue queue = eventId == null ? null : queues.get(eventId);
+        if (queue == null) return Optional.empty();
+        String token = UUID.randomUUID().toString();
+        Entry entry = new Entry(eventId, queue, queue.issued.incrementAndGet(), System.currentTimeMillis());
+        tokens.put(token, entry);
+        return Optional.of(ticket(token, entry, null));
+    }
+
+    @Override
+    public Optional<QueueTicket> status(String token) {
+        Entry entry = token == null ? null : tokens.get(token);
+        if (entry == null || queues.get(entry.eventId()) != entry.queue()) return Optional.empty();
+        if (entry.seq() > entry.queue().admittedUpTo) return Optional.of(ticket(token, entry, null));
+        Long until = window(token);
+        return until == null ? Optional.empty() : Optional.of(ticket(token, entry, until));
+    }
+
+    @Override
+    public Admission check(String eventId, String token) {
+        EventQueue queue = eventId == null ? null : queues.get(eventId);
+        if (queue == null) return Admission.NOT_QUEUED;
+        Entry entry = token == null ? null : tokens.get(token);
+        if (entry == null || entry.queue() != queue) return Admission.INVALID;
+        if (entry.seq() > queue.admittedUpTo) return Admission.WAITING;
+        return window(token) == null ? Admission.INVALID : Admission.ADMITTED;
+    }
+
+    /**
+     * Admit the next tokens of every open queue.
+     */
+    @Scheduled(fixedDelayString = "${btm.queue.tick-ms:100}")
+    public void tick() {
+        tick(System.currentTimeMillis());
+    }
+
+    void tick(long now) {
+        for (EventQueue queue : queues.values()) queue.advance(now);
+        if (now - lastPurgeMillis < purgeIntervalMillis) return;
+        lastPurgeMillis = now;
+        tokens.entrySet().removeIf(e -> {
+            Entry entry = e.getValue();
+            Long until = admittedUntil.get(e.getKey());
+            boolean stale = queues.get(entry.eventId()) != entry.queue()
+                || (until != null && until < now)
+                || (until == null && now - entry.issuedAtMillis() > tokenTtlMillis);
+            if (stale) admittedUntil.remove(e.getKey());
+            return stale;
+        });
+    }
+
+    /** Start the admission window of a token on first use; null once it has passed. */
+    private Long window(String token) {
+        long now = System.currentTimeMillis();
+        long until = admittedUntil.computeIfAbsent(token, k -> now + admissionWindowMillis);
+        if (until >= now) return until;
+        tokens.remove(token);
+        admittedUntil.remove(token);
+        return null;
+    }
+
+    private QueueTicket ticket(String token, Entry entry, Long until) {
+        EventQueue queue = entry.queue();
+        if (until != null) return new QueueTicket(token, entry.eventId(), 0, true, Instant.ofEpochMilli(until), 0);
+        long position = Math.max(0, entry.seq() - queue.admittedUpTo);
+        long retryAfter = Math.max(1, Math.min(30, (long) Math.ceil(position / queue.admitPerSecond)));
+        return new QueueTicket(token, entry.eventId(), position, false, null, retryAfter);
+    }
+}
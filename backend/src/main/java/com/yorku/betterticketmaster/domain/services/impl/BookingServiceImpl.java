@@ -2,20 +2,27 @@ package com.yorku.betterticketmaster.domain.services.impl;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import com.yorku.betterticketmaster.core.stream.SeatStatusBroadcaster;
 import com.yorku.betterticketmaster.domain.model.booking.Booking;
 import com.yorku.betterticketmaster.domain.model.booking.Ticket;
+import com.yorku.betterticketmaster.domain.model.event.GaReservation;
 import com.yorku.betterticketmaster.domain.repository.booking.BookingRepository;
 import com.yorku.betterticketmaster.domain.repository.booking.TicketRepository;
-import com.yorku.betterticketmaster.domain.repository.inventory.EventRepository;
-import com.yorku.betterticketmaster.domain.repository.inventory.SeatRepository;
 import com.yorku.betterticketmaster.domain.repository.login.UserRepository;
 import com.yorku.betterticketmaster.domain.services.BookingService;
+import com.yorku.betterticketmaster.domain.services.GaInventoryService;
 import com.yorku.betterticketmaster.domain.services.NotificationService;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService;
+import com.yorku.betterticketmaster.domain.services.inventory.EventCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,13 +33,15 @@ public class BookingServiceImpl implements BookingService {
     private final TicketRepository ticketRepo;
     private final UserRepository userRepo;
     private final NotificationService notificationService;
-    private final SeatRepository seatRepo;
-    private final EventRepository eventRepo;
+    private final SeatHoldService seatHoldService;
+    private final EventCache eventCache;
+    private final SeatStatusBroadcaster broadcaster;
+    private final GaInventoryService gaInventoryService;
 
     @Override
     public Booking createBooking(Booking b) {
-        if (b.getSeatIds() == null || b.getSeatIds().isEmpty()) {
-            throw new IllegalArgumentException("seatIds is required");
+        if (seatIds(b).isEmpty() && gaReservationIds(b).isEmpty()) {
+            throw new IllegalArgumentException("seatIds or gaReservationIds is required");
         }
         b.ensurePendingInitialized();
         return bookingRepo.save(b);
@@ -40,14 +49,16 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public Booking completeBooking(String bookingId) {
+        // Round trips do not grow with the seat count: one bulk seat read and one conditional
+        // HELD->SOLD update, one insert for all tickets, the booking, and one $addToSet on the user.
         Booking b = bookingRepo.findById(bookingId).orElseThrow();
         b.ensurePendingInitialized();
         if (!"PENDING".equals(b.getStatus())) throw new IllegalStateException("Booking not pending");
-        if (b.getSeatIds() == null || b.getSeatIds().isEmpty()) {
+        if (seatIds(b).isEmpty() && gaReservationIds(b).isEmpty()) {
             throw new IllegalStateException("Booking has no seatIds");
         }
 
-        var evForBooking = eventRepo.findById(b.getEventId()).orElseThrow(() -> new IllegalStateException("Event not found"));
+        var evForBooking = eventCache.get(b.getEventId()).orElseThrow(() -> new IllegalStateException("Event not found"));
         if (evForBooking.isClosed()) throw new IllegalStateException("Event is CLOSED");
 
         // If the booking itself has expired, fail fast.
@@ -57,39 +68,39 @@ public class BookingServiceImpl implements BookingService {
             throw new IllegalStateException("Booking expired");
         }
 
-        // Validate all seats are HELD and hold has not expired before creating any tickets.
-        java.time.Instant now = java.time.Instant.now();
-        for (String seatId : b.getSeatIds()) {
-            var seat = seatRepo.findById(seatId).orElseThrow(() -> new IllegalStateException("Seat not found: " + seatId));
-            if (!"HELD".equals(seat.getStatus()) || seat.getHoldUntil() == null || seat.getHoldUntil().isBefore(now)) {
-                throw new IllegalStateException("Seat must be HELD and hold not expired to purchase: " + seatId);
+        // Sell everything first; fails without selling any if a hold is missing or expired.
+        List<GaReservation> gaSold = gaInventoryService.sell(b.getEventId(), gaReservationIds(b), b.getConsumerId());
+        if (!seatIds(b).isEmpty()) {
+            try {
+                seatHoldService.sellSeats(b.getSeatIds(), b.getConsumerId());
+            } catch (RuntimeException e) {
+                gaInventoryService.revertSale(gaSold);
+                throw e;
             }
+            broadcaster.publish(b.getEventId(), b.getSeatIds(), "SOLD", null);
+        }
+
+        // GA spots get one ticket each, labelled with their section instead of a seat id.
+        List<String> ticketSeatIds = new ArrayList<>(seatIds(b));
+        for (GaReservation r : gaSold) {
+            for (int i = 0; i < r.getQuantity(); i++) ticketSeatIds.add("GA:" + r.getSection());
         }
 
-        List<Ticket> created = new ArrayList<>();
-        double unitPrice = b.getTotalPrice() / b.getSeatIds().size();
+        List<Ticket> tickets = new ArrayList<>(ticketSeatIds.size());
+        double unitPrice = b.getTotalPrice() / ticketSeatIds.size();
         java.time.LocalDateTime purchasedAt = java.time.LocalDateTime.now();
-        for (String seatId : b.getSeatIds()) {
-            // Mark seat SOLD first (enforced by pre-validation above).
-            var seat = seatRepo.findById(seatId).orElseThrow(() -> new IllegalStateException("Seat not found: " + seatId));
-            seat.sellSeat();
-            seatRepo.save(seat);
-
-            Ticket t = Ticket.purchased(b.getEventId(), seatId, b.getConsumerId(), unitPrice, purchasedAt);
-            created.add(ticketRepo.save(t));
+        for (String seatId : ticketSeatIds) {
+            tickets.add(Ticket.purchased(b.getEventId(), seatId, b.getConsumerId(), unitPrice, purchasedAt));
         }
+        List<Ticket> created = ticketRepo.saveAll(tickets);
 
         b.markCompleted();
         bookingRepo.save(b);
 
         // add tickets to user owned list
-        var user = userRepo.findById(b.getConsumerId());
-        if (user.isPresent()) {
-            var u = user.get();
-            for (Ticket t : created) u.addOwnedTicket(t.getId());
-            userRepo.save(u);
-
-            // Send email notification (stub logs to console)
+        var u = userRepo.addOwnedTickets(b.getConsumerId(), created.stream().map(Ticket::getId).toList());
+        if (u != null) {
+            // Queue the confirmation; the outbox dispatcher sends it after checkout returns
             try {
                 notificationService.sendEmail(
                     u.getEmail(),
@@ -98,7 +109,7 @@ public class BookingServiceImpl implements BookingService {
                     java.util.Map.of(
                         "user", u.getName(),
                         "eventId", b.getEventId(),
-                        "seats", b.getSeatIds(),
+                        "seats", ticketSeatIds,
                         "total", b.getTotalPrice()
                     )
                 );
@@ -110,18 +121,46 @@ public class BookingServiceImpl implements BookingService {
         return b;
     }
 
+    @Override
+    public int expirePendingBookings(LocalDateTime now, int batchSize) {
+        List<Booking> due = bookingRepo.findByStatusAndExpiryBeforeOrderByExpiryAsc("PENDING", now, Limit.of(batchSize));
+        if (due.isEmpty()) return 0;
+        bookingRepo.expirePending(due.stream().map(Booking::getId).toList(), now);
+
+        // Release what the bookings still hold. A booking completed in between has sold its seats
+        // and reservations, which the holder-conditional releases leave alone.
+        Map<String, List<String>> seatIdsByHolder = new HashMap<>();
+        for (Booking b : due) {
+            seatIdsByHolder.computeIfAbsent(b.getConsumerId(), k -> new ArrayList<>()).addAll(seatIds(b));
+        }
+        seatHoldService.releaseSeatsOfHolders(seatIdsByHolder);
+        for (Booking b : due) {
+            for (String reservationId : gaReservationIds(b)) gaInventoryService.release(reservationId, b.getConsumerId());
+        }
+        return due.size();
+    }
+
+    private static List<String> seatIds(Booking b) {
+        return b.getSeatIds() == null ? List.of() : b.getSeatIds();
+    }
+
+    private static List<String> gaReservationIds(Booking b) {
+        return b.getGaReservationIds() == null ? List.of() : b.getGaReservationIds();
+    }
+
     @Override
     public Optional<Booking> getBooking(String id) {
         return bookingRepo.findById(id);
     }
 
     @Override
-    public List<Booking> listByUser(String userId) {
-        // naive: return all and filter
-        List<Booking> all = bookingRepo.findAll();
-        List<Booking> out = new ArrayList<>();
-        for (Booking b : all) if (userId.equals(b.getConsumerId())) out.add(b);
-        return out;
+    public BookingPage listByUser(String userId, Collection<String> statuses, String cursor, int limit) {
+        int size = Math.max(1, Math.min(MAX_PAGE_SIZE, limit));
+        // Fetch one extra to learn whether another page follows.
+        List<Booking> rows = bookingRepo.findPageByConsumer(userId, statuses, cursor, size + 1);
+        if (rows.size() <= size) return new BookingPage(rows, null);
+        List<Booking> items = rows.subList(0, size);
+        return new BookingPage(items, items.get(size - 1).getId());
     }
 
     @Override
@@ -142,9 +181,9 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public java.util.List<Ticket> listResaleTickets(String eventId) {
-        var ev = eventRepo.findById(eventId).orElse(null);
+        var ev = eventCache.get(eventId).orElse(null);
         if (ev != null && ev.isClosed()) return java.util.List.of();
-        return ticketRepo.findByEventIdAndResale(eventId, true);
+        return ticketRepo.findByEventIdAndResaleOrderByResalePriceAsc(eventId, true);
     }
 
     @Override
@@ -153,7 +192,7 @@ public class BookingServiceImpl implements BookingService {
         if (!t.getOwnerId().equals(ownerId) && !t.getBuyerId().equals(ownerId)) throw new IllegalStateException("Not owner");
         if (!t.getBuyerId().equals(ownerId)) throw new IllegalStateException("Only buyer can set resale");
 
-        var ev = eventRepo.findById(t.getEventId()).orElseThrow(() -> new IllegalStateException("Event not found"));
+        var ev = eventCache.get(t.getEventId()).orElseThrow(() -> new IllegalStateException("Event not found"));
         if (ev.isClosed()) throw new IllegalStateException("Event is CLOSED");
         if (!ev.eventNotStarted()) throw new IllegalStateException("Event already started");
         if (!ev.validResalePrice(price)) {
@@ -169,7 +208,7 @@ public class BookingServiceImpl implements BookingService {
         Ticket t = ticketRepo.findById(ticketId).orElseThrow();
         if (!t.isResale()) throw new IllegalStateException("Ticket not for resale");
 
-        var ev = eventRepo.findById(t.getEventId()).orElseThrow(() -> new IllegalStateException("Event not found"));
+        var ev = eventCache.get(t.getEventId()).orElseThrow(() -> new IllegalStateException("Event not found"));
         if (ev.isClosed()) throw new IllegalStateException("Event is CLOSED");
         if (!ev.eventNotStarted()) throw new IllegalStateException("Event already started");
 
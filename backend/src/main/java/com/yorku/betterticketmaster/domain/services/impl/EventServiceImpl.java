@@ -1,20 +1,23 @@
 package com.yorku.betterticketmaster.domain.services.impl;
 
-import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
+import java.util.function.Predicate;
 
 import org.springframework.stereotype.Service;
 
 import com.yorku.betterticketmaster.domain.model.event.Event;
-import com.yorku.betterticketmaster.domain.model.event.Seat;
-import com.yorku.betterticketmaster.domain.model.venue.SectionTemplate;
-import com.yorku.betterticketmaster.domain.model.venue.SectionType;
+import com.yorku.betterticketmaster.domain.model.event.EventSummary;
+import com.yorku.betterticketmaster.domain.model.event.ProvisioningJob;
 import com.yorku.betterticketmaster.domain.repository.inventory.EventRepository;
-import com.yorku.betterticketmaster.domain.repository.inventory.SeatRepository;
-import com.yorku.betterticketmaster.domain.repository.venueBuilder.SectionTemplateRepository;
+import com.yorku.betterticketmaster.domain.repository.inventory.EventRepositoryCustom.Filter;
 import com.yorku.betterticketmaster.domain.services.EventService;
+import com.yorku.betterticketmaster.domain.services.inventory.EventCache;
+import com.yorku.betterticketmaster.domain.services.inventory.EventProvisioner;
+import com.yorku.betterticketmaster.domain.services.search.EventSearchIndex;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,89 +25,75 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class EventServiceImpl implements EventService {
     private final EventRepository eventRepo;
-    private final SeatRepository seatRepo;
-    private final SectionTemplateRepository sectionRepo;
-
-    private static final double DEFAULT_SEAT_PRICE = 25.0;
-
-    private void ensureSeatsGenerated(Event event) {
-        if (event == null || event.getId() == null) return;
-        String layoutId = event.getLayoutId();
-        if (layoutId == null || layoutId.trim().isEmpty()) return;
-
-        // Don't regenerate if seats already exist.
-        if (!seatRepo.findByEventId(event.getId()).isEmpty()) return;
-
-        List<SectionTemplate> sections = sectionRepo.findByLayoutId(layoutId);
-        if (sections == null || sections.isEmpty()) return;
-
-        List<Seat> seats = new ArrayList<>();
-
-        for (SectionTemplate section : sections) {
-            if (section == null) continue;
-            String sectionName = section.getSectionName();
-            if (sectionName == null || sectionName.trim().isEmpty()) continue;
-
-            Set<String> disabled = section.getDisabledSeats();
-            if (disabled == null) disabled = java.util.Collections.emptySet();
-
-            SectionType type = section.getSectionType();
-            if (type == SectionType.GA) {
-                int capacity = section.getCapacity();
-                if (capacity <= 0) {
-                    int rowsCount = section.getRows() == null ? 0 : section.getRows().size();
-                    int seatsPerRow = Math.max(0, section.getSeatsPerRow());
-                    capacity = rowsCount * seatsPerRow;
-                }
-                String rowLabel = "GA";
-                for (int seatNum = 1; seatNum <= capacity; seatNum++) {
-                    String key = rowLabel + "-" + seatNum;
-                    if (disabled.contains(key)) continue;
-                    seats.add(new Seat(null, event.getId(), sectionName, rowLabel, seatNum, DEFAULT_SEAT_PRICE));
-                }
-                continue;
-            }
-
-            List<String> rows = section.getRows();
-            int seatsPerRow = Math.max(0, section.getSeatsPerRow());
-            if (rows == null || rows.isEmpty() || seatsPerRow <= 0) continue;
-
-            for (String row : rows) {
-                if (row == null || row.trim().isEmpty()) continue;
-                for (int seatNum = 1; seatNum <= seatsPerRow; seatNum++) {
-                    String key = row + "-" + seatNum;
-                    if (disabled.contains(key)) continue;
-                    seats.add(new Seat(null, event.getId(), sectionName, row, seatNum, DEFAULT_SEAT_PRICE));
-                }
-            }
-        }
-
-        if (!seats.isEmpty()) {
-            seatRepo.saveAll(seats);
-        }
-    }
+    private final EventSearchIndex searchIndex;
+    private final EventCache eventCache;
+    private final EventProvisioner provisioner;
 
     @Override
     public Event createEvent(Event e) {
+        if (e.getStatus() == null) e.setStatus("APPROVED");
         Event created = eventRepo.save(e);
-        ensureSeatsGenerated(created);
+        provisioner.start(created);
         return created;
     }
 
     @Override
     public Optional<Event> getEvent(String id) {
-        return eventRepo.findById(id);
+        return eventCache.get(id);
+    }
+
+    @Override
+    public Optional<ProvisioningJob> getProvisioning(String eventId) {
+        return provisioner.get(eventId);
+    }
+
+    @Override
+    public Optional<ProvisioningJob> retryProvisioning(String eventId) {
+        return provisioner.retry(eventId);
     }
 
     @Override
     public List<Event> search(String query) {
-        // basic: return all for now
-        return eventRepo.findAll();
+        return searchIndex.search(query, e -> true, 0, Integer.MAX_VALUE).items();
+    }
+
+    @Override
+    public SearchPage search(String query, Predicate<Event> filter, int offset, int limit) {
+        EventSearchIndex.Page page = searchIndex.search(query, filter, offset, Math.max(1, Math.min(MAX_SEARCH_LIMIT, limit)));
+        return new SearchPage(page.items(), page.total());
+    }
+
+    @Override
+    public EventPage listEvents(Filter filter, String cursor, int limit) {
+        int size = Math.max(1, Math.min(MAX_PAGE_SIZE, limit));
+        LocalDateTime afterDateTime = null;
+        String afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            // Cursor: base64url of "<dateTime or empty>|<id>" of the last event returned.
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int bar = decoded.lastIndexOf('|');
+                if (bar < 0 || bar == decoded.length() - 1) throw new IllegalArgumentException("Invalid cursor");
+                afterDateTime = bar == 0 ? null : LocalDateTime.parse(decoded.substring(0, bar));
+                afterId = decoded.substring(bar + 1);
+            } catch (RuntimeException ex) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+        // Fetch one extra to learn whether another page follows.
+        List<EventSummary> rows = eventRepo.findSummaryPage(filter, afterDateTime, afterId, size + 1);
+        if (rows.size() <= size) return new EventPage(rows, null);
+        List<EventSummary> items = rows.subList(0, size);
+        EventSummary last = items.get(size - 1);
+        String next = (last.dateTime() == null ? "" : last.dateTime().toString()) + "|" + last.id();
+        return new EventPage(items, Base64.getUrlEncoder().withoutPadding().encodeToString(next.getBytes(StandardCharsets.UTF_8)));
     }
 
     @Override
     public Event updateEvent(Event e) {
-        return eventRepo.save(e);
+        Event saved = eventRepo.save(e);
+        eventCache.invalidate(saved.getId());
+        return saved;
     }
 
     @Override
@@ -112,7 +101,7 @@ public class EventServiceImpl implements EventService {
         e.setOrganizerId(organizerId);
         e.setStatus("PENDING");
         Event created = eventRepo.save(e);
-        ensureSeatsGenerated(created);
+        provisioner.start(created);
         return created;
     }
 
@@ -128,21 +117,27 @@ public class EventServiceImpl implements EventService {
     public Event approveEvent(String eventId) {
         Event e = eventRepo.findById(eventId).orElseThrow();
         e.setStatus("APPROVED");
-        return eventRepo.save(e);
+        Event saved = eventRepo.save(e);
+        eventCache.invalidate(eventId);
+        return saved;
     }
 
     @Override
     public Event rejectEvent(String eventId) {
         Event e = eventRepo.findById(eventId).orElseThrow();
         e.setStatus("REJECTED");
-        return eventRepo.save(e);
+        Event saved = eventRepo.save(e);
+        eventCache.invalidate(eventId);
+        return saved;
     }
 
     @Override
     public Event closeEvent(String eventId) {
         Event e = eventRepo.findById(eventId).orElseThrow();
         e.setStatus("CLOSED");
-        return eventRepo.save(e);
+        Event saved = eventRepo.save(e);
+        eventCache.invalidate(eventId);
+        return saved;
     }
 
 }
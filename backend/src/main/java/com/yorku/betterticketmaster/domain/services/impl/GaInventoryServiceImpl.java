@@ -0,0 +1,148 @@
+package com.yorku.betterticketmaster.domain.services.impl;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import com.yorku.betterticketmaster.domain.model.event.GaInventory;
+import com.yorku.betterticketmaster.domain.model.event.GaReservation;
+import com.yorku.betterticketmaster.domain.repository.inventory.GaInventoryRepository;
+import com.yorku.betterticketmaster.domain.repository.inventory.GaReservationRepository;
+import com.yorku.betterticketmaster.domain.services.GaInventoryService;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService;
+import com.yorku.betterticketmaster.domain.services.inventory.EventCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Every change is a conditional update on the reservation followed by a counter increment,
+ * so spots are never double counted even when a release races with expiry or a sale.
+ */
+@Service
+@RequiredArgsConstructor
+public class GaInventoryServiceImpl implements GaInventoryService {
+    private final GaInventoryRepository inventoryRepo;
+    private final GaReservationRepository reservationRepo;
+    private final EventCache eventCache;
+
+    @Override
+    public void createInventory(String eventId, String section, int capacity, double price) {
+        if (capacity <= 0 || inventoryRepo.existsByEventIdAndSection(eventId, section)) return;
+        try {
+            inventoryRepo.save(new GaInventory(eventId, section, capacity, price));
+        } catch (DuplicateKeyException e) {
+            // Created concurrently.
+        }
+    }
+
+    @Override
+    public List<GaInventory> listByEvent(String eventId) {
+        return inventoryRepo.findByEventId(eventId);
+    }
+
+    @Override
+    public GaHoldResult hold(String eventId, String section, int quantity, String holderId) {
+        if (quantity <= 0) throw new IllegalArgumentException("quantity must be positive");
+        if (holderId == null) throw new IllegalArgumentException("holderId is required");
+        GaInventory inventory = inventoryRepo.findByEventId(eventId).stream()
+            .filter(inv -> inv.getSection().equalsIgnoreCase(section))
+            .findFirst().orElse(null);
+        if (inventory == null) return new GaHoldResult(GaHoldStatus.NOT_FOUND, null);
+        var ev = eventCache.get(eventId).orElse(null);
+        if (ev != null && ev.isClosed()) return new GaHoldResult(GaHoldStatus.EVENT_CLOSED, null);
+
+        if (!inventoryRepo.reserve(inventory.getId(), quantity)) return new GaHoldResult(GaHoldStatus.SOLD_OUT, null);
+        Instant holdUntil = Instant.now().plus(SeatHoldService.HOLD_MINUTES, ChronoUnit.MINUTES);
+        try {
+            return new GaHoldResult(GaHoldStatus.HELD, reservationRepo.save(new GaReservation(inventory, quantity, holderId, holdUntil)));
+        } catch (RuntimeException e) {
+            inventoryRepo.unreserve(inventory.getId(), quantity);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean release(String reservationId, String holderId) {
+        GaReservation r = reservationRepo.findById(reservationId).orElse(null);
+        if (r == null || !r.isHeld() || !isHolder(r, holderId)) return false;
+        if (!reservationRepo.transition(r.getId(), "HELD", "RELEASED", null)) return false;
+        inventoryRepo.unreserve(r.getInventoryId(), r.getQuantity());
+        return true;
+    }
+
+    @Override
+    public List<GaReservation> sell(String eventId, List<String> reservationIds, String holderId) {
+        List<GaReservation> reservations = new ArrayList<>();
+        for (String id : reservationIds) {
+            GaReservation r = reservationRepo.findById(id).orElseThrow(() -> new IllegalStateException("Reservation not found: " + id));
+            if (!isHolder(r, holderId)) throw new IllegalStateException("Reservation belongs to another user: " + id);
+            if (!Objects.equals(r.getEventId(), eventId)) throw new IllegalStateException("Reservation is for another event: " + id);
+            reservations.add(r);
+        }
+
+        Instant now = Instant.now();
+        List<GaReservation> sold = new ArrayList<>();
+        for (GaReservation r : reservations) {
+            if (!reservationRepo.transition(r.getId(), "HELD", "SOLD", now)) {
+                revertSale(sold);
+                throw new IllegalStateException("Reservation must be HELD and hold not expired to purchase: " + r.getId());
+            }
+            inventoryRepo.commitSale(r.getInventoryId(), r.getQuantity());
+            r.setStatus("SOLD");
+            sold.add(r);
+        }
+        return sold;
+    }
+
+    /** Holds without a holder belong to nobody, so they can be neither released nor sold. */
+    private static boolean isHolder(GaReservation r, String holderId) {
+        return holderId != null && holderId.equals(r.getHolderId());
+    }
+
+    @Override
+    public void revertSale(List<GaReservation> sold) {
+        for (GaReservation r : sold) {
+            if (reservationRepo.transition(r.getId(), "SOLD", "HELD", null)) {
+                inventoryRepo.commitSale(r.getInventoryId(), -r.getQuantity());
+                r.setStatus("HELD");
+            }
+        }
+    }
+
+    @Override
+    public int releaseExpired(Instant now, LongConsumer onReleased) {
+        int released = 0;
+        List<GaReservation> batch;
+        do {
+            batch = reservationRepo.findTop500ByStatusAndHoldUntilBefore("HELD", now);
+            for (GaReservation r : batch) {
+                if (!reservationRepo.expire(r.getId(), now)) continue;
+                inventoryRepo.unreserve(r.getInventoryId(), r.getQuantity());
+                for (int i = 0; i < r.getQuantity(); i++) onReleased.accept(r.getHoldUntil().getEpochSecond());
+                released += r.getQuantity();
+            }
+        } while (batch.size() == 500);
+        return released;
+    }
+
+    @Override
+    public int resetAll() {
+        reservationRepo.deleteAll();
+        int reset = 0;
+        for (GaInventory inv : inventoryRepo.findAll()) {
+            if (inv.getAvailable() == inv.getCapacity() && inv.getHeld() == 0 && inv.getSold() == 0) continue;
+            inv.setAvailable(inv.getCapacity());
+            inv.setHeld(0);
+            inv.setSold(0);
+            inventoryRepo.save(inv);
+            reset++;
+        }
+        return reset;
+    }
+}
@@ -1,18 +1,27 @@
 package com.yorku.betterticketmaster.domain.services.impl;
 
+import java.time.Instant;
 import java.util.Map;
 
 import org.springframework.stereotype.Service;
 
+import com.yorku.betterticketmaster.domain.model.notification.OutboxMessage;
+import com.yorku.betterticketmaster.domain.repository.notification.OutboxRepository;
 import com.yorku.betterticketmaster.domain.services.NotificationService;
 
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Queues emails in the outbox; {@code OutboxDispatcher} sends them, so callers never wait on SMTP.
+ */
 @Service
+@RequiredArgsConstructor
 public class NotificationServiceImpl implements NotificationService {
+    private final OutboxRepository outboxRepo;
 
     @Override
     public void sendEmail(String to, String subject, String template, Map<String, Object> model) {
-        // For now simply log to stdout; real SMTP wiring can be added later
-        System.out.println("[Email] to=" + to + " subject=" + subject + " template=" + template + " model=" + model);
+        outboxRepo.insert(new OutboxMessage(to, subject, template, model, Instant.now()));
     }
 
 }
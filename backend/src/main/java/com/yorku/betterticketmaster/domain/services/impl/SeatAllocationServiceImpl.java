@@ -0,0 +1,172 @@
+package com.yorku.betterticketmaster.domain.services.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.yorku.betterticketmaster.domain.model.venue.SectionTemplate;
+import com.yorku.betterticketmaster.domain.repository.venueBuilder.SectionTemplateRepository;
+import com.yorku.betterticketmaster.domain.services.SeatAllocationService;
+import com.yorku.betterticketmaster.domain.services.SeatAvailabilityService;
+import com.yorku.betterticketmaster.domain.services.SeatAvailabilityService.AvailabilitySnapshot;
+import com.yorku.betterticketmaster.domain.services.SeatAvailabilityService.SeatLayout;
+import com.yorku.betterticketmaster.domain.services.SeatAvailabilityService.SeatPosition;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.HoldResult;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.HoldStatus;
+import com.yorku.betterticketmaster.domain.services.inventory.EventCache;
+
+/**
+ * Picks seats from the cached layout and the shared status vector, so a request costs no seat
+ * reads beyond the hold itself. Rows are indexed once per layout version in venue order
+ * (section and row order of the section templates). Each free run of adjacent seats offers its
+ * most central block; concurrent requests pick randomly among the best few blocks so they do
+ * not all race for the same seats, and a lost race moves on to another block.
+ */
+@Service
+public class SeatAllocationServiceImpl implements SeatAllocationService {
+    private final SeatAvailabilityService availabilityService;
+    private final SeatHoldService seatHoldService;
+    private final EventCache eventCache;
+    private final SectionTemplateRepository sectionRepo;
+    private final int spread;
+    private final int maxAttempts;
+
+    private final Map<String, RowIndex> rowIndexes = new ConcurrentHashMap<>();
+
+    /** One row of the layout: positions [from, to) in layout order. */
+    private record Row(String section, int sectionRank, int rowRank, int from, int to, double center) {}
+    private record RowIndex(String layoutVersion, List<Row> rows) {}
+    private record Block(Row row, int start, double distance) {}
+
+    public SeatAllocationServiceImpl(
+        SeatAvailabilityService availabilityService,
+        SeatHoldService seatHoldService,
+        EventCache eventCache,
+        SectionTemplateRepository sectionRepo,
+        @Value("${btm.seats.best-available.spread:8}") int spread,
+        @Value("${btm.seats.best-available.max-attempts:5}") int maxAttempts
+    ) {
+        this.availabilityService = availabilityService;
+        this.seatHoldService = seatHoldService;
+        this.eventCache = eventCache;
+        this.sectionRepo = sectionRepo;
+        this.spread = Math.max(1, spread);
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    @Override
+    public HoldResult holdBestAvailable(String eventId, int quantity, String section, Double maxPrice, String holderId) {
+        if (quantity <= 0) throw new IllegalArgumentException("quantity must be positive");
+
+        AvailabilitySnapshot snapshot = availabilityService.availability(eventId);
+        SeatLayout layout = availabilityService.layout(eventId);
+        if (!layout.version().equals(snapshot.layoutVersion())) {
+            // Seats changed between the two reads; take a vector that matches the new layout.
+            snapshot = availabilityService.availability(eventId);
+        }
+        if (layout.seats().isEmpty() || !layout.version().equals(snapshot.layoutVersion())) return noMatch(eventId);
+
+        List<Block> blocks = blocks(layout, rowIndex(eventId, layout), snapshot.statuses(), quantity, section, maxPrice);
+        for (int attempt = 0; attempt < maxAttempts && !blocks.isEmpty(); attempt++) {
+            Block block = blocks.remove(ThreadLocalRandom.current().nextInt(Math.min(spread, blocks.size())));
+            List<String> seatIds = new ArrayList<>(quantity);
+            for (int i = block.start(); i < block.start() + quantity; i++) seatIds.add(layout.seats().get(i).id());
+
+            HoldResult result = seatHoldService.holdSeats(seatIds, holderId);
+            if (result.status() != HoldStatus.UNAVAILABLE) return result;
+        }
+        return noMatch(eventId);
+    }
+
+    private List<Block> blocks(SeatLayout layout, RowIndex index, byte[] statuses, int quantity, String section, Double maxPrice) {
+        List<SeatPosition> seats = layout.seats();
+        List<Block> blocks = new ArrayList<>();
+        for (Row row : index.rows()) {
+            if (section != null && !section.equalsIgnoreCase(row.section())) continue;
+            // Free runs end at a taken seat or at a gap in the numbering (disabled seats).
+            int runStart = -1;
+            for (int i = row.from(); i < row.to(); i++) {
+                boolean free = isFree(seats.get(i), statuses, i, maxPrice);
+                boolean gap = runStart >= 0 && seats.get(i).seatNum() != seats.get(i - 1).seatNum() + 1;
+                if (runStart >= 0 && (!free || gap)) {
+                    addRun(blocks, row, seats, runStart, i, quantity);
+                    runStart = -1;
+                }
+                if (free && runStart < 0) runStart = i;
+            }
+            if (runStart >= 0) addRun(blocks, row, seats, runStart, row.to(), quantity);
+        }
+        blocks.sort(Comparator.comparingInt((Block b) -> b.row().sectionRank())
+            .thenComparingInt(b -> b.row().rowRank())
+            .thenComparingDouble(Block::distance));
+        return blocks;
+    }
+
+    /** Offer the most central block of a free run, if the run is long enough. */
+    private static void addRun(List<Block> blocks, Row row, List<SeatPosition> seats, int runFrom, int runTo, int quantity) {
+        Block best = null;
+        for (int start = runFrom; start + quantity <= runTo; start++) {
+            double middle = (seats.get(start).seatNum() + seats.get(start + quantity - 1).seatNum()) / 2.0;
+            double distance = Math.abs(middle - row.center());
+            if (best == null || distance < best.distance()) best = new Block(row, start, distance);
+        }
+        if (best != null) blocks.add(best);
+    }
+
+    private static boolean isFree(SeatPosition seat, byte[] statuses, int i, Double maxPrice) {
+        int status = (statuses[i >> 2] >> ((i & 3) * 2)) & 3;
+        return status == SeatAvailabilityService.AVAILABLE && (maxPrice == null || seat.price() <= maxPrice);
+    }
+
+    private RowIndex rowIndex(String eventId, SeatLayout layout) {
+        RowIndex cached = rowIndexes.get(eventId);
+        if (cached != null && cached.layoutVersion().equals(layout.version())) return cached;
+
+        // Venue order comes from the section templates; anything they don't list goes last.
+        Map<String, Integer> sectionRanks = new HashMap<>();
+        Map<String, Integer> rowRanks = new HashMap<>();
+        String layoutId = eventCache.get(eventId).map(ev -> ev.getLayoutId()).orElse(null);
+        if (layoutId != null) {
+            List<SectionTemplate> templates = sectionRepo.findByLayoutId(layoutId);
+            for (int s = 0; s < templates.size(); s++) {
+                SectionTemplate t = templates.get(s);
+                if (t == null || t.getSectionName() == null) continue;
+                sectionRanks.putIfAbsent(t.getSectionName(), s);
+                List<String> rows = t.getRows() == null ? List.of() : t.getRows();
+                for (int r = 0; r < rows.size(); r++) rowRanks.putIfAbsent(t.getSectionName() + "\u0000" + rows.get(r), r);
+            }
+        }
+
+        List<SeatPosition> seats = layout.seats();
+        List<Row> rows = new ArrayList<>();
+        int from = 0;
+        for (int i = 1; i <= seats.size(); i++) {
+            if (i < seats.size() && Objects.equals(seats.get(i).section(), seats.get(from).section())
+                    && Objects.equals(seats.get(i).row(), seats.get(from).row())) continue;
+            SeatPosition first = seats.get(from);
+            int sectionRank = sectionRanks.getOrDefault(first.section(), sectionRanks.size() + rows.size());
+            int rowRank = rowRanks.getOrDefault(first.section() + "\u0000" + first.row(), rowRanks.size() + rows.size());
+            double center = (first.seatNum() + seats.get(i - 1).seatNum()) / 2.0;
+            rows.add(new Row(first.section(), sectionRank, rowRank, from, i, center));
+            from = i;
+        }
+        rows.sort(Comparator.comparingInt(Row::sectionRank).thenComparingInt(Row::rowRank));
+
+        RowIndex index = new RowIndex(layout.version(), rows);
+        rowIndexes.put(eventId, index);
+        return index;
+    }
+
+    private static HoldResult noMatch(String eventId) {
+        return new HoldResult(HoldStatus.NO_MATCH, eventId, List.of(), List.of(), List.of(), null);
+    }
+}
@@ -0,0 +1,180 @@
+package com.yorku.betterticketmaster.domain.services.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.yorku.betterticketmaster.domain.model.event.GaInventory;
+import com.yorku.betterticketmaster.domain.model.event.Seat;
+import com.yorku.betterticketmaster.domain.services.GaInventoryService;
+import com.yorku.betterticketmaster.domain.services.SeatAvailabilityService;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService;
+import com.yorku.betterticketmaster.domain.services.inventory.SectionAvailabilityTracker;
+import com.yorku.betterticketmaster.domain.services.inventory.SectionAvailabilityTracker.SectionCounts;
+
+/**
+ * Layouts are cached per event and rebuilt only when the seats of the event no longer match.
+ * Status vectors are cached for a short window so that many clients polling the same event
+ * share one read of the seat state. Section counts come from the {@link SectionAvailabilityTracker}
+ * for reserved seats and from the inventory counters for general admission.
+ *
+ * Layouts not read for {@code btm.seats.availability.idle-evict-ms} and snapshots past their
+ * window are dropped by a periodic sweep, so both caches only hold events that are being watched.
+ */
+@Service
+public class SeatAvailabilityServiceImpl implements SeatAvailabilityService {
+    private static final Comparator<Seat> LAYOUT_ORDER = Comparator
+        .comparing((Seat s) -> s.getSection() == null ? "" : s.getSection())
+        .thenComparing(s -> s.getRow() == null ? "" : s.getRow(), Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder()))
+        .thenComparingInt(Seat::getSeatNum)
+        .thenComparing(Seat::getId);
+
+    private final SeatHoldService seatHoldService;
+    private final SectionAvailabilityTracker sectionTracker;
+    private final GaInventoryService gaInventoryService;
+    private final long snapshotTtlMillis;
+    private final long idleEvictMillis;
+
+    private final Map<String, IndexedLayout> layouts = new ConcurrentHashMap<>();
+    private final Map<String, CachedSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    private static final class IndexedLayout {
+        final SeatLayout layout;
+        final Map<String, Integer> indexById;
+        volatile long lastReadMillis = System.currentTimeMillis();
+
+        IndexedLayout(SeatLayout layout, Map<String, Integer> indexById) {
+            this.layout = layout;
+            this.indexById = indexById;
+        }
+    }
+    private record CachedSnapshot(AvailabilitySnapshot snapshot, long builtAtMillis) {}
+
+    public SeatAvailabilityServiceImpl(
+        SeatHoldService seatHoldService,
+        SectionAvailabilityTracker sectionTracker,
+        GaInventoryService gaInventoryService,
+        @Value("${btm.seats.availability.cache-ms:500}") long snapshotTtlMillis,
+        @Value("${btm.seats.availability.idle-evict-ms:600000}") long idleEvictMillis
+    ) {
+        this.seatHoldService = seatHoldService;
+        this.sectionTracker = sectionTracker;
+        this.gaInventoryService = gaInventoryService;
+        this.snapshotTtlMillis = snapshotTtlMillis;
+        this.idleEvictMillis = idleEvictMillis;
+    }
+
+    @Override
+    public SeatLayout layout(String eventId) {
+        IndexedLayout cached = layouts.get(eventId);
+        if (cached != null) {
+            cached.lastReadMillis = System.currentTimeMillis();
+            return cached.layout;
+        }
+        return index(eventId, seatHoldService.listSeats(eventId)).layout;
+    }
+
+    @Override
+    public AvailabilitySnapshot availability(String eventId) {
+        long now = System.currentTimeMillis();
+        CachedSnapshot cached = snapshots.get(eventId);
+        if (cached != null && now - cached.builtAtMillis() < snapshotTtlMillis) return cached.snapshot();
+
+        List<Seat> seats = seatHoldService.listSeats(eventId);
+        IndexedLayout layout = layouts.get(eventId);
+        if (layout == null || !matches(layout, seats)) layout = index(eventId, seats);
+        else layout.lastReadMillis = now;
+
+        byte[] packed = new byte[(seats.size() + 3) / 4];
+        for (Seat seat : seats) {
+            int i = layout.indexById.get(seat.getId());
+            packed[i >> 2] |= (byte) (statusCode(seat.getStatus()) << ((i & 3) * 2));
+        }
+        AvailabilitySnapshot snapshot = new AvailabilitySnapshot(layout.layout.version(), seats.size(), packed);
+        snapshots.put(eventId, new CachedSnapshot(snapshot, now));
+        return snapshot;
+    }
+
+    @Override
+    public List<SectionAvailability> sections(String eventId) {
+        return withGa(eventId, sectionTracker.sections(eventId));
+    }
+
+    @Override
+    public List<SectionAvailability> rebuildSections(String eventId) {
+        return withGa(eventId, sectionTracker.rebuild(eventId));
+    }
+
+    private List<SectionAvailability> withGa(String eventId, List<SectionCounts> seated) {
+        List<SectionAvailability> out = new ArrayList<>();
+        for (SectionCounts c : seated) {
+            out.add(new SectionAvailability(c.section(), "SEATED", c.available(), c.held(), c.sold(), c.minPrice(), c.maxPrice()));
+        }
+        for (GaInventory ga : gaInventoryService.listByEvent(eventId)) {
+            out.add(new SectionAvailability(ga.getSection(), "GA", ga.getAvailable(), ga.getHeld(), ga.getSold(), gaPrice(ga), gaPrice(ga)));
+        }
+        return out;
+    }
+
+    private static double gaPrice(GaInventory ga) {
+        return ga.getAvailable() > 0 ? ga.getPrice() : 0;
+    }
+
+    /**
+     * Drop layouts of events nobody read lately and snapshots whose sharing window has passed.
+     */
+    @Scheduled(initialDelayString = "${btm.seats.availability.evict-interval-ms:60000}", fixedDelayString = "${btm.seats.availability.evict-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        layouts.values().removeIf(layout -> now - layout.lastReadMillis > idleEvictMillis);
+        snapshots.values().removeIf(cached -> now - cached.builtAtMillis() >= snapshotTtlMillis);
+    }
+
+    /**
+     * @return number of events with a cached layout
+     */
+    int cachedLayouts() {
+        return layouts.size();
+    }
+
+    private IndexedLayout index(String eventId, List<Seat> seats) {
+        List<Seat> ordered = new ArrayList<>(seats);
+        ordered.sort(LAYOUT_ORDER);
+
+        List<SeatPosition> positions = new ArrayList<>(ordered.size());
+        Map<String, Integer> indexById = new HashMap<>(ordered.size() * 2);
+        CRC32 crc = new CRC32();
+        for (Seat seat : ordered) {
+            indexById.put(seat.getId(), positions.size());
+            positions.add(new SeatPosition(seat.getId(), seat.getSection(), seat.getRow(), seat.getSeatNum(), seat.getPrice()));
+            crc.update(seat.getId().getBytes(StandardCharsets.UTF_8));
+            crc.update(0);
+        }
+        IndexedLayout layout = new IndexedLayout(
+            new SeatLayout(eventId, Long.toHexString(crc.getValue()) + "-" + ordered.size(), positions), indexById);
+        // Don't cache events whose seats haven't been generated yet.
+        if (!ordered.isEmpty()) layouts.put(eventId, layout);
+        return layout;
+    }
+
+    private static boolean matches(IndexedLayout layout, List<Seat> seats) {
+        if (layout.indexById.size() != seats.size()) return false;
+        for (Seat seat : seats) if (!layout.indexById.containsKey(seat.getId())) return false;
+        return true;
+    }
+
+    private static int statusCode(String status) {
+        if ("HELD".equals(status)) return HELD;
+        if ("SOLD".equals(status)) return SOLD;
+        return AVAILABLE;
+    }
+}
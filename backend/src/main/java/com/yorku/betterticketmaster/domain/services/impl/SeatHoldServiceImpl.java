@@ -0,0 +1,89 @@
+package com.yorku.betterticketmaster.domain.services.impl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.yorku.betterticketmaster.core.stream.SeatStatusBroadcaster;
+import com.yorku.betterticketmaster.domain.model.event.Seat;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService;
+import com.yorku.betterticketmaster.domain.services.inventory.SeatHoldStore;
+import com.yorku.betterticketmaster.domain.services.inventory.SectionAvailabilityTracker;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Normalizes seat id lists and hands them to the configured {@link SeatHoldStore}.
+ * Successful holds and releases are published to viewers of the event, and every transition
+ * is counted into the section totals of the event.
+ */
+@Service
+@RequiredArgsConstructor
+public class SeatHoldServiceImpl implements SeatHoldService {
+    private final SeatHoldStore store;
+    private final SeatStatusBroadcaster broadcaster;
+    private final SectionAvailabilityTracker sections;
+
+    @Override
+    public HoldResult holdSeats(List<String> seatIds, String holderId) {
+        List<String> ids = distinct(seatIds);
+        if (ids.isEmpty()) throw new IllegalArgumentException("No seatIds provided");
+        HoldResult result = store.hold(ids, holderId);
+        if (result.isHeld()) {
+            sections.held(result.eventId(), result.heldSeatIds(), result.holdUntil());
+            broadcaster.publish(result.eventId(), result.heldSeatIds(), "HELD", result.holdUntil());
+        }
+        return result;
+    }
+
+    @Override
+    public ReleaseResult releaseSeats(List<String> seatIds, String holderId) {
+        ReleaseResult result = store.release(distinct(seatIds), holderId);
+        onReleased(result.releasedSeats());
+        return result;
+    }
+
+    @Override
+    public List<Seat> releaseSeatsOfHolders(Map<String, List<String>> seatIdsByHolder) {
+        Map<String, List<String>> normalized = new HashMap<>();
+        seatIdsByHolder.forEach((holderId, seatIds) -> normalized.put(holderId, distinct(seatIds)));
+        List<Seat> released = store.releaseAll(normalized);
+        onReleased(released);
+        return released;
+    }
+
+    private void onReleased(List<Seat> released) {
+        sections.released(released);
+        released.stream()
+            .filter(seat -> seat.getEventId() != null)
+            .collect(Collectors.groupingBy(Seat::getEventId, Collectors.mapping(Seat::getId, Collectors.toList())))
+            .forEach((eventId, ids) -> broadcaster.publish(eventId, ids, "AVAILABLE", null));
+    }
+
+    @Override
+    public void sellSeats(List<String> seatIds, String holderId) {
+        List<String> ids = distinct(seatIds);
+        if (ids.isEmpty()) throw new IllegalStateException("No seats to sell");
+        store.sell(ids, holderId);
+        sections.sold(ids);
+    }
+
+    @Override
+    public List<Seat> listSeats(String eventId) {
+        return store.seats(eventId);
+    }
+
+    @Override
+    public void evictCachedState() {
+        store.evictAll();
+        sections.evictAll();
+    }
+
+    private static List<String> distinct(List<String> seatIds) {
+        return seatIds.stream().filter(Objects::nonNull).distinct().toList();
+    }
+}
@@ -0,0 +1,57 @@
+package com.yorku.betterticketmaster.domain.services.inventory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.yorku.betterticketmaster.domain.services.BookingService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Expires PENDING bookings once their expiry passes and gives their holds back, instead of
+ * waiting for the owner to try to complete them. Works in batches of {@code batch-size}, at most
+ * {@code max-batches} per tick. A grace period keeps the sweeper clear of checkouts that started
+ * just before the expiry.
+ *
+ * Metric: {@code btm.bookings.expired}.
+ */
+@Component
+public class BookingExpiryScheduler {
+    private final BookingService bookingService;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long graceMillis;
+    private final Counter expired;
+
+    public BookingExpiryScheduler(
+        BookingService bookingService,
+        MeterRegistry registry,
+        @Value("${btm.bookings.expiry.batch-size:200}") int batchSize,
+        @Value("${btm.bookings.expiry.max-batches:10}") int maxBatches,
+        @Value("${btm.bookings.expiry.grace-ms:30000}") long graceMillis
+    ) {
+        this.bookingService = bookingService;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatches = Math.max(1, maxBatches);
+        this.graceMillis = graceMillis;
+        this.expired = Counter.builder("btm.bookings.expired").description("Pending bookings expired by the sweeper").register(registry);
+    }
+
+    /**
+     * Expire the bookings that are due.
+     */
+    @Scheduled(fixedDelayString = "${btm.bookings.expiry.tick-ms:10000}")
+    public void tick() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(graceMillis));
+        for (int i = 0; i < maxBatches; i++) {
+            int found = bookingService.expirePendingBookings(cutoff, batchSize);
+            expired.increment(found);
+            if (found < batchSize) return;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.yorku.betterticketmaster.domain.services.inventory;
+
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+import com.yorku.betterticketmaster.core.cache.BoundedTtlCache;
+import com.yorku.betterticketmaster.core.cache.CacheInvalidationBus;
+import com.yorku.betterticketmaster.domain.model.event.Event;
+import com.yorku.betterticketmaster.domain.repository.inventory.EventRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Read-through cache of events by id, for the closed/started checks on every hold, checkout,
+ * resale and transfer. EventService mutations call {@link #invalidate}, which also tells the other
+ * instances through the {@link CacheInvalidationBus}; any other save or delete through the
+ * repository drops the local entry. Callers get a copy, so changing the returned event never
+ * leaks into the cache.
+ */
+@Component
+public class EventCache extends AbstractMongoEventListener<Event> {
+    static final String CACHE_NAME = "events";
+
+    private final EventRepository eventRepo;
+    private final CacheInvalidationBus bus;
+    private final BoundedTtlCache<String, Event> events;
+    private final Counter hits;
+    private final Counter misses;
+
+    public EventCache(
+        EventRepository eventRepo,
+        CacheInvalidationBus bus,
+        MeterRegistry registry,
+        @Value("${btm.events.cache.size:10000}") int size,
+        @Value("${btm.events.cache.ttl-ms:30000}") long ttlMillis
+    ) {
+        this.eventRepo = eventRepo;
+        this.bus = bus;
+        this.events = new BoundedTtlCache<>(size, ttlMillis);
+        this.hits = Counter.builder("btm.events.cache").tag("result", "hit").register(registry);
+        this.misses = Counter.builder("btm.events.cache").tag("result", "miss").register(registry);
+        Gauge.builder("btm.events.cache.size", events, BoundedTtlCache::size)
+            .description("Events held in the read-through cache").register(registry);
+        bus.subscribe(CACHE_NAME, events::remove);
+    }
+
+    /**
+     * @param eventId event identifier
+     * @return copy of the event, or empty if not found
+     */
+    public Optional<Event> get(String eventId) {
+        if (eventId == null) return Optional.empty();
+        Event cached = events.get(eventId);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(copy(cached));
+        }
+        misses.increment();
+        Event loaded = eventRepo.findById(eventId).orElse(null);
+        if (loaded == null) return Optional.empty();
+        events.put(eventId, loaded);
+        return Optional.of(copy(loaded));
+    }
+
+    /**
+     * Drop an event here and on every other instance after it changed.
+     * @param eventId event identifier
+     */
+    public void invalidate(String eventId) {
+        if (eventId == null) return;
+        events.remove(eventId);
+        bus.publish(CACHE_NAME, eventId);
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Event> event) {
+        String id = event.getSource().getId();
+        if (id != null) events.remove(id);
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Event> event) {
+        events.clear();
+    }
+
+    private static Event copy(Event e) {
+        Event c = new Event(e.getId(), e.getOrganizerId(), e.getLayoutId(), e.getTitle(), e.getVenueName(), e.getDateTime(),
+            e.getMinResale(), e.getMaxResale(), e.getDescription(), e.getImageUrl());
+        c.setStatus(e.getStatus());
+        return c;
+    }
+}
@@ -0,0 +1,284 @@
+package com.yorku.betterticketmaster.domain.services.inventory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.yorku.betterticketmaster.domain.model.event.Event;
+import com.yorku.betterticketmaster.domain.model.event.ProvisioningJob;
+import com.yorku.betterticketmaster.domain.model.venue.SectionTemplate;
+import com.yorku.betterticketmaster.domain.model.venue.SectionType;
+import com.yorku.betterticketmaster.domain.repository.inventory.ProvisioningJobRepository;
+import com.yorku.betterticketmaster.domain.repository.inventory.SeatRepository;
+import com.yorku.betterticketmaster.domain.repository.venueBuilder.SectionTemplateRepository;
+import com.yorku.betterticketmaster.domain.services.GaInventoryService;
+import com.yorku.betterticketmaster.domain.services.inventory.SeatGenerator.Progress;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Generates the seats and general-admission inventory of new events in the background, so
+ * creating an event returns as soon as the event is saved.
+ *
+ * Every event gets a {@link ProvisioningJob}. A worker claims it for lock-ms and extends the
+ * claim as it reports progress; a job whose worker died is claimed again by the periodic resume
+ * on any instance. Reruns are safe: GA inventory is created only once per section, finished
+ * sections are skipped, and seats of a half-written section that already exist are rejected by
+ * the unique seat index. The seat hold store drops the event each time a section is finished, so
+ * an inventory loaded from a partial seat set picks up the new seats.
+ *
+ * Metrics: {@code btm.events.provisioning{result=done|failed}} and
+ * {@code btm.events.provisioning.active}.
+ */
+@Component
+public class EventProvisioner {
+    static final double DEFAULT_SEAT_PRICE = 25.0;
+
+    private final ProvisioningJobRepository jobRepo;
+    private final SectionTemplateRepository sectionRepo;
+    private final SeatRepository seatRepo;
+    private final SeatGenerator seatGenerator;
+    private final GaInventoryService gaInventoryService;
+    private final SeatHoldStore holdStore;
+    private final int maxAttempts;
+    private final long lockMillis;
+    private final long progressIntervalMillis;
+    private final ExecutorService pool;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final Counter done;
+    private final Counter failed;
+
+    /** Thrown from the progress listener to stop a run whose job was claimed by another worker. */
+    private static final class ClaimLostException extends RuntimeException {
+        ClaimLostException() {
+            super("Provisioning claim lost", null, false, false);
+        }
+    }
+
+    public EventProvisioner(
+        ProvisioningJobRepository jobRepo,
+        SectionTemplateRepository sectionRepo,
+        SeatRepository seatRepo,
+        SeatGenerator seatGenerator,
+        GaInventoryService gaInventoryService,
+        SeatHoldStore holdStore,
+        MeterRegistry registry,
+        @Value("${btm.events.provisioning.threads:2}") int threads,
+        @Value("${btm.events.provisioning.max-attempts:3}") int maxAttempts,
+        @Value("${btm.events.provisioning.lock-ms:60000}") long lockMillis,
+        @Value("${btm.events.provisioning.progress-interval-ms:1000}") long progressIntervalMillis
+    ) {
+        this.jobRepo = jobRepo;
+        this.sectionRepo = sectionRepo;
+        this.seatRepo = seatRepo;
+        this.seatGenerator = seatGenerator;
+        this.gaInventoryService = gaInventoryService;
+        this.holdStore = holdStore;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.lockMillis = lockMillis;
+        this.progressIntervalMillis = progressIntervalMillis;
+        this.pool = Executors.newFixedThreadPool(Math.max(1, threads), r -> {
+            Thread t = new Thread(r, "event-provisioner");
+            t.setDaemon(true);
+            return t;
+        });
+        this.done = Counter.builder("btm.events.provisioning").tag("result", "done").description("Events fully provisioned").register(registry);
+        this.failed = Counter.builder("btm.events.provisioning").tag("result", "failed").description("Provisioning jobs given up after max attempts").register(registry);
+        Gauge.builder("btm.events.provisioning.active", inFlight, Set::size)
+            .description("Provisioning jobs queued or running on this instance").register(registry);
+    }
+
+    /**
+     * Create the provisioning job of a new event and queue it.
+     * @param event saved event
+     * @return the job, or null if the event has no layout to provision
+     */
+    public ProvisioningJob start(Event event) {
+        if (event == null || event.getId() == null) return null;
+        String layoutId = event.getLayoutId();
+        if (layoutId == null || layoutId.trim().isEmpty()) return null;
+
+        ProvisioningJob job = jobRepo.findById(event.getId()).orElse(null);
+        if (job == null) {
+            try {
+                job = jobRepo.insert(new ProvisioningJob(event.getId(), layoutId, Instant.now()));
+            } catch (DuplicateKeyException e) {
+                // Started concurrently.
+                job = jobRepo.findById(event.getId()).orElseThrow();
+            }
+        }
+        if (!job.isFinished()) submit(job.getId());
+        return job;
+    }
+
+    /**
+     * @param eventId event identifier
+     * @return the event's provisioning job, if it has one
+     */
+    public Optional<ProvisioningJob> get(String eventId) {
+        return jobRepo.findById(eventId);
+    }
+
+    /**
+     * Give a FAILED job a fresh set of attempts and queue it.
+     * @param eventId event identifier
+     * @return the requeued job, empty if the event has no FAILED job
+     */
+    public Optional<ProvisioningJob> retry(String eventId) {
+        if (!jobRepo.resetFailed(eventId, Instant.now())) return Optional.empty();
+        submit(eventId);
+        return jobRepo.findById(eventId);
+    }
+
+    /**
+     * Queue jobs that are waiting for a retry or whose worker stopped renewing its claim.
+     */
+    @Scheduled(initialDelayString = "${btm.events.provisioning.resume-ms:30000}", fixedDelayString = "${btm.events.provisioning.resume-ms:30000}")
+    public void resumeStalled() {
+        for (String jobId : jobRepo.findClaimableIds(Instant.now(), 100)) submit(jobId);
+    }
+
+    private void submit(String jobId) {
+        if (!inFlight.add(jobId)) return;
+        try {
+            pool.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    inFlight.remove(jobId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Shutting down; the next resume on any instance picks the job up.
+            inFlight.remove(jobId);
+        }
+    }
+
+    void run(String jobId) {
+        Instant now = Instant.now();
+        ProvisioningJob job = jobRepo.claim(jobId, now, now.plusMillis(lockMillis));
+        if (job == null) return;
+        try {
+            provision(job);
+            job.setStatus("DONE");
+            job.setLastError(null);
+            job.setFinishedAt(Instant.now());
+            done.increment();
+        } catch (RuntimeException ex) {
+            if (claimLost(ex)) return;
+            job.setLastError(String.valueOf(ex.getMessage()));
+            if (job.getAttempts() >= maxAttempts) {
+                job.setStatus("FAILED");
+                job.setFinishedAt(Instant.now());
+                failed.increment();
+            } else {
+                job.setStatus("PENDING");
+            }
+            System.err.println("Provisioning of event " + jobId + " failed (attempt " + job.getAttempts() + "): " + ex.getMessage());
+        }
+        job.setUpdatedAt(Instant.now());
+        jobRepo.writeProgress(job, job.getUpdatedAt().plusMillis(lockMillis));
+    }
+
+    private void provision(ProvisioningJob job) {
+        String eventId = job.getId();
+        List<SectionTemplate> sections = sectionRepo.findByLayoutId(job.getLayoutId());
+        List<SectionTemplate> seated = new ArrayList<>();
+        for (SectionTemplate section : sections == null ? List.<SectionTemplate>of() : sections) {
+            if (section == null) continue;
+            String sectionName = section.getSectionName();
+            if (sectionName == null || sectionName.trim().isEmpty()) continue;
+            if (section.getSectionType() == SectionType.GA) {
+                gaInventoryService.createInventory(eventId, sectionName, gaSpots(section), DEFAULT_SEAT_PRICE);
+            } else {
+                seated.add(section);
+            }
+        }
+
+        Set<String> completed = new HashSet<>(job.getCompletedSections());
+        List<SectionTemplate> remaining = new ArrayList<>();
+        long total = 0;
+        for (SectionTemplate section : seated) {
+            total += SeatGenerator.seatCount(section);
+            if (!completed.contains(sectionKey(section))) remaining.add(section);
+        }
+        // Seats written by earlier attempts (including those before an admin retry reset the
+        // attempts); inserts below only count seats that are new.
+        long base = job.getAttempts() > 1 || job.getLastError() != null ? seatRepo.countByEventId(eventId) : 0;
+        int doneBefore = seated.size() - remaining.size();
+        job.setSections(seated.size());
+        job.setSectionsDone(doneBefore);
+        job.setSeats(total);
+        job.setSeatsWritten(base);
+        saveProgress(job);
+        if (remaining.isEmpty()) return;
+
+        long[] lastSave = { System.currentTimeMillis() };
+        seatGenerator.generate(eventId, remaining, DEFAULT_SEAT_PRICE, (Progress p) -> {
+            job.setSeatsWritten(base + p.seatsWritten());
+            job.setSectionsDone(doneBefore + p.sectionsDone());
+            if (p.finished() != null) {
+                job.getCompletedSections().add(sectionKey(p.finished()));
+                holdStore.evict(eventId);
+            }
+            long nowMillis = System.currentTimeMillis();
+            if (p.finished() == null && nowMillis - lastSave[0] < progressIntervalMillis) return;
+            lastSave[0] = nowMillis;
+            saveProgress(job);
+        });
+    }
+
+    private void saveProgress(ProvisioningJob job) {
+        Instant now = Instant.now();
+        job.setUpdatedAt(now);
+        if (!jobRepo.writeProgress(job, now.plusMillis(lockMillis))) throw new ClaimLostException();
+    }
+
+    private static boolean claimLost(Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof ClaimLostException) return true;
+        }
+        return false;
+    }
+
+    private static String sectionKey(SectionTemplate section) {
+        return section.getId() != null ? section.getId() : section.getSectionName();
+    }
+
+    /** GA spots are a capacity counter, not one seat document per spot. */
+    private static int gaSpots(SectionTemplate section) {
+        Set<String> disabled = section.getDisabledSeats();
+        int capacity = section.getCapacity();
+        if (capacity <= 0) {
+            int rowsCount = section.getRows() == null ? 0 : section.getRows().size();
+            capacity = rowsCount * Math.max(0, section.getSeatsPerRow());
+        }
+        int spots = capacity;
+        if (disabled != null) {
+            for (int seatNum = 1; seatNum <= capacity; seatNum++) {
+                if (disabled.contains("GA-" + seatNum)) spots--;
+            }
+        }
+        return spots;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,368 @@
+package com.yorku.betterticketmaster.domain.services.inventory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+import com.yorku.betterticketmaster.domain.model.event.Seat;
+
+/**
+ * Seat state for one event, packed into primitive arrays indexed by seat position.
+ * Status, hold expiry (epoch seconds) and a holder code share one long per seat, so every
+ * transition is a single compare-and-set. Holder codes are assigned per inventory, one per
+ * distinct holder id, so two holders never share a code. Anonymous holds (code 0) belong
+ * to nobody.
+ *
+ * Operations run through {@link #ifLive} so that the engine can retire an idle inventory
+ * without a concurrent hold landing in it after its last flush.
+ */
+public class EventSeatInventory {
+    static final int AVAILABLE = 0;
+    static final int HELD = 1;
+    static final int SOLD = 2;
+
+    private static final long STATUS_MASK = 0x3L;
+    private static final long UNTIL_MASK = 0xFFFFFFFFL;
+    private static final long HOLDER_MASK = 0x3FFFFFFFL;
+    private static final long ANONYMOUS = 0;
+
+    private final String eventId;
+    private final Seat[] seats;
+    private final Map<String, Integer> indexById;
+    private final AtomicLongArray state;
+    private final Map<String, Long> holderCodes = new ConcurrentHashMap<>();
+    /** Holder id of code {@code c} at index {@code c - 1}; guarded by itself. */
+    private final List<String> holderIds = new ArrayList<>();
+    private final AtomicIntegerArray dirtyFlags;
+    private final ConcurrentLinkedQueue<Integer> dirty = new ConcurrentLinkedQueue<>();
+    private final ReentrantReadWriteLock retireLock = new ReentrantReadWriteLock();
+    private boolean retired;
+    private volatile long lastAccessMillis = System.currentTimeMillis();
+
+    /**
+     * Build an inventory from the persisted seats of an event.
+     * @param eventId event identifier
+     * @param loaded seats as stored in the seats collection
+     */
+    public EventSeatInventory(String eventId, List<Seat> loaded) {
+        this.eventId = eventId;
+        this.seats = loaded.toArray(new Seat[0]);
+        this.indexById = new HashMap<>(seats.length * 2);
+        this.state = new AtomicLongArray(seats.length);
+        this.dirtyFlags = new AtomicIntegerArray(seats.length);
+        for (int i = 0; i < seats.length; i++) {
+            Seat s = seats[i];
+            indexById.put(s.getId(), i);
+            long until = s.getHoldUntil() == null ? 0 : s.getHoldUntil().getEpochSecond();
+            state.set(i, pack(statusCode(s.getStatus()), until, codeFor(s.getHeldBy())));
+        }
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public int size() {
+        return seats.length;
+    }
+
+    /**
+     * Run an operation unless the inventory was retired.
+     * @param op operation on this inventory; must not return null
+     * @return result, or null if the inventory was retired and must be reloaded
+     */
+    public <T> T ifLive(Supplier<T> op) {
+        retireLock.readLock().lock();
+        try {
+            return retired ? null : op.get();
+        } finally {
+            retireLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retire the inventory if it has been idle for the given time and has nothing left to write.
+     * No operation runs concurrently with the check; afterwards {@link #ifLive} refuses to run.
+     * @param idleMillis idle time required
+     * @param nowMillis current time
+     * @return whether the inventory is now retired
+     */
+    public boolean retireIfIdle(long idleMillis, long nowMillis) {
+        retireLock.writeLock().lock();
+        try {
+            if (!retired && nowMillis - lastAccessMillis > idleMillis && dirty.isEmpty()) retired = true;
+            return retired;
+        } finally {
+            retireLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Position of a seat in this inventory.
+     * @param seatId seat identifier
+     * @return index or -1 if the seat is not part of this event
+     */
+    public int indexOf(String seatId) {
+        touch();
+        Integer idx = indexById.get(seatId);
+        return idx == null ? -1 : idx;
+    }
+
+    /**
+     * Hold every given seat for a holder, or none of them.
+     * @param idx seat indexes
+     * @param holderId holder identifier (null for anonymous)
+     * @param nowSec current time in epoch seconds
+     * @param untilSec hold expiry in epoch seconds
+     * @return indexes that could not be held (empty on success)
+     */
+    public List<Integer> holdAll(int[] idx, String holderId, long nowSec, long untilSec) {
+        long code = codeFor(holderId);
+        long claimed = pack(HELD, untilSec, code);
+        long[] previous = new long[idx.length];
+        List<Integer> conflicts = new ArrayList<>();
+        int won = 0;
+        for (int k = 0; k < idx.length; k++) {
+            int i = idx[k];
+            while (true) {
+                long cur = state.get(i);
+                int st = status(cur);
+                boolean claimable = st == AVAILABLE || (st == HELD && (until(cur) <= nowSec || isHolder(cur, code)));
+                if (!claimable) {
+                    conflicts.add(i);
+                    break;
+                }
+                if (!conflicts.isEmpty()) break; // already failing: only keep collecting conflicts
+                if (state.compareAndSet(i, cur, claimed)) {
+                    previous[k] = cur;
+                    won = k + 1;
+                    break;
+                }
+            }
+        }
+        if (!conflicts.isEmpty()) {
+            for (int k = 0; k < won; k++) state.compareAndSet(idx[k], claimed, previous[k]);
+            return conflicts;
+        }
+        for (int i : idx) markDirty(i);
+        return conflicts;
+    }
+
+    /**
+     * Release seats held by a holder.
+     * @param idx seat indexes
+     * @param holderId holder identifier (null for anonymous)
+     * @return number of seats released
+     */
+    public int releaseAll(int[] idx, String holderId) {
+        Long code = holderId == null ? null : holderCodes.get(holderId);
+        if (code == null) return 0; // anonymous, or never held anything here
+        int released = 0;
+        for (int i : idx) {
+            while (true) {
+                long cur = state.get(i);
+                if (status(cur) != HELD || !isHolder(cur, code)) break;
+                if (state.compareAndSet(i, cur, pack(AVAILABLE, 0, ANONYMOUS))) {
+                    markDirty(i);
+                    released++;
+                    break;
+                }
+            }
+        }
+        return released;
+    }
+
+    /**
+     * Sell every given seat, or none of them. Seats must be HELD by the holder with an unexpired hold.
+     * @param idx seat indexes
+     * @param holderId holder identifier (null for anonymous, which never matches)
+     * @param nowSec current time in epoch seconds
+     * @return indexes that could not be sold (empty on success)
+     */
+    public List<Integer> sellAll(int[] idx, String holderId, long nowSec) {
+        Long code = holderId == null ? null : holderCodes.get(holderId);
+        long[] previous = new long[idx.length];
+        long[] sold = new long[idx.length];
+        List<Integer> failed = new ArrayList<>();
+        int won = 0;
+        for (int k = 0; k < idx.length && failed.isEmpty(); k++) {
+            int i = idx[k];
+            while (true) {
+                long cur = state.get(i);
+                if (status(cur) != HELD || until(cur) <= nowSec || code == null || !isHolder(cur, code)) {
+                    failed.add(i);
+                    break;
+                }
+                long next = pack(SOLD, 0, holder(cur));
+                if (state.compareAndSet(i, cur, next)) {
+                    previous[k] = cur;
+                    sold[k] = next;
+                    won = k + 1;
+                    break;
+                }
+            }
+        }
+        if (!failed.isEmpty()) {
+            for (int k = 0; k < won; k++) state.compareAndSet(idx[k], sold[k], previous[k]);
+            return failed;
+        }
+        for (int i : idx) markDirty(i);
+        return failed;
+    }
+
+    /**
+     * Release every hold that lapsed before the given time.
+     * @param nowSec current time in epoch seconds
+     * @param onReleased receives the hold expiry (epoch seconds) of each released seat
+     * @return ids of the seats released
+     */
+    public List<String> releaseExpired(long nowSec, LongConsumer onReleased) {
+        List<String> released = new ArrayList<>();
+        for (int i = 0; i < seats.length; i++) {
+            long cur = state.get(i);
+            if (status(cur) != HELD || until(cur) > nowSec) continue;
+            if (state.compareAndSet(i, cur, pack(AVAILABLE, 0, ANONYMOUS))) {
+                markDirty(i);
+                onReleased.accept(until(cur));
+                released.add(seats[i].getId());
+            }
+        }
+        return released;
+    }
+
+    /**
+     * @return ids of the seats of this event
+     */
+    public Set<String> seatIds() {
+        return Collections.unmodifiableSet(indexById.keySet());
+    }
+
+    /**
+     * Copy of the seats with their current state.
+     * @return seats in load order
+     */
+    public List<Seat> snapshot() {
+        touch();
+        List<Seat> out = new ArrayList<>(seats.length);
+        for (int i = 0; i < seats.length; i++) out.add(toSeat(i));
+        return out;
+    }
+
+    /**
+     * Copy of a single seat with its current state.
+     * @param idx seat index
+     * @return seat
+     */
+    public Seat seatAt(int idx) {
+        return toSeat(idx);
+    }
+
+    /**
+     * Take the seats changed since the last drain, for write-behind persistence.
+     * @return seats with their current state
+     */
+    public List<Seat> drainDirty() {
+        List<Seat> out = new ArrayList<>();
+        Integer i;
+        while ((i = dirty.poll()) != null) {
+            dirtyFlags.set(i, 0);
+            out.add(toSeat(i));
+        }
+        return out;
+    }
+
+    public boolean hasPendingWrites() {
+        return !dirty.isEmpty();
+    }
+
+    public long getLastAccessMillis() {
+        return lastAccessMillis;
+    }
+
+    private Seat toSeat(int i) {
+        Seat base = seats[i];
+        long cur = state.get(i);
+        Seat s = new Seat(base.getId(), base.getEventId(), base.getSection(), base.getRow(), base.getSeatNum(), base.getPrice());
+        s.setVersion(base.getVersion());
+        s.setStatus(statusName(status(cur)));
+        if (status(cur) == HELD) {
+            s.setHoldUntil(Instant.ofEpochSecond(until(cur)));
+            s.setHeldBy(holderId(holder(cur)));
+        }
+        return s;
+    }
+
+    private void markDirty(int i) {
+        if (dirtyFlags.compareAndSet(i, 0, 1)) dirty.add(i);
+    }
+
+    private void touch() {
+        lastAccessMillis = System.currentTimeMillis();
+    }
+
+    static long pack(int status, long untilSec, long holderFp) {
+        return (holderFp << 34) | ((untilSec & UNTIL_MASK) << 2) | (status & STATUS_MASK);
+    }
+
+    static int status(long packed) {
+        return (int) (packed & STATUS_MASK);
+    }
+
+    static long until(long packed) {
+        return (packed >>> 2) & UNTIL_MASK;
+    }
+
+    static long holder(long packed) {
+        return (packed >>> 34) & HOLDER_MASK;
+    }
+
+    private static boolean isHolder(long packed, long code) {
+        return code != ANONYMOUS && holder(packed) == code;
+    }
+
+    /** Code of a holder id, assigned on first use; 0 for anonymous. */
+    long codeFor(String holderId) {
+        if (holderId == null) return ANONYMOUS;
+        Long code = holderCodes.get(holderId);
+        if (code != null) return code;
+        synchronized (holderIds) {
+            return holderCodes.computeIfAbsent(holderId, id -> {
+                if (holderIds.size() >= HOLDER_MASK) throw new IllegalStateException("Too many holders for event " + eventId);
+                holderIds.add(id);
+                return (long) holderIds.size();
+            });
+        }
+    }
+
+    private String holderId(long code) {
+        if (code == ANONYMOUS) return null;
+        synchronized (holderIds) {
+            return holderIds.get((int) code - 1);
+        }
+    }
+
+    static int statusCode(String status) {
+        if ("HELD".equals(status)) return HELD;
+        if ("SOLD".equals(status)) return SOLD;
+        return AVAILABLE;
+    }
+
+    static String statusName(int code) {
+        return switch (code) {
+            case HELD -> "HELD";
+            case SOLD -> "SOLD";
+            default -> "AVAILABLE";
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.yorku.betterticketmaster.domain.services.inventory;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.yorku.betterticketmaster.core.stream.SeatStatusBroadcaster;
+import com.yorku.betterticketmaster.domain.services.GaInventoryService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Releases seat holds once their holdUntil passes, independent of read traffic.
+ * Each tick asks the active {@link SeatHoldStore} to release what is due (stores backed by
+ * expiring keys have nothing to do), then releases lapsed general-admission holds. Released seats
+ * are pushed to viewers as AVAILABLE; holds the store cannot name (Redis keys, the Mongo safety sweep)
+ * are expired by the viewers from the holdUntil they were sent.
+ *
+ * Metrics: {@code btm.holds.expired} (count, rate gives expired-per-second) and
+ * {@code btm.holds.release.lag} (time between holdUntil and the actual release).
+ */
+@Component
+public class HoldExpiryScheduler {
+    private final SeatHoldStore store;
+    private final GaInventoryService gaInventory;
+    private final SeatStatusBroadcaster broadcaster;
+    private final Counter expired;
+    private final Timer releaseLag;
+
+    public HoldExpiryScheduler(SeatHoldStore store, GaInventoryService gaInventory, SeatStatusBroadcaster broadcaster, MeterRegistry registry) {
+        this.store = store;
+        this.gaInventory = gaInventory;
+        this.broadcaster = broadcaster;
+        this.expired = Counter.builder("btm.holds.expired").description("Seat holds released after expiry").register(registry);
+        this.releaseLag = Timer.builder("btm.holds.release.lag").description("Delay between holdUntil and release").register(registry);
+    }
+
+    /**
+     * Release every hold that is due.
+     */
+    @Scheduled(fixedDelayString = "${btm.holds.expiry.tick-ms:1000}")
+    public void tick() {
+        Instant now = Instant.now();
+        LongConsumer onReleased = holdUntilSec -> {
+            expired.increment();
+            if (holdUntilSec >= 0) {
+                releaseLag.record(Math.max(0, now.toEpochMilli() - holdUntilSec * 1000), TimeUnit.MILLISECONDS);
+            }
+        };
+        store.releaseExpired(now, onReleased, (eventId, seatIds) -> broadcaster.publish(eventId, seatIds, "AVAILABLE", null));
+        gaInventory.releaseExpired(now, onReleased);
+    }
+}
@@ -0,0 +1,281 @@
+package com.yorku.betterticketmaster.domain.services.inventory;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.LongConsumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.yorku.betterticketmaster.domain.model.event.Seat;
+import com.yorku.betterticketmaster.domain.repository.inventory.SeatRepository;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.HoldResult;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.HoldStatus;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.ReleaseResult;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Holds kept on the seat documents themselves.
+ * Seats are claimed with one conditional bulk write instead of per-seat read-modify-save, so a hold
+ * costs a fixed number of round trips regardless of how many seats are requested.
+ * Expiry is tracked in a map of due seats keyed by holdUntil second; a periodic sweep catches holds
+ * this node never saw (placed before a restart or by another node).
+ */
+@Component
+@ConditionalOnProperty(name = "btm.seats.hold-store", havingValue = "mongo", matchIfMissing = true)
+public class MongoSeatHoldStore implements SeatHoldStore {
+    private static final int BATCH_SIZE = 500;
+
+    private final SeatRepository seatRepo;
+    private final EventCache eventCache;
+    private final long sweepIntervalMillis;
+
+    private final ConcurrentSkipListMap<Long, Set<String>> dueBySecond = new ConcurrentSkipListMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile long lastSweepMillis;
+
+    public MongoSeatHoldStore(
+        SeatRepository seatRepo,
+        EventCache eventCache,
+        MeterRegistry registry,
+        @Value("${btm.holds.expiry.sweep-interval-ms:30000}") long sweepIntervalMillis
+    ) {
+        this.seatRepo = seatRepo;
+        this.eventCache = eventCache;
+        this.sweepIntervalMillis = sweepIntervalMillis;
+        Gauge.builder("btm.holds.expiry.pending", pending, AtomicInteger::get).description("Holds waiting to expire").register(registry);
+    }
+
+    @Override
+    public HoldResult hold(List<String> ids, String holderId) {
+        List<Seat> seats = new ArrayList<>();
+        seatRepo.findAllById(ids).forEach(seats::add);
+
+        Set<String> found = new HashSet<>();
+        for (Seat seat : seats) found.add(seat.getId());
+        List<String> missing = ids.stream().filter(id -> !found.contains(id)).toList();
+        if (!missing.isEmpty()) {
+            return new HoldResult(HoldStatus.NOT_FOUND, null, List.of(), List.of(), missing, null);
+        }
+
+        String eventId = null;
+        for (Seat seat : seats) {
+            if (eventId == null) eventId = seat.getEventId();
+            if (eventId != null && seat.getEventId() != null && !eventId.equals(seat.getEventId())) {
+                return new HoldResult(HoldStatus.MIXED_EVENTS, null, List.of(), List.of(), List.of(), null);
+            }
+        }
+        if (eventId != null) {
+            var ev = eventCache.get(eventId).orElse(null);
+            if (ev != null && ev.isClosed()) {
+                return new HoldResult(HoldStatus.EVENT_CLOSED, eventId, List.of(), List.of(), List.of(), null);
+            }
+        }
+
+        // Split by current status so each seat is claimed under the condition it was seen in.
+        Instant now = Instant.now();
+        List<String> available = new ArrayList<>();
+        List<String> reclaimable = new ArrayList<>();
+        List<Seat> alreadyMine = new ArrayList<>();
+        List<String> conflicts = new ArrayList<>();
+        for (Seat seat : seats) {
+            if ("AVAILABLE".equals(seat.getStatus())) {
+                available.add(seat.getId());
+            } else if ("HELD".equals(seat.getStatus()) && (seat.getHoldUntil() == null || seat.getHoldUntil().isBefore(now))) {
+                reclaimable.add(seat.getId());
+            } else if ("HELD".equals(seat.getStatus()) && isHolder(seat, holderId)) {
+                reclaimable.add(seat.getId());
+                alreadyMine.add(seat);
+            } else {
+                conflicts.add(seat.getId());
+            }
+        }
+        if (!conflicts.isEmpty()) {
+            return new HoldResult(HoldStatus.UNAVAILABLE, eventId, List.of(), conflicts, List.of(), null);
+        }
+
+        String token = UUID.randomUUID().toString();
+        Instant holdUntil = now.plus(SeatHoldService.HOLD_MINUTES, ChronoUnit.MINUTES);
+        long claimed = seatRepo.claimForHold(available, reclaimable, holderId, token, now, holdUntil);
+        if (claimed == ids.size()) {
+            scheduleExpiry(ids, holdUntil);
+            return new HoldResult(HoldStatus.HELD, eventId, ids, List.of(), List.of(), holdUntil);
+        }
+
+        // Lost a race on at least one seat: report which ones and undo only what this call changed.
+        // Seats the caller already held go back to their earlier hold instead of being released.
+        List<String> won = seatRepo.findIdsByHoldToken(ids, token);
+        Set<String> wonSet = new HashSet<>(won);
+        List<String> lost = ids.stream().filter(id -> !wonSet.contains(id)).toList();
+        Set<String> mineIds = new HashSet<>();
+        for (Seat seat : alreadyMine) mineIds.add(seat.getId());
+        seatRepo.revertHold(won.stream().filter(id -> !mineIds.contains(id)).toList(), token);
+        seatRepo.restoreHolds(alreadyMine.stream().filter(seat -> wonSet.contains(seat.getId())).toList(), token);
+        return new HoldResult(HoldStatus.UNAVAILABLE, eventId, List.of(), lost, List.of(), null);
+    }
+
+    @Override
+    public ReleaseResult release(List<String> ids, String holderId) {
+        Set<String> found = new HashSet<>();
+        List<Seat> owned = new ArrayList<>();
+        for (Seat seat : seatRepo.findAllById(ids)) {
+            found.add(seat.getId());
+            if ("HELD".equals(seat.getStatus()) && isHolder(seat, holderId)) owned.add(seat);
+        }
+        List<String> missing = ids.stream().filter(id -> !found.contains(id)).toList();
+        if (owned.isEmpty()) return new ReleaseResult(List.of(), missing);
+
+        long released = seatRepo.releaseHolds(owned.stream().map(Seat::getId).toList(), holderId);
+        return new ReleaseResult(freed(owned, released), missing);
+    }
+
+    @Override
+    public List<Seat> releaseAll(Map<String, List<String>> seatIdsByHolder) {
+        Map<String, String> holderBySeat = new HashMap<>();
+        seatIdsByHolder.forEach((holderId, seatIds) -> seatIds.forEach(id -> holderBySeat.put(id, holderId)));
+        if (holderBySeat.isEmpty()) return List.of();
+
+        List<Seat> owned = new ArrayList<>();
+        Map<String, List<String>> ownedByHolder = new HashMap<>();
+        for (Seat seat : seatRepo.findAllById(holderBySeat.keySet())) {
+            String holderId = holderBySeat.get(seat.getId());
+            if ("HELD".equals(seat.getStatus()) && isHolder(seat, holderId)) {
+                owned.add(seat);
+                ownedByHolder.computeIfAbsent(holderId, k -> new ArrayList<>()).add(seat.getId());
+            }
+        }
+        if (owned.isEmpty()) return List.of();
+        return freed(owned, seatRepo.releaseHoldsByHolder(ownedByHolder));
+    }
+
+    /** Anonymous holds (null holder) belong to nobody, so one anonymous caller can't take over another's. */
+    private static boolean isHolder(Seat seat, String holderId) {
+        return holderId != null && holderId.equals(seat.getHeldBy());
+    }
+
+    /** Seats a release actually freed; when the count is short, some holds changed hands in between. */
+    private List<Seat> freed(List<Seat> owned, long released) {
+        if (released >= owned.size()) return owned;
+        Set<String> stillHeld = new HashSet<>();
+        seatRepo.findAllById(owned.stream().map(Seat::getId).toList()).forEach(seat -> {
+            if (!"AVAILABLE".equals(seat.getStatus())) stillHeld.add(seat.getId());
+        });
+        List<Seat> freed = new ArrayList<>(owned);
+        freed.removeIf(seat -> stillHeld.contains(seat.getId()));
+        return freed;
+    }
+
+    @Override
+    public void sell(List<String> ids, String holderId) {
+        // Validate all seats are HELD by the buyer and hold has not expired before selling any.
+        Instant now = Instant.now();
+        Map<String, Seat> byId = new HashMap<>();
+        seatRepo.findAllById(ids).forEach(seat -> byId.put(seat.getId(), seat));
+        Instant restoreUntil = null;
+        for (String seatId : ids) {
+            Seat seat = byId.get(seatId);
+            if (seat == null) throw new IllegalStateException("Seat not found: " + seatId);
+            if (!"HELD".equals(seat.getStatus()) || seat.getHoldUntil() == null || seat.getHoldUntil().isBefore(now)
+                || !isHolder(seat, holderId)) {
+                throw new IllegalStateException("Seat must be HELD and hold not expired to purchase: " + seatId);
+            }
+            if (restoreUntil == null || seat.getHoldUntil().isBefore(restoreUntil)) restoreUntil = seat.getHoldUntil();
+        }
+
+        // One conditional transition; if a hold lapsed or moved since the read, undo the part that sold.
+        String saleToken = UUID.randomUUID().toString();
+        long sold = seatRepo.sellHeld(ids, holderId, saleToken, now);
+        if (sold < ids.size()) {
+            seatRepo.revertSale(ids, saleToken, restoreUntil);
+            throw new IllegalStateException("Seat holds changed during purchase: " + ids);
+        }
+    }
+
+    @Override
+    public List<Seat> seats(String eventId) {
+        // Until the next expiry tick, show lapsed holds as available.
+        List<Seat> seats = seatRepo.findByEventId(eventId);
+        Instant now = Instant.now();
+        for (Seat seat : seats) {
+            if ("HELD".equals(seat.getStatus()) && seat.getHoldUntil() != null && seat.getHoldUntil().isBefore(now)) {
+                seat.releaseSeat();
+            }
+        }
+        return seats;
+    }
+
+    @Override
+    public int releaseExpired(Instant now, LongConsumer onReleased, BiConsumer<String, List<String>> onFreed) {
+        // Holds expire strictly after holdUntil, so only buckets older than the current second are due.
+        long cutoff = now.getEpochSecond();
+        int released = 0;
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        Map.Entry<Long, Set<String>> bucket;
+        while ((bucket = dueBySecond.firstEntry()) != null && bucket.getKey() < cutoff) {
+            dueBySecond.remove(bucket.getKey(), bucket.getValue());
+            pending.addAndGet(-bucket.getValue().size());
+            for (String seatId : bucket.getValue()) {
+                batch.add(seatId);
+                if (batch.size() == BATCH_SIZE) {
+                    released += releaseBatch(batch, now, bucket.getKey(), onReleased, onFreed);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                released += releaseBatch(batch, now, bucket.getKey(), onReleased, onFreed);
+                batch.clear();
+            }
+        }
+
+        if (System.currentTimeMillis() - lastSweepMillis >= sweepIntervalMillis) {
+            lastSweepMillis = System.currentTimeMillis();
+            long swept = seatRepo.sweepExpiredHolds(now);
+            for (long i = 0; i < swept; i++) onReleased.accept(-1);
+            released += (int) swept;
+        }
+        return released;
+    }
+
+    @Override
+    public void evictAll() {
+        dueBySecond.clear();
+        pending.set(0);
+    }
+
+    private void scheduleExpiry(List<String> seatIds, Instant holdUntil) {
+        Set<String> bucket = dueBySecond.computeIfAbsent(holdUntil.getEpochSecond(), k -> ConcurrentHashMap.newKeySet());
+        for (String seatId : seatIds) if (bucket.add(seatId)) pending.incrementAndGet();
+    }
+
+    private int releaseBatch(List<String> seatIds, Instant now, long holdUntilSec, LongConsumer onReleased,
+                             BiConsumer<String, List<String>> onFreed) {
+        long released = seatRepo.releaseExpiredHolds(seatIds, now);
+        if (released == 0) return 0;
+        for (long i = 0; i < released; i++) onReleased.accept(holdUntilSec);
+
+        // The update doesn't say which seats it released; read the batch back for the free ones and their events.
+        Map<String, List<String>> freedByEvent = new HashMap<>();
+        seatRepo.findAllById(seatIds).forEach(seat -> {
+            if ("AVAILABLE".equals(seat.getStatus()) && seat.getEventId() != null) {
+                freedByEvent.computeIfAbsent(seat.getEventId(), k -> new ArrayList<>()).add(seat.getId());
+            }
+        });
+        freedByEvent.forEach(onFreed);
+        return (int) released;
+    }
+}
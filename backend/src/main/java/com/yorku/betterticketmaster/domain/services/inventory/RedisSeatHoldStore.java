@@ -0,0 +1,247 @@
+package com.yorku.betterticketmaster.domain.services.inventory;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.LongConsumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.yorku.betterticketmaster.domain.model.event.Seat;
+import com.yorku.betterticketmaster.domain.repository.inventory.SeatRepository;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.HoldResult;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.HoldStatus;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.ReleaseResult;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Holds kept in Redis as one expiring key per seat, so hold churn never touches the seats collection.
+ * Seat documents stay AVAILABLE while held and only change when the seats are sold.
+ *
+ * Key: {@code btm:hold:{eventId}:seatId} (the hash tag keeps an event's seats in one cluster slot),
+ * value: {@code holdUntilMillis:holder}. Expiry is left to the key TTL.
+ */
+@Component
+@ConditionalOnProperty(name = "btm.seats.hold-store", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisSeatHoldStore implements SeatHoldStore {
+    private static final String KEY_PREFIX = "btm:hold:";
+    private static final String ANONYMOUS = "~";
+    private static final long SELL_PIN_MILLIS = 30_000;
+
+    /** Claim every key or none: returns the 1-based positions held by someone else. Anonymous holds never match. */
+    private static final RedisScript<List<Long>> CLAIM = script("""
+        local conflicts = {}
+        for i, key in ipairs(KEYS) do
+          local v = redis.call('GET', key)
+          if v and (ARGV[1] == '~' or string.sub(v, string.find(v, ':') + 1) ~= ARGV[1]) then
+            conflicts[#conflicts + 1] = i
+          end
+        end
+        if #conflicts == 0 then
+          for _, key in ipairs(KEYS) do
+            redis.call('SET', key, ARGV[2] .. ':' .. ARGV[1], 'PX', ARGV[3])
+          end
+        end
+        return conflicts
+        """);
+
+    /** Delete the keys owned by a holder: returns the 1-based positions deleted. */
+    private static final RedisScript<List<Long>> RELEASE = script("""
+        local released = {}
+        for i, key in ipairs(KEYS) do
+          local v = redis.call('GET', key)
+          if v and string.sub(v, string.find(v, ':') + 1) == ARGV[1] then
+            redis.call('DEL', key)
+            released[#released + 1] = i
+          end
+        end
+        return released
+        """);
+
+    /**
+     * Keep a holder's live holds from expiring while a sale is written, all or none:
+     * returns the 1-based positions not held by the holder.
+     */
+    private static final RedisScript<List<Long>> PIN = script("""
+        local missing = {}
+        for i, key in ipairs(KEYS) do
+          local v = redis.call('GET', key)
+          if not v or string.sub(v, string.find(v, ':') + 1) ~= ARGV[1] then missing[#missing + 1] = i end
+        end
+        if #missing == 0 then
+          for _, key in ipairs(KEYS) do
+            if redis.call('PTTL', key) < tonumber(ARGV[2]) then redis.call('PEXPIRE', key, ARGV[2]) end
+          end
+        end
+        return missing
+        """);
+
+    /** Undo a pin: the holder's keys expire at the holdUntil stored in their value again. */
+    private static final RedisScript<List<Long>> UNPIN = script("""
+        local restored = {}
+        for i, key in ipairs(KEYS) do
+          local v = redis.call('GET', key)
+          local sep = v and string.find(v, ':')
+          if v and string.sub(v, sep + 1) == ARGV[1] then
+            redis.call('PEXPIREAT', key, string.sub(v, 1, sep - 1))
+            restored[#restored + 1] = i
+          end
+        end
+        return restored
+        """);
+
+    private final StringRedisTemplate redis;
+    private final SeatRepository seatRepo;
+    private final EventCache eventCache;
+
+    @Override
+    public HoldResult hold(List<String> ids, String holderId) {
+        List<Seat> seats = new ArrayList<>();
+        seatRepo.findAllById(ids).forEach(seats::add);
+
+        Set<String> found = new HashSet<>();
+        for (Seat seat : seats) found.add(seat.getId());
+        List<String> missing = ids.stream().filter(id -> !found.contains(id)).toList();
+        if (!missing.isEmpty()) {
+            return new HoldResult(HoldStatus.NOT_FOUND, null, List.of(), List.of(), missing, null);
+        }
+
+        String eventId = null;
+        for (Seat seat : seats) {
+            if (eventId == null) eventId = seat.getEventId();
+            if (eventId != null && seat.getEventId() != null && !eventId.equals(seat.getEventId())) {
+                return new HoldResult(HoldStatus.MIXED_EVENTS, null, List.of(), List.of(), List.of(), null);
+            }
+        }
+        if (eventId != null) {
+            var ev = eventCache.get(eventId).orElse(null);
+            if (ev != null && ev.isClosed()) {
+                return new HoldResult(HoldStatus.EVENT_CLOSED, eventId, List.of(), List.of(), List.of(), null);
+            }
+        }
+
+        List<String> sold = seats.stream().filter(s -> !"AVAILABLE".equals(s.getStatus())).map(Seat::getId).toList();
+        if (!sold.isEmpty()) {
+            return new HoldResult(HoldStatus.UNAVAILABLE, eventId, List.of(), sold, List.of(), null);
+        }
+
+        Instant holdUntil = Instant.now().plus(SeatHoldService.HOLD_MINUTES, ChronoUnit.MINUTES);
+        List<Long> conflicts = redis.execute(CLAIM, keys(seats), holderTag(holderId),
+            String.valueOf(holdUntil.toEpochMilli()), String.valueOf(TimeUnit.MINUTES.toMillis(SeatHoldService.HOLD_MINUTES)));
+        if (conflicts == null || conflicts.isEmpty()) {
+            return new HoldResult(HoldStatus.HELD, eventId, ids, List.of(), List.of(), holdUntil);
+        }
+        List<String> lost = conflicts.stream().map(i -> seats.get(i.intValue() - 1).getId()).toList();
+        return new HoldResult(HoldStatus.UNAVAILABLE, eventId, List.of(), lost, List.of(), null);
+    }
+
+    @Override
+    public ReleaseResult release(List<String> ids, String holderId) {
+        List<Seat> seats = new ArrayList<>();
+        seatRepo.findAllById(ids).forEach(seats::add);
+        Set<String> found = new HashSet<>();
+        for (Seat seat : seats) found.add(seat.getId());
+        List<String> missing = ids.stream().filter(id -> !found.contains(id)).toList();
+        if (seats.isEmpty() || holderId == null) return new ReleaseResult(List.of(), missing);
+
+        List<Long> released = redis.execute(RELEASE, keys(seats), holderId);
+        if (released == null) return new ReleaseResult(List.of(), missing);
+        return new ReleaseResult(released.stream().map(i -> seats.get(i.intValue() - 1)).toList(), missing);
+    }
+
+    @Override
+    public void sell(List<String> ids, String holderId) {
+        List<Seat> seats = new ArrayList<>();
+        seatRepo.findAllById(ids).forEach(seats::add);
+        if (seats.size() != ids.size()) {
+            Set<String> found = new HashSet<>();
+            for (Seat seat : seats) found.add(seat.getId());
+            String seatId = ids.stream().filter(id -> !found.contains(id)).findFirst().orElse(null);
+            throw new IllegalStateException("Seat not found: " + seatId);
+        }
+        if (holderId == null) {
+            throw new IllegalStateException("Seat must be HELD and hold not expired to purchase: " + ids.get(0));
+        }
+
+        List<String> keys = keys(seats);
+        List<Long> notHeld = redis.execute(PIN, keys, holderId, String.valueOf(SELL_PIN_MILLIS));
+        if (notHeld != null && !notHeld.isEmpty()) {
+            String seatId = seats.get(notHeld.get(0).intValue() - 1).getId();
+            throw new IllegalStateException("Seat must be HELD and hold not expired to purchase: " + seatId);
+        }
+        // A live hold excludes other sales, so every seat document is expected to still be AVAILABLE;
+        // if one was changed directly in the database, undo the part that sold and give the holds back.
+        String saleToken = UUID.randomUUID().toString();
+        long sold = seatRepo.markSold(ids, saleToken);
+        if (sold != ids.size()) {
+            seatRepo.revertMarkSold(ids, saleToken);
+            redis.execute(UNPIN, keys, holderId);
+            throw new IllegalStateException("Seats were sold concurrently: " + ids);
+        }
+        redis.delete(keys);
+    }
+
+    @Override
+    public List<Seat> seats(String eventId) {
+        List<Seat> seats = seatRepo.findByEventId(eventId);
+        if (seats.isEmpty()) return seats;
+        List<String> holds = redis.opsForValue().multiGet(keys(seats));
+        if (holds == null) return seats;
+        for (int i = 0; i < seats.size(); i++) {
+            String v = holds.get(i);
+            Seat seat = seats.get(i);
+            if (v == null || !"AVAILABLE".equals(seat.getStatus())) continue;
+            int sep = v.indexOf(':');
+            String holder = v.substring(sep + 1);
+            seat.setStatus("HELD");
+            seat.setHoldUntil(Instant.ofEpochMilli(Long.parseLong(v.substring(0, sep))));
+            seat.setHeldBy(ANONYMOUS.equals(holder) ? null : holder);
+        }
+        return seats;
+    }
+
+    @Override
+    public int releaseExpired(Instant now, LongConsumer onReleased, BiConsumer<String, List<String>> onFreed) {
+        // Keys expire on their own; viewers expire the holds locally from holdUntil.
+        return 0;
+    }
+
+    @Override
+    public void evictAll() {
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = redis.scan(ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build())) {
+            cursor.forEachRemaining(keys::add);
+        }
+        if (!keys.isEmpty()) redis.delete(keys);
+    }
+
+    private static List<String> keys(List<Seat> seats) {
+        List<String> keys = new ArrayList<>(seats.size());
+        for (Seat seat : seats) keys.add(KEY_PREFIX + "{" + seat.getEventId() + "}:" + seat.getId());
+        return keys;
+    }
+
+    private static String holderTag(String holderId) {
+        return holderId == null ? ANONYMOUS : holderId;
+    }
+
+    /** Scripts return arrays of Lua integers, which arrive as longs. */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static RedisScript<List<Long>> script(String lua) {
+        return (RedisScript) RedisScript.of(lua, List.class);
+    }
+}
@@ -0,0 +1,183 @@
+package com.yorku.betterticketmaster.domain.services.inventory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.yorku.betterticketmaster.domain.model.event.Seat;
+import com.yorku.betterticketmaster.domain.model.venue.SectionTemplate;
+import com.yorku.betterticketmaster.domain.repository.inventory.SeatRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Writes the seat documents of an event's seated sections. Sections are generated in parallel on
+ * a small dedicated pool; each one streams its seats row by row into fixed-size chunks that go
+ * to the database as unordered bulk inserts, so memory stays at one chunk per thread whatever the
+ * size of the venue.
+ *
+ * Metric: {@code btm.seats.generated}.
+ */
+@Component
+public class SeatGenerator {
+    private final SeatRepository seatRepo;
+    private final ExecutorService pool;
+    private final int chunkSize;
+    private final Counter generated;
+
+    /**
+     * Generation progress.
+     * @param sections seated sections to generate
+     * @param sectionsDone sections fully written
+     * @param seats seats to write in total
+     * @param seatsWritten seats written so far
+     * @param finished the section whose completion this report announces, or null after a chunk
+     */
+    public record Progress(int sections, int sectionsDone, long seats, long seatsWritten, SectionTemplate finished) {}
+
+    public SeatGenerator(
+        SeatRepository seatRepo,
+        MeterRegistry registry,
+        @Value("${btm.seats.generation.threads:4}") int threads,
+        @Value("${btm.seats.generation.chunk-size:1000}") int chunkSize
+    ) {
+        this.seatRepo = seatRepo;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.pool = Executors.newFixedThreadPool(Math.max(1, threads), r -> {
+            Thread t = new Thread(r, "seat-generator");
+            t.setDaemon(true);
+            return t;
+        });
+        this.generated = Counter.builder("btm.seats.generated").description("Seat documents written for new events").register(registry);
+    }
+
+    /**
+     * Generate every seat of the given sections and wait until they are written.
+     * @param eventId event identifier
+     * @param sections seated sections (rows x seatsPerRow minus disabled seats)
+     * @param price price of every seat
+     * @param progress told after every chunk and every finished section, one call at a time
+     * @return number of seats written
+     * @throws IllegalStateException if writing a section failed or the listener threw; seats already written stay
+     */
+    public long generate(String eventId, List<SectionTemplate> sections, double price, Consumer<Progress> progress) {
+        long total = 0;
+        for (SectionTemplate s : sections) total += seatCount(s);
+        Tracker tracker = new Tracker(sections.size(), total, progress);
+
+        List<Future<?>> futures = new ArrayList<>(sections.size());
+        for (SectionTemplate section : sections) {
+            futures.add(pool.submit(() -> generateSection(eventId, section, price, tracker)));
+        }
+        try {
+            for (Future<?> f : futures) f.get();
+        } catch (ExecutionException ex) {
+            for (Future<?> f : futures) f.cancel(true);
+            throw new IllegalStateException("Seat generation failed for event " + eventId, ex.getCause());
+        } catch (InterruptedException ex) {
+            for (Future<?> f : futures) f.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Seat generation interrupted for event " + eventId, ex);
+        }
+        return tracker.written.get();
+    }
+
+    /**
+     * @param section section template
+     * @return number of seats the section yields
+     */
+    public static long seatCount(SectionTemplate section) {
+        List<String> rows = section.getRows();
+        int seatsPerRow = Math.max(0, section.getSeatsPerRow());
+        if (rows == null || seatsPerRow == 0) return 0;
+        Set<String> disabled = disabledSeats(section);
+        long count = 0;
+        for (String row : rows) {
+            if (row == null || row.trim().isEmpty()) continue;
+            count += seatsPerRow;
+            if (disabled.isEmpty()) continue;
+            for (int seatNum = 1; seatNum <= seatsPerRow; seatNum++) {
+                if (disabled.contains(row + "-" + seatNum)) count--;
+            }
+        }
+        return count;
+    }
+
+    private void generateSection(String eventId, SectionTemplate section, double price, Tracker tracker) {
+        Set<String> disabled = disabledSeats(section);
+        int seatsPerRow = Math.max(0, section.getSeatsPerRow());
+        List<Seat> chunk = new ArrayList<>(chunkSize);
+        for (String row : section.getRows() == null ? List.<String>of() : section.getRows()) {
+            if (row == null || row.trim().isEmpty()) continue;
+            for (int seatNum = 1; seatNum <= seatsPerRow; seatNum++) {
+                if (disabled.contains(row + "-" + seatNum)) continue;
+                chunk.add(new Seat(null, eventId, section.getSectionName(), row, seatNum, price));
+                if (chunk.size() == chunkSize) {
+                    write(chunk, tracker);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        }
+        write(chunk, tracker);
+        tracker.sectionDone(section);
+    }
+
+    private void write(List<Seat> chunk, Tracker tracker) {
+        if (Thread.currentThread().isInterrupted()) throw new IllegalStateException("Seat generation cancelled");
+        long n = seatRepo.insertSeats(chunk);
+        generated.increment(n);
+        tracker.written(n);
+    }
+
+    private static Set<String> disabledSeats(SectionTemplate section) {
+        return section.getDisabledSeats() == null ? Collections.emptySet() : section.getDisabledSeats();
+    }
+
+    /** Counts shared by the section tasks of one generation. */
+    private static final class Tracker {
+        final int sections;
+        final long seats;
+        final Consumer<Progress> listener;
+        final AtomicInteger sectionsDone = new AtomicInteger();
+        final AtomicLong written = new AtomicLong();
+
+        Tracker(int sections, long seats, Consumer<Progress> listener) {
+            this.sections = sections;
+            this.seats = seats;
+            this.listener = listener;
+        }
+
+        void written(long n) {
+            if (n > 0) written.addAndGet(n);
+            report(null);
+        }
+
+        void sectionDone(SectionTemplate section) {
+            sectionsDone.incrementAndGet();
+            report(section);
+        }
+
+        // Reads under the lock so the reported counts never go backwards.
+        synchronized void report(SectionTemplate finished) {
+            listener.accept(new Progress(sections, sectionsDone.get(), seats, written.get(), finished));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+}
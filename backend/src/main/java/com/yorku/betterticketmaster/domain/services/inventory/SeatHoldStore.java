@@ -0,0 +1,76 @@
+package com.yorku.betterticketmaster.domain.services.inventory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.LongConsumer;
+
+import com.yorku.betterticketmaster.domain.model.event.Seat;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.HoldResult;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.ReleaseResult;
+
+/**
+ * Where seat holds live. Selected with {@code btm.seats.hold-store}:
+ * {@code mongo} (default, holds on the seat documents), {@code memory} (in-process engine)
+ * or {@code redis} (TTL keys, seat documents only change on sale).
+ */
+public interface SeatHoldStore {
+    /**
+     * Hold every given seat for a holder, or none of them.
+     * @param seatIds distinct seat identifiers
+     * @param holderId holder identifier (null for anonymous)
+     * @return hold result
+     */
+    HoldResult hold(List<String> seatIds, String holderId);
+    /**
+     * Release seats held by a holder.
+     * @param seatIds distinct seat identifiers
+     * @param holderId holder identifier (null for anonymous)
+     * @return release result
+     */
+    ReleaseResult release(List<String> seatIds, String holderId);
+    /**
+     * Release the holds of several holders in one call, e.g. for a batch of expired bookings.
+     * Seats not held by their given holder are left alone.
+     * @param seatIdsByHolder distinct seat identifiers by holder (null key for anonymous)
+     * @return seats released
+     */
+    default List<Seat> releaseAll(Map<String, List<String>> seatIdsByHolder) {
+        List<Seat> released = new ArrayList<>();
+        seatIdsByHolder.forEach((holderId, seatIds) -> released.addAll(release(seatIds, holderId).releasedSeats()));
+        return released;
+    }
+    /**
+     * Sell held seats, all or nothing, persisting the sale before returning.
+     * @param seatIds distinct seat identifiers
+     * @param holderId holder the seats must be held by (anonymous holds cannot be sold)
+     * @throws IllegalStateException if any seat is missing, not held by the holder, or its hold expired
+     */
+    void sell(List<String> seatIds, String holderId);
+    /**
+     * Current seats of an event with hold state applied.
+     * @param eventId event identifier
+     * @return seats
+     */
+    List<Seat> seats(String eventId);
+    /**
+     * Release holds that lapsed before now. Called on every expiry tick.
+     * @param now expiry cut-off
+     * @param onReleased receives the hold expiry (epoch seconds) of each released seat, or -1 if unknown
+     * @param onFreed receives the released seat ids by event, for the seats the store can name
+     * @return number of seats released
+     */
+    int releaseExpired(Instant now, LongConsumer onReleased, BiConsumer<String, List<String>> onFreed);
+    /**
+     * Forget cached or held state after seats were reset directly in the database.
+     */
+    void evictAll();
+    /**
+     * Drop cached state of one event so that its seats are read again, e.g. after more of them were
+     * generated. Pending changes are written back first.
+     * @param eventId event identifier
+     */
+    default void evict(String eventId) {}
+}
@@ -0,0 +1,252 @@
+package com.yorku.betterticketmaster.domain.services.inventory;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.LongConsumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.yorku.betterticketmaster.domain.model.event.Seat;
+import com.yorku.betterticketmaster.domain.repository.inventory.SeatRepository;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.HoldResult;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.HoldStatus;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.ReleaseResult;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-process seat inventory. Each active event is loaded once from the seats collection;
+ * holds and releases are decided in memory and written back in batches, sells are written
+ * through before returning. Enable with {@code btm.seats.hold-store=memory}.
+ *
+ * On restart nothing is replayed: inventories are reloaded lazily from the seats collection,
+ * which holds every flushed change and every sale. Holds placed in the last flush interval
+ * before a crash are lost, which is the same outcome as those holds expiring.
+ */
+@Component
+@ConditionalOnProperty(name = "btm.seats.hold-store", havingValue = "memory")
+public class SeatInventoryEngine implements SeatHoldStore {
+    private final SeatRepository seatRepo;
+    private final EventCache eventCache;
+    private final long idleEvictMillis;
+
+    private final Map<String, EventSeatInventory> inventories = new ConcurrentHashMap<>();
+    private final Map<String, String> eventBySeatId = new ConcurrentHashMap<>();
+
+    public SeatInventoryEngine(
+        SeatRepository seatRepo,
+        EventCache eventCache,
+        @Value("${btm.inventory.engine.idle-evict-ms:600000}") long idleEvictMillis
+    ) {
+        this.seatRepo = seatRepo;
+        this.eventCache = eventCache;
+        this.idleEvictMillis = idleEvictMillis;
+    }
+
+    @Override
+    public HoldResult hold(List<String> seatIds, String holderId) {
+        if (seatIds.isEmpty()) throw new IllegalArgumentException("No seatIds provided");
+        while (true) {
+            EventSeatInventory inv = inventoryForSeat(seatIds.get(0));
+            if (inv == null) return new HoldResult(HoldStatus.NOT_FOUND, null, List.of(), List.of(), List.of(seatIds.get(0)), null);
+            HoldResult result = inv.ifLive(() -> hold(inv, seatIds, holderId));
+            if (result != null) return result;
+        }
+    }
+
+    private HoldResult hold(EventSeatInventory inv, List<String> seatIds, String holderId) {
+
+        List<String> missing = new ArrayList<>();
+        int[] idx = new int[seatIds.size()];
+        for (int k = 0; k < idx.length; k++) {
+            String seatId = seatIds.get(k);
+            idx[k] = inv.indexOf(seatId);
+            if (idx[k] >= 0) continue;
+            String other = eventBySeatId.get(seatId);
+            if (other != null && !other.equals(inv.getEventId())) {
+                return new HoldResult(HoldStatus.MIXED_EVENTS, null, List.of(), List.of(), List.of(), null);
+            }
+            missing.add(seatId);
+        }
+        if (!missing.isEmpty()) return new HoldResult(HoldStatus.NOT_FOUND, null, List.of(), List.of(), missing, null);
+        if (isClosed(inv.getEventId())) {
+            return new HoldResult(HoldStatus.EVENT_CLOSED, inv.getEventId(), List.of(), List.of(), List.of(), null);
+        }
+
+        Instant now = Instant.now();
+        Instant holdUntil = now.plus(SeatHoldService.HOLD_MINUTES, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.SECONDS);
+        List<Integer> conflicts = inv.holdAll(idx, holderId, now.getEpochSecond(), holdUntil.getEpochSecond());
+        if (!conflicts.isEmpty()) {
+            List<String> lost = conflicts.stream().map(i -> inv.seatAt(i).getId()).toList();
+            return new HoldResult(HoldStatus.UNAVAILABLE, inv.getEventId(), List.of(), lost, List.of(), null);
+        }
+        return new HoldResult(HoldStatus.HELD, inv.getEventId(), seatIds, List.of(), List.of(), holdUntil);
+    }
+
+    @Override
+    public ReleaseResult release(List<String> seatIds, String holderId) {
+        List<String> missing = new ArrayList<>();
+        List<Seat> released = new ArrayList<>();
+        for (String seatId : seatIds) {
+            Seat freed = null;
+            boolean found = false;
+            while (true) {
+                EventSeatInventory inv = inventoryForSeat(seatId);
+                int i = inv == null ? -1 : inv.indexOf(seatId);
+                if (i < 0) break;
+                Optional<Seat> result = inv.ifLive(() -> inv.releaseAll(new int[] { i }, holderId) > 0 ? Optional.of(inv.seatAt(i)) : Optional.empty());
+                if (result == null) continue;
+                found = true;
+                freed = result.orElse(null);
+                break;
+            }
+            if (!found) missing.add(seatId);
+            else if (freed != null) released.add(freed);
+        }
+        return new ReleaseResult(released, missing);
+    }
+
+    @Override
+    public void sell(List<String> seatIds, String holderId) {
+        if (seatIds.isEmpty()) throw new IllegalStateException("No seats to sell");
+        while (true) {
+            EventSeatInventory inv = inventoryForSeat(seatIds.get(0));
+            if (inv == null) throw new IllegalStateException("Seat not found: " + seatIds.get(0));
+            if (inv.ifLive(() -> sell(inv, seatIds, holderId)) != null) return;
+        }
+    }
+
+    private Boolean sell(EventSeatInventory inv, List<String> seatIds, String holderId) {
+        int[] idx = new int[seatIds.size()];
+        for (int k = 0; k < idx.length; k++) {
+            idx[k] = inv.indexOf(seatIds.get(k));
+            if (idx[k] < 0) throw new IllegalStateException("Seat not found: " + seatIds.get(k));
+        }
+        List<Integer> failed = inv.sellAll(idx, holderId, Instant.now().getEpochSecond());
+        if (!failed.isEmpty()) {
+            String seatId = inv.seatAt(failed.get(0)).getId();
+            throw new IllegalStateException("Seat must be HELD and hold not expired to purchase: " + seatId);
+        }
+        flush(inv);
+        return Boolean.TRUE;
+    }
+
+    /**
+     * Release lapsed holds in every loaded event; the releases are flushed with the next batch.
+     */
+    @Override
+    public int releaseExpired(Instant now, LongConsumer onReleased, BiConsumer<String, List<String>> onFreed) {
+        int released = 0;
+        for (EventSeatInventory inv : inventories.values()) {
+            List<String> freed = inv.ifLive(() -> inv.releaseExpired(now.getEpochSecond(), onReleased));
+            if (freed == null || freed.isEmpty()) continue;
+            released += freed.size();
+            onFreed.accept(inv.getEventId(), freed);
+        }
+        return released;
+    }
+
+    /**
+     * Current seats of an event, served from memory.
+     */
+    @Override
+    public List<Seat> seats(String eventId) {
+        EventSeatInventory inv = inventory(eventId);
+        return inv == null ? List.of() : inv.snapshot();
+    }
+
+    /**
+     * Drop all in-memory state without writing it back.
+     */
+    @Override
+    public void evictAll() {
+        inventories.clear();
+        eventBySeatId.clear();
+    }
+
+    /**
+     * Write back and unload one event. Operations racing with this retry against a fresh load.
+     */
+    @Override
+    public void evict(String eventId) {
+        EventSeatInventory inv = inventories.get(eventId);
+        if (inv == null) return;
+        do {
+            flush(inv);
+        } while (!inv.retireIfIdle(-1, Long.MAX_VALUE));
+        inventories.remove(eventId, inv);
+        for (String seatId : inv.seatIds()) eventBySeatId.remove(seatId, eventId);
+    }
+
+    /**
+     * Write pending changes back to the seats collection and unload idle events, with their entries
+     * in the seat-to-event map. An idle event is
+     * retired atomically with its last pending-writes check, so a concurrent hold either lands
+     * before (and keeps it loaded) or retries against a freshly loaded inventory.
+     */
+    @Scheduled(fixedDelayString = "${btm.inventory.engine.flush-interval-ms:250}")
+    public void flushAll() {
+        long now = System.currentTimeMillis();
+        for (EventSeatInventory inv : inventories.values()) {
+            flush(inv);
+            if (!inv.retireIfIdle(idleEvictMillis, now)) continue;
+            inventories.remove(inv.getEventId(), inv);
+            for (String seatId : inv.seatIds()) eventBySeatId.remove(seatId, inv.getEventId());
+        }
+    }
+
+    /**
+     * @return number of seats whose event is known without a lookup
+     */
+    int mappedSeats() {
+        return eventBySeatId.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (EventSeatInventory inv : inventories.values()) flush(inv);
+    }
+
+    private void flush(EventSeatInventory inv) {
+        // Serialize flushes per event so an older drain can never overwrite a newer one.
+        synchronized (inv) {
+            List<Seat> changed = inv.drainDirty();
+            if (!changed.isEmpty()) seatRepo.writeSeatStates(changed);
+        }
+    }
+
+    private EventSeatInventory inventoryForSeat(String seatId) {
+        String eventId = eventBySeatId.get(seatId);
+        if (eventId == null) {
+            eventId = seatRepo.findById(seatId).map(Seat::getEventId).orElse(null);
+            if (eventId == null) return null;
+        }
+        return inventory(eventId);
+    }
+
+    private EventSeatInventory inventory(String eventId) {
+        EventSeatInventory inv = inventories.get(eventId);
+        if (inv != null) return inv;
+        List<Seat> loaded = seatRepo.findByEventId(eventId);
+        // Don't cache events whose seats haven't been generated yet.
+        if (loaded.isEmpty()) return null;
+        inv = inventories.computeIfAbsent(eventId, id -> new EventSeatInventory(id, loaded));
+        for (Seat s : loaded) eventBySeatId.put(s.getId(), eventId);
+        return inv;
+    }
+
+    private boolean isClosed(String eventId) {
+        return eventCache.get(eventId).map(ev -> ev.isClosed()).orElse(false);
+    }
+
+}
@@ -0,0 +1,369 @@
+package com.yorku.betterticketmaster.domain.services.inventory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.yorku.betterticketmaster.domain.model.event.ProvisioningJob;
+import com.yorku.betterticketmaster.domain.model.event.Seat;
+import com.yorku.betterticketmaster.domain.repository.inventory.ProvisioningJobRepository;
+
+/**
+ * Per-section available/held/sold counters of the reserved seats of an event, so that an event
+ * overview does not need the seat list. An event is loaded from {@link SeatHoldStore#seats} the
+ * first time it is asked for; after that every hold, release and sale that goes through this
+ * instance moves single seats between the counters under the lock of the event, and lapsed holds
+ * are counted as available again when the counters are read.
+ *
+ * Seats added while an event is still being provisioned are picked up by the periodic reload,
+ * which stops after one last read once the provisioning job has finished. Changes made by other
+ * instances are not polled for; {@link #rebuild} reloads on demand.
+ * An event is read by one load at a time; concurrent first requests wait for that load.
+ */
+@Component
+public class SectionAvailabilityTracker {
+    private static final byte AVAILABLE = 0;
+    private static final byte HELD = 1;
+    private static final byte SOLD = 2;
+
+    private final SeatHoldStore store;
+    private final ProvisioningJobRepository jobRepo;
+    private final long idleEvictMillis;
+
+    private final Map<String, Counters> byEvent = new ConcurrentHashMap<>();
+    /** Loaded events whose seats are all generated, so the periodic reload skips them. */
+    private final Set<String> provisioned = ConcurrentHashMap.newKeySet();
+    private final Map<String, String> eventBySeatId = new ConcurrentHashMap<>();
+    /**
+     * The load in progress per event, with the transitions seen while it reads the store; they
+     * are replayed onto the fresh counters.
+     */
+    private final Map<String, Replay> loading = new ConcurrentHashMap<>();
+
+    /**
+     * Counters of one section.
+     * @param section section name
+     * @param available seats that can be held
+     * @param held seats under an unexpired hold
+     * @param sold sold seats
+     * @param minPrice lowest price among the available seats (0 when none is available)
+     * @param maxPrice highest price among the available seats (0 when none is available)
+     */
+    public record SectionCounts(String section, int available, int held, int sold, double minPrice, double maxPrice) {}
+
+    private static final class Replay {
+        final List<Consumer<Counters>> changes = new ArrayList<>();
+        final CompletableFuture<Counters> result = new CompletableFuture<>();
+        boolean done;
+    }
+
+    /** Seat states and section totals of one event; guarded by its own monitor. */
+    static final class Counters {
+        final Map<String, Integer> indexById;
+        final String[] sections;
+        final int[] sectionOf;
+        final byte[] status;
+        final long[] holdUntil;
+        final int[][] counts;
+        /** Distinct seat prices of the event, ascending. */
+        final double[] priceLevels;
+        final int[] levelOf;
+        /** Available seats per section and price level, for the price range that can still be bought. */
+        final int[][] availableAt;
+        long nextExpiry = Long.MAX_VALUE;
+        volatile long lastReadMillis = System.currentTimeMillis();
+
+        Counters(List<Seat> seats, long nowMillis) {
+            Map<String, Integer> sectionIndex = new TreeMap<>();
+            for (Seat s : seats) sectionIndex.putIfAbsent(sectionName(s), 0);
+            sections = sectionIndex.keySet().toArray(new String[0]);
+            for (int i = 0; i < sections.length; i++) sectionIndex.put(sections[i], i);
+
+            int n = seats.size();
+            indexById = new HashMap<>(n * 2);
+            sectionOf = new int[n];
+            status = new byte[n];
+            holdUntil = new long[n];
+            counts = new int[sections.length][3];
+            priceLevels = seats.stream().mapToDouble(Seat::getPrice).distinct().sorted().toArray();
+            levelOf = new int[n];
+            availableAt = new int[sections.length][priceLevels.length];
+            for (int i = 0; i < n; i++) {
+                Seat s = seats.get(i);
+                int sec = sectionIndex.get(sectionName(s));
+                indexById.put(s.getId(), i);
+                sectionOf[i] = sec;
+                levelOf[i] = Arrays.binarySearch(priceLevels, s.getPrice());
+                counts[sec][AVAILABLE]++;
+                availableAt[sec][levelOf[i]]++;
+                if ("SOLD".equals(s.getStatus())) set(s.getId(), SOLD, 0);
+                else if ("HELD".equals(s.getStatus()) && s.getHoldUntil() != null && s.getHoldUntil().toEpochMilli() >= nowMillis) {
+                    set(s.getId(), HELD, s.getHoldUntil().toEpochMilli());
+                }
+            }
+        }
+
+        void set(String seatId, byte to, long until) {
+            Integer i = indexById.get(seatId);
+            if (i == null) return;
+            int[] c = counts[sectionOf[i]];
+            c[status[i]]--;
+            c[to]++;
+            if (status[i] == AVAILABLE) availableAt[sectionOf[i]][levelOf[i]]--;
+            if (to == AVAILABLE) availableAt[sectionOf[i]][levelOf[i]]++;
+            status[i] = to;
+            holdUntil[i] = to == HELD ? until : 0;
+            if (to == HELD) nextExpiry = Math.min(nextExpiry, until);
+        }
+
+        /** Holds expire strictly after holdUntil, as in the hold stores. */
+        void expire(long nowMillis) {
+            if (nowMillis <= nextExpiry) return;
+            long next = Long.MAX_VALUE;
+            for (int i = 0; i < status.length; i++) {
+                if (status[i] != HELD) continue;
+                if (holdUntil[i] < nowMillis) {
+                    counts[sectionOf[i]][HELD]--;
+                    counts[sectionOf[i]][AVAILABLE]++;
+                    availableAt[sectionOf[i]][levelOf[i]]++;
+                    status[i] = AVAILABLE;
+                    holdUntil[i] = 0;
+                } else {
+                    next = Math.min(next, holdUntil[i]);
+                }
+            }
+            nextExpiry = next;
+        }
+
+        List<SectionCounts> snapshot() {
+            List<SectionCounts> out = new ArrayList<>(sections.length);
+            for (int s = 0; s < sections.length; s++) {
+                int lo = 0;
+                int hi = priceLevels.length - 1;
+                while (lo <= hi && availableAt[s][lo] == 0) lo++;
+                while (hi >= lo && availableAt[s][hi] == 0) hi--;
+                double min = lo <= hi ? priceLevels[lo] : 0;
+                double max = lo <= hi ? priceLevels[hi] : 0;
+                out.add(new SectionCounts(sections[s], counts[s][AVAILABLE], counts[s][HELD], counts[s][SOLD], min, max));
+            }
+            return out;
+        }
+
+        private static String sectionName(Seat s) {
+            return s.getSection() == null ? "" : s.getSection();
+        }
+    }
+
+    public SectionAvailabilityTracker(
+        SeatHoldStore store,
+        ProvisioningJobRepository jobRepo,
+        @Value("${btm.seats.sections.idle-evict-ms:600000}") long idleEvictMillis
+    ) {
+        this.store = store;
+        this.jobRepo = jobRepo;
+        this.idleEvictMillis = idleEvictMillis;
+    }
+
+    /**
+     * Section counters of an event, loading it on first use.
+     * @param eventId event identifier
+     * @return sections ordered by name (empty if no seats were generated yet)
+     */
+    public List<SectionCounts> sections(String eventId) {
+        Counters c = byEvent.get(eventId);
+        if (c == null) c = load(eventId, true);
+        long now = System.currentTimeMillis();
+        synchronized (c) {
+            c.expire(now);
+            c.lastReadMillis = now;
+            return c.snapshot();
+        }
+    }
+
+    /**
+     * Recount an event from the seats.
+     * @param eventId event identifier
+     * @return rebuilt section counters
+     */
+    public List<SectionCounts> rebuild(String eventId) {
+        load(eventId, false);
+        return sections(eventId);
+    }
+
+    /**
+     * Seats were held.
+     * @param eventId event identifier
+     * @param seatIds held seats
+     * @param holdUntil hold expiry
+     */
+    public void held(String eventId, List<String> seatIds, Instant holdUntil) {
+        long until = holdUntil == null ? Long.MAX_VALUE : holdUntil.toEpochMilli();
+        apply(eventId, c -> { for (String id : seatIds) c.set(id, HELD, until); });
+    }
+
+    /**
+     * Seats were released.
+     * @param seats released seats
+     */
+    public void released(List<Seat> seats) {
+        for (Seat seat : seats) {
+            if (seat.getEventId() == null) continue;
+            String id = seat.getId();
+            apply(seat.getEventId(), c -> c.set(id, AVAILABLE, 0));
+        }
+    }
+
+    /**
+     * Seats were sold.
+     * @param seatIds sold seats
+     */
+    public void sold(List<String> seatIds) {
+        Map<String, List<String>> byEventId = new HashMap<>();
+        for (String id : seatIds) {
+            String eventId = eventBySeatId.get(id);
+            if (eventId != null) byEventId.computeIfAbsent(eventId, k -> new ArrayList<>()).add(id);
+        }
+        byEventId.forEach((eventId, ids) -> apply(eventId, c -> { for (String id : ids) c.set(id, SOLD, 0); }));
+        // Seats of an event that is being loaded for the first time are not mapped yet;
+        // unknown ids are ignored by the counters.
+        for (String eventId : loading.keySet()) {
+            if (!byEventId.containsKey(eventId)) apply(eventId, c -> { for (String id : seatIds) c.set(id, SOLD, 0); });
+        }
+    }
+
+    /**
+     * Reload loaded events whose seats are still being generated, and drop idle ones. An event is
+     * read once more after its provisioning job finishes and then left alone; events without a job
+     * never change size.
+     */
+    @Scheduled(initialDelayString = "${btm.seats.sections.refresh-ms:30000}", fixedDelayString = "${btm.seats.sections.refresh-ms:30000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, Counters> e : byEvent.entrySet()) {
+            String eventId = e.getKey();
+            if (now - e.getValue().lastReadMillis > idleEvictMillis) {
+                evict(eventId);
+                continue;
+            }
+            if (provisioned.contains(eventId)) continue;
+            ProvisioningJob job = jobRepo.findById(eventId).orElse(null);
+            if (job == null || job.isFinished()) provisioned.add(eventId);
+            if (job != null) load(eventId, true);
+        }
+    }
+
+    /**
+     * Drop all counters; they are reloaded when next asked for.
+     */
+    public void evictAll() {
+        for (String eventId : List.copyOf(byEvent.keySet())) evict(eventId);
+    }
+
+    /**
+     * @return number of events with loaded counters
+     */
+    public int loadedEvents() {
+        return byEvent.size();
+    }
+
+    /**
+     * Set seat states. While an event is read from the store the change is also queued for the
+     * counters being loaded; the fresh counters are installed under the same lock, so a change
+     * reaches them exactly once.
+     */
+    private void apply(String eventId, Consumer<Counters> change) {
+        Replay replay = loading.get(eventId);
+        if (replay != null) {
+            synchronized (replay) {
+                if (!replay.done) {
+                    replay.changes.add(change);
+                    applyLive(eventId, change);
+                    return;
+                }
+            }
+        }
+        applyLive(eventId, change);
+    }
+
+    private void applyLive(String eventId, Consumer<Counters> change) {
+        Counters c = byEvent.get(eventId);
+        if (c == null) return;
+        synchronized (c) {
+            change.accept(c);
+        }
+    }
+
+    /**
+     * Read an event from the store, or wait for the load already in progress.
+     * @param shareRunning accept the result of a load that was already running; otherwise wait
+     *                     for it and read again, so the counters reflect the store as of the call
+     */
+    private Counters load(String eventId, boolean shareRunning) {
+        while (true) {
+            Replay replay = new Replay();
+            Replay running = loading.putIfAbsent(eventId, replay);
+            if (running == null) return read(eventId, replay);
+            Counters shared = await(running);
+            if (shareRunning) return shared;
+        }
+    }
+
+    private Counters read(String eventId, Replay replay) {
+        try {
+            Counters fresh = new Counters(store.seats(eventId), System.currentTimeMillis());
+            synchronized (replay) {
+                for (Consumer<Counters> change : replay.changes) change.accept(fresh);
+                // Don't keep events whose seats haven't been generated yet.
+                if (!fresh.indexById.isEmpty()) install(eventId, fresh);
+                replay.done = true;
+            }
+            replay.result.complete(fresh);
+            return fresh;
+        } catch (RuntimeException | Error ex) {
+            replay.result.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            loading.remove(eventId, replay);
+        }
+    }
+
+    private static Counters await(Replay running) {
+        try {
+            return running.result.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException re) throw re;
+            throw ex;
+        }
+    }
+
+    private void install(String eventId, Counters fresh) {
+        Counters old;
+        do {
+            old = byEvent.get(eventId);
+        } while (old == null ? byEvent.putIfAbsent(eventId, fresh) != null : !byEvent.replace(eventId, old, fresh));
+        if (old != null) {
+            fresh.lastReadMillis = old.lastReadMillis;
+            for (String id : old.indexById.keySet()) if (!fresh.indexById.containsKey(id)) eventBySeatId.remove(id, eventId);
+        }
+        for (String id : fresh.indexById.keySet()) eventBySeatId.put(id, eventId);
+    }
+
+    private void evict(String eventId) {
+        Counters old = byEvent.remove(eventId);
+        provisioned.remove(eventId);
+        if (old != null) for (String id : old.indexById.keySet()) eventBySeatId.remove(id, eventId);
+    }
+}
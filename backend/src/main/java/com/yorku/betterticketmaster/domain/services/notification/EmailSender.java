@@ -0,0 +1,18 @@
+package com.yorku.betterticketmaster.domain.services.notification;
+
+import java.util.List;
+import java.util.Map;
+
+import com.yorku.betterticketmaster.domain.model.notification.OutboxMessage;
+
+/**
+ * Delivers outbox messages. Selected with {@code btm.notifications.sender}.
+ */
+public interface EmailSender {
+    /**
+     * Send a batch of messages, over one connection where the transport allows it.
+     * @param messages messages to send
+     * @return failure description by message id; messages not listed were sent
+     */
+    Map<String, String> send(List<OutboxMessage> messages);
+}
@@ -0,0 +1,24 @@
+package com.yorku.betterticketmaster.domain.services.notification;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.yorku.betterticketmaster.domain.model.notification.OutboxMessage;
+
+/**
+ * Prints messages to stdout instead of sending them; the default for local development.
+ */
+@Component
+@ConditionalOnProperty(name = "btm.notifications.sender", havingValue = "log", matchIfMissing = true)
+public class LoggingEmailSender implements EmailSender {
+    @Override
+    public Map<String, String> send(List<OutboxMessage> messages) {
+        for (OutboxMessage m : messages) {
+            System.out.println("[Email] to=" + m.getTo() + " subject=" + m.getSubject() + " template=" + m.getTemplate() + " model=" + m.getModel());
+        }
+        return Map.of();
+    }
+}
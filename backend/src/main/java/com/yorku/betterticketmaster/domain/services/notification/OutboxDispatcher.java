@@ -0,0 +1,132 @@
+package com.yorku.betterticketmaster.domain.services.notification;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.yorku.betterticketmaster.domain.model.notification.OutboxMessage;
+import com.yorku.betterticketmaster.domain.repository.notification.OutboxRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Drains the notification outbox off the request path.
+ * Each poll claims up to {@code workers * batch-size} due messages and hands them to a fixed pool
+ * in batches; a failed message is retried with exponential backoff until max-attempts, then
+ * left FAILED. Claims expire, so messages of a dispatcher that died are picked up again.
+ *
+ * Metrics: {@code btm.notifications.sent}, {@code btm.notifications.retried} and
+ * {@code btm.notifications.failed}.
+ */
+@Component
+public class OutboxDispatcher {
+    private final OutboxRepository outboxRepo;
+    private final EmailSender sender;
+    private final int batchSize;
+    private final int workers;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+    private final long lockMillis;
+    private final ExecutorService pool;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+
+    public OutboxDispatcher(
+        OutboxRepository outboxRepo,
+        EmailSender sender,
+        MeterRegistry registry,
+        @Value("${btm.notifications.batch-size:50}") int batchSize,
+        @Value("${btm.notifications.workers:4}") int workers,
+        @Value("${btm.notifications.max-attempts:6}") int maxAttempts,
+        @Value("${btm.notifications.backoff-ms:2000}") long backoffMillis,
+        @Value("${btm.notifications.max-backoff-ms:300000}") long maxBackoffMillis,
+        @Value("${btm.notifications.lock-ms:60000}") long lockMillis
+    ) {
+        this.outboxRepo = outboxRepo;
+        this.sender = sender;
+        this.batchSize = Math.max(1, batchSize);
+        this.workers = Math.max(1, workers);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.lockMillis = lockMillis;
+        this.pool = Executors.newFixedThreadPool(this.workers);
+        this.sent = Counter.builder("btm.notifications.sent").description("Emails delivered").register(registry);
+        this.retried = Counter.builder("btm.notifications.retried").description("Email attempts scheduled for retry").register(registry);
+        this.failed = Counter.builder("btm.notifications.failed").description("Emails given up after max attempts").register(registry);
+    }
+
+    /**
+     * Deliver the messages that are due. Waits for the batches, so polls never overlap.
+     */
+    @Scheduled(fixedDelayString = "${btm.notifications.poll-ms:500}")
+    public void drain() {
+        Instant now = Instant.now();
+        List<OutboxMessage> claimed = outboxRepo.claimDue(workers * batchSize, now, now.plusMillis(lockMillis));
+        if (claimed.isEmpty()) return;
+
+        List<Callable<Void>> batches = new ArrayList<>();
+        for (int from = 0; from < claimed.size(); from += batchSize) {
+            List<OutboxMessage> batch = claimed.subList(from, Math.min(claimed.size(), from + batchSize));
+            batches.add(() -> {
+                deliver(batch);
+                return null;
+            });
+        }
+        try {
+            pool.invokeAll(batches);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    void deliver(List<OutboxMessage> batch) {
+        Map<String, String> failures;
+        try {
+            failures = sender.send(batch);
+        } catch (RuntimeException e) {
+            failures = new HashMap<>();
+            for (OutboxMessage m : batch) failures.put(m.getId(), String.valueOf(e.getMessage()));
+        }
+
+        Instant now = Instant.now();
+        for (OutboxMessage m : batch) {
+            String error = failures.get(m.getId());
+            if (error == null) {
+                m.markSent(now);
+                sent.increment();
+            } else if (m.getAttempts() + 1 >= maxAttempts) {
+                m.markFailedAttempt(error, null);
+                failed.increment();
+            } else {
+                m.markFailedAttempt(error, now.plusMillis(backoff(m.getAttempts() + 1)));
+                retried.increment();
+            }
+        }
+        outboxRepo.writeOutcomes(batch);
+    }
+
+    /** Delay before the next attempt after the given number of failures: backoff, 2x, 4x, ... capped. */
+    long backoff(int failures) {
+        long delay = backoffMillis << Math.min(30, failures - 1);
+        return delay < 0 ? maxBackoffMillis : Math.min(maxBackoffMillis, delay);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,63 @@
+package com.yorku.betterticketmaster.domain.services.notification;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import com.yorku.betterticketmaster.domain.model.notification.OutboxMessage;
+
+/**
+ * Sends messages through {@link JavaMailSender} (configured with {@code spring.mail.*}); a batch
+ * goes out over one SMTP connection. Enable with {@code btm.notifications.sender=smtp}.
+ */
+@Component
+@ConditionalOnProperty(name = "btm.notifications.sender", havingValue = "smtp")
+public class SmtpEmailSender implements EmailSender {
+    private final JavaMailSender mailSender;
+    private final String from;
+
+    public SmtpEmailSender(JavaMailSender mailSender, @Value("${btm.notifications.from:no-reply@betterticketmaster.local}") String from) {
+        this.mailSender = mailSender;
+        this.from = from;
+    }
+
+    @Override
+    public Map<String, String> send(List<OutboxMessage> messages) {
+        Map<SimpleMailMessage, String> idByMail = new IdentityHashMap<>();
+        for (OutboxMessage m : messages) idByMail.put(toMail(m), m.getId());
+
+        Map<String, String> failures = new HashMap<>();
+        try {
+            mailSender.send(idByMail.keySet().toArray(new SimpleMailMessage[0]));
+        } catch (MailSendException e) {
+            // Per-message failures; the rest of the batch went out.
+            if (e.getFailedMessages().isEmpty()) {
+                idByMail.values().forEach(id -> failures.put(id, String.valueOf(e.getMessage())));
+            }
+            e.getFailedMessages().forEach((mail, cause) -> failures.put(idByMail.get(mail), String.valueOf(cause)));
+        } catch (MailException e) {
+            idByMail.values().forEach(id -> failures.put(id, String.valueOf(e.getMessage())));
+        }
+        return failures;
+    }
+
+    private SimpleMailMessage toMail(OutboxMessage m) {
+        SimpleMailMessage mail = new SimpleMailMessage();
+        mail.setFrom(from);
+        mail.setTo(m.getTo());
+        mail.setSubject(m.getSubject());
+        StringBuilder body = new StringBuilder();
+        if (m.getModel() != null) m.getModel().forEach((k, v) -> body.append(k).append(": ").append(v).append('\n'));
+        mail.setText(body.toString());
+        return mail;
+    }
+}
@@ -0,0 +1,317 @@
+package com.yorku.betterticketmaster.domain.services.search;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import org.bson.types.ObjectId;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.yorku.betterticketmaster.domain.model.event.Event;
+import com.yorku.betterticketmaster.domain.repository.inventory.EventRepository;
+
+/**
+ * In-memory inverted index over event title, venue and description.
+ * Every word of at least three characters is indexed by its trigrams, and every word by its
+ * one- and two-character prefixes, so a query term of three or more characters matches any
+ * substring and a shorter one matches word prefixes. Terms are ANDed; trigram hits are checked
+ * against the text, then ranked by where the term matched (title, then venue, then description;
+ * word prefix above substring) and by date.
+ *
+ * Kept current by the repository save/delete events of this instance. Postings are append-only
+ * int arrays: an update tombstones the old document and appends a new one, and the index is
+ * compacted once a quarter of it is dead. A periodic rebuild from the database picks up
+ * changes made by other instances.
+ */
+@Component
+public class EventSearchIndex extends AbstractMongoEventListener<Event> {
+    private final EventRepository eventRepo;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Segment segment = new Segment();
+    /** Changes seen while a rebuild reads the database, replayed onto the rebuilt segment. */
+    private List<Object> pendingDuringRebuild;
+
+    /**
+     * One page of results.
+     * @param items events on this page, best first
+     * @param total number of matching events
+     */
+    public record Page(List<Event> items, int total) {}
+
+    private record Doc(int docId, Event event, String title, String venue, String description) {}
+
+    private record Hit(Doc doc, int score) {}
+
+    /** Sorted, growable list of doc ids. */
+    private static final class Postings {
+        int[] ids = new int[4];
+        int size;
+
+        void add(int id) {
+            if (size == ids.length) ids = Arrays.copyOf(ids, size * 2);
+            ids[size++] = id;
+        }
+    }
+
+    private static final class Segment {
+        final Map<String, Doc> byId = new HashMap<>();
+        final List<Doc> docs = new ArrayList<>();
+        final Map<String, Postings> postings = new HashMap<>();
+        int dead;
+
+        void add(Event e) {
+            remove(e.getId());
+            Doc doc = new Doc(docs.size(), e, normalize(e.getTitle()), normalize(e.getVenueName()), normalize(e.getDescription()));
+            docs.add(doc);
+            byId.put(e.getId(), doc);
+            Set<String> keys = new HashSet<>();
+            for (String text : new String[] { doc.title(), doc.venue(), doc.description() }) addKeys(text, keys);
+            for (String key : keys) postings.computeIfAbsent(key, k -> new Postings()).add(doc.docId());
+        }
+
+        void remove(String id) {
+            Doc old = byId.remove(id);
+            if (old == null) return;
+            docs.set(old.docId(), null);
+            dead++;
+        }
+
+        boolean needsCompaction() {
+            return dead > 1000 && dead * 4 > docs.size();
+        }
+
+        Segment compacted() {
+            Segment fresh = new Segment();
+            for (Doc d : docs) if (d != null) fresh.add(d.event());
+            return fresh;
+        }
+    }
+
+    public EventSearchIndex(EventRepository eventRepo) {
+        this.eventRepo = eventRepo;
+    }
+
+    /**
+     * Search events.
+     * @param query free text; blank lists every event
+     * @param filter which events may be returned
+     * @param offset matches to skip
+     * @param limit page size
+     * @return ranked page of matches
+     */
+    public Page search(String query, Predicate<Event> filter, int offset, int limit) {
+        String[] terms = terms(query);
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (terms.length == 0) {
+                for (Doc d : segment.docs) if (d != null && filter.test(d.event())) hits.add(new Hit(d, 0));
+            } else {
+                int[] candidates = candidates(segment, terms);
+                for (int id : candidates) {
+                    Doc d = segment.docs.get(id);
+                    if (d == null || !filter.test(d.event())) continue;
+                    int score = score(d, terms);
+                    if (score > 0) hits.add(new Hit(d, score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingInt(Hit::score).reversed()
+            .thenComparing(h -> h.doc().event().getDateTime(), Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(h -> h.doc().title()));
+        int from = Math.min(Math.max(0, offset), hits.size());
+        int to = Math.min(hits.size(), from + Math.max(0, limit));
+        List<Event> items = new ArrayList<>(to - from);
+        for (Hit h : hits.subList(from, to)) items.add(h.doc().event());
+        return new Page(items, hits.size());
+    }
+
+    /**
+     * Add or replace an event.
+     * @param e event
+     */
+    public void index(Event e) {
+        if (e == null || e.getId() == null) return;
+        change(e);
+    }
+
+    /**
+     * Drop an event.
+     * @param eventId event identifier
+     */
+    public void remove(String eventId) {
+        if (eventId != null) change(eventId);
+    }
+
+    /**
+     * @return number of indexed events
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment.byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void change(Object eventOrId) {
+        lock.writeLock().lock();
+        try {
+            apply(segment, eventOrId);
+            if (pendingDuringRebuild != null) pendingDuringRebuild.add(eventOrId);
+            if (segment.needsCompaction()) segment = segment.compacted();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void apply(Segment s, Object eventOrId) {
+        if (eventOrId instanceof Event e) s.add(e);
+        else s.remove((String) eventOrId);
+    }
+
+    /**
+     * Rebuild from the database, e.g. at startup and to pick up changes of other instances.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${btm.search.events.rebuild-ms:300000}", fixedDelayString = "${btm.search.events.rebuild-ms:300000}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Segment fresh = new Segment();
+        boolean loaded = false;
+        try {
+            for (Event e : eventRepo.findAll()) if (e != null && e.getId() != null) fresh.add(e);
+            loaded = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (loaded) {
+                    for (Object change : pendingDuringRebuild) apply(fresh, change);
+                    segment = fresh;
+                }
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Event> event) {
+        index(event.getSource());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Event> event) {
+        Object id = event.getSource().get("_id");
+        if (id instanceof String || id instanceof ObjectId) remove(id.toString());
+        else rebuild(); // bulk delete: the removed ids are not known
+    }
+
+    /** Candidate doc ids: the intersection of the posting lists of every key of every term. */
+    private static int[] candidates(Segment s, String[] terms) {
+        List<Postings> lists = new ArrayList<>();
+        for (String term : terms) {
+            for (String key : queryKeys(term)) {
+                Postings p = s.postings.get(key);
+                if (p == null) return new int[0];
+                lists.add(p);
+            }
+        }
+        lists.sort(Comparator.comparingInt(p -> p.size));
+        int[] result = Arrays.copyOf(lists.get(0).ids, lists.get(0).size);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) result = intersect(result, lists.get(i));
+        return result;
+    }
+
+    private static int[] intersect(int[] a, Postings b) {
+        int[] out = new int[Math.min(a.length, b.size)];
+        int n = 0;
+        for (int i = 0, j = 0; i < a.length && j < b.size;) {
+            if (a[i] < b.ids[j]) i++;
+            else if (a[i] > b.ids[j]) j++;
+            else { out[n++] = a[i]; i++; j++; }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /** Sum over terms of the best place each matched; 0 if a term does not really match. */
+    private static int score(Doc d, String[] terms) {
+        int total = 0;
+        for (String term : terms) {
+            int best = Math.max(match(d.title(), term, 12, 10, 6), Math.max(match(d.venue(), term, 5, 4, 3), match(d.description(), term, 2, 2, 1)));
+            if (best == 0) return 0;
+            total += best;
+        }
+        return total;
+    }
+
+    private static int match(String text, String term, int word, int prefix, int substring) {
+        int at = text.indexOf(term);
+        if (at < 0) return 0;
+        int best = 0;
+        for (; at >= 0; at = text.indexOf(term, at + 1)) {
+            boolean starts = at == 0 || text.charAt(at - 1) == ' ';
+            boolean ends = at + term.length() == text.length() || text.charAt(at + term.length()) == ' ';
+            int s = starts ? (ends ? word : prefix) : (term.length() >= 3 ? substring : 0);
+            best = Math.max(best, s);
+            if (best == word) break;
+        }
+        return best;
+    }
+
+    private static void addKeys(String text, Set<String> keys) {
+        if (text.isEmpty()) return;
+        for (String word : text.split(" ")) {
+            if (word.isEmpty()) continue;
+            keys.add("^" + word.substring(0, 1));
+            if (word.length() >= 2) keys.add("^" + word.substring(0, 2));
+            for (int i = 0; i + 3 <= word.length(); i++) keys.add(word.substring(i, i + 3));
+        }
+    }
+
+    private static List<String> queryKeys(String term) {
+        if (term.length() < 3) return List.of("^" + term);
+        List<String> keys = new ArrayList<>(term.length() - 2);
+        for (int i = 0; i + 3 <= term.length(); i++) keys.add(term.substring(i, i + 3));
+        return keys;
+    }
+
+    private static String[] terms(String query) {
+        String q = normalize(query);
+        return q.isEmpty() ? new String[0] : q.split(" ");
+    }
+
+    /** Lower-case, strip accents, and reduce everything but letters and digits to single spaces. */
+    static String normalize(String s) {
+        if (s == null || s.isBlank()) return "";
+        String folded = Normalizer.normalize(s, Normalizer.Form.NFD).replaceAll("\\p{M}+", "");
+        return folded.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+}
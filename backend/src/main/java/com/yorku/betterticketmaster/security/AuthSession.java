@@ -0,0 +1,27 @@
+package com.yorku.betterticketmaster.security;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A login session kept by {@link MongoAuthTokenStore}. Removed by a TTL index once expiresAt passes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "auth_sessions")
+public class AuthSession {
+    @Id
+    private String id; //SHA-256 of the session token
+    private String userId;
+
+    @Indexed(name = "expiresAt_ttl", expireAfter = "0s")
+    private Instant expiresAt;
+}
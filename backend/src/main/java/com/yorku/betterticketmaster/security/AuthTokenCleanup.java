@@ -0,0 +1,32 @@
+package com.yorku.betterticketmaster.security;
+
+import java.time.Instant;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Drops expired sessions on a fixed schedule so idle tokens do not pile up between logins.
+ * Metric: {@code btm.auth.tokens.expired}.
+ */
+@Component
+public class AuthTokenCleanup {
+    private final AuthTokenStore store;
+    private final Counter expired;
+
+    public AuthTokenCleanup(AuthTokenStore store, MeterRegistry registry) {
+        this.store = store;
+        this.expired = Counter.builder("btm.auth.tokens.expired").description("Sessions removed after expiry").register(registry);
+    }
+
+    /**
+     * Remove every expired session.
+     */
+    @Scheduled(fixedDelayString = "${btm.auth.tokens.cleanup-ms:60000}")
+    public void tick() {
+        expired.increment(store.purgeExpired(Instant.now()));
+    }
+}
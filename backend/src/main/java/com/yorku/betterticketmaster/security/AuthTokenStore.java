@@ -1,40 +1,41 @@
 package com.yorku.betterticketmaster.security;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Instant;
 
-import org.springframework.stereotype.Component;
+import com.yorku.betterticketmaster.domain.model.users.User;
 
 /**
- * In-memory token store mapping session tokens to user IDs.
+ * Issues session tokens and resolves them to user IDs. Selected with {@code btm.auth.tokens.store}:
+ * {@code signed} (default, HMAC-signed tokens any instance can verify without a lookup),
+ * {@code memory} (bounded, lost on restart) or {@code mongo} (TTL collection shared by all
+ * instances). The stateful stores expire sessions after a sliding time-to-live: each lookup
+ * extends a live session.
  */
-@Component
-public class AuthTokenStore {
-    private final Map<String, String> tokenToUser = new ConcurrentHashMap<>();
+public interface AuthTokenStore {
+    /**
+     * Start a session for a user.
+     * @param user logged-in user
+     * @return new session token
+     */
+    String issue(User user);
 
     /**
-     * Store a mapping from token to user ID.
+     * Look up the user ID for a token and extend the session.
      * @param token session token
-     * @param userId user identifier
+     * @return user ID or null if not found or expired
      */
-    public void put(String token, String userId) {
-        tokenToUser.put(token, userId);
-    }
+    String getUserId(String token);
 
     /**
-     * Look up the user ID for a token.
+     * End a session, e.g. on logout.
      * @param token session token
-     * @return user ID or null if not found
      */
-    public String getUserId(String token) {
-        return token == null ? null : tokenToUser.get(token);
-    }
+    void remove(String token);
 
     /**
-     * Remove a token mapping.
-     * @param token session token
+     * Drop sessions that expired before now. Called periodically by {@link AuthTokenCleanup}.
+     * @param now expiry cut-off
+     * @return number of sessions removed
      */
-    public void remove(String token) {
-        if (token != null) tokenToUser.remove(token);
-    }
+    int purgeExpired(Instant now);
 }
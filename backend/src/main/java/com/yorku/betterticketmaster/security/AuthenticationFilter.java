@@ -0,0 +1,58 @@
+package com.yorku.betterticketmaster.security;
+
+import java.io.IOException;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Resolves the session cookie once per request and leaves the user id in a request attribute
+ * for {@link CurrentUserArgumentResolver} and later filters. Never rejects a request; endpoints
+ * decide what an anonymous caller may do.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AuthenticationFilter extends OncePerRequestFilter {
+    public static final String TOKEN_COOKIE = "BTM_TOKEN";
+    public static final String USER_ID_ATTRIBUTE = AuthenticationFilter.class.getName() + ".userId";
+
+    private final AuthTokenStore tokenStore;
+
+    public AuthenticationFilter(AuthTokenStore tokenStore) {
+        this.tokenStore = tokenStore;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain) throws ServletException, IOException {
+        String userId = tokenStore.getUserId(sessionToken(req));
+        if (userId != null) req.setAttribute(USER_ID_ATTRIBUTE, userId);
+        chain.doFilter(req, res);
+    }
+
+    /**
+     * @param req HTTP request
+     * @return value of the session cookie, or null
+     */
+    public static String sessionToken(HttpServletRequest req) {
+        if (req.getCookies() == null) return null;
+        String token = null;
+        for (Cookie c : req.getCookies()) if (TOKEN_COOKIE.equals(c.getName())) token = c.getValue();
+        return token;
+    }
+
+    /**
+     * @param req HTTP request that passed through this filter
+     * @return id of the logged-in user, or null
+     */
+    public static String currentUserId(HttpServletRequest req) {
+        return (String) req.getAttribute(USER_ID_ATTRIBUTE);
+    }
+}
@@ -0,0 +1,49 @@
+package com.yorku.betterticketmaster.security;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.yorku.betterticketmaster.domain.model.users.User;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Resolves {@link CurrentUser} parameters from the user id left by {@link AuthenticationFilter}.
+ * The user is loaded through {@link UserCache} at most once per request.
+ */
+@Component
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+    private static final String USER_ATTRIBUTE = CurrentUserArgumentResolver.class.getName() + ".user";
+
+    private final UserCache userCache;
+
+    public CurrentUserArgumentResolver(UserCache userCache) {
+        this.userCache = userCache;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+            && (parameter.getParameterType() == User.class || parameter.getParameterType() == String.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        HttpServletRequest req = webRequest.getNativeRequest(HttpServletRequest.class);
+        String userId = req == null ? null : AuthenticationFilter.currentUserId(req);
+        if (parameter.getParameterType() == String.class || userId == null) return userId;
+
+        Object resolved = webRequest.getAttribute(USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (resolved == null) {
+            resolved = userCache.get(userId);
+            if (resolved != null) webRequest.setAttribute(USER_ATTRIBUTE, resolved, RequestAttributes.SCOPE_REQUEST);
+        }
+        return resolved;
+    }
+}
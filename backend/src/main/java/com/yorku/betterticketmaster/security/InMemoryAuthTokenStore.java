@@ -0,0 +1,95 @@
+package com.yorku.betterticketmaster.security;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.yorku.betterticketmaster.domain.model.users.User;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Sessions in an access-ordered map. Because the TTL slides on every lookup, access order is
+ * also expiry order: purging walks from the eldest entry and stops at the first live one, and
+ * when the map is full the session that would expire next is dropped.
+ */
+@Component
+@ConditionalOnProperty(name = "btm.auth.tokens.store", havingValue = "memory")
+public class InMemoryAuthTokenStore implements AuthTokenStore {
+    private final long ttlMillis;
+    private final LinkedHashMap<String, Session> sessions;
+
+    private static final class Session {
+        final String userId;
+        long expiresAtMillis;
+
+        Session(String userId, long expiresAtMillis) {
+            this.userId = userId;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+
+    public InMemoryAuthTokenStore(
+        MeterRegistry registry,
+        @Value("${btm.auth.tokens.ttl-ms:86400000}") long ttlMillis,
+        @Value("${btm.auth.tokens.max-size:100000}") int maxSize
+    ) {
+        this.ttlMillis = ttlMillis;
+        this.sessions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Session> eldest) {
+                return size() > maxSize;
+            }
+        };
+        Gauge.builder("btm.auth.tokens.active", this, InMemoryAuthTokenStore::size)
+            .description("Session tokens held in memory").register(registry);
+    }
+
+    @Override
+    public synchronized String issue(User user) {
+        String token = UUID.randomUUID().toString();
+        sessions.put(token, new Session(user.getId(), System.currentTimeMillis() + ttlMillis));
+        return token;
+    }
+
+    @Override
+    public synchronized String getUserId(String token) {
+        if (token == null) return null;
+        Session s = sessions.get(token);
+        if (s == null) return null;
+        long now = System.currentTimeMillis();
+        if (s.expiresAtMillis < now) {
+            sessions.remove(token);
+            return null;
+        }
+        s.expiresAtMillis = now + ttlMillis;
+        return s.userId;
+    }
+
+    @Override
+    public synchronized void remove(String token) {
+        if (token != null) sessions.remove(token);
+    }
+
+    @Override
+    public synchronized int purgeExpired(Instant now) {
+        int removed = 0;
+        Iterator<Session> it = sessions.values().iterator();
+        while (it.hasNext() && it.next().expiresAtMillis < now.toEpochMilli()) {
+            it.remove();
+            removed++;
+        }
+        return removed;
+    }
+
+    synchronized int size() {
+        return sessions.size();
+    }
+}
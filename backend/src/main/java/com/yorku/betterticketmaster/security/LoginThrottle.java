@@ -0,0 +1,101 @@
+package com.yorku.betterticketmaster.security;
+
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.yorku.betterticketmaster.core.cache.BoundedTtlCache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Refuses logins after too many failures for one email or from one client address within a
+ * window, before any password is hashed. Counters live in bounded caches, so a flood of distinct
+ * emails or addresses cannot grow memory. Metric: {@code btm.auth.login.throttled}.
+ */
+@Component
+public class LoginThrottle {
+    private final int maxFailuresPerEmail;
+    private final int maxFailuresPerAddress;
+    private final long windowMillis;
+    private final BoundedTtlCache<String, Window> byEmail;
+    private final BoundedTtlCache<String, Window> byAddress;
+    private final Counter throttled;
+
+    /** Failures counted since the window started. */
+    private static final class Window {
+        final long startMillis;
+        int failures;
+
+        Window(long startMillis) {
+            this.startMillis = startMillis;
+        }
+    }
+
+    public LoginThrottle(
+        MeterRegistry registry,
+        @Value("${btm.auth.throttle.max-failures-per-email:5}") int maxFailuresPerEmail,
+        @Value("${btm.auth.throttle.max-failures-per-address:20}") int maxFailuresPerAddress,
+        @Value("${btm.auth.throttle.window-ms:900000}") long windowMillis,
+        @Value("${btm.auth.throttle.max-tracked:100000}") int maxTracked
+    ) {
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.maxFailuresPerAddress = maxFailuresPerAddress;
+        this.windowMillis = windowMillis;
+        this.byEmail = new BoundedTtlCache<>(maxTracked, windowMillis);
+        this.byAddress = new BoundedTtlCache<>(maxTracked, windowMillis);
+        this.throttled = Counter.builder("btm.auth.login.throttled").description("Login attempts refused by the throttle").register(registry);
+    }
+
+    /**
+     * @param email login email
+     * @param address client address
+     * @return seconds until a login may be tried again, or 0 if it may be tried now
+     */
+    public synchronized long retryAfterSeconds(String email, String address) {
+        long now = System.currentTimeMillis();
+        long wait = Math.max(wait(byEmail.get(key(email)), maxFailuresPerEmail, now), wait(byAddress.get(address), maxFailuresPerAddress, now));
+        if (wait > 0) throttled.increment();
+        return wait;
+    }
+
+    /**
+     * Count a failed login.
+     * @param email login email
+     * @param address client address
+     */
+    public synchronized void recordFailure(String email, String address) {
+        long now = System.currentTimeMillis();
+        count(byEmail, key(email), now);
+        if (address != null) count(byAddress, address, now);
+    }
+
+    /**
+     * Clear the failures of an email after a successful login.
+     * @param email login email
+     */
+    public synchronized void recordSuccess(String email) {
+        byEmail.remove(key(email));
+    }
+
+    private long wait(Window w, int max, long now) {
+        if (w == null || w.failures < max) return 0;
+        return Math.max(1, (w.startMillis + windowMillis - now + 999) / 1000);
+    }
+
+    private void count(BoundedTtlCache<String, Window> windows, String key, long now) {
+        Window w = windows.get(key);
+        if (w == null) {
+            // The cache TTL ends the window: a new entry starts a new one.
+            w = new Window(now);
+            windows.put(key, w);
+        }
+        w.failures++;
+    }
+
+    private static String key(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,81 @@
+package com.yorku.betterticketmaster.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.yorku.betterticketmaster.domain.model.users.User;
+
+/**
+ * Sessions in the {@code auth_sessions} collection, keyed by a hash of the token so a database
+ * dump does not hand out live sessions. Lookups extend a session at most once per touch interval,
+ * so steady traffic costs one read per request and an occasional write.
+ */
+@Component
+@ConditionalOnProperty(name = "btm.auth.tokens.store", havingValue = "mongo")
+public class MongoAuthTokenStore implements AuthTokenStore {
+    private final MongoTemplate mongo;
+    private final long ttlMillis;
+    private final long touchIntervalMillis;
+
+    public MongoAuthTokenStore(
+        MongoTemplate mongo,
+        @Value("${btm.auth.tokens.ttl-ms:86400000}") long ttlMillis,
+        @Value("${btm.auth.tokens.touch-interval-ms:60000}") long touchIntervalMillis
+    ) {
+        this.mongo = mongo;
+        this.ttlMillis = ttlMillis;
+        this.touchIntervalMillis = touchIntervalMillis;
+    }
+
+    @Override
+    public String issue(User user) {
+        String token = UUID.randomUUID().toString();
+        mongo.insert(new AuthSession(hash(token), user.getId(), Instant.now().plusMillis(ttlMillis)));
+        return token;
+    }
+
+    @Override
+    public String getUserId(String token) {
+        if (token == null) return null;
+        String id = hash(token);
+        AuthSession s = mongo.findById(id, AuthSession.class);
+        Instant now = Instant.now();
+        if (s == null || s.getExpiresAt() == null || s.getExpiresAt().isBefore(now)) return null;
+        if (s.getExpiresAt().isBefore(now.plusMillis(ttlMillis - touchIntervalMillis))) {
+            mongo.updateFirst(new Query(Criteria.where("_id").is(id)),
+                new Update().set("expiresAt", now.plusMillis(ttlMillis)), AuthSession.class);
+        }
+        return s.getUserId();
+    }
+
+    @Override
+    public void remove(String token) {
+        if (token != null) mongo.remove(new Query(Criteria.where("_id").is(hash(token))), AuthSession.class);
+    }
+
+    @Override
+    public int purgeExpired(Instant now) {
+        // The TTL monitor does this too, but only about once a minute.
+        return (int) mongo.remove(new Query(Criteria.where("expiresAt").lt(now)), AuthSession.class).getDeletedCount();
+    }
+
+    private static String hash(String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.yorku.betterticketmaster.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs BCrypt on a small dedicated pool so a login wave cannot take every core from seat holds
+ * and checkouts. The pool queues a bounded number of requests; beyond that, or when a request
+ * waits too long, callers get a {@link RejectedExecutionException} and should answer 503.
+ *
+ * Metrics: {@code btm.auth.hash} (hashing time), {@code btm.auth.hash.queue} (waiting requests)
+ * and {@code btm.auth.hash.rejected}.
+ */
+@Component
+public class PasswordHasher {
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+    private final ThreadPoolExecutor pool;
+    private final long waitMillis;
+    private final Timer hashTime;
+    private final Counter rejected;
+
+    public PasswordHasher(
+        MeterRegistry registry,
+        @Value("${btm.auth.hashing.threads:2}") int threads,
+        @Value("${btm.auth.hashing.queue-capacity:64}") int queueCapacity,
+        @Value("${btm.auth.hashing.wait-ms:5000}") long waitMillis
+    ) {
+        int n = Math.max(1, threads);
+        this.pool = new ThreadPoolExecutor(n, n, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+            r -> {
+                Thread t = new Thread(r, "password-hasher");
+                t.setDaemon(true);
+                return t;
+            });
+        this.waitMillis = waitMillis;
+        this.hashTime = Timer.builder("btm.auth.hash").description("Time spent hashing or checking a password").register(registry);
+        this.rejected = Counter.builder("btm.auth.hash.rejected").description("Password checks refused because the pool was full").register(registry);
+        Gauge.builder("btm.auth.hash.queue", pool, p -> p.getQueue().size())
+            .description("Password checks waiting for a hashing thread").register(registry);
+    }
+
+    /**
+     * @param rawPassword raw password
+     * @return BCrypt hash
+     * @throws RejectedExecutionException if the hashing pool is saturated
+     */
+    public String encode(String rawPassword) {
+        return run(() -> encoder.encode(rawPassword));
+    }
+
+    /**
+     * @param rawPassword raw password
+     * @param hash stored BCrypt hash
+     * @return true if the password matches; false for a null or non-BCrypt hash
+     * @throws RejectedExecutionException if the hashing pool is saturated
+     */
+    public boolean matches(String rawPassword, String hash) {
+        if (rawPassword == null || hash == null || !hash.startsWith("$2")) return false;
+        return run(() -> {
+            try {
+                return BCrypt.checkpw(rawPassword, hash);
+            } catch (IllegalArgumentException ex) {
+                return false;
+            }
+        });
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = pool.submit(() -> hashTime.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+        try {
+            return future.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new RejectedExecutionException("Password check timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new RejectedExecutionException("Interrupted waiting for password check");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,29 @@
+package com.yorku.betterticketmaster.security;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A signed session ended before its expiry (logout). Kept until the token would have expired
+ * anyway, then removed by a TTL index.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "revoked_sessions")
+public class RevokedSession {
+    @Id
+    private String id; //token id (jti)
+    @Indexed(name = "revokedAt_idx")
+    private Instant revokedAt;
+
+    @Indexed(name = "expiresAt_ttl", expireAfter = "0s")
+    private Instant expiresAt;
+}
@@ -0,0 +1,170 @@
+package com.yorku.betterticketmaster.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.yorku.betterticketmaster.domain.model.users.User;
+
+/**
+ * Self-contained session tokens: {@code <keyId>.<payload>.<HMAC-SHA256>}, with the payload
+ * carrying user id, role, expiry and a token id. Any instance holding the keys validates a token
+ * in memory. Keys come from {@code btm.auth.signing.keys} ({@code id:base64secret,...}); new
+ * tokens are signed with the active key and every listed key is accepted, so a key is rotated by
+ * adding the new one, making it active, and dropping the old one once its tokens have expired.
+ *
+ * Logout revokes the token id. Revocations are written to {@code revoked_sessions} and pulled
+ * into a local set every few seconds, so a revoked token is refused everywhere shortly after.
+ */
+@Component
+@ConditionalOnProperty(name = "btm.auth.tokens.store", havingValue = "signed", matchIfMissing = true)
+public class SignedAuthTokenStore implements AuthTokenStore {
+    private static final Base64.Encoder B64 = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder B64_DECODER = Base64.getUrlDecoder();
+
+    private final MongoTemplate mongo;
+    private final long ttlMillis;
+    private final Map<String, byte[]> keys = new LinkedHashMap<>();
+    private final String activeKeyId;
+    private final SecureRandom random = new SecureRandom();
+
+    /** Revoked token ids and when the token expires. */
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private Instant syncedUpTo = Instant.EPOCH;
+
+    /**
+     * Claims of a valid token.
+     * @param userId user identifier
+     * @param role user role at login
+     * @param expiresAt expiry (epoch seconds)
+     * @param tokenId unique token id
+     */
+    public record Claims(String userId, String role, long expiresAt, String tokenId) {}
+
+    public SignedAuthTokenStore(
+        MongoTemplate mongo,
+        @Value("${btm.auth.tokens.ttl-ms:86400000}") long ttlMillis,
+        @Value("${btm.auth.signing.keys:}") String keys,
+        @Value("${btm.auth.signing.active-key:}") String activeKeyId
+    ) {
+        this.mongo = mongo;
+        this.ttlMillis = ttlMillis;
+        for (String entry : keys.split(",")) {
+            if (entry.isBlank()) continue;
+            int colon = entry.indexOf(':');
+            if (colon <= 0) throw new IllegalArgumentException("btm.auth.signing.keys entries must be id:base64secret");
+            byte[] secret = Base64.getDecoder().decode(entry.substring(colon + 1).trim());
+            if (secret.length < 32) throw new IllegalArgumentException("Signing key " + entry.substring(0, colon) + " must be at least 256 bits");
+            this.keys.put(entry.substring(0, colon).trim(), secret);
+        }
+        if (this.keys.isEmpty()) {
+            // Fine for a single dev instance; tokens die with the process.
+            byte[] secret = new byte[32];
+            random.nextBytes(secret);
+            this.keys.put("local", secret);
+            System.err.println("[Auth] btm.auth.signing.keys not set; using a random key, sessions end on restart");
+        }
+        this.activeKeyId = activeKeyId.isBlank() ? this.keys.keySet().iterator().next() : activeKeyId;
+        if (!this.keys.containsKey(this.activeKeyId)) {
+            throw new IllegalArgumentException("btm.auth.signing.active-key " + this.activeKeyId + " is not in btm.auth.signing.keys");
+        }
+    }
+
+    @Override
+    public String issue(User user) {
+        byte[] id = new byte[16];
+        random.nextBytes(id);
+        long expiresAt = (System.currentTimeMillis() + ttlMillis) / 1000;
+        String role = user.getRole() == null ? "" : user.getRole().name();
+        String payload = B64.encodeToString((user.getId() + "|" + role + "|" + expiresAt + "|" + B64.encodeToString(id))
+            .getBytes(StandardCharsets.UTF_8));
+        String signed = activeKeyId + "." + payload;
+        return signed + "." + B64.encodeToString(sign(keys.get(activeKeyId), signed));
+    }
+
+    @Override
+    public String getUserId(String token) {
+        Claims claims = verify(token);
+        return claims == null ? null : claims.userId();
+    }
+
+    /**
+     * @param token session token
+     * @return claims, or null if the token is malformed, forged, expired or revoked
+     */
+    public Claims verify(String token) {
+        if (token == null) return null;
+        String[] parts = token.split("\\.");
+        if (parts.length != 3) return null;
+        byte[] key = keys.get(parts[0]);
+        if (key == null) return null;
+        try {
+            byte[] expected = sign(key, parts[0] + "." + parts[1]);
+            if (!MessageDigest.isEqual(expected, B64_DECODER.decode(parts[2]))) return null;
+            String[] fields = new String(B64_DECODER.decode(parts[1]), StandardCharsets.UTF_8).split("\\|");
+            if (fields.length != 4) return null;
+            long expiresAt = Long.parseLong(fields[2]);
+            if (expiresAt * 1000 < System.currentTimeMillis() || revoked.containsKey(fields[3])) return null;
+            return new Claims(fields[0], fields[1], expiresAt, fields[3]);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void remove(String token) {
+        Claims claims = verify(token);
+        if (claims == null) return;
+        revoked.put(claims.tokenId(), claims.expiresAt());
+        mongo.save(new RevokedSession(claims.tokenId(), Instant.now(), Instant.ofEpochSecond(claims.expiresAt())));
+    }
+
+    @Override
+    public int purgeExpired(Instant now) {
+        int before = revoked.size();
+        revoked.values().removeIf(expiresAt -> expiresAt < now.getEpochSecond());
+        return before - revoked.size();
+    }
+
+    /**
+     * Pull revocations made by other instances.
+     */
+    @Scheduled(fixedDelayString = "${btm.auth.signing.revocation-sync-ms:5000}")
+    public void syncRevocations() {
+        // Overlap a little so a revocation written just before the last sync is not missed.
+        Instant since = syncedUpTo.minusSeconds(5);
+        Instant now = Instant.now();
+        Query q = new Query(Criteria.where("revokedAt").gte(since).and("expiresAt").gt(now));
+        for (RevokedSession r : mongo.find(q, RevokedSession.class)) {
+            revoked.put(r.getId(), r.getExpiresAt().getEpochSecond());
+        }
+        syncedUpTo = now;
+    }
+
+    private static byte[] sign(byte[] key, String data) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
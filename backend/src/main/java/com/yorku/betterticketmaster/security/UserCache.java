@@ -0,0 +1,79 @@
+package com.yorku.betterticketmaster.security;
+
+import java.util.ArrayList;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+import com.yorku.betterticketmaster.core.cache.BoundedTtlCache;
+import com.yorku.betterticketmaster.domain.model.users.User;
+import com.yorku.betterticketmaster.domain.repository.login.UserRepository;
+import com.yorku.betterticketmaster.domain.repository.login.UserUpdatedEvent;
+
+/**
+ * Short-lived cache of users looked up by id for authenticated requests.
+ * Entries are dropped whenever a user is saved or deleted through the repository, and on the
+ * {@link UserUpdatedEvent} published by updates that bypass the save events (e.g.
+ * {@code UserRepository.addOwnedTickets}). Callers get a copy, so changing the returned user never leaks into the cache.
+ */
+@Component
+public class UserCache extends AbstractMongoEventListener<User> {
+    private final UserRepository userRepo;
+    private final BoundedTtlCache<String, User> users;
+
+    public UserCache(
+        UserRepository userRepo,
+        @Value("${btm.auth.user-cache.size:10000}") int size,
+        @Value("${btm.auth.user-cache.ttl-ms:30000}") long ttlMillis
+    ) {
+        this.userRepo = userRepo;
+        this.users = new BoundedTtlCache<>(size, ttlMillis);
+    }
+
+    /**
+     * @param userId user identifier
+     * @return copy of the user, or null if not found
+     */
+    public User get(String userId) {
+        if (userId == null) return null;
+        User cached = users.get(userId);
+        if (cached == null) {
+            cached = userRepo.findById(userId).orElse(null);
+            if (cached == null) return null;
+            users.put(userId, cached);
+        }
+        return copy(cached);
+    }
+
+    /**
+     * Drop a user after a change made outside the repository save path.
+     * @param userId user identifier
+     */
+    public void invalidate(String userId) {
+        if (userId != null) users.remove(userId);
+    }
+
+    @EventListener
+    public void onUserUpdated(UserUpdatedEvent event) {
+        invalidate(event.userId());
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<User> event) {
+        invalidate(event.getSource().getId());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<User> event) {
+        users.clear();
+    }
+
+    private static User copy(User u) {
+        return new User(u.getId(), u.getEmail(), u.getPassword(), u.getName(), u.getRole(),
+            u.getOwnedTicketIds() == null ? new ArrayList<>() : new ArrayList<>(u.getOwnedTicketIds()));
+    }
+}
@@ -0,0 +1,30 @@
+package com.yorku.betterticketmaster.core.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedTtlCacheTest {
+    @Test
+    void put_overCapacity_evictsLeastRecentlyUsed() {
+        BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>(2, 60_000);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.get("c"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void get_afterTtl_returnsNull() throws InterruptedException {
+        BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>(10, 5);
+        cache.put("a", 1);
+        Thread.sleep(20);
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,85 @@
+package com.yorku.betterticketmaster.core.mongo;
+
+import com.yorku.betterticketmaster.core.mongo.MongoIndexVerifier.Drift;
+import com.yorku.betterticketmaster.core.mongo.MongoIndexVerifier.Report;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MongoIndexVerifierTest {
+    private static Document index(String name, Document key) {
+        return new Document("name", name).append("key", key);
+    }
+
+    private static final Document ID = index("_id_", new Document("_id", 1));
+
+    @Test
+    void compare_sameIndexes_isHealthy() {
+        Document declared = index("event_status", new Document("eventId", 1).append("status", 1));
+        // The server may hand back directions as doubles
+        Document actual = index("event_status", new Document("eventId", 1.0).append("status", 1.0)).append("v", 2);
+
+        Report report = MongoIndexVerifier.compare(Map.of("seats", List.of(declared)), Map.of("seats", List.of(ID, actual)), Instant.now());
+
+        assertTrue(report.isHealthy());
+        assertEquals(1, report.declared());
+        assertTrue(report.unexpected().isEmpty());
+    }
+
+    @Test
+    void compare_reportsMissingChangedAndUnexpected() {
+        List<Document> declared = List.of(
+            index("email_unique", new Document("email", 1)).append("unique", true),
+            index("ownerId_idx", new Document("ownerId", 1)),
+            index("expiresAt_ttl", new Document("expiresAt", 1)).append("expireAfterSeconds", 0L)
+        );
+        List<Document> actual = List.of(
+            ID,
+            index("email_unique", new Document("email", 1)),
+            index("expiresAt_ttl", new Document("expiresAt", 1)).append("expireAfterSeconds", 0),
+            index("legacy_1", new Document("legacy", 1))
+        );
+
+        Report report = MongoIndexVerifier.compare(Map.of("users", declared), Map.of("users", actual), Instant.now());
+
+        assertFalse(report.isHealthy());
+        assertEquals(List.of(new Drift("users", "ownerId_idx", "{ownerId: 1}", null)), report.missing());
+        assertEquals(List.of(new Drift("users", "email_unique", "{email: 1} unique", "{email: 1}")), report.changed());
+        assertEquals(List.of(new Drift("users", "legacy_1", null, "{legacy: 1}")), report.unexpected());
+    }
+
+    @Test
+    void compare_keyOrderMatters() {
+        Document declared = index("event_status", new Document("eventId", 1).append("status", 1));
+        Document actual = index("event_status", new Document("status", 1).append("eventId", 1));
+
+        Report report = MongoIndexVerifier.compare(Map.of("seats", List.of(declared)), Map.of("seats", List.of(actual)), Instant.now());
+
+        assertEquals(1, report.changed().size());
+    }
+
+    @Test
+    void compare_unnamedIndex_usesServerName() {
+        Document declared = new Document("key", new Document("venueId", 1).append("layoutName", -1));
+        Document actual = index("venueId_1_layoutName_-1", new Document("venueId", 1).append("layoutName", -1));
+
+        Report report = MongoIndexVerifier.compare(Map.of("layouts", List.of(declared)), Map.of("layouts", List.of(actual)), Instant.now());
+
+        assertTrue(report.isHealthy());
+        assertTrue(report.unexpected().isEmpty());
+    }
+
+    @Test
+    void compare_missingCollection_reportsEveryIndexMissing() {
+        Document declared = index("status_holdUntil", new Document("status", 1).append("holdUntil", 1));
+
+        Report report = MongoIndexVerifier.compare(Map.of("ga_reservations", List.of(declared)), Map.of(), Instant.now());
+
+        assertEquals(1, report.missing().size());
+    }
+}
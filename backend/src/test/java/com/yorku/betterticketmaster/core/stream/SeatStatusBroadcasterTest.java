@@ -0,0 +1,127 @@
+package com.yorku.betterticketmaster.core.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yorku.betterticketmaster.core.stream.SeatStatusBroadcaster.SeatDelta;
+import com.yorku.betterticketmaster.core.stream.SeatStatusBroadcaster.SeatDeltaBatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SeatStatusBroadcasterTest {
+    ObjectMapper mapper;
+    SeatStatusBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        mapper = spy(new ObjectMapper().findAndRegisterModules());
+        broadcaster = new SeatStatusBroadcaster(mapper, new SimpleMeterRegistry(), 60_000, 60_000);
+    }
+
+    private List<SeatDeltaBatch> batches() throws Exception {
+        ArgumentCaptor<Object> sent = ArgumentCaptor.forClass(Object.class);
+        verify(mapper, atLeast(0)).writeValueAsString(sent.capture());
+        return sent.getAllValues().stream().map(SeatDeltaBatch.class::cast).toList();
+    }
+
+    /** Leave the event with a sequence but no viewer: the completed emitter fails the next send. */
+    private void abandon(String eventId) {
+        SseEmitter emitter = broadcaster.subscribe(eventId);
+        emitter.complete();
+        broadcaster.publish(eventId, List.of("s0"), "SOLD", null);
+        broadcaster.flush();
+    }
+
+    @Test
+    void flush_coalescesChangesPerSeat() throws Exception {
+        broadcaster.subscribe("e1");
+        Instant until = Instant.now().plusSeconds(300);
+        broadcaster.publish("e1", List.of("s1", "s2"), "HELD", until);
+        broadcaster.publish("e1", List.of("s1"), "AVAILABLE", null);
+        broadcaster.flush();
+
+        assertEquals(List.of(new SeatDeltaBatch("e1", 1, List.of(
+            new SeatDelta("s1", "AVAILABLE", null),
+            new SeatDelta("s2", "HELD", until)
+        ))), batches());
+    }
+
+    @Test
+    void flush_numbersBatchesPerEventAndSkipsQuietTicks() throws Exception {
+        broadcaster.subscribe("e1");
+        broadcaster.subscribe("e2");
+        broadcaster.publish("e1", List.of("s1"), "SOLD", null);
+        broadcaster.flush();
+        broadcaster.flush();
+        broadcaster.publish("e1", List.of("s2"), "SOLD", null);
+        broadcaster.publish("e2", List.of("t1"), "SOLD", null);
+        broadcaster.flush();
+
+        List<SeatDeltaBatch> batches = batches();
+        assertEquals(List.of(1L, 2L), batches.stream().filter(b -> b.eventId().equals("e1")).map(SeatDeltaBatch::seq).toList());
+        assertEquals(List.of(1L), batches.stream().filter(b -> b.eventId().equals("e2")).map(SeatDeltaBatch::seq).toList());
+    }
+
+    @Test
+    void publish_withoutViewers_isDropped() throws Exception {
+        broadcaster.publish("e1", List.of("s1"), "SOLD", null);
+        broadcaster.flush();
+
+        verify(mapper, never()).writeValueAsString(any());
+        assertEquals(0, broadcaster.trackedEvents());
+    }
+
+    @Test
+    void evictUnwatched_keepsOnlyWatchedEvents() {
+        abandon("e1");
+        broadcaster.subscribe("e2");
+        assertEquals(2, broadcaster.trackedEvents());
+
+        broadcaster.evictUnwatched();
+        assertEquals(1, broadcaster.trackedEvents());
+    }
+
+    @Test
+    void heartbeat_dropsViewersThatWentAwayAndTheirSequences() {
+        broadcaster = new SeatStatusBroadcaster(mapper, new SimpleMeterRegistry(), 60_000, 0);
+        broadcaster.subscribe("e1").complete();
+        assertEquals(1, broadcaster.trackedEvents());
+
+        broadcaster.flush();
+        assertEquals(0, broadcaster.trackedEvents());
+    }
+
+    @Test
+    void evictUnwatched_neverDropsTheSequenceOfAConcurrentSubscriber() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 1000; i++) {
+                broadcaster = new SeatStatusBroadcaster(new ObjectMapper(), new SimpleMeterRegistry(), 60_000, 60_000);
+                abandon("e1");
+                CyclicBarrier start = new CyclicBarrier(2);
+                Future<?> evict = pool.submit(() -> { start.await(); broadcaster.evictUnwatched(); return null; });
+                Future<?> subscribe = pool.submit(() -> { start.await(); return broadcaster.subscribe("e1"); });
+                evict.get(5, TimeUnit.SECONDS);
+                subscribe.get(5, TimeUnit.SECONDS);
+
+                // The event has a live viewer again, so it must still have its sequence.
+                assertEquals(1, broadcaster.trackedEvents(), "round " + i);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
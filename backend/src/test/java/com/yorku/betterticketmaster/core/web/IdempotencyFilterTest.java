@@ -0,0 +1,154 @@
+package com.yorku.betterticketmaster.core.web;
+
+import com.mongodb.client.result.UpdateResult;
+import com.yorku.betterticketmaster.security.AuthenticationFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyFilterTest {
+    @Mock MongoTemplate mongo;
+
+    IdempotencyFilter filter;
+    int calls;
+
+    final FilterChain controller = (req, res) -> {
+        calls++;
+        String body = new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        ((HttpServletResponse) res).setStatus(200);
+        res.setContentType("application/json");
+        res.getWriter().write("{\"id\":\"b" + calls + "\",\"echo\":" + body + "}");
+    };
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyFilter(new IdempotencyStore(mongo, 100, 60_000, 30_000));
+        lenient().when(mongo.updateFirst(any(Query.class), any(Update.class), eq(IdempotencyRecord.class)))
+            .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+    }
+
+    private static String sha256(String body) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private MockHttpServletRequest request(String key, String body) {
+        MockHttpServletRequest req = new MockHttpServletRequest("POST", "/api/bookings");
+        req.setAttribute(AuthenticationFilter.USER_ID_ATTRIBUTE, "u1");
+        if (key != null) req.addHeader(IdempotencyFilter.HEADER, key);
+        req.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return req;
+    }
+
+    @Test
+    void retry_replaysStoredResponseWithoutCallingController() throws Exception {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(request("k1", "{\"eventId\":\"e1\"}"), first, controller);
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        filter.doFilter(request("k1", "{\"eventId\":\"e1\"}"), second, controller);
+
+        assertEquals(1, calls);
+        assertEquals(first.getContentAsString(), second.getContentAsString());
+        assertTrue(first.getContentAsString().contains("\"eventId\":\"e1\""));
+        assertEquals("true", second.getHeader("Idempotent-Replayed"));
+        verify(mongo, times(1)).insert(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    void sameKeyDifferentBody_isRejected() throws Exception {
+        filter.doFilter(request("k1", "{\"eventId\":\"e1\"}"), new MockHttpServletResponse(), controller);
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        filter.doFilter(request("k1", "{\"eventId\":\"e2\"}"), second, controller);
+
+        assertEquals(1, calls);
+        assertEquals(422, second.getStatus());
+    }
+
+    @Test
+    void duplicateWhileFirstRuns_getsConflict() throws Exception {
+        when(mongo.insert(any(IdempotencyRecord.class))).thenThrow(new DuplicateKeyException("dup"));
+        when(mongo.findById(anyString(), eq(IdempotencyRecord.class))).thenReturn(
+            new IdempotencyRecord("id", sha256("{}"), "other", Instant.now(), Instant.now().plusSeconds(30)));
+
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        filter.doFilter(request("k1", "{}"), res, controller);
+
+        assertEquals(0, calls);
+        assertEquals(409, res.getStatus());
+    }
+
+    @Test
+    void duplicateAfterLeaseRanOut_takesTheKeyOver() throws Exception {
+        Instant lapsed = Instant.now().minusSeconds(1);
+        when(mongo.insert(any(IdempotencyRecord.class))).thenThrow(new DuplicateKeyException("dup"));
+        when(mongo.findById(anyString(), eq(IdempotencyRecord.class))).thenReturn(
+            new IdempotencyRecord("id", sha256("{}"), "crashed", Instant.now().minusSeconds(60), lapsed));
+
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        filter.doFilter(request("k1", "{}"), res, controller);
+
+        assertEquals(1, calls);
+        assertEquals(200, res.getStatus());
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        verify(mongo, times(2)).updateFirst(queries.capture(), any(Update.class), eq(IdempotencyRecord.class));
+        assertEquals(lapsed, queries.getAllValues().get(0).getQueryObject().get("leaseUntil"));
+        // The response is stored only under this request's ownership
+        assertNotEquals("crashed", queries.getAllValues().get(1).getQueryObject().get("owner"));
+    }
+
+    @Test
+    void cachedBody_supportsReadListener() throws Exception {
+        FilterChain async = (req, res) -> {
+            ServletInputStream in = req.getInputStream();
+            StringBuilder read = new StringBuilder();
+            in.setReadListener(new ReadListener() {
+                @Override public void onDataAvailable() throws IOException {
+                    while (in.isReady() && !in.isFinished()) read.append((char) in.read());
+                }
+                @Override public void onAllDataRead() {
+                    calls++;
+                    ((HttpServletResponse) res).setStatus(200);
+                }
+                @Override public void onError(Throwable t) {}
+            });
+            assertEquals("{\"a\":1}", read.toString());
+        };
+
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        filter.doFilter(request("k1", "{\"a\":1}"), res, async);
+
+        assertEquals(1, calls);
+    }
+
+    @Test
+    void withoutKey_passesThrough() throws Exception {
+        filter.doFilter(request(null, "{}"), new MockHttpServletResponse(), controller);
+        filter.doFilter(request(null, "{}"), new MockHttpServletResponse(), controller);
+
+        assertEquals(2, calls);
+        verifyNoInteractions(mongo);
+    }
+}
@@ -0,0 +1,70 @@
+package com.yorku.betterticketmaster.domain.services.impl;
+
+import com.yorku.betterticketmaster.domain.services.AdmissionQueueService.Admission;
+import com.yorku.betterticketmaster.domain.services.AdmissionQueueService.QueueTicket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionQueueServiceImplTest {
+    AdmissionQueueServiceImpl queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new AdmissionQueueServiceImpl(new SimpleMeterRegistry(), 60_000, 3_600_000, 10_000);
+    }
+
+    @Test
+    void check_withoutQueue_passes() {
+        assertEquals(Admission.NOT_QUEUED, queue.check("e1", null));
+        assertTrue(queue.join("e1").isEmpty());
+    }
+
+    @Test
+    void tick_admitsInJoinOrderAtRate() {
+        queue.open("e1", 2);
+        QueueTicket first = queue.join("e1").orElseThrow();
+        QueueTicket second = queue.join("e1").orElseThrow();
+        QueueTicket third = queue.join("e1").orElseThrow();
+        assertEquals(3, third.position());
+        assertEquals(Admission.WAITING, queue.check("e1", first.token()));
+
+        queue.tick(System.currentTimeMillis() + 1000);
+
+        assertEquals(Admission.ADMITTED, queue.check("e1", first.token()));
+        assertEquals(Admission.ADMITTED, queue.check("e1", second.token()));
+        assertEquals(Admission.WAITING, queue.check("e1", third.token()));
+        assertEquals(1, queue.status(third.token()).orElseThrow().position());
+        assertTrue(queue.status(first.token()).orElseThrow().admitted());
+    }
+
+    @Test
+    void idleCapacity_isNotBanked() {
+        queue.open("e1", 1);
+        queue.tick(System.currentTimeMillis() + 60_000);
+        QueueTicket first = queue.join("e1").orElseThrow();
+        QueueTicket second = queue.join("e1").orElseThrow();
+        queue.tick(System.currentTimeMillis() + 60_000);
+
+        assertEquals(Admission.ADMITTED, queue.check("e1", first.token()));
+        assertEquals(Admission.WAITING, queue.check("e1", second.token()));
+    }
+
+    @Test
+    void token_isBoundToEventAndQueueInstance() {
+        queue.open("e1", 10);
+        queue.open("e2", 10);
+        QueueTicket ticket = queue.join("e1").orElseThrow();
+        queue.tick(System.currentTimeMillis() + 1000);
+
+        assertEquals(Admission.INVALID, queue.check("e2", ticket.token()));
+        assertEquals(Admission.INVALID, queue.check("e1", "made-up"));
+
+        queue.close("e1");
+        queue.open("e1", 10);
+        assertEquals(Admission.INVALID, queue.check("e1", ticket.token()));
+        assertTrue(queue.status(ticket.token()).isEmpty());
+    }
+}
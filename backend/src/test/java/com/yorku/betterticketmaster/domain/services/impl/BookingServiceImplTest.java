@@ -0,0 +1,140 @@
+package com.yorku.betterticketmaster.domain.services.impl;
+
+import com.yorku.betterticketmaster.core.stream.SeatStatusBroadcaster;
+import com.yorku.betterticketmaster.domain.model.booking.Booking;
+import com.yorku.betterticketmaster.domain.model.booking.Ticket;
+import com.yorku.betterticketmaster.domain.model.event.Event;
+import com.yorku.betterticketmaster.domain.model.users.Role;
+import com.yorku.betterticketmaster.domain.model.users.User;
+import com.yorku.betterticketmaster.domain.repository.booking.BookingRepository;
+import com.yorku.betterticketmaster.domain.repository.booking.TicketRepository;
+import com.yorku.betterticketmaster.domain.repository.login.UserRepository;
+import com.yorku.betterticketmaster.domain.services.BookingService;
+import com.yorku.betterticketmaster.domain.services.BookingService.BookingPage;
+import com.yorku.betterticketmaster.domain.services.GaInventoryService;
+import com.yorku.betterticketmaster.domain.services.NotificationService;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService;
+import com.yorku.betterticketmaster.domain.services.inventory.EventCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingServiceImplTest {
+    @Mock BookingRepository bookingRepo;
+    @Mock TicketRepository ticketRepo;
+    @Mock UserRepository userRepo;
+    @Mock NotificationService notificationService;
+    @Mock SeatHoldService seatHoldService;
+    @Mock EventCache eventCache;
+    @Mock SeatStatusBroadcaster broadcaster;
+    @Mock GaInventoryService gaInventoryService;
+
+    @InjectMocks BookingServiceImpl service;
+
+    Booking booking;
+
+    @BeforeEach
+    void setUp() {
+        booking = Booking.createPending("u1", "e1", List.of("s1", "s2", "s3"), 30.0);
+        booking.setId("b1");
+    }
+
+    private void stubBooking() {
+        when(bookingRepo.findById("b1")).thenReturn(Optional.of(booking));
+        when(eventCache.get("e1")).thenReturn(Optional.of(new Event()));
+    }
+
+    @Test
+    void complete_writesTicketsAndOwnershipInBulk() {
+        stubBooking();
+        when(gaInventoryService.sell("e1", List.of(), "u1")).thenReturn(List.of());
+        when(ticketRepo.saveAll(anyList())).thenAnswer(inv -> {
+            List<Ticket> saved = new ArrayList<>(inv.getArgument(0));
+            for (int i = 0; i < saved.size(); i++) saved.get(i).setId("t" + i);
+            return saved;
+        });
+        when(userRepo.addOwnedTickets(eq("u1"), anyCollection()))
+            .thenReturn(new User("u1", "a@b.c", "pw", "Alice", Role.CONSUMER));
+
+        Booking done = service.completeBooking("b1");
+
+        assertEquals("COMPLETED", done.getStatus());
+        verify(seatHoldService).sellSeats(List.of("s1", "s2", "s3"), "u1");
+        verify(ticketRepo).saveAll(argThat(tickets -> ((List<Ticket>) tickets).size() == 3));
+        verify(ticketRepo, never()).save(any());
+        verify(userRepo).addOwnedTickets("u1", List.of("t0", "t1", "t2"));
+        verify(userRepo, never()).save(any());
+    }
+
+    @Test
+    void complete_seatSaleFails_revertsGaAndWritesNothing() {
+        stubBooking();
+        when(gaInventoryService.sell("e1", List.of(), "u1")).thenReturn(List.of());
+        doThrow(new IllegalStateException("Seat must be HELD")).when(seatHoldService).sellSeats(anyList(), any());
+
+        assertThrows(IllegalStateException.class, () -> service.completeBooking("b1"));
+
+        verify(gaInventoryService).revertSale(List.of());
+        verifyNoInteractions(ticketRepo, userRepo);
+        verify(bookingRepo, never()).save(any());
+    }
+
+    private static Booking booking(String id) {
+        Booking b = Booking.createPending("u1", "e1", List.of("s1"), 10.0);
+        b.setId(id);
+        return b;
+    }
+
+    @Test
+    void listByUser_fullPage_returnsCursorOfLastItem() {
+        when(bookingRepo.findPageByConsumer("u1", List.of("COMPLETED"), null, 3))
+            .thenReturn(List.of(booking("b9"), booking("b8"), booking("b7")));
+
+        BookingPage page = service.listByUser("u1", List.of("COMPLETED"), null, 2);
+
+        assertEquals(List.of("b9", "b8"), page.items().stream().map(Booking::getId).toList());
+        assertEquals("b8", page.nextCursor());
+    }
+
+    @Test
+    void listByUser_lastPage_hasNoCursorAndLimitIsCapped() {
+        when(bookingRepo.findPageByConsumer("u1", null, "b8", BookingService.MAX_PAGE_SIZE + 1))
+            .thenReturn(List.of(booking("b7")));
+
+        BookingPage page = service.listByUser("u1", null, "b8", 10_000);
+
+        assertEquals(1, page.items().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void expirePending_expiresBatchAndReleasesHoldsPerHolder() {
+        Booking other = Booking.createPending("u2", "e1", List.of("s9"), 10.0);
+        other.setId("b2");
+        other.setGaReservationIds(List.of("r1"));
+        LocalDateTime now = LocalDateTime.now();
+        when(bookingRepo.findByStatusAndExpiryBeforeOrderByExpiryAsc("PENDING", now, Limit.of(50)))
+            .thenReturn(List.of(booking, other));
+
+        assertEquals(2, service.expirePendingBookings(now, 50));
+
+        verify(bookingRepo).expirePending(List.of("b1", "b2"), now);
+        verify(seatHoldService).releaseSeatsOfHolders(Map.of("u1", List.of("s1", "s2", "s3"), "u2", List.of("s9")));
+        verify(gaInventoryService).release("r1", "u2");
+    }
+}
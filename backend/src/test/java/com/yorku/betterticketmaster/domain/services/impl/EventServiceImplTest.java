@@ -0,0 +1,84 @@
+package com.yorku.betterticketmaster.domain.services.impl;
+
+import com.yorku.betterticketmaster.domain.model.event.Event;
+import com.yorku.betterticketmaster.domain.model.event.EventSummary;
+import com.yorku.betterticketmaster.domain.repository.inventory.EventRepository;
+import com.yorku.betterticketmaster.domain.repository.inventory.EventRepositoryCustom.Filter;
+import com.yorku.betterticketmaster.domain.services.EventService.EventPage;
+import com.yorku.betterticketmaster.domain.services.inventory.EventCache;
+import com.yorku.betterticketmaster.domain.services.inventory.EventProvisioner;
+import com.yorku.betterticketmaster.domain.services.search.EventSearchIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventServiceImplTest {
+    @Mock EventRepository eventRepo;
+    @Mock EventSearchIndex searchIndex;
+    @Mock EventCache eventCache;
+    @Mock EventProvisioner provisioner;
+
+    @InjectMocks EventServiceImpl service;
+
+    final Filter filter = new Filter(List.of("APPROVED"), null, null, null);
+
+    private static EventSummary summary(String id, LocalDateTime at) {
+        return new EventSummary(id, "o1", "l1", "T " + id, "V", "APPROVED", at, 0, 100, null);
+    }
+
+    @Test
+    void listEvents_fetchesOneExtraAndResumesAfterLastItem() {
+        LocalDateTime at = LocalDateTime.of(2030, 5, 1, 19, 30);
+        when(eventRepo.findSummaryPage(filter, null, null, 3))
+            .thenReturn(List.of(summary("a", at), summary("b", at), summary("c", at.plusDays(1))));
+
+        EventPage first = service.listEvents(filter, null, 2);
+        assertEquals(List.of("a", "b"), first.items().stream().map(EventSummary::id).toList());
+        assertNotNull(first.nextCursor());
+
+        when(eventRepo.findSummaryPage(filter, at, "b", 3)).thenReturn(List.of(summary("c", at.plusDays(1))));
+        EventPage second = service.listEvents(filter, first.nextCursor(), 2);
+        assertEquals(List.of("c"), second.items().stream().map(EventSummary::id).toList());
+        assertNull(second.nextCursor());
+    }
+
+    @Test
+    void listEvents_cursorAfterUndatedEvent() {
+        when(eventRepo.findSummaryPage(filter, null, null, 2)).thenReturn(List.of(summary("a", null), summary("b", null)));
+        EventPage first = service.listEvents(filter, null, 1);
+
+        service.listEvents(filter, first.nextCursor(), 1);
+        verify(eventRepo).findSummaryPage(filter, null, "a", 2);
+    }
+
+    @Test
+    void listEvents_rejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> service.listEvents(filter, "not-a-cursor", 10));
+        verify(eventRepo, never()).findSummaryPage(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void createEvent_savesAndQueuesProvisioning() {
+        Event e = new Event();
+        e.setLayoutId("l1");
+        when(eventRepo.save(e)).thenAnswer(inv -> {
+            e.setId("e1");
+            return e;
+        });
+
+        Event created = service.createEvent(e);
+
+        assertEquals("APPROVED", created.getStatus());
+        verify(provisioner).start(created);
+    }
+}
@@ -0,0 +1,122 @@
+package com.yorku.betterticketmaster.domain.services.impl;
+
+import com.yorku.betterticketmaster.domain.model.event.GaInventory;
+import com.yorku.betterticketmaster.domain.model.event.GaReservation;
+import com.yorku.betterticketmaster.domain.repository.inventory.GaInventoryRepository;
+import com.yorku.betterticketmaster.domain.repository.inventory.GaReservationRepository;
+import com.yorku.betterticketmaster.domain.services.GaInventoryService.GaHoldResult;
+import com.yorku.betterticketmaster.domain.services.GaInventoryService.GaHoldStatus;
+import com.yorku.betterticketmaster.domain.services.inventory.EventCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GaInventoryServiceImplTest {
+    @Mock GaInventoryRepository inventoryRepo;
+    @Mock GaReservationRepository reservationRepo;
+    @Mock EventCache eventCache;
+
+    @InjectMocks GaInventoryServiceImpl service;
+
+    private static GaInventory floor() {
+        GaInventory inv = new GaInventory("e1", "Floor", 100, 30.0);
+        inv.setId("inv1");
+        return inv;
+    }
+
+    private static GaReservation reservation(String id, String holderId) {
+        GaReservation r = new GaReservation(floor(), 2, holderId, Instant.now().plusSeconds(60));
+        r.setId(id);
+        return r;
+    }
+
+    @Test
+    void hold_reservesWithOneCounterUpdate() {
+        when(inventoryRepo.findByEventId("e1")).thenReturn(List.of(floor()));
+        when(eventCache.get("e1")).thenReturn(Optional.empty());
+        when(inventoryRepo.reserve("inv1", 4)).thenReturn(true);
+        when(reservationRepo.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        GaHoldResult result = service.hold("e1", "floor", 4, "alice");
+        assertEquals(GaHoldStatus.HELD, result.status());
+        assertEquals(4, result.reservation().getQuantity());
+        assertEquals("alice", result.reservation().getHolderId());
+    }
+
+    @Test
+    void hold_notEnoughSpots_soldOut() {
+        when(inventoryRepo.findByEventId("e1")).thenReturn(List.of(floor()));
+        when(eventCache.get("e1")).thenReturn(Optional.empty());
+        when(inventoryRepo.reserve("inv1", 4)).thenReturn(false);
+
+        assertEquals(GaHoldStatus.SOLD_OUT, service.hold("e1", "Floor", 4, "alice").status());
+        verify(reservationRepo, never()).save(any());
+    }
+
+    @Test
+    void sell_lapsedReservation_revertsEarlierSales() {
+        when(reservationRepo.findById("r1")).thenReturn(Optional.of(reservation("r1", "alice")));
+        when(reservationRepo.findById("r2")).thenReturn(Optional.of(reservation("r2", "alice")));
+        when(reservationRepo.transition(eq("r1"), eq("HELD"), eq("SOLD"), any())).thenReturn(true);
+        when(reservationRepo.transition(eq("r2"), eq("HELD"), eq("SOLD"), any())).thenReturn(false);
+        when(reservationRepo.transition("r1", "SOLD", "HELD", null)).thenReturn(true);
+
+        assertThrows(IllegalStateException.class, () -> service.sell("e1", List.of("r1", "r2"), "alice"));
+        verify(inventoryRepo).commitSale("inv1", 2);
+        verify(inventoryRepo).commitSale("inv1", -2);
+    }
+
+    @Test
+    void release_otherHolder_keepsHold() {
+        when(reservationRepo.findById("r1")).thenReturn(Optional.of(reservation("r1", "alice")));
+        assertFalse(service.release("r1", "bob"));
+        verify(inventoryRepo, never()).unreserve(any(), anyInt());
+    }
+
+    @Test
+    void hold_withoutHolder_isRejected() {
+        assertThrows(IllegalArgumentException.class, () -> service.hold("e1", "Floor", 1, null));
+        verifyNoInteractions(inventoryRepo, reservationRepo);
+    }
+
+    @Test
+    void anonymousReservations_canBeNeitherReleasedNorSold() {
+        when(reservationRepo.findById("r1")).thenReturn(Optional.of(reservation("r1", null)));
+
+        assertFalse(service.release("r1", null));
+        assertThrows(IllegalStateException.class, () -> service.sell("e1", List.of("r1"), "bob"));
+        verify(reservationRepo, never()).transition(any(), any(), any(), any());
+    }
+
+    @Test
+    void sell_reservationOfAnotherEvent_isRejected() {
+        when(reservationRepo.findById("r1")).thenReturn(Optional.of(reservation("r1", "alice")));
+
+        assertThrows(IllegalStateException.class, () -> service.sell("e2", List.of("r1"), "alice"));
+        verify(reservationRepo, never()).transition(any(), any(), any(), any());
+    }
+
+    @Test
+    void resetAll_dropsReservationsAndRestoresCapacity() {
+        GaInventory used = floor();
+        used.setAvailable(90);
+        used.setHeld(4);
+        used.setSold(6);
+        when(inventoryRepo.findAll()).thenReturn(List.of(used, floor()));
+
+        assertEquals(1, service.resetAll());
+        verify(reservationRepo).deleteAll();
+        verify(inventoryRepo).save(argThat(inv -> inv.getAvailable() == 100 && inv.getHeld() == 0 && inv.getSold() == 0));
+    }
+}
@@ -0,0 +1,83 @@
+package com.yorku.betterticketmaster.domain.services.impl;
+
+import com.yorku.betterticketmaster.domain.repository.venueBuilder.SectionTemplateRepository;
+import com.yorku.betterticketmaster.domain.services.SeatAvailabilityService.AvailabilitySnapshot;
+import com.yorku.betterticketmaster.domain.services.SeatAvailabilityService.SeatLayout;
+import com.yorku.betterticketmaster.domain.services.SeatAvailabilityService.SeatPosition;
+import com.yorku.betterticketmaster.domain.services.SeatAvailabilityService;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.HoldResult;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.HoldStatus;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService;
+import com.yorku.betterticketmaster.domain.services.inventory.EventCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SeatAllocationServiceImplTest {
+    @Mock SeatAvailabilityService availabilityService;
+    @Mock SeatHoldService seatHoldService;
+    @Mock EventCache eventCache;
+    @Mock SectionTemplateRepository sectionRepo;
+
+    SeatAllocationServiceImpl service;
+
+    /** Rows A and B with seats 1..6; row A seats 3 and 4 are sold. */
+    @BeforeEach
+    void setUp() {
+        List<SeatPosition> seats = new ArrayList<>();
+        for (String row : List.of("A", "B")) {
+            for (int n = 1; n <= 6; n++) seats.add(new SeatPosition(row + n, "Floor", row, n, n == 1 ? 90.0 : 40.0));
+        }
+        byte[] statuses = new byte[3];
+        statuses[0] = (byte) (SeatAvailabilityService.SOLD << 4 | SeatAvailabilityService.SOLD << 6);
+        when(availabilityService.layout("e1")).thenReturn(new SeatLayout("e1", "v1", seats));
+        when(availabilityService.availability("e1")).thenReturn(new AvailabilitySnapshot("v1", seats.size(), statuses));
+        when(eventCache.get("e1")).thenReturn(Optional.empty());
+        when(seatHoldService.holdSeats(anyList(), any())).thenAnswer(inv ->
+            new HoldResult(HoldStatus.HELD, "e1", inv.getArgument(0), List.of(), List.of(), Instant.now()));
+        service = new SeatAllocationServiceImpl(availabilityService, seatHoldService, eventCache, sectionRepo, 1, 3);
+    }
+
+    @Test
+    void prefersFrontRowThenCentralSeats() {
+        HoldResult result = service.holdBestAvailable("e1", 2, null, null, "alice");
+        assertEquals(List.of("A1", "A2"), result.heldSeatIds());
+
+        result = service.holdBestAvailable("e1", 3, null, null, "alice");
+        assertEquals(List.of("B2", "B3", "B4"), result.heldSeatIds());
+    }
+
+    @Test
+    void priceCeilingExcludesSeats() {
+        assertEquals(List.of("A5", "A6"), service.holdBestAvailable("e1", 2, null, 50.0, "alice").heldSeatIds());
+
+        clearInvocations(seatHoldService);
+        HoldResult result = service.holdBestAvailable("e1", 6, null, 50.0, "alice");
+        assertEquals(HoldStatus.NO_MATCH, result.status());
+        verify(seatHoldService, never()).holdSeats(anyList(), any());
+    }
+
+    @Test
+    void lostRaceMovesToNextBlock() {
+        when(seatHoldService.holdSeats(eq(List.of("A1", "A2")), any()))
+            .thenReturn(new HoldResult(HoldStatus.UNAVAILABLE, "e1", List.of(), List.of("A1"), List.of(), null));
+        HoldResult result = service.holdBestAvailable("e1", 2, null, null, "alice");
+        assertEquals(HoldStatus.HELD, result.status());
+        assertEquals(List.of("A5", "A6"), result.heldSeatIds());
+    }
+}
@@ -0,0 +1,109 @@
+package com.yorku.betterticketmaster.domain.services.impl;
+
+import com.yorku.betterticketmaster.domain.model.event.GaInventory;
+import com.yorku.betterticketmaster.domain.model.event.Seat;
+import com.yorku.betterticketmaster.domain.services.GaInventoryService;
+import com.yorku.betterticketmaster.domain.services.SeatAvailabilityService.AvailabilitySnapshot;
+import com.yorku.betterticketmaster.domain.services.SeatAvailabilityService.SeatLayout;
+import com.yorku.betterticketmaster.domain.services.SeatAvailabilityService.SectionAvailability;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService;
+import com.yorku.betterticketmaster.domain.services.inventory.SectionAvailabilityTracker;
+import com.yorku.betterticketmaster.domain.services.inventory.SectionAvailabilityTracker.SectionCounts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatAvailabilityServiceImplTest {
+    @Mock SeatHoldService seatHoldService;
+    @Mock SectionAvailabilityTracker sectionTracker;
+    @Mock GaInventoryService gaInventoryService;
+
+    private static Seat seat(String id, String row, int num, String status) {
+        Seat s = new Seat(id, "e1", "Floor", row, num, 20.0);
+        s.setStatus(status);
+        return s;
+    }
+
+    @Test
+    void layout_isOrderedBySectionRowAndNumber() {
+        when(seatHoldService.listSeats("e1")).thenReturn(List.of(
+            seat("c", "AA", 1, "AVAILABLE"), seat("b", "B", 1, "AVAILABLE"), seat("a", "B", 2, "AVAILABLE"), seat("d", "A", 10, "AVAILABLE")));
+        SeatLayout layout = new SeatAvailabilityServiceImpl(seatHoldService, sectionTracker, gaInventoryService, 0, 600_000).layout("e1");
+        assertEquals(List.of("d", "b", "a", "c"), layout.seats().stream().map(p -> p.id()).toList());
+    }
+
+    @Test
+    void availability_packsTwoBitsPerSeatInLayoutOrder() {
+        List<Seat> seats = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) seats.add(seat("s" + i, "A", i, "AVAILABLE"));
+        seats.get(1).setStatus("HELD");
+        seats.get(4).setStatus("SOLD");
+        when(seatHoldService.listSeats("e1")).thenReturn(seats);
+
+        SeatAvailabilityServiceImpl service = new SeatAvailabilityServiceImpl(seatHoldService, sectionTracker, gaInventoryService, 0, 600_000);
+        AvailabilitySnapshot snapshot = service.availability("e1");
+        assertEquals(5, snapshot.count());
+        assertEquals(service.layout("e1").version(), snapshot.layoutVersion());
+        assertArrayEquals(new byte[] { 0b0000_0100, 0b0000_0010 }, snapshot.statuses());
+    }
+
+    @Test
+    void availability_newSeats_changeLayoutVersion() {
+        List<Seat> seats = new ArrayList<>(List.of(seat("s1", "A", 1, "AVAILABLE")));
+        when(seatHoldService.listSeats("e1")).thenAnswer(inv -> new ArrayList<>(seats));
+        SeatAvailabilityServiceImpl service = new SeatAvailabilityServiceImpl(seatHoldService, sectionTracker, gaInventoryService, 0, 600_000);
+        String before = service.availability("e1").layoutVersion();
+
+        seats.add(seat("s2", "A", 2, "SOLD"));
+        AvailabilitySnapshot after = service.availability("e1");
+        assertNotEquals(before, after.layoutVersion());
+        assertEquals(after.layoutVersion(), service.layout("e1").version());
+    }
+
+    @Test
+    void sections_listReservedThenGeneralAdmission() {
+        when(sectionTracker.sections("e1")).thenReturn(List.of(new SectionCounts("Floor", 10, 2, 3, 20.0, 45.0)));
+        GaInventory ga = new GaInventory("e1", "Lawn", 100, 15.0);
+        ga.setAvailable(90);
+        ga.setHeld(4);
+        ga.setSold(6);
+        GaInventory pit = new GaInventory("e1", "Pit", 50, 40.0);
+        pit.setAvailable(0);
+        pit.setSold(50);
+        when(gaInventoryService.listByEvent("e1")).thenReturn(List.of(ga, pit));
+
+        List<SectionAvailability> sections = new SeatAvailabilityServiceImpl(seatHoldService, sectionTracker, gaInventoryService, 0, 600_000).sections("e1");
+
+        assertEquals(List.of(
+            new SectionAvailability("Floor", "SEATED", 10, 2, 3, 20.0, 45.0),
+            new SectionAvailability("Lawn", "GA", 90, 4, 6, 15.0, 15.0),
+            new SectionAvailability("Pit", "GA", 0, 0, 50, 0.0, 0.0)
+        ), sections);
+    }
+
+    @Test
+    void evictIdle_dropsUnreadLayoutsOnly() {
+        when(seatHoldService.listSeats("e1")).thenReturn(List.of(seat("s1", "A", 1, "AVAILABLE")));
+        SeatAvailabilityServiceImpl kept = new SeatAvailabilityServiceImpl(seatHoldService, sectionTracker, gaInventoryService, 60_000, 600_000);
+        SeatAvailabilityServiceImpl idle = new SeatAvailabilityServiceImpl(seatHoldService, sectionTracker, gaInventoryService, 0, -1);
+        kept.availability("e1");
+        idle.availability("e1");
+
+        kept.evictIdle();
+        idle.evictIdle();
+
+        assertEquals(1, kept.cachedLayouts());
+        assertEquals(0, idle.cachedLayouts());
+        // The snapshot is still within its window, so it is served without reading seats again
+        kept.availability("e1");
+        verify(seatHoldService, times(2)).listSeats("e1");
+    }
+}
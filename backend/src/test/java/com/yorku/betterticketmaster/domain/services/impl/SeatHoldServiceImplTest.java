@@ -0,0 +1,106 @@
+package com.yorku.betterticketmaster.domain.services.impl;
+
+import com.yorku.betterticketmaster.core.stream.SeatStatusBroadcaster;
+import com.yorku.betterticketmaster.domain.model.event.Seat;
+import com.yorku.betterticketmaster.domain.repository.inventory.ProvisioningJobRepository;
+import com.yorku.betterticketmaster.domain.repository.inventory.SeatRepository;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.HoldResult;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.HoldStatus;
+import com.yorku.betterticketmaster.domain.services.inventory.EventCache;
+import com.yorku.betterticketmaster.domain.services.inventory.SeatInventoryEngine;
+import com.yorku.betterticketmaster.domain.services.inventory.SectionAvailabilityTracker;
+import com.yorku.betterticketmaster.domain.services.inventory.SectionAvailabilityTracker.SectionCounts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the hold service against the in-memory store, with Mongo mocked out.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SeatHoldServiceImplTest {
+    @Mock SeatRepository seatRepo;
+    @Mock EventCache eventCache;
+    @Mock SeatStatusBroadcaster broadcaster;
+    @Mock ProvisioningJobRepository jobRepo;
+
+    SectionAvailabilityTracker sections;
+    SeatHoldServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        List<Seat> seats = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) seats.add(new Seat("s" + i, "e1", "A", "1", i, 20.0));
+        when(seatRepo.findByEventId("e1")).thenReturn(seats);
+        when(seatRepo.findById(anyString())).thenAnswer(inv ->
+            seats.stream().filter(s -> s.getId().equals(inv.getArgument(0))).findFirst());
+        when(eventCache.get("e1")).thenReturn(Optional.empty());
+        SeatInventoryEngine engine = new SeatInventoryEngine(seatRepo, eventCache, 600_000);
+        sections = new SectionAvailabilityTracker(engine, jobRepo, 600_000);
+        service = new SeatHoldServiceImpl(engine, broadcaster, sections);
+    }
+
+    @Test
+    void onlyNullIds_areRejectedBeforeTheStore() {
+        assertThrows(IllegalArgumentException.class, () -> service.holdSeats(Arrays.asList((String) null), "alice"));
+        assertThrows(IllegalStateException.class, () -> service.sellSeats(Arrays.asList((String) null), "alice"));
+        verifyNoInteractions(seatRepo, broadcaster);
+    }
+
+    @Test
+    void hold_duplicateIds_heldOnce() {
+        HoldResult result = service.holdSeats(Arrays.asList("s1", "s1", null, "s2"), "alice");
+        assertEquals(HoldStatus.HELD, result.status());
+        assertEquals(List.of("s1", "s2"), result.heldSeatIds());
+        verify(broadcaster).publish("e1", List.of("s1", "s2"), "HELD", result.holdUntil());
+    }
+
+    @Test
+    void hold_conflict_reportsSeatsAndHoldsNothing() {
+        service.holdSeats(List.of("s2"), "alice");
+        HoldResult result = service.holdSeats(List.of("s1", "s2", "s3"), "bob");
+        assertEquals(HoldStatus.UNAVAILABLE, result.status());
+        assertEquals(List.of("s2"), result.conflictSeatIds());
+        assertEquals(1, service.listSeats("e1").stream().filter(s -> "HELD".equals(s.getStatus())).count());
+    }
+
+    @Test
+    void release_byOtherHolder_keepsHold() {
+        service.holdSeats(List.of("s1"), "alice");
+        assertEquals(0, service.releaseSeats(List.of("s1"), "bob").released());
+        assertEquals(1, service.releaseSeats(List.of("s1"), "alice").released());
+        verify(broadcaster).publish("e1", List.of("s1"), "AVAILABLE", null);
+    }
+
+    @Test
+    void sell_heldSeats_writesThrough() {
+        service.holdSeats(List.of("s1", "s2"), "alice");
+        service.sellSeats(List.of("s1", "s2"), "alice");
+        verify(seatRepo).writeSeatStates(argThat(list -> list.stream().allMatch(s -> "SOLD".equals(s.getStatus()))));
+        assertThrows(IllegalStateException.class, () -> service.sellSeats(List.of("s3"), "alice"));
+    }
+
+    @Test
+    void transitions_moveSectionCounts() {
+        assertEquals(List.of(new SectionCounts("A", 3, 0, 0, 20.0, 20.0)), sections.sections("e1"));
+        service.holdSeats(List.of("s1", "s2"), "alice");
+        assertEquals(List.of(new SectionCounts("A", 1, 2, 0, 20.0, 20.0)), sections.sections("e1"));
+        service.releaseSeats(List.of("s2"), "alice");
+        service.sellSeats(List.of("s1"), "alice");
+        assertEquals(List.of(new SectionCounts("A", 2, 0, 1, 20.0, 20.0)), sections.sections("e1"));
+    }
+}
@@ -0,0 +1,85 @@
+package com.yorku.betterticketmaster.domain.services.inventory;
+
+import com.yorku.betterticketmaster.core.cache.CacheInvalidationBus;
+import com.yorku.betterticketmaster.domain.model.event.Event;
+import com.yorku.betterticketmaster.domain.repository.inventory.EventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventCacheTest {
+    @Mock EventRepository eventRepo;
+    @Mock CacheInvalidationBus bus;
+
+    SimpleMeterRegistry registry;
+    EventCache cache;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new EventCache(eventRepo, bus, registry, 100, 60_000);
+        Event stored = new Event("e1", "o1", "l1", "Concert", "Hall", LocalDateTime.now().plusDays(1), 10, 100, "d", null);
+        lenient().when(eventRepo.findById("e1")).thenReturn(Optional.of(stored));
+    }
+
+    private double count(String result) {
+        return registry.get("btm.events.cache").tag("result", result).counter().count();
+    }
+
+    @Test
+    void get_loadsOnceAndHandsOutCopies() {
+        cache.get("e1").orElseThrow().setStatus("CLOSED");
+        Event second = cache.get("e1").orElseThrow();
+
+        assertEquals("APPROVED", second.getStatus());
+        verify(eventRepo, times(1)).findById(anyString());
+        assertEquals(1, count("miss"));
+        assertEquals(1, count("hit"));
+    }
+
+    @Test
+    void invalidate_reloadsAndTellsOtherInstances() {
+        cache.get("e1");
+        cache.invalidate("e1");
+        cache.get("e1");
+
+        verify(eventRepo, times(2)).findById("e1");
+        verify(bus).publish("events", "e1");
+    }
+
+    @Test
+    void remoteInvalidation_dropsLocalEntry() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Consumer<String>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(bus).subscribe(eq("events"), listener.capture());
+
+        cache.get("e1");
+        listener.getValue().accept("e1");
+        cache.get("e1");
+
+        verify(eventRepo, times(2)).findById("e1");
+        verify(bus, never()).publish(any(), any());
+    }
+
+    @Test
+    void get_missingEvent_isNotCached() {
+        when(eventRepo.findById("nope")).thenReturn(Optional.empty());
+
+        assertTrue(cache.get("nope").isEmpty());
+        assertTrue(cache.get("nope").isEmpty());
+        verify(eventRepo, times(2)).findById("nope");
+    }
+}
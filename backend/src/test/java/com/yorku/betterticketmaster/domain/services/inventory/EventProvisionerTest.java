@@ -0,0 +1,194 @@
+package com.yorku.betterticketmaster.domain.services.inventory;
+
+import com.yorku.betterticketmaster.domain.model.event.Event;
+import com.yorku.betterticketmaster.domain.model.event.ProvisioningJob;
+import com.yorku.betterticketmaster.domain.model.venue.SectionTemplate;
+import com.yorku.betterticketmaster.domain.model.venue.SectionType;
+import com.yorku.betterticketmaster.domain.repository.inventory.ProvisioningJobRepository;
+import com.yorku.betterticketmaster.domain.repository.inventory.SeatRepository;
+import com.yorku.betterticketmaster.domain.repository.venueBuilder.SectionTemplateRepository;
+import com.yorku.betterticketmaster.domain.services.GaInventoryService;
+import com.yorku.betterticketmaster.domain.services.inventory.SeatGenerator.Progress;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventProvisionerTest {
+    @Mock ProvisioningJobRepository jobRepo;
+    @Mock SectionTemplateRepository sectionRepo;
+    @Mock SeatRepository seatRepo;
+    @Mock SeatGenerator seatGenerator;
+    @Mock GaInventoryService gaInventoryService;
+    @Mock SeatHoldStore holdStore;
+
+    EventProvisioner provisioner;
+    final List<String> writtenStatuses = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        provisioner = new EventProvisioner(jobRepo, sectionRepo, seatRepo, seatGenerator, gaInventoryService, holdStore,
+            new SimpleMeterRegistry(), 1, 2, 60_000, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        provisioner.shutdown();
+    }
+
+    private static SectionTemplate section(String id, SectionType type, int rows, int seatsPerRow) {
+        SectionTemplate s = new SectionTemplate();
+        s.setId(id);
+        s.setSectionName("S" + id);
+        s.setSectionType(type);
+        List<String> labels = new ArrayList<>();
+        for (int i = 1; i <= rows; i++) labels.add(String.valueOf(i));
+        s.setRows(labels);
+        s.setSeatsPerRow(seatsPerRow);
+        return s;
+    }
+
+    private ProvisioningJob claimed(int attempts, List<String> completed) {
+        ProvisioningJob job = new ProvisioningJob("e1", "l1", Instant.now());
+        job.setStatus("RUNNING");
+        job.setAttempts(attempts);
+        job.setClaimToken("t");
+        job.setCompletedSections(new ArrayList<>(completed));
+        when(jobRepo.claim(eq("e1"), any(), any())).thenReturn(job);
+        when(jobRepo.writeProgress(same(job), any())).thenAnswer(inv -> {
+            writtenStatuses.add(job.getStatus());
+            return true;
+        });
+        return job;
+    }
+
+    @Test
+    void start_withoutLayout_hasNothingToDo() {
+        Event e = new Event();
+        e.setId("e1");
+
+        assertNull(provisioner.start(e));
+        verifyNoInteractions(jobRepo);
+    }
+
+    @Test
+    void run_createsGaInventoryAndGeneratesSeatedSections() {
+        ProvisioningJob job = claimed(1, List.of());
+        SectionTemplate ga = section("g", SectionType.GA, 2, 10);
+        SectionTemplate a = section("a", SectionType.SEATED, 2, 5);
+        SectionTemplate b = section("b", SectionType.SEATED, 1, 4);
+        when(sectionRepo.findByLayoutId("l1")).thenReturn(List.of(ga, a, b));
+        when(seatGenerator.generate(eq("e1"), eq(List.of(a, b)), anyDouble(), any())).thenAnswer(inv -> {
+            Consumer<Progress> progress = inv.getArgument(3);
+            progress.accept(new Progress(2, 1, 14, 10, a));
+            progress.accept(new Progress(2, 2, 14, 14, b));
+            return 14L;
+        });
+
+        provisioner.run("e1");
+
+        verify(gaInventoryService).createInventory("e1", "Sg", 20, EventProvisioner.DEFAULT_SEAT_PRICE);
+        verify(seatRepo, never()).countByEventId(any());
+        assertEquals("DONE", job.getStatus());
+        assertEquals(14, job.getSeats());
+        assertEquals(14, job.getSeatsWritten());
+        assertEquals(2, job.getSectionsDone());
+        assertEquals(List.of("a", "b"), job.getCompletedSections());
+        verify(holdStore, times(2)).evict("e1");
+        assertEquals("DONE", writtenStatuses.get(writtenStatuses.size() - 1));
+    }
+
+    @Test
+    void run_resumedJob_skipsFinishedSectionsAndCountsExistingSeats() {
+        ProvisioningJob job = claimed(2, List.of("a"));
+        SectionTemplate a = section("a", SectionType.SEATED, 2, 5);
+        SectionTemplate b = section("b", SectionType.SEATED, 1, 4);
+        when(sectionRepo.findByLayoutId("l1")).thenReturn(List.of(a, b));
+        when(seatRepo.countByEventId("e1")).thenReturn(12L); // a, plus 2 seats of b from the failed attempt
+        when(seatGenerator.generate(eq("e1"), eq(List.of(b)), anyDouble(), any())).thenAnswer(inv -> {
+            Consumer<Progress> progress = inv.getArgument(3);
+            progress.accept(new Progress(1, 1, 4, 2, b));
+            return 2L;
+        });
+
+        provisioner.run("e1");
+
+        assertEquals("DONE", job.getStatus());
+        assertEquals(14, job.getSeatsWritten());
+        assertEquals(2, job.getSectionsDone());
+    }
+
+    @Test
+    void run_failure_retriesThenGivesUp() {
+        ProvisioningJob job = claimed(1, List.of());
+        when(sectionRepo.findByLayoutId("l1")).thenReturn(List.of(section("a", SectionType.SEATED, 1, 2)));
+        when(seatGenerator.generate(any(), any(), anyDouble(), any())).thenThrow(new IllegalStateException("db down"));
+
+        provisioner.run("e1");
+        assertEquals("PENDING", job.getStatus());
+        assertEquals("db down", job.getLastError());
+
+        job.setAttempts(2);
+        provisioner.run("e1");
+        assertEquals("FAILED", job.getStatus());
+        assertNotNull(job.getFinishedAt());
+    }
+
+    @Test
+    void retry_onlyRequeuesFailedJobs() {
+        ProvisioningJob job = new ProvisioningJob("e1", "l1", Instant.now());
+        when(jobRepo.resetFailed(eq("e1"), any())).thenReturn(true);
+        when(jobRepo.findById("e1")).thenReturn(Optional.of(job));
+        when(jobRepo.resetFailed(eq("e2"), any())).thenReturn(false);
+
+        assertSame(job, provisioner.retry("e1").orElseThrow());
+        assertTrue(provisioner.retry("e2").isEmpty());
+        verify(jobRepo, timeout(1_000)).claim(eq("e1"), any(), any());
+        verify(jobRepo, never()).claim(eq("e2"), any(), any());
+    }
+
+    @Test
+    void run_afterRetry_countsSeatsOfFailedAttempts() {
+        ProvisioningJob job = claimed(1, List.of("a"));
+        job.setLastError("db down");
+        SectionTemplate a = section("a", SectionType.SEATED, 2, 5);
+        SectionTemplate b = section("b", SectionType.SEATED, 1, 4);
+        when(sectionRepo.findByLayoutId("l1")).thenReturn(List.of(a, b));
+        when(seatRepo.countByEventId("e1")).thenReturn(10L);
+        when(seatGenerator.generate(eq("e1"), eq(List.of(b)), anyDouble(), any())).thenAnswer(inv -> {
+            Consumer<Progress> progress = inv.getArgument(3);
+            progress.accept(new Progress(1, 1, 4, 4, b));
+            return 4L;
+        });
+
+        provisioner.run("e1");
+
+        assertEquals("DONE", job.getStatus());
+        assertNull(job.getLastError());
+        assertEquals(14, job.getSeatsWritten());
+    }
+
+    @Test
+    void run_jobClaimedElsewhere_doesNothing() {
+        when(jobRepo.claim(eq("e1"), any(), any())).thenReturn(null);
+
+        provisioner.run("e1");
+
+        verifyNoInteractions(sectionRepo, seatGenerator);
+        verify(jobRepo, never()).writeProgress(any(), any());
+    }
+}
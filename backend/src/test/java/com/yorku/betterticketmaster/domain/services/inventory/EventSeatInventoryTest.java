@@ -0,0 +1,118 @@
+package com.yorku.betterticketmaster.domain.services.inventory;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import com.yorku.betterticketmaster.domain.model.event.Seat;
+
+public class EventSeatInventoryTest {
+
+    private static EventSeatInventory inventory(int n) {
+        List<Seat> seats = new java.util.ArrayList<>();
+        for (int i = 1; i <= n; i++) seats.add(new Seat("s" + i, "e1", "A", "1", i, 20.0));
+        return new EventSeatInventory("e1", seats);
+    }
+
+    @Test
+    void holdIsAllOrNothing() {
+        EventSeatInventory inv = inventory(3);
+        assertTrue(inv.holdAll(new int[] { 0 }, "alice", 100, 400).isEmpty());
+
+        List<Integer> conflicts = inv.holdAll(new int[] { 1, 0, 2 }, "bob", 100, 400);
+        assertEquals(List.of(0), conflicts);
+        assertEquals("AVAILABLE", inv.seatAt(1).getStatus());
+        assertEquals("AVAILABLE", inv.seatAt(2).getStatus());
+        assertEquals("alice", inv.seatAt(0).getHeldBy());
+    }
+
+    @Test
+    void sameHolderCanExtendAndExpiredHoldsCanBeTaken() {
+        EventSeatInventory inv = inventory(1);
+        assertTrue(inv.holdAll(new int[] { 0 }, "alice", 100, 400).isEmpty());
+        assertTrue(inv.holdAll(new int[] { 0 }, "alice", 200, 500).isEmpty());
+        assertEquals(500, inv.seatAt(0).getHoldUntil().getEpochSecond());
+
+        assertFalse(inv.holdAll(new int[] { 0 }, "bob", 300, 600).isEmpty());
+        assertTrue(inv.holdAll(new int[] { 0 }, "bob", 501, 800).isEmpty());
+        assertEquals("bob", inv.seatAt(0).getHeldBy());
+    }
+
+    @Test
+    void releaseOnlyFreesOwnHolds() {
+        EventSeatInventory inv = inventory(2);
+        inv.holdAll(new int[] { 0 }, "alice", 100, 400);
+        inv.holdAll(new int[] { 1 }, "bob", 100, 400);
+        assertEquals(1, inv.releaseAll(new int[] { 0, 1 }, "alice"));
+        assertEquals("AVAILABLE", inv.seatAt(0).getStatus());
+        assertEquals("HELD", inv.seatAt(1).getStatus());
+    }
+
+    @Test
+    void sellRequiresLiveHoldAndRollsBack() {
+        EventSeatInventory inv = inventory(2);
+        inv.holdAll(new int[] { 0, 1 }, "alice", 100, 400);
+        assertTrue(inv.sellAll(new int[] { 0, 1 }, "alice", 200).isEmpty());
+        assertEquals("SOLD", inv.seatAt(1).getStatus());
+
+        EventSeatInventory expired = inventory(2);
+        expired.holdAll(new int[] { 0 }, "alice", 100, 400);
+        assertFalse(expired.sellAll(new int[] { 0, 1 }, "alice", 200).isEmpty());
+        assertEquals("HELD", expired.seatAt(0).getStatus());
+    }
+
+    @Test
+    void sellRequiresTheHoldersOwnHold() {
+        EventSeatInventory inv = inventory(1);
+        inv.holdAll(new int[] { 0 }, "alice", 100, 400);
+        assertFalse(inv.sellAll(new int[] { 0 }, "bob", 200).isEmpty());
+        assertFalse(inv.sellAll(new int[] { 0 }, null, 200).isEmpty());
+        assertEquals("HELD", inv.seatAt(0).getStatus());
+    }
+
+    @Test
+    void changesAreDrainedOncePerSeat() {
+        EventSeatInventory inv = inventory(2);
+        inv.holdAll(new int[] { 0 }, "alice", 100, 400);
+        inv.releaseAll(new int[] { 0 }, "alice");
+        List<Seat> drained = inv.drainDirty();
+        assertEquals(1, drained.size());
+        assertEquals("AVAILABLE", drained.get(0).getStatus());
+        assertTrue(inv.drainDirty().isEmpty());
+    }
+
+    @Test
+    void holdersWithCollidingHashCodesAreDistinct() {
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        EventSeatInventory inv = inventory(1);
+        assertTrue(inv.holdAll(new int[] { 0 }, "Aa", 100, 400).isEmpty());
+
+        assertFalse(inv.holdAll(new int[] { 0 }, "BB", 200, 500).isEmpty());
+        assertEquals(0, inv.releaseAll(new int[] { 0 }, "BB"));
+        assertEquals("Aa", inv.seatAt(0).getHeldBy());
+    }
+
+    @Test
+    void anonymousHoldsBelongToNobody() {
+        EventSeatInventory inv = inventory(1);
+        assertTrue(inv.holdAll(new int[] { 0 }, null, 100, 400).isEmpty());
+
+        assertFalse(inv.holdAll(new int[] { 0 }, null, 200, 500).isEmpty());
+        assertEquals(0, inv.releaseAll(new int[] { 0 }, null));
+        assertEquals("HELD", inv.seatAt(0).getStatus());
+    }
+
+    @Test
+    void retiredInventoryRefusesOperations() {
+        EventSeatInventory inv = inventory(1);
+        inv.holdAll(new int[] { 0 }, "alice", 100, 400);
+        long later = System.currentTimeMillis() + 1_000;
+        assertFalse(inv.retireIfIdle(0, later), "pending writes keep it loaded");
+
+        inv.drainDirty();
+        assertTrue(inv.retireIfIdle(0, later));
+        assertNull(inv.ifLive(() -> inv.releaseAll(new int[] { 0 }, "alice")));
+        assertEquals("HELD", inv.seatAt(0).getStatus());
+    }
+}
@@ -0,0 +1,102 @@
+package com.yorku.betterticketmaster.domain.services.inventory;
+
+import com.yorku.betterticketmaster.core.stream.SeatStatusBroadcaster;
+import com.yorku.betterticketmaster.domain.model.event.Seat;
+import com.yorku.betterticketmaster.domain.repository.inventory.SeatRepository;
+import com.yorku.betterticketmaster.domain.services.GaInventoryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the scheduler against the in-memory store, loaded with seats in every state.
+ */
+@ExtendWith(MockitoExtension.class)
+class HoldExpirySchedulerTest {
+    @Mock SeatRepository seatRepo;
+    @Mock EventCache eventCache;
+    @Mock GaInventoryService gaInventory;
+    @Mock SeatStatusBroadcaster broadcaster;
+
+    SimpleMeterRegistry registry;
+    SeatInventoryEngine engine;
+    HoldExpiryScheduler scheduler;
+
+    private static Seat seat(String id, String status, Instant holdUntil) {
+        Seat s = new Seat(id, "e1", "A", "1", 1, 20.0);
+        s.setStatus(status);
+        s.setHoldUntil(holdUntil);
+        if (holdUntil != null) s.setHeldBy("alice");
+        return s;
+    }
+
+    @BeforeEach
+    void setUp() {
+        Instant now = Instant.now();
+        when(seatRepo.findByEventId("e1")).thenReturn(List.of(
+            seat("expired", "HELD", now.minusSeconds(30)),
+            seat("live", "HELD", now.plusSeconds(300)),
+            seat("sold", "SOLD", null),
+            seat("free", "AVAILABLE", null)
+        ));
+        registry = new SimpleMeterRegistry();
+        engine = new SeatInventoryEngine(seatRepo, eventCache, 600_000);
+        scheduler = new HoldExpiryScheduler(engine, gaInventory, broadcaster, registry);
+        engine.seats("e1");
+    }
+
+    private Map<String, String> statuses() {
+        return engine.seats("e1").stream().collect(Collectors.toMap(Seat::getId, Seat::getStatus));
+    }
+
+    @Test
+    void tick_releasesExpiredHoldsOnly() {
+        scheduler.tick();
+
+        assertEquals(Map.of("expired", "AVAILABLE", "live", "HELD", "sold", "SOLD", "free", "AVAILABLE"), statuses());
+        assertEquals(1.0, registry.get("btm.holds.expired").counter().count());
+        assertEquals(1, registry.get("btm.holds.release.lag").timer().count());
+        verify(gaInventory).releaseExpired(any(), any());
+    }
+
+    @Test
+    void tick_releasedSeatsAreWrittenBack() {
+        scheduler.tick();
+        engine.flushAll();
+
+        verify(seatRepo).writeSeatStates(argThat(seats -> seats.size() == 1
+            && "expired".equals(seats.get(0).getId()) && "AVAILABLE".equals(seats.get(0).getStatus())));
+    }
+
+    @Test
+    void tick_publishesReleasedSeatsAsAvailable() {
+        scheduler.tick();
+
+        verify(broadcaster).publish("e1", List.of("expired"), "AVAILABLE", null);
+        verifyNoMoreInteractions(broadcaster);
+    }
+
+    @Test
+    void tick_twice_releasesOnce() {
+        scheduler.tick();
+        scheduler.tick();
+
+        assertEquals(1.0, registry.get("btm.holds.expired").counter().count());
+        verify(broadcaster, times(1)).publish(any(), any(), any(), any());
+        Map<String, Seat> byId = engine.seats("e1").stream().collect(Collectors.toMap(Seat::getId, Function.identity()));
+        assertEquals("alice", byId.get("live").getHeldBy());
+    }
+}
@@ -0,0 +1,114 @@
+package com.yorku.betterticketmaster.domain.services.inventory;
+
+import com.yorku.betterticketmaster.domain.model.event.Seat;
+import com.yorku.betterticketmaster.domain.repository.inventory.SeatRepository;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.HoldResult;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.HoldStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MongoSeatHoldStoreTest {
+    @Mock SeatRepository seatRepo;
+    @Mock EventCache eventCache;
+
+    MongoSeatHoldStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new MongoSeatHoldStore(seatRepo, eventCache, new SimpleMeterRegistry(), 30_000);
+        lenient().when(eventCache.get("e1")).thenReturn(Optional.empty());
+    }
+
+    private static Seat seat(String id, String status, String heldBy, Instant holdUntil) {
+        Seat s = new Seat(id, "e1", "A", "1", 1, 20.0);
+        s.setStatus(status);
+        s.setHeldBy(heldBy);
+        s.setHoldUntil(holdUntil);
+        return s;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void hold_lostRace_releasesNewSeatsAndRestoresEarlierHolds() {
+        Instant earlier = Instant.now().plusSeconds(120);
+        Seat mine = seat("s1", "HELD", "alice", earlier);
+        mine.setHoldToken("old-token");
+        when(seatRepo.findAllById(List.of("s1", "s2", "s3"))).thenReturn(List.of(
+            mine, seat("s2", "AVAILABLE", null, null), seat("s3", "AVAILABLE", null, null)));
+        when(seatRepo.claimForHold(any(), any(), eq("alice"), anyString(), any(), any())).thenReturn(2L);
+        when(seatRepo.findIdsByHoldToken(any(), anyString())).thenReturn(List.of("s1", "s2"));
+
+        HoldResult result = store.hold(List.of("s1", "s2", "s3"), "alice");
+
+        assertEquals(HoldStatus.UNAVAILABLE, result.status());
+        assertEquals(List.of("s3"), result.conflictSeatIds());
+        verify(seatRepo).revertHold(eq(List.of("s2")), anyString());
+        ArgumentCaptor<Collection<Seat>> restored = ArgumentCaptor.forClass(Collection.class);
+        verify(seatRepo).restoreHolds(restored.capture(), anyString());
+        Seat back = restored.getValue().iterator().next();
+        assertEquals("s1", back.getId());
+        assertEquals(earlier, back.getHoldUntil());
+        assertEquals("old-token", back.getHoldToken());
+    }
+
+    @Test
+    void hold_anonymous_cannotTakeOverAnotherAnonymousHold() {
+        when(seatRepo.findAllById(List.of("s1"))).thenReturn(List.of(seat("s1", "HELD", null, Instant.now().plusSeconds(120))));
+
+        HoldResult result = store.hold(List.of("s1"), null);
+
+        assertEquals(HoldStatus.UNAVAILABLE, result.status());
+        verify(seatRepo, never()).claimForHold(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void release_anonymous_releasesNothing() {
+        when(seatRepo.findAllById(List.of("s1"))).thenReturn(List.of(seat("s1", "HELD", null, Instant.now().plusSeconds(120))));
+
+        assertEquals(0, store.release(List.of("s1"), null).released());
+        verify(seatRepo, never()).releaseHolds(any(), any());
+    }
+
+    @Test
+    void sell_heldByOther_sellsNothing() {
+        when(seatRepo.findAllById(List.of("s1"))).thenReturn(List.of(seat("s1", "HELD", "alice", Instant.now().plusSeconds(120))));
+
+        assertThrows(IllegalStateException.class, () -> store.sell(List.of("s1"), "bob"));
+        verify(seatRepo, never()).sellHeld(any(), any(), any(), any());
+    }
+
+    @Test
+    void releaseExpired_reportsFreedSeatsByEvent() {
+        when(seatRepo.findAllById(List.of("s1", "s2"))).thenReturn(List.of(seat("s1", "AVAILABLE", null, null), seat("s2", "AVAILABLE", null, null)));
+        when(seatRepo.claimForHold(any(), any(), eq("alice"), anyString(), any(), any())).thenReturn(2L);
+        store.hold(List.of("s1", "s2"), "alice");
+        when(seatRepo.releaseExpiredHolds(any(), any())).thenReturn(1L);
+        // s2 was sold before its hold lapsed
+        when(seatRepo.findAllById(anyList())).thenReturn(List.of(seat("s1", "AVAILABLE", null, null), seat("s2", "SOLD", null, null)));
+        List<String> freed = new ArrayList<>();
+
+        int released = store.releaseExpired(Instant.now().plusSeconds(3600), until -> {}, (eventId, ids) -> {
+            assertEquals("e1", eventId);
+            freed.addAll(ids);
+        });
+
+        assertEquals(1, released);
+        assertEquals(List.of("s1"), freed);
+    }
+}
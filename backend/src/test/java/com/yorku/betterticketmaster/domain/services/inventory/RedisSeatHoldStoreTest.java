@@ -0,0 +1,179 @@
+package com.yorku.betterticketmaster.domain.services.inventory;
+
+import com.yorku.betterticketmaster.domain.model.event.Seat;
+import com.yorku.betterticketmaster.domain.repository.inventory.SeatRepository;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.HoldResult;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.HoldStatus;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the store and its scripts against a real Redis server, with Mongo mocked out.
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisSeatHoldStoreTest {
+    static RedisServer server;
+    static LettuceConnectionFactory connections;
+    static StringRedisTemplate redis;
+
+    @Mock SeatRepository seatRepo;
+    @Mock EventCache eventCache;
+
+    RedisSeatHoldStore store;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = new RedisServer(port);
+        server.start();
+        connections = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connections.afterPropertiesSet();
+        connections.start();
+        redis = new StringRedisTemplate(connections);
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        connections.destroy();
+        server.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Seat> seats = List.of(seat("s1"), seat("s2")).stream().collect(Collectors.toMap(Seat::getId, Function.identity()));
+        lenient().when(seatRepo.findAllById(anyIterable())).thenAnswer(inv -> {
+            List<Seat> found = new ArrayList<>();
+            for (Object id : (Iterable<?>) inv.getArgument(0)) {
+                if (seats.containsKey(id)) found.add(seats.get(id));
+            }
+            return found;
+        });
+        lenient().when(eventCache.get("e1")).thenReturn(Optional.empty());
+        store = new RedisSeatHoldStore(redis, seatRepo, eventCache);
+    }
+
+    @AfterEach
+    void clear() {
+        store.evictAll();
+    }
+
+    private static Seat seat(String id) {
+        return new Seat(id, "e1", "A", "1", 1, 20.0);
+    }
+
+    private static String key(String seatId) {
+        return "btm:hold:{e1}:" + seatId;
+    }
+
+    @Test
+    void hold_heldByOther_holdsNothing() {
+        assertEquals(HoldStatus.HELD, store.hold(List.of("s1"), "alice").status());
+
+        HoldResult result = store.hold(List.of("s1", "s2"), "bob");
+
+        assertEquals(HoldStatus.UNAVAILABLE, result.status());
+        assertEquals(List.of("s1"), result.conflictSeatIds());
+        assertFalse(redis.hasKey(key("s2")));
+        assertEquals(HoldStatus.HELD, store.hold(List.of("s1", "s2"), "alice").status());
+    }
+
+    @Test
+    void anonymousHolds_neverMatch() {
+        assertEquals(HoldStatus.HELD, store.hold(List.of("s1"), null).status());
+
+        assertEquals(HoldStatus.UNAVAILABLE, store.hold(List.of("s1"), null).status());
+        assertEquals(0, store.release(List.of("s1"), null).released());
+        assertThrows(IllegalStateException.class, () -> store.sell(List.of("s1"), null));
+        assertTrue(redis.hasKey(key("s1")));
+    }
+
+    @Test
+    void release_onlyOwnHolds() {
+        store.hold(List.of("s1"), "alice");
+        store.hold(List.of("s2"), "bob");
+
+        assertEquals(1, store.release(List.of("s1", "s2"), "alice").released());
+        assertFalse(redis.hasKey(key("s1")));
+        assertTrue(redis.hasKey(key("s2")));
+    }
+
+    @Test
+    void sell_heldByOther_isRejectedAndKeepsHold() {
+        store.hold(List.of("s1"), "alice");
+
+        assertThrows(IllegalStateException.class, () -> store.sell(List.of("s1"), "bob"));
+        assertTrue(redis.hasKey(key("s1")));
+        verify(seatRepo, never()).markSold(any(), any());
+    }
+
+    @Test
+    void sell_marksSoldAndDropsHolds() {
+        store.hold(List.of("s1", "s2"), "alice");
+        when(seatRepo.markSold(eq(List.of("s1", "s2")), anyString())).thenReturn(2L);
+
+        store.sell(List.of("s1", "s2"), "alice");
+
+        assertFalse(redis.hasKey(key("s1")));
+        assertFalse(redis.hasKey(key("s2")));
+        verify(seatRepo, never()).revertMarkSold(any(), any());
+    }
+
+    @Test
+    void sell_partlySold_revertsAndRestoresHoldExpiry() {
+        // A hold about to lapse is pinned for the sale; a failed sale must not leave it pinned.
+        long until = Instant.now().toEpochMilli() + 5_000;
+        redis.opsForValue().set(key("s1"), until + ":alice", 5_000, TimeUnit.MILLISECONDS);
+        store.hold(List.of("s2"), "alice");
+        when(seatRepo.markSold(eq(List.of("s1", "s2")), anyString())).thenReturn(1L);
+
+        assertThrows(IllegalStateException.class, () -> store.sell(List.of("s1", "s2"), "alice"));
+
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        verify(seatRepo).markSold(eq(List.of("s1", "s2")), token.capture());
+        verify(seatRepo).revertMarkSold(List.of("s1", "s2"), token.getValue());
+        long ttl = redis.getExpire(key("s1"), TimeUnit.MILLISECONDS);
+        assertTrue(ttl > 0 && ttl <= 5_000, "pin not undone, ttl " + ttl);
+        assertTrue(redis.hasKey(key("s2")));
+    }
+
+    @Test
+    void seats_showLiveHolds() {
+        when(seatRepo.findByEventId("e1")).thenReturn(List.of(seat("s1"), seat("s2")));
+        HoldResult held = store.hold(List.of("s2"), "alice");
+
+        List<Seat> seats = store.seats("e1");
+
+        assertEquals("AVAILABLE", seats.get(0).getStatus());
+        assertEquals("HELD", seats.get(1).getStatus());
+        assertEquals("alice", seats.get(1).getHeldBy());
+        assertEquals(held.holdUntil().toEpochMilli(), seats.get(1).getHoldUntil().toEpochMilli());
+    }
+}
@@ -0,0 +1,109 @@
+package com.yorku.betterticketmaster.domain.services.inventory;
+
+import com.yorku.betterticketmaster.domain.model.event.Seat;
+import com.yorku.betterticketmaster.domain.model.venue.SectionTemplate;
+import com.yorku.betterticketmaster.domain.repository.inventory.SeatRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatGeneratorTest {
+    @Mock SeatRepository seatRepo;
+
+    SeatGenerator generator;
+    final List<Seat> inserted = Collections.synchronizedList(new ArrayList<>());
+    final List<Integer> chunkSizes = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        generator = new SeatGenerator(seatRepo, new SimpleMeterRegistry(), 3, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        generator.shutdown();
+    }
+
+    private void recordInserts() {
+        when(seatRepo.insertSeats(anyList())).thenAnswer(inv -> {
+            List<Seat> chunk = inv.getArgument(0);
+            chunkSizes.add(chunk.size());
+            inserted.addAll(chunk);
+            return (long) chunk.size();
+        });
+    }
+
+    private static SectionTemplate section(String name, List<String> rows, int seatsPerRow, Set<String> disabled) {
+        SectionTemplate s = new SectionTemplate();
+        s.setSectionName(name);
+        s.setRows(rows);
+        s.setSeatsPerRow(seatsPerRow);
+        s.setDisabledSeats(disabled);
+        return s;
+    }
+
+    @Test
+    void generate_writesEverySeatInChunksSkippingDisabled() {
+        recordInserts();
+        List<SectionTemplate> sections = List.of(
+            section("A", List.of("1", "2"), 5, Set.of("1-3")),
+            section("B", List.of("1"), 3, null)
+        );
+
+        long written = generator.generate("e1", sections, 25.0, p -> {});
+
+        assertEquals(12, written);
+        assertEquals(12, inserted.size());
+        assertTrue(chunkSizes.stream().allMatch(n -> n <= 4));
+        Set<String> keys = new HashSet<>();
+        for (Seat s : inserted) keys.add(s.getSection() + ":" + s.getRow() + "-" + s.getSeatNum());
+        assertEquals(12, keys.size());
+        assertFalse(keys.contains("A:1-3"));
+        assertTrue(inserted.stream().allMatch(s -> "e1".equals(s.getEventId()) && s.getPrice() == 25.0));
+    }
+
+    @Test
+    void generate_reportsProgressUpToTheTotals() {
+        recordInserts();
+        List<SeatGenerator.Progress> reports = new ArrayList<>();
+
+        generator.generate("e1", List.of(section("A", List.of("1", "2", "3"), 4, null)), 25.0, reports::add);
+
+        SeatGenerator.Progress last = reports.get(reports.size() - 1);
+        assertEquals(1, last.sectionsDone());
+        assertEquals(12, last.seatsWritten());
+        assertEquals(12, last.seats());
+        assertEquals("A", last.finished().getSectionName());
+        for (int i = 1; i < reports.size(); i++) {
+            assertTrue(reports.get(i).seatsWritten() >= reports.get(i - 1).seatsWritten());
+        }
+    }
+
+    @Test
+    void generate_failedChunk_throws() {
+        when(seatRepo.insertSeats(anyList())).thenThrow(new RuntimeException("down"));
+
+        assertThrows(IllegalStateException.class,
+            () -> generator.generate("e1", List.of(section("A", List.of("1"), 2, null)), 25.0, p -> {}));
+    }
+
+    @Test
+    void seatCount_excludesDisabledAndBlankRows() {
+        assertEquals(7, SeatGenerator.seatCount(section("A", List.of("1", " ", "2"), 4, Set.of("2-1"))));
+    }
+}
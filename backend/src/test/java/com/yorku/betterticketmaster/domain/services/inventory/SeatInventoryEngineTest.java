@@ -0,0 +1,68 @@
+package com.yorku.betterticketmaster.domain.services.inventory;
+
+import com.yorku.betterticketmaster.domain.model.event.Seat;
+import com.yorku.betterticketmaster.domain.repository.inventory.SeatRepository;
+import com.yorku.betterticketmaster.domain.services.SeatHoldService.HoldStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatInventoryEngineTest {
+    @Mock SeatRepository seatRepo;
+    @Mock EventCache eventCache;
+
+    @Test
+    void emptySeatLists_areRejected() {
+        SeatInventoryEngine engine = new SeatInventoryEngine(seatRepo, eventCache, 600_000);
+
+        assertThrows(IllegalArgumentException.class, () -> engine.hold(List.of(), "alice"));
+        assertThrows(IllegalStateException.class, () -> engine.sell(List.of(), "alice"));
+        verifyNoInteractions(seatRepo);
+    }
+
+    @Test
+    void retiredInventory_dropsItsSeatMappings() {
+        when(seatRepo.findByEventId("e1")).thenReturn(List.of(new Seat("s1", "e1", "A", "1", 1, 20.0), new Seat("s2", "e1", "A", "1", 2, 20.0)));
+        when(seatRepo.findById("s1")).thenReturn(Optional.of(new Seat("s1", "e1", "A", "1", 1, 20.0)));
+        when(eventCache.get("e1")).thenReturn(Optional.empty());
+        SeatInventoryEngine engine = new SeatInventoryEngine(seatRepo, eventCache, -1);
+
+        assertEquals(HoldStatus.HELD, engine.hold(List.of("s1"), "alice").status());
+        assertEquals(2, engine.mappedSeats());
+        engine.flushAll(); // writes the hold back
+        engine.flushAll(); // nothing pending, so the idle event is retired
+
+        assertEquals(0, engine.mappedSeats());
+        verify(seatRepo).writeSeatStates(argThat(seats -> seats.size() == 1 && "HELD".equals(seats.get(0).getStatus())));
+        engine.seats("e1");
+        verify(seatRepo, times(2)).findByEventId("e1");
+    }
+
+    @Test
+    void evict_picksUpSeatsGeneratedAfterTheLoad() {
+        Seat s1 = new Seat("s1", "e1", "A", "1", 1, 20.0);
+        Seat s2 = new Seat("s2", "e1", "B", "1", 1, 20.0);
+        when(seatRepo.findByEventId("e1")).thenReturn(List.of(s1)).thenReturn(List.of(s1, s2));
+        when(seatRepo.findById("s1")).thenReturn(Optional.of(s1));
+        when(seatRepo.findById("s2")).thenReturn(Optional.of(s2));
+        when(eventCache.get("e1")).thenReturn(Optional.empty());
+        SeatInventoryEngine engine = new SeatInventoryEngine(seatRepo, eventCache, 600_000);
+
+        assertEquals(HoldStatus.HELD, engine.hold(List.of("s1"), "alice").status());
+        assertEquals(HoldStatus.NOT_FOUND, engine.hold(List.of("s2"), "alice").status());
+
+        engine.evict("e1");
+
+        verify(seatRepo).writeSeatStates(argThat(seats -> seats.size() == 1 && "s1".equals(seats.get(0).getId())));
+        assertEquals(HoldStatus.HELD, engine.hold(List.of("s2"), "alice").status());
+    }
+}
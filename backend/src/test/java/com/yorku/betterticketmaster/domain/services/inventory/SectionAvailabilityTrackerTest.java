@@ -0,0 +1,183 @@
+package com.yorku.betterticketmaster.domain.services.inventory;
+
+import com.yorku.betterticketmaster.domain.model.event.ProvisioningJob;
+import com.yorku.betterticketmaster.domain.model.event.Seat;
+import com.yorku.betterticketmaster.domain.repository.inventory.ProvisioningJobRepository;
+import com.yorku.betterticketmaster.domain.services.inventory.SectionAvailabilityTracker.SectionCounts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SectionAvailabilityTrackerTest {
+    @Mock SeatHoldStore store;
+    @Mock ProvisioningJobRepository jobRepo;
+
+    private static ProvisioningJob job(String status) {
+        ProvisioningJob job = new ProvisioningJob("e1", "l1", Instant.now());
+        job.setStatus(status);
+        return job;
+    }
+
+    private static Seat seat(String id, String section, double price, String status, Instant holdUntil) {
+        Seat s = new Seat(id, "e1", section, "1", 1, price);
+        s.setStatus(status);
+        s.setHoldUntil(holdUntil);
+        return s;
+    }
+
+    @Test
+    void sections_countSeatsAndPricesOfAvailableSeatsPerSection() {
+        Instant later = Instant.now().plusSeconds(300);
+        when(store.seats("e1")).thenReturn(List.of(
+            seat("a", "Upper", 25.0, "AVAILABLE", null),
+            seat("b", "Lower", 80.0, "SOLD", null),
+            seat("c", "Lower", 60.0, "HELD", later),
+            seat("d", "Lower", 60.0, "HELD", Instant.now().minusSeconds(5)),
+            seat("e", "Upper", 30.0, "AVAILABLE", null)
+        ));
+
+        List<SectionCounts> sections = new SectionAvailabilityTracker(store, jobRepo, 600_000).sections("e1");
+
+        assertEquals(List.of(
+            new SectionCounts("Lower", 1, 1, 1, 60.0, 60.0),
+            new SectionCounts("Upper", 2, 0, 0, 25.0, 30.0)
+        ), sections);
+    }
+
+    @Test
+    void transitions_areAppliedWithoutReadingSeatsAgain() {
+        when(store.seats("e1")).thenReturn(List.of(seat("a", "Floor", 20.0, "AVAILABLE", null), seat("b", "Floor", 20.0, "AVAILABLE", null)));
+        SectionAvailabilityTracker tracker = new SectionAvailabilityTracker(store, jobRepo, 600_000);
+        tracker.sections("e1");
+
+        tracker.held("e1", List.of("a", "b"), Instant.now().plusSeconds(300));
+        tracker.held("e1", List.of("a"), Instant.now().plusSeconds(300));
+        assertEquals(new SectionCounts("Floor", 0, 2, 0, 0.0, 0.0), tracker.sections("e1").get(0));
+
+        tracker.sold(List.of("a"));
+        tracker.released(List.of(seat("b", "Floor", 20.0, "AVAILABLE", null)));
+        assertEquals(new SectionCounts("Floor", 1, 0, 1, 20.0, 20.0), tracker.sections("e1").get(0));
+        verify(store, times(1)).seats("e1");
+    }
+
+    @Test
+    void lapsedHolds_countAsAvailable() {
+        when(store.seats("e1")).thenReturn(List.of(seat("a", "Floor", 20.0, "AVAILABLE", null)));
+        SectionAvailabilityTracker tracker = new SectionAvailabilityTracker(store, jobRepo, 600_000);
+        tracker.sections("e1");
+
+        tracker.held("e1", List.of("a"), Instant.now().minusSeconds(1));
+        assertEquals(new SectionCounts("Floor", 1, 0, 0, 20.0, 20.0), tracker.sections("e1").get(0));
+    }
+
+    @Test
+    void rebuild_recountsFromSeats() {
+        when(store.seats("e1"))
+            .thenReturn(List.of(seat("a", "Floor", 20.0, "AVAILABLE", null)))
+            .thenReturn(List.of(seat("a", "Floor", 20.0, "SOLD", null), seat("b", "Floor", 35.0, "AVAILABLE", null)));
+        SectionAvailabilityTracker tracker = new SectionAvailabilityTracker(store, jobRepo, 600_000);
+        tracker.sections("e1");
+
+        assertEquals(List.of(new SectionCounts("Floor", 1, 0, 1, 35.0, 35.0)), tracker.rebuild("e1"));
+        tracker.sold(List.of("b"));
+        assertEquals(new SectionCounts("Floor", 0, 0, 2, 0.0, 0.0), tracker.sections("e1").get(0));
+    }
+
+    @Test
+    void eventsWithoutSeats_areNotKept() {
+        when(store.seats("e1")).thenReturn(List.of());
+        SectionAvailabilityTracker tracker = new SectionAvailabilityTracker(store, jobRepo, 600_000);
+
+        assertTrue(tracker.sections("e1").isEmpty());
+        assertEquals(0, tracker.loadedEvents());
+    }
+
+    @Test
+    void refresh_dropsIdleEvents() {
+        when(store.seats("e1")).thenReturn(List.of(seat("a", "Floor", 20.0, "AVAILABLE", null)));
+        SectionAvailabilityTracker tracker = new SectionAvailabilityTracker(store, jobRepo, -1);
+        tracker.sections("e1");
+
+        tracker.refresh();
+        assertEquals(0, tracker.loadedEvents());
+    }
+
+    @Test
+    void refresh_reloadsOnlyUntilProvisioningFinishes() {
+        when(store.seats("e1"))
+            .thenReturn(List.of(seat("a", "Floor", 20.0, "AVAILABLE", null)))
+            .thenReturn(List.of(seat("a", "Floor", 20.0, "AVAILABLE", null), seat("b", "Floor", 20.0, "AVAILABLE", null)));
+        when(jobRepo.findById("e1"))
+            .thenReturn(Optional.of(job("RUNNING")))
+            .thenReturn(Optional.of(job("DONE")));
+        SectionAvailabilityTracker tracker = new SectionAvailabilityTracker(store, jobRepo, 600_000);
+        tracker.sections("e1");
+
+        tracker.refresh();
+        tracker.refresh();
+        tracker.refresh();
+        tracker.refresh();
+
+        verify(store, times(3)).seats("e1");
+        verify(jobRepo, times(2)).findById("e1");
+        assertEquals(new SectionCounts("Floor", 2, 0, 0, 20.0, 20.0), tracker.sections("e1").get(0));
+    }
+
+    @Test
+    void refresh_leavesEventsWithoutProvisioningAlone() {
+        when(store.seats("e1")).thenReturn(List.of(seat("a", "Floor", 20.0, "AVAILABLE", null)));
+        when(jobRepo.findById("e1")).thenReturn(Optional.empty());
+        SectionAvailabilityTracker tracker = new SectionAvailabilityTracker(store, jobRepo, 600_000);
+        tracker.sections("e1");
+
+        tracker.refresh();
+        tracker.refresh();
+
+        verify(store, times(1)).seats("e1");
+        verify(jobRepo, times(1)).findById("e1");
+    }
+
+    @Test
+    void concurrentFirstRequests_readSeatsOnce() throws Exception {
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(store.seats("e1")).thenAnswer(inv -> {
+            reading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(seat("a", "Floor", 20.0, "AVAILABLE", null));
+        });
+        SectionAvailabilityTracker tracker = new SectionAvailabilityTracker(store, jobRepo, 600_000);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<SectionCounts>>> results = new ArrayList<>();
+            results.add(pool.submit(() -> tracker.sections("e1")));
+            assertTrue(reading.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) results.add(pool.submit(() -> tracker.sections("e1")));
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<List<SectionCounts>> r : results) {
+                assertEquals(List.of(new SectionCounts("Floor", 1, 0, 0, 20.0, 20.0)), r.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        verify(store, times(1)).seats("e1");
+        assertEquals(1, tracker.loadedEvents());
+    }
+}
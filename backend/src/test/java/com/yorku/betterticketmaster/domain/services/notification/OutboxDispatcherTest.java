@@ -0,0 +1,115 @@
+package com.yorku.betterticketmaster.domain.services.notification;
+
+import com.yorku.betterticketmaster.domain.model.notification.OutboxMessage;
+import com.yorku.betterticketmaster.domain.repository.notification.OutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+    @Mock OutboxRepository outboxRepo;
+
+    /** Fake SMTP sink: records deliveries and rejects chosen recipients. */
+    static class FakeSmtpSink implements EmailSender {
+        final List<List<String>> batches = new ArrayList<>();
+        final Set<String> rejected = new HashSet<>();
+
+        @Override
+        public synchronized Map<String, String> send(List<OutboxMessage> messages) {
+            batches.add(messages.stream().map(OutboxMessage::getTo).toList());
+            Map<String, String> failures = new HashMap<>();
+            for (OutboxMessage m : messages) if (rejected.contains(m.getTo())) failures.put(m.getId(), "550 mailbox unavailable");
+            return failures;
+        }
+    }
+
+    FakeSmtpSink sink;
+    OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        sink = new FakeSmtpSink();
+        dispatcher = new OutboxDispatcher(outboxRepo, sink, new SimpleMeterRegistry(), 2, 2, 3, 1000, 3000, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    private static List<OutboxMessage> messages(String... recipients) {
+        List<OutboxMessage> out = new ArrayList<>();
+        for (String to : recipients) {
+            OutboxMessage m = new OutboxMessage(to, "Subject", "purchase-confirmation", Map.of(), Instant.now());
+            m.setId("m-" + to);
+            out.add(m);
+        }
+        return out;
+    }
+
+    @Test
+    void drain_sendsInBatchesAndMarksSent() {
+        List<OutboxMessage> claimed = messages("a", "b", "c");
+        when(outboxRepo.claimDue(eq(4), any(), any())).thenReturn(claimed);
+
+        dispatcher.drain();
+
+        assertEquals(2, sink.batches.size());
+        assertTrue(claimed.stream().allMatch(m -> "SENT".equals(m.getStatus())));
+        verify(outboxRepo, times(2)).writeOutcomes(anyList());
+    }
+
+    @Test
+    void deliver_failure_retriesWithBackoffThenGivesUp() {
+        sink.rejected.add("bad");
+        OutboxMessage m = messages("bad").get(0);
+
+        dispatcher.deliver(List.of(m));
+        assertEquals("PENDING", m.getStatus());
+        assertEquals(1, m.getAttempts());
+        assertTrue(m.getNextAttemptAt().isAfter(Instant.now().plusMillis(500)));
+
+        dispatcher.deliver(List.of(m));
+        dispatcher.deliver(List.of(m));
+        assertEquals("FAILED", m.getStatus());
+        assertEquals(3, m.getAttempts());
+        assertEquals("550 mailbox unavailable", m.getLastError());
+    }
+
+    @Test
+    void deliver_senderThrows_retriesWholeBatch() {
+        EmailSender broken = messages -> { throw new IllegalStateException("connection refused"); };
+        OutboxDispatcher d = new OutboxDispatcher(outboxRepo, broken, new SimpleMeterRegistry(), 2, 1, 3, 1000, 3000, 60_000);
+        List<OutboxMessage> batch = messages("a", "b");
+
+        d.deliver(batch);
+
+        assertTrue(batch.stream().allMatch(m -> "PENDING".equals(m.getStatus()) && m.getAttempts() == 1));
+        d.shutdown();
+    }
+
+    @Test
+    void backoff_doublesUpToCap() {
+        assertEquals(1000, dispatcher.backoff(1));
+        assertEquals(2000, dispatcher.backoff(2));
+        assertEquals(3000, dispatcher.backoff(3));
+        assertEquals(3000, dispatcher.backoff(40));
+    }
+}
@@ -0,0 +1,87 @@
+package com.yorku.betterticketmaster.domain.services.search;
+
+import com.yorku.betterticketmaster.domain.model.event.Event;
+import com.yorku.betterticketmaster.domain.repository.inventory.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventSearchIndexTest {
+    @Mock EventRepository eventRepo;
+
+    EventSearchIndex index;
+
+    private static Event event(String id, String title, String venue, String description, int day) {
+        return new Event(id, "o1", "l1", title, venue, LocalDateTime.of(2030, 1, day, 20, 0), 0, 100, description, null);
+    }
+
+    private List<String> ids(String query) {
+        return index.search(query, e -> true, 0, 100).items().stream().map(Event::getId).toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new EventSearchIndex(eventRepo);
+        index.index(event("e1", "Raptors vs Celtics", "Scotiabank Arena", "Regular season game", 3));
+        index.index(event("e2", "Jazz Night", "Massey Hall", "An evening with the Toronto jazz orchestra", 2));
+        index.index(event("e3", "Caf\u00e9 Acoustic", "The Rex", "Small room, big sound", 1));
+    }
+
+    @Test
+    void substringAndPrefixQueries() {
+        assertEquals(List.of("e1"), ids("ptor"));
+        assertEquals(List.of("e1"), ids("sc"));
+        assertEquals(List.of("e3"), ids("cafe"));
+        assertEquals(List.of("e1"), ids("raptors arena"));
+        assertEquals(List.of(), ids("raptors hall"));
+        assertEquals(List.of(), ids("xq"));
+    }
+
+    @Test
+    void titleMatchesRankAboveDescriptionMatches() {
+        index.index(event("e4", "Toronto Jazz Festival", "Nathan Phillips Square", null, 9));
+
+        assertEquals(List.of("e4", "e2"), ids("toronto"));
+        assertEquals(List.of("e2", "e4"), ids("jazz"));
+    }
+
+    @Test
+    void blankQuery_listsByDateAndPages() {
+        assertEquals(List.of("e3", "e2", "e1"), ids(""));
+        EventSearchIndex.Page page = index.search(null, e -> true, 1, 1);
+        assertEquals(3, page.total());
+        assertEquals("e2", page.items().get(0).getId());
+    }
+
+    @Test
+    void updateAndRemove_areVisibleImmediately() {
+        Event closed = event("e1", "Raptors vs Celtics", "Scotiabank Arena", null, 3);
+        closed.setStatus("CLOSED");
+        index.index(closed);
+        assertEquals(List.of(), index.search("raptors", e -> !e.isClosed(), 0, 10).items());
+
+        index.index(event("e2", "Blues Night", "Massey Hall", null, 2));
+        assertEquals(List.of(), ids("jazz"));
+        index.remove("e3");
+        assertEquals(List.of(), ids("acoustic"));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void rebuild_replacesContentsFromRepository() {
+        when(eventRepo.findAll()).thenReturn(List.of(event("e9", "Opera Gala", "Four Seasons Centre", null, 5)));
+        index.rebuild();
+
+        assertEquals(List.of("e9"), ids("gala"));
+        assertEquals(List.of(), ids("raptors"));
+    }
+}
@@ -0,0 +1,52 @@
+package com.yorku.betterticketmaster.security;
+
+import com.yorku.betterticketmaster.domain.model.users.Role;
+import com.yorku.betterticketmaster.domain.model.users.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryAuthTokenStoreTest {
+
+    private static User user(String id) {
+        return new User(id, id + "@x.y", "hash", id, Role.CONSUMER);
+    }
+
+    @Test
+    void putGetRemove() {
+        InMemoryAuthTokenStore store = new InMemoryAuthTokenStore(new SimpleMeterRegistry(), 60_000, 10);
+        String token = store.issue(user("u1"));
+
+        assertEquals("u1", store.getUserId(token));
+        assertNull(store.getUserId(null));
+        store.remove(token);
+        assertNull(store.getUserId(token));
+    }
+
+    @Test
+    void full_dropsLeastRecentlyUsedSession() {
+        InMemoryAuthTokenStore store = new InMemoryAuthTokenStore(new SimpleMeterRegistry(), 60_000, 2);
+        String a = store.issue(user("u1"));
+        String b = store.issue(user("u2"));
+        store.getUserId(a);
+        String c = store.issue(user("u3"));
+
+        assertEquals("u1", store.getUserId(a));
+        assertNull(store.getUserId(b));
+        assertEquals("u3", store.getUserId(c));
+    }
+
+    @Test
+    void purgeExpired_removesOnlyLapsedSessions() {
+        InMemoryAuthTokenStore store = new InMemoryAuthTokenStore(new SimpleMeterRegistry(), 60_000, 10);
+        store.issue(user("u1"));
+        store.issue(user("u2"));
+
+        assertEquals(0, store.purgeExpired(Instant.now()));
+        assertEquals(2, store.purgeExpired(Instant.now().plusSeconds(120)));
+        assertEquals(0, store.size());
+    }
+}
@@ -0,0 +1,41 @@
+package com.yorku.betterticketmaster.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginThrottleTest {
+    final LoginThrottle throttle = new LoginThrottle(new SimpleMeterRegistry(), 3, 5, 60_000, 1000);
+
+    @Test
+    void emailIsThrottledAfterMaxFailures_caseInsensitive() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, throttle.retryAfterSeconds("a@b.c", "10.0.0." + i));
+            throttle.recordFailure("A@B.c", "10.0.0." + i);
+        }
+
+        long wait = throttle.retryAfterSeconds("a@b.c", "10.0.0.9");
+        assertTrue(wait > 0 && wait <= 60);
+        assertEquals(0, throttle.retryAfterSeconds("other@b.c", "10.0.0.9"));
+    }
+
+    @Test
+    void addressIsThrottledAcrossEmails() {
+        for (int i = 0; i < 5; i++) throttle.recordFailure("user" + i + "@b.c", "10.0.0.1");
+
+        assertTrue(throttle.retryAfterSeconds("fresh@b.c", "10.0.0.1") > 0);
+        assertEquals(0, throttle.retryAfterSeconds("fresh@b.c", "10.0.0.2"));
+    }
+
+    @Test
+    void successClearsEmailFailures() {
+        throttle.recordFailure("a@b.c", "10.0.0.1");
+        throttle.recordFailure("a@b.c", "10.0.0.2");
+        throttle.recordSuccess("a@b.c");
+        throttle.recordFailure("a@b.c", "10.0.0.3");
+        throttle.recordFailure("a@b.c", "10.0.0.4");
+
+        assertEquals(0, throttle.retryAfterSeconds("a@b.c", "10.0.0.5"));
+    }
+}
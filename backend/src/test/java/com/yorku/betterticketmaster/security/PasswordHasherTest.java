@@ -0,0 +1,57 @@
+package com.yorku.betterticketmaster.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHasherTest {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    PasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        if (hasher != null) hasher.shutdown();
+    }
+
+    @Test
+    void encodeAndMatch() {
+        hasher = new PasswordHasher(registry, 1, 4, 10_000);
+        String hash = hasher.encode("secret");
+
+        assertTrue(hasher.matches("secret", hash));
+        assertFalse(hasher.matches("wrong", hash));
+        assertFalse(hasher.matches("secret", "secret"));
+        assertEquals(3, registry.get("btm.auth.hash").timer().count());
+    }
+
+    @Test
+    void saturatedPool_rejectsInsteadOfQueueingForever() {
+        hasher = new PasswordHasher(registry, 1, 1, 10_000);
+        String hash = hasher.encode("secret");
+
+        ExecutorService callers = Executors.newFixedThreadPool(6);
+        List<CompletableFuture<Boolean>> calls = new ArrayList<>();
+        for (int i = 0; i < 6; i++) calls.add(CompletableFuture.supplyAsync(() -> hasher.matches("secret", hash), callers));
+        int rejected = 0;
+        for (CompletableFuture<Boolean> c : calls) {
+            try {
+                assertTrue(c.join());
+            } catch (Exception e) {
+                assertInstanceOf(RejectedExecutionException.class, e.getCause());
+                rejected++;
+            }
+        }
+        callers.shutdown();
+        assertTrue(rejected > 0);
+        assertEquals(rejected, registry.get("btm.auth.hash.rejected").counter().count());
+    }
+}
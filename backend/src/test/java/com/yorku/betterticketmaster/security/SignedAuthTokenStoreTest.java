@@ -0,0 +1,80 @@
+package com.yorku.betterticketmaster.security;
+
+import com.yorku.betterticketmaster.domain.model.users.Role;
+import com.yorku.betterticketmaster.domain.model.users.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SignedAuthTokenStoreTest {
+    static final String K1 = Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes());
+    static final String K2 = Base64.getEncoder().encodeToString("fedcba9876543210fedcba9876543210".getBytes());
+
+    @Mock MongoTemplate mongo;
+
+    final User user = new User("u1", "a@b.c", "hash", "Ann", Role.ORGANIZER);
+
+    @Test
+    void issuedToken_verifiesWithClaims() {
+        SignedAuthTokenStore store = new SignedAuthTokenStore(mongo, 60_000, "k1:" + K1, "k1");
+        String token = store.issue(user);
+
+        assertEquals("u1", store.getUserId(token));
+        assertEquals("ORGANIZER", store.verify(token).role());
+        verifyNoInteractions(mongo);
+    }
+
+    @Test
+    void tamperedOrExpiredToken_isRejected() {
+        SignedAuthTokenStore store = new SignedAuthTokenStore(mongo, 60_000, "k1:" + K1, "k1");
+        String[] parts = store.issue(user).split("\\.");
+        String forged = Base64.getUrlEncoder().withoutPadding().encodeToString("u2|ADMIN|9999999999|x".getBytes());
+
+        assertNull(store.getUserId(parts[0] + "." + forged + "." + parts[2]));
+        assertNull(store.getUserId("garbage"));
+        SignedAuthTokenStore expired = new SignedAuthTokenStore(mongo, -60_000, "k1:" + K1, "k1");
+        assertNull(expired.getUserId(expired.issue(user)));
+    }
+
+    @Test
+    void rotation_acceptsOldKeyUntilRemoved() {
+        String oldToken = new SignedAuthTokenStore(mongo, 60_000, "k1:" + K1, "k1").issue(user);
+
+        SignedAuthTokenStore rotated = new SignedAuthTokenStore(mongo, 60_000, "k2:" + K2 + ",k1:" + K1, "k2");
+        assertEquals("u1", rotated.getUserId(oldToken));
+        assertTrue(rotated.issue(user).startsWith("k2."));
+
+        SignedAuthTokenStore retired = new SignedAuthTokenStore(mongo, 60_000, "k2:" + K2, "k2");
+        assertNull(retired.getUserId(oldToken));
+    }
+
+    @Test
+    void logout_revokesLocallyAndOnOtherInstances() {
+        SignedAuthTokenStore a = new SignedAuthTokenStore(mongo, 60_000, "k1:" + K1, "k1");
+        SignedAuthTokenStore b = new SignedAuthTokenStore(mongo, 60_000, "k1:" + K1, "k1");
+        String token = a.issue(user);
+        String tokenId = a.verify(token).tokenId();
+
+        a.remove(token);
+        assertNull(a.getUserId(token));
+        verify(mongo).save(any(RevokedSession.class));
+
+        when(mongo.find(any(Query.class), eq(RevokedSession.class)))
+            .thenReturn(List.of(new RevokedSession(tokenId, Instant.now(), Instant.now().plusSeconds(60))));
+        assertEquals("u1", b.getUserId(token));
+        b.syncRevocations();
+        assertNull(b.getUserId(token));
+    }
+}
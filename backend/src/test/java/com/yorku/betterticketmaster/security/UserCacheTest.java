@@ -0,0 +1,76 @@
+package com.yorku.betterticketmaster.security;
+
+import com.yorku.betterticketmaster.domain.model.users.Role;
+import com.yorku.betterticketmaster.domain.model.users.User;
+import com.yorku.betterticketmaster.domain.repository.login.UserRepository;
+import com.yorku.betterticketmaster.domain.repository.login.UserUpdatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserCacheTest {
+    @Mock UserRepository userRepo;
+
+    UserCache cache;
+    User stored;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserCache(userRepo, 100, 60_000);
+        stored = new User("u1", "a@b.c", "hash", "Ann", Role.CONSUMER, new ArrayList<>(List.of("t1")));
+        when(userRepo.findById("u1")).thenReturn(Optional.of(stored));
+    }
+
+    @Test
+    void get_loadsOnceAndHandsOutCopies() {
+        User first = cache.get("u1");
+        first.setPassword(null);
+        first.addOwnedTicket("t2");
+        User second = cache.get("u1");
+
+        assertEquals("hash", second.getPassword());
+        assertEquals(List.of("t1"), second.getOwnedTicketIds());
+        verify(userRepo, times(1)).findById(anyString());
+    }
+
+    @Test
+    void save_dropsCachedUser() {
+        cache.get("u1");
+        stored.setRole(Role.ADMIN);
+        cache.onAfterSave(new AfterSaveEvent<>(stored, null, "users"));
+
+        assertEquals(Role.ADMIN, cache.get("u1").getRole());
+        verify(userRepo, times(2)).findById("u1");
+    }
+
+    @Test
+    void userUpdatedEvent_dropsCachedUser() {
+        cache.get("u1");
+        stored.addOwnedTicket("t2");
+        cache.onUserUpdated(new UserUpdatedEvent("u1"));
+
+        assertEquals(List.of("t1", "t2"), cache.get("u1").getOwnedTicketIds());
+        verify(userRepo, times(2)).findById("u1");
+    }
+
+    @Test
+    void invalidate_reloadsOnNextGet() {
+        cache.get("u1");
+        cache.invalidate("u1");
+        cache.get("u1");
+
+        verify(userRepo, times(2)).findById("u1");
+    }
+}
@@ -6,4 +6,11 @@ const api = axios.create({
   headers: { 'Content-Type': 'application/json' }
 })
 
+// Waiting-room token of the event being shopped, if its queue is open (see pages/Event.jsx).
+api.interceptors.request.use(config => {
+  const token = sessionStorage.getItem('btmQueueToken')
+  if (token) config.headers['X-Queue-Token'] = token
+  return config
+})
+
 export default api
\ No newline at end of file
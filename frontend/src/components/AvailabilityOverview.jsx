@@ -0,0 +1,48 @@
+import React, { useEffect, useState } from 'react'
+import api from '../api/axiosConfig'
+
+// Per-section counts from /events/{id}/availability; cheap enough to show without the seat map.
+// Prices span the seats still available, so sold-out sections show none.
+export default function AvailabilityOverview({ eventId, compact = false, reloadKey }) {
+  const [sections, setSections] = useState(null)
+
+  useEffect(() => {
+    if (!eventId) return
+    let cancelled = false
+    api.get(`/events/${eventId}/availability`)
+      .then(r => { if (!cancelled) setSections(Array.isArray(r.data?.sections) ? r.data.sections : []) })
+      .catch(() => { if (!cancelled) setSections([]) })
+    return () => { cancelled = true }
+  }, [eventId, reloadKey])
+
+  if (!sections || !sections.length) return null
+
+  const open = sections.filter(s => s.available > 0)
+  const available = open.reduce((sum, s) => sum + s.available, 0)
+  const fromPrice = open.length ? Math.min(...open.map(s => s.minPrice)) : null
+
+  if (compact) {
+    return (
+      <div className="muted" style={{ fontSize: 13, marginTop: 4 }}>
+        {fromPrice == null ? 'Sold out' : `From $${fromPrice} · ${available} available`}
+      </div>
+    )
+  }
+
+  return (
+    <div style={{ marginBottom: 12 }}>
+      <h4>Availability</h4>
+      <div style={{ display: 'grid', gap: 4 }}>
+        {sections.map(s => (
+          <div key={`${s.type}:${s.section}`} style={{ display: 'flex', gap: 12 }}>
+            <b style={{ minWidth: 160 }}>{s.section || 'Unnamed section'}{s.type === 'GA' ? ' (GA)' : ''}</b>
+            <span className="muted">
+              {s.available > 0 ? `${s.available} available` : 'Sold out'}
+              {s.available > 0 && (s.minPrice === s.maxPrice ? ` — $${s.minPrice}` : ` — $${s.minPrice}–$${s.maxPrice}`)}
+            </span>
+          </div>
+        ))}
+      </div>
+    </div>
+  )
+}
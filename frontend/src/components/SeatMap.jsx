@@ -1,19 +1,43 @@
 import React, { useEffect, useMemo, useRef, useState, useImperativeHandle, forwardRef } from 'react';
 import api from '../api/axiosConfig';
 
+// holdUntil arrives as an ISO string, or as epoch seconds when dates are written as numbers.
+const holdUntilMillis = (v) => {
+  if (v == null) return null;
+  const ms = typeof v === 'number' ? v * 1000 : Date.parse(v);
+  return Number.isNaN(ms) ? null : ms;
+};
+
 const SeatMap = forwardRef(function SeatMap({ eventId, selectedSeats, setSelectedSeats }, ref) {
   const [seats, setSeats] = useState([]);
   const [loading, setLoading] = useState(true);
   const containerRef = useRef(null);
   const [containerWidth, setContainerWidth] = useState(0);
 
-  const loadSeats = () => {
+  // Seat geometry is fetched once per event; reloads only poll the packed status vector.
+  const layoutRef = useRef(null);
+
+  const fetchLayout = async () => {
+    const r = await api.get(`/seats/layout?eventId=${eventId}`);
+    layoutRef.current = r.data;
+    return r.data;
+  };
+
+  const loadSeats = async () => {
     if (!eventId) return;
     setLoading(true);
-    api.get(`/seats?eventId=${eventId}`)
-      .then(r => setSeats(r.data))
-      .catch(() => setSeats([]))
-      .finally(() => setLoading(false));
+    try {
+      let layout = layoutRef.current?.eventId === eventId ? layoutRef.current : await fetchLayout();
+      const { data } = await api.get(`/seats/availability?eventId=${eventId}`);
+      if (data.layoutVersion !== layout.version) layout = await fetchLayout();
+      const bytes = Uint8Array.from(atob(data.statuses || ''), c => c.charCodeAt(0));
+      const STATUS = ['AVAILABLE', 'HELD', 'SOLD', 'SOLD'];
+      setSeats(layout.seats.map((seat, i) => ({ ...seat, status: STATUS[(bytes[i >> 2] >> ((i & 3) * 2)) & 3] })));
+    } catch {
+      setSeats([]);
+    } finally {
+      setLoading(false);
+    }
   };
 
   useEffect(() => {
@@ -21,6 +45,41 @@ const SeatMap = forwardRef(function SeatMap({ eventId, selectedSeats, setSelecte
     // eslint-disable-next-line
   }, [eventId]);
 
+  // Apply live seat changes pushed by the server; resync from the status vector on a gap.
+  useEffect(() => {
+    if (!eventId || typeof EventSource === 'undefined') return;
+    const source = new EventSource(`/api/seats/stream?eventId=${eventId}`, { withCredentials: true });
+    let lastSeq = null;
+    source.addEventListener('ready', (e) => { lastSeq = Number(e.data); });
+    source.addEventListener('seats', (e) => {
+      const batch = JSON.parse(e.data);
+      if (lastSeq !== null && batch.seq !== lastSeq + 1) {
+        lastSeq = batch.seq;
+        loadSeats();
+        return;
+      }
+      lastSeq = batch.seq;
+      const changes = new Map(batch.changes.map(c => [c.seatId, c]));
+      setSeats(prev => prev.map(seat => {
+        const c = changes.get(seat.id);
+        return c ? { ...seat, status: c.status, holdUntil: c.status === 'HELD' ? holdUntilMillis(c.holdUntil) : null } : seat;
+      }));
+    });
+    return () => source.close();
+    // eslint-disable-next-line
+  }, [eventId]);
+
+  // Holds the server doesn't announce the end of (e.g. Redis key expiry) lapse locally at holdUntil.
+  useEffect(() => {
+    const timer = setInterval(() => {
+      const now = Date.now();
+      setSeats(prev => prev.some(seat => seat.status === 'HELD' && seat.holdUntil && seat.holdUntil < now)
+        ? prev.map(seat => seat.status === 'HELD' && seat.holdUntil && seat.holdUntil < now ? { ...seat, status: 'AVAILABLE', holdUntil: null } : seat)
+        : prev);
+    }, 1000);
+    return () => clearInterval(timer);
+  }, []);
+
   useEffect(() => {
     // Ensure the element exists before observing.
     // This effect may run while we are still rendering the loading/empty states.
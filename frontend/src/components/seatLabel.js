@@ -0,0 +1,5 @@
+// General-admission tickets carry "GA:<section>" instead of a seat id.
+export function seatLabel(seatId) {
+  if (typeof seatId === 'string' && seatId.startsWith('GA:')) return `General admission — ${seatId.slice(3)}`
+  return seatId
+}
@@ -3,6 +3,8 @@ import { Link, useParams } from 'react-router-dom'
 import api from '../api/axiosConfig'
 import { AuthContext } from '../context/AuthContext'
 import SeatMap from '../components/SeatMap'
+import AvailabilityOverview from '../components/AvailabilityOverview'
+import { seatLabel } from '../components/seatLabel'
 
 export default function Event() {
   const { id } = useParams()
@@ -14,17 +16,114 @@ export default function Event() {
   const [resaleTickets, setResaleTickets] = useState([])
   const [resaleLoading, setResaleLoading] = useState(true)
   const [resaleError, setResaleError] = useState('')
+  const [queue, setQueue] = useState(null)
+  // General-admission sections are capacity counters, held by quantity instead of by seat.
+  const [gaSections, setGaSections] = useState([])
+  const [gaQuantity, setGaQuantity] = useState({})
+  const [gaHolds, setGaHolds] = useState([])
+  // Bumped after a purchase so the section overview is fetched again.
+  const [availabilityKey, setAvailabilityKey] = useState(0)
   const { user } = useContext(AuthContext)
   const seatMapRef = useRef()
   const holdTimerRef = useRef(null)
   const holdAbortRef = useRef(null)
   const holdDebounceRef = useRef(null)
   const lastHeldSeatIdsRef = useRef([])
+  // One Idempotency-Key per purchase attempt, so a retried click cannot create a second booking.
+  const purchaseKeyRef = useRef(null)
 
   useEffect(() => {
     api.get(`/events/${id}`).then(r => setEvent(r.data)).catch(() => setEvent(null))
   }, [id])
 
+  // Waiting room: while the event's queue is open, join it and poll until admitted.
+  useEffect(() => {
+    if (!id) return
+    let cancelled = false
+    let timer = null
+    const poll = async (token) => {
+      try {
+        const { data } = await api.get(`/queue/status?token=${encodeURIComponent(token)}`)
+        if (cancelled) return
+        if (data.eventId !== id) { join(); return }
+        setQueue(data)
+        if (!data.admitted) timer = setTimeout(() => poll(token), (data.retryAfterSeconds || 2) * 1000)
+      } catch {
+        if (!cancelled) join()
+      }
+    }
+    const join = async () => {
+      try {
+        const { data } = await api.post('/queue/join', { eventId: id })
+        if (cancelled) return
+        sessionStorage.setItem('btmQueueToken', data.token)
+        poll(data.token)
+      } catch {
+        // No open waiting room for this event.
+        setQueue(null)
+      }
+    }
+    api.get(`/queue/events/${id}`).then(({ data }) => {
+      if (cancelled) return
+      if (!data.queued) { setQueue(null); return }
+      const existing = sessionStorage.getItem('btmQueueToken')
+      if (existing) poll(existing)
+      else join()
+    }).catch(() => {})
+    return () => {
+      cancelled = true
+      if (timer) clearTimeout(timer)
+    }
+  }, [id])
+
+  const loadGa = () => {
+    if (!id) return
+    api
+      .get(`/ga?eventId=${id}`)
+      .then(r => setGaSections(Array.isArray(r.data) ? r.data : []))
+      .catch(() => setGaSections([]))
+  }
+
+  useEffect(() => {
+    loadGa()
+    setGaHolds([])
+    // eslint-disable-next-line react-hooks/exhaustive-deps
+  }, [id])
+
+  // Drop GA holds once they lapse; the server releases them on its own.
+  useEffect(() => {
+    if (!gaHolds.length) return
+    const timer = setInterval(() => {
+      const now = Date.now()
+      if (!gaHolds.some(h => Date.parse(h.holdUntil) <= now)) return
+      setGaHolds(prev => prev.filter(h => Date.parse(h.holdUntil) > now))
+      loadGa()
+    }, 1000)
+    return () => clearInterval(timer)
+    // eslint-disable-next-line react-hooks/exhaustive-deps
+  }, [gaHolds])
+
+  const handleGaHold = async (section) => {
+    const quantity = Number(gaQuantity[section.section] || 1)
+    if (!Number.isInteger(quantity) || quantity <= 0) return alert('Enter how many spots to hold.')
+    try {
+      const { data } = await api.post('/ga/hold', { eventId: id, section: section.section, quantity })
+      purchaseKeyRef.current = null
+      setGaHolds(prev => [...prev, { reservationId: data.reservationId, section: section.section, quantity: data.quantity, price: section.price, holdUntil: data.holdUntil }])
+    } catch (err) {
+      alert(err?.response?.data?.message || err?.response?.data || 'Could not hold spots.')
+    } finally {
+      loadGa()
+    }
+  }
+
+  const handleGaRelease = async (reservationId) => {
+    purchaseKeyRef.current = null
+    setGaHolds(prev => prev.filter(h => h.reservationId !== reservationId))
+    await api.post('/ga/release', { reservationId }).catch(() => {})
+    loadGa()
+  }
+
   const loadResale = () => {
     if (!id) return
     setResaleLoading(true)
@@ -45,6 +144,7 @@ export default function Event() {
   }, [id])
 
   useEffect(() => {
+    purchaseKeyRef.current = null
     // Cancel any pending debounce.
     if (holdDebounceRef.current) {
       clearTimeout(holdDebounceRef.current)
@@ -106,7 +206,7 @@ export default function Event() {
           // Ignore aborts from rapid selection changes.
           if (err?.name === 'CanceledError' || err?.code === 'ERR_CANCELED') return
 
-          alert(err?.response?.data || 'Could not hold selected seats. They may have been taken.')
+          alert(err?.response?.data?.message || err?.response?.data || 'Could not hold selected seats. They may have been taken.')
 
           // Release any seats from this attempted selection (and anything we previously held)
           // so nothing gets stuck grey without being purchased.
@@ -137,14 +237,26 @@ export default function Event() {
   }, [selectedSeats])
 
   const handleBuy = async () => {
-    if (!selectedSeats.length) return alert('Select at least one seat.')
-    if (holdTimeLeft <= 0) return alert('Please wait for seats to be held before buying.')
+    if (!selectedSeats.length && !gaHolds.length) return alert('Select at least one seat or hold general-admission spots.')
+    if (selectedSeats.length && holdTimeLeft <= 0) return alert('Please wait for seats to be held before buying.')
     try {
-      const booking = { eventId: id, seatIds: selectedSeats, totalPrice: 10.0 * selectedSeats.length }
-      const r = await api.post('/bookings', booking)
-      await api.post(`/bookings/${r.data.id}/complete`)
+      if (!purchaseKeyRef.current) purchaseKeyRef.current = crypto.randomUUID()
+      const headers = { 'Idempotency-Key': purchaseKeyRef.current }
+      const gaTotal = gaHolds.reduce((sum, h) => sum + h.price * h.quantity, 0)
+      const booking = {
+        eventId: id,
+        seatIds: selectedSeats,
+        gaReservationIds: gaHolds.map(h => h.reservationId),
+        totalPrice: 10.0 * selectedSeats.length + gaTotal,
+      }
+      const r = await api.post('/bookings', booking, { headers })
+      await api.post(`/bookings/${r.data.id}/complete`, null, { headers })
       alert('Purchase complete — confirmation sent (or logged)')
+      purchaseKeyRef.current = null
       setSelectedSeats([])
+      setGaHolds([])
+      loadGa()
+      setAvailabilityKey(k => k + 1)
       if (seatMapRef.current?.reload) seatMapRef.current.reload()
     } catch {
       alert('Purchase failed')
@@ -180,12 +292,65 @@ export default function Event() {
           </div>
         )}
 
+        {queue && !queue.admitted && (
+          <div style={{ color: 'orange', marginBottom: 8 }}>
+            You are in the queue: #{queue.position} in line. Seat selection opens when it is your turn.
+          </div>
+        )}
+
+        <AvailabilityOverview eventId={id} reloadKey={availabilityKey} />
+
         <SeatMap ref={seatMapRef} eventId={id} selectedSeats={selectedSeats} setSelectedSeats={setSelectedSeats} />
 
+        {gaSections.length > 0 && (
+          <div style={{ marginTop: 16 }}>
+            <h4>General admission</h4>
+            <div style={{ display: 'grid', gap: 8 }}>
+              {gaSections.map(s => (
+                <div key={s.id || s.section} style={{ display: 'flex', gap: 12, alignItems: 'center', flexWrap: 'wrap' }}>
+                  <div style={{ minWidth: 160 }}>
+                    <b>{s.section}</b> — ${s.price}
+                    <div className="muted" style={{ fontSize: 12 }}>
+                      {s.available > 0 ? `${s.available} of ${s.capacity} spots left` : 'Sold out'}
+                    </div>
+                  </div>
+                  <input
+                    type="number"
+                    min="1"
+                    max={Math.max(1, s.available)}
+                    value={gaQuantity[s.section] ?? 1}
+                    onChange={e => setGaQuantity(prev => ({ ...prev, [s.section]: e.target.value }))}
+                    style={{ width: 64 }}
+                    disabled={!user || s.available <= 0}
+                  />
+                  <button className="btn" onClick={() => handleGaHold(s)} disabled={!user || s.available <= 0}>
+                    Hold spots
+                  </button>
+                </div>
+              ))}
+            </div>
+
+            {gaHolds.length > 0 && (
+              <div style={{ marginTop: 8 }}>
+                {gaHolds.map(h => (
+                  <div key={h.reservationId} style={{ display: 'flex', gap: 8, alignItems: 'center', color: 'orange' }}>
+                    {h.quantity} × {h.section} held until {new Date(h.holdUntil).toLocaleTimeString()}
+                    <button className="btn" onClick={() => handleGaRelease(h.reservationId)}>Release</button>
+                  </div>
+                ))}
+              </div>
+            )}
+          </div>
+        )}
+
         <div style={{ display: 'flex', gap: 8, marginTop: 16 }}>
           {user ? (
-            <button className="btn" onClick={handleBuy} disabled={!selectedSeats.length || isHolding || holdTimeLeft <= 0}>
-              Buy Selected Seats
+            <button
+              className="btn"
+              onClick={handleBuy}
+              disabled={(!selectedSeats.length && !gaHolds.length) || isHolding || (selectedSeats.length > 0 && holdTimeLeft <= 0)}
+            >
+              Buy Selected
             </button>
           ) : (
             <Link to="/login" className="btn">
@@ -214,7 +379,7 @@ export default function Event() {
               <div key={t.id} style={{ display: 'flex', justifyContent: 'space-between', gap: 12, alignItems: 'center' }}>
                 <div>
                   <div><b>${t.resalePrice}</b></div>
-                  <div className="muted" style={{ fontSize: 12 }}>Seat: {t.seatId}</div>
+                  <div className="muted" style={{ fontSize: 12 }}>Seat: {seatLabel(t.seatId)}</div>
                 </div>
 
                 {user ? (
@@ -1,14 +1,19 @@
 import React, { useEffect, useState } from 'react'
 import api from '../api/axiosConfig'
 import { Link } from 'react-router-dom'
+import AvailabilityOverview from '../components/AvailabilityOverview'
 
 function isPublicEvent(e) {
   const status = String(e?.status || '').trim().toUpperCase()
   if (!status) return true
   if (status === 'CLOSED') return false
-  if (status === 'REJECTED') return false
-  // For demo usability, show pending events too.
-  return status === 'APPROVED' || status === 'PENDING'
+  return status !== 'REJECTED'
+}
+
+// Local wall-clock time as the server's LocalDateTime expects it (no zone suffix).
+function localIsoNow() {
+  const d = new Date()
+  return new Date(d.getTime() - d.getTimezoneOffset() * 60000).toISOString().slice(0, 19)
 }
 
 function formatDateTime(value) {
@@ -30,9 +35,9 @@ function formatDateTime(value) {
 export default function Home(){
   const [events,setEvents] = useState([])
   useEffect(()=>{
-    api.get('/events')
+    api.get('/events', { params: { from: localIsoNow(), limit: 30 } })
       .then(r => {
-        const list = Array.isArray(r.data) ? r.data : []
+        const list = Array.isArray(r.data?.items) ? r.data.items : []
         setEvents(list.filter(isPublicEvent))
       })
       .catch(()=>setEvents([]))
@@ -50,6 +55,7 @@ export default function Home(){
           <div className="card" key={e.id}>
             <h4>{e.title || e.name}</h4>
             <p className="muted">{e.location || e.venueName}</p>
+            <AvailabilityOverview eventId={e.id} compact />
             <div style={{display:'flex',justifyContent:'space-between',marginTop:8}}>
               <Link to={`/event/${e.id}`} className="btn">View</Link>
               <div className="muted">{formatDateTime(e.dateTime || e.date)}</div>
@@ -1,6 +1,7 @@
 import React, { useEffect, useMemo, useState } from 'react'
 import { Link } from 'react-router-dom'
 import api from '../api/axiosConfig'
+import { seatLabel } from '../components/seatLabel'
 
 export default function MyTickets() {
   const [tickets, setTickets] = useState([])
@@ -21,9 +22,13 @@ export default function MyTickets() {
     setLoading(true)
     setError('')
     try {
-      const [tRes, eRes] = await Promise.all([api.get('/tickets/mine'), api.get('/events')])
-      setTickets(Array.isArray(tRes.data) ? tRes.data : [])
-      setEvents(Array.isArray(eRes.data) ? eRes.data : [])
+      const tRes = await api.get('/tickets/mine')
+      const mine = Array.isArray(tRes.data) ? tRes.data : []
+      setTickets(mine)
+      // Only the events these tickets are for, not the whole catalog.
+      const eventIds = [...new Set(mine.map(t => t.eventId).filter(Boolean))]
+      const eRes = await Promise.all(eventIds.map(id => api.get(`/events/${id}`).catch(() => null)))
+      setEvents(eRes.filter(r => r && r.data).map(r => r.data))
     } catch (e) {
       setTickets([])
       setEvents([])
@@ -99,7 +104,7 @@ export default function MyTickets() {
                 <div className="muted">{ev?.dateTime || ''}</div>
 
                 <div style={{ marginTop: 8 }}>
-                  <div><b>Seat:</b> {t.seatId}</div>
+                  <div><b>Seat:</b> {seatLabel(t.seatId)}</div>
                   <div className="muted" style={{ fontSize: 12 }}>Ticket ID: {t.id}</div>
                 </div>
 
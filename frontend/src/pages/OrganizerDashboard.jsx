@@ -506,7 +506,11 @@ export default function OrganizerDashboard() {
         imageUrl: eventForm.imageUrl,
       }
       const r = await api.post('/events', body)
-      setMessage(`Event created: ${r.data?.title || r.data?.id} (status: ${r.data?.status || 'PENDING'})`)
+      const created = r.data?.event
+      const seats = r.data?.provisioning && !['DONE', 'FAILED'].includes(r.data.provisioning.status)
+        ? ' Seats are being generated.'
+        : ''
+      setMessage(`Event created: ${created?.title || created?.id} (status: ${created?.status || 'PENDING'}).${seats}`)
       setEventForm({ title: '', dateTime: '', minResale: 5, maxResale: 200, description: '', imageUrl: '' })
     } catch (e) {
       setErrorFromRequest('Create event failed.', e)
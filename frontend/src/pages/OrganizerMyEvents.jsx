@@ -81,8 +81,14 @@ export default function OrganizerMyEvents() {
   const loadMyEvents = async () => {
     setLoadingEvents(true)
     try {
-      const r = await api.get('/events?mine=true')
-      const list = Array.isArray(r.data) ? r.data : []
+      // Follow the cursor so every owned event is listed.
+      const list = []
+      let cursor
+      do {
+        const r = await api.get('/events', { params: { mine: true, limit: 100, cursor } })
+        list.push(...(Array.isArray(r.data?.items) ? r.data.items : []))
+        cursor = r.data?.nextCursor
+      } while (cursor)
       const filtered = list.filter(e => e && String(e?.status || '').toUpperCase() !== 'REJECTED')
       filtered.sort((a, b) => {
         const aClosed = String(a?.status || '').toUpperCase() === 'CLOSED'
@@ -1,4 +1,4 @@
-import { useEffect, useMemo, useState } from "react";
+import { useEffect, useMemo, useRef, useState } from "react";
 import { Link } from "react-router-dom";
 import api from "../api/axiosConfig";
 import TicketFilters from "../components/TicketFilters";
@@ -8,39 +8,71 @@ function toNumberOrNull(v) {
   return Number.isFinite(n) ? n : null;
 }
 
+const PAGE_SIZE = 30;
+
 export default function Search() {
-  const [events, setEvents] = useState([]);
   const [q, setQ] = useState("");
+  // One page at a time from /events (ranked when q is set); "Load more" follows nextCursor.
+  const [events, setEvents] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [query, setQuery] = useState("");
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [filters, setFilters] = useState({ type: "", minPrice: "", maxPrice: "" });
   const [resaleByEventId, setResaleByEventId] = useState({});
   const [resaleLoading, setResaleLoading] = useState(false);
+  // Bumped per query so a "Load more" still in flight cannot append to another query's results.
+  const generationRef = useRef(0);
 
+  const fetchPage = (text, cursor) =>
+    api.get("/events", { params: { q: text || undefined, cursor: cursor || undefined, limit: PAGE_SIZE } })
+      .then(res => ({
+        items: Array.isArray(res.data?.items) ? res.data.items : [],
+        nextCursor: res.data?.nextCursor ?? null,
+      }));
+
+  // The server hides CLOSED and REJECTED events; text queries go to its ranked search.
   useEffect(() => {
-    api.get("/events")
-      .then(res => {
-        const list = Array.isArray(res.data) ? res.data : [];
-        const filtered = list.filter(e => {
-          const status = String(e?.status || "").trim().toUpperCase();
-          if (!status) return true;
-          if (status === "CLOSED") return false;
-          if (status === "REJECTED") return false;
-          // For demo usability, show pending events too.
-          return status === "APPROVED" || status === "PENDING";
-        });
-        setEvents(filtered);
+    const text = q.trim();
+    generationRef.current += 1;
+    let cancelled = false;
+    const timer = setTimeout(() => {
+      setLoading(true);
+      fetchPage(text, null)
+        .then(page => {
+          if (cancelled) return;
+          setQuery(text);
+          setEvents(page.items);
+          setNextCursor(page.nextCursor);
+        })
+        .catch(() => {
+          if (cancelled) return;
+          setEvents([]);
+          setNextCursor(null);
+        })
+        .finally(() => { if (!cancelled) setLoading(false); });
+    }, text ? 250 : 0);
+    return () => {
+      cancelled = true;
+      clearTimeout(timer);
+    };
+  }, [q]);
+
+  const loadMore = () => {
+    if (!nextCursor || loadingMore) return;
+    const generation = generationRef.current;
+    setLoadingMore(true);
+    fetchPage(query, nextCursor)
+      .then(page => {
+        if (generation !== generationRef.current) return;
+        setEvents(prev => [...prev, ...page.items]);
+        setNextCursor(page.nextCursor);
       })
-      .finally(() => setLoading(false));
-  }, []);
-
-  const textFiltered = useMemo(() => {
-    const query = q.trim().toLowerCase();
-    if (!query) return events;
-    return events.filter(e =>
-      (e.title ?? e.name ?? "").toLowerCase().includes(query) ||
-      (e.venueName ?? "").toLowerCase().includes(query)
-    );
-  }, [events, q]);
+      .catch(() => {})
+      .finally(() => setLoadingMore(false));
+  };
+
+  const textFiltered = events;
 
   const needsResale = useMemo(() => {
     const min = toNumberOrNull(filters.minPrice);
@@ -160,6 +192,14 @@ export default function Search() {
           );
         })}
       </div>
+
+      {!loading && nextCursor ? (
+        <div style={{ marginTop: 16 }}>
+          <button className="btn" onClick={loadMore} disabled={loadingMore}>
+            {loadingMore ? "Loading…" : "Load more"}
+          </button>
+        </div>
+      ) : null}
     </div>
   );
 }